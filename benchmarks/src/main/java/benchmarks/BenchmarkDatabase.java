@@ -0,0 +1,211 @@
+package benchmarks;
+
+import model.DatabaseConnection;
+import model.SchemaMigrator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A scratch schema on the MySQL server configured in {@code db.properties}, seeded with a configurable
+ * number of rows for the DAO benchmarks.
+ * <p>
+ * The tables are created from the baseline dump, filled with generated users, equipment, reservations and
+ * checkouts, and brought up to date with the schema migrations. The application's connection pool is then
+ * pointed at the scratch schema through the {@code db.url} system property, so the DAOs are measured
+ * unchanged. The schema is dropped when the benchmark finishes. The volumes are JMH parameters, for
+ * example {@code -p reservationCount=50000}; the dump is read from {@code -Dbench.dump=<file>}, by
+ * default {@code project_db26-02-2025.sql} in or above the working directory.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+    private static final String[] TYPES = {"Camera", "Tripod", "Audio Recorder", "Lighting", "Microphone"};
+    private static final String[] STATUSES = {"Available", "Reserved", "CheckedOut"};
+    private static final String[] RESERVATION_STATUSES = {"Pending", "Approved", "Rejected"};
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param("1000")
+    public int equipmentCount;
+
+    @Param("500")
+    public int studentCount;
+
+    @Param("10000")
+    public int reservationCount;
+
+    private Connection server;
+    private String schema;
+
+    /**
+     * Creates and seeds the scratch schema, then points the application at it.
+     */
+    @Setup(Level.Trial)
+    public void create() throws Exception {
+        Properties properties = new Properties();
+        try (InputStream input = BenchmarkDatabase.class.getClassLoader().getResourceAsStream("db.properties")) {
+            properties.load(input);
+        }
+        String url = properties.getProperty("db.url");
+        String serverUrl = url.substring(0, url.lastIndexOf('/') + 1);
+        server = DriverManager.getConnection(serverUrl + "?rewriteBatchedStatements=true",
+                properties.getProperty("db.username"), properties.getProperty("db.password"));
+
+        schema = "bench_" + System.currentTimeMillis();
+        try (Statement stmt = server.createStatement()) {
+            stmt.execute("CREATE DATABASE " + schema);
+            stmt.execute("USE " + schema);
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 0");
+            Matcher table = Pattern.compile("(?s)CREATE TABLE `\\w+` \\(.*?\\) ENGINE=[^;]*")
+                    .matcher(Files.readString(findDump(), StandardCharsets.UTF_8));
+            while (table.find()) {
+                stmt.execute(table.group());
+            }
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 1");
+            stmt.execute("INSERT INTO change_revision (id, revision) VALUES (1, 0)");
+        }
+        seed(new Random(42));
+        new SchemaMigrator().migrate(server);
+
+        // Must be set before the first DAO call initialises the connection pool.
+        System.setProperty("db.url", serverUrl + schema);
+    }
+
+    /**
+     * Closes the application's connection pool and drops the scratch schema.
+     */
+    @TearDown(Level.Trial)
+    public void drop() throws SQLException {
+        DatabaseConnection.shutdownPool();
+        try (Statement stmt = server.createStatement()) {
+            stmt.execute("DROP DATABASE IF EXISTS " + schema);
+        }
+        server.close();
+    }
+
+    /**
+     * Returns the ID of a generated student who has reservations.
+     *
+     * @return a student ID.
+     */
+    public String studentId() {
+        return studentId(1);
+    }
+
+    private void seed(Random random) throws SQLException {
+        server.setAutoCommit(false);
+        try (PreparedStatement users = server.prepareStatement(
+                     "INSERT INTO users (user_id, name, email, password, role) VALUES (?, ?, ?, 'x', ?)");
+             PreparedStatement students = server.prepareStatement(
+                     "INSERT INTO students (student_id, course, department, year) VALUES (?, 'Media', 'Computing', ?)")) {
+            addUser(users, "A001", "Admin", "admin.user@setu.ie", "Admin");
+            addUser(users, "M001", "Media Staff", "media.staff@setu.ie", "MediaStaff");
+            for (int i = 1; i <= studentCount; i++) {
+                addUser(users, studentId(i), "Student " + i, "C00" + (100000 + i) + "@setu.ie", "Student");
+                students.setString(1, studentId(i));
+                students.setInt(2, 1 + i % 4);
+                students.addBatch();
+            }
+            users.executeBatch();
+            students.executeBatch();
+        }
+
+        try (PreparedStatement equipment = server.prepareStatement(
+                "INSERT INTO equipment (equipment_id, name, type, description, status, state) VALUES (?, ?, ?, ?, ?, 'Good')")) {
+            for (int i = 1; i <= equipmentCount; i++) {
+                String type = TYPES[i % TYPES.length];
+                equipment.setString(1, equipmentId(i));
+                equipment.setString(2, type + " " + i);
+                equipment.setString(3, type);
+                equipment.setString(4, "Generated for benchmarks");
+                equipment.setString(5, STATUSES[random.nextInt(STATUSES.length)]);
+                equipment.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    equipment.executeBatch();
+                }
+            }
+            equipment.executeBatch();
+        }
+
+        LocalDate today = LocalDate.now();
+        try (PreparedStatement reservations = server.prepareStatement(
+                "INSERT INTO reservations (reservation_id, user_id, equipment_id, reservation_date, return_date, status) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)");
+             PreparedStatement checkouts = server.prepareStatement(
+                     "INSERT INTO checkouts (reservation_id, checked_out_by, checked_out_date, check_in_date) VALUES (?, 'M001', ?, ?)")) {
+            for (int i = 1; i <= reservationCount; i++) {
+                LocalDate reserved = today.minusDays(random.nextInt(365));
+                String status = RESERVATION_STATUSES[random.nextInt(RESERVATION_STATUSES.length)];
+                reservations.setInt(1, i);
+                reservations.setString(2, studentId(1 + random.nextInt(studentCount)));
+                reservations.setString(3, equipmentId(1 + random.nextInt(equipmentCount)));
+                reservations.setDate(4, Date.valueOf(reserved));
+                reservations.setDate(5, Date.valueOf(reserved.plusDays(7)));
+                reservations.setString(6, status);
+                reservations.addBatch();
+                // Half of the approved reservations have been checked out, and half of those returned.
+                if ("Approved".equals(status) && random.nextBoolean()) {
+                    checkouts.setInt(1, i);
+                    checkouts.setTimestamp(2, Timestamp.valueOf(reserved.atStartOfDay()));
+                    checkouts.setTimestamp(3, random.nextBoolean() ? Timestamp.valueOf(reserved.plusDays(7).atStartOfDay()) : null);
+                    checkouts.addBatch();
+                }
+                if (i % BATCH_SIZE == 0) {
+                    reservations.executeBatch();
+                    checkouts.executeBatch();
+                }
+            }
+            reservations.executeBatch();
+            checkouts.executeBatch();
+        }
+        server.commit();
+        server.setAutoCommit(true);
+    }
+
+    private static void addUser(PreparedStatement users, String id, String name, String email, String role)
+            throws SQLException {
+        users.setString(1, id);
+        users.setString(2, name);
+        users.setString(3, email);
+        users.setString(4, role);
+        users.addBatch();
+    }
+
+    private static String studentId(int n) {
+        return String.format("S%05d", n);
+    }
+
+    private static String equipmentId(int n) {
+        return String.format("BEN%06d", n);
+    }
+
+    private static Path findDump() {
+        String configured = System.getProperty("bench.dump");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        Path dump = Paths.get("project_db26-02-2025.sql");
+        return Files.exists(dump) ? dump : Paths.get("..").resolve(dump);
+    }
+}
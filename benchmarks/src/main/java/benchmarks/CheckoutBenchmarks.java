@@ -0,0 +1,68 @@
+package benchmarks;
+
+import exception.DatabaseOperationException;
+import model.Checkout;
+import model.CheckoutDAO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the deprecated string-returning checkout lists, whose callers split each row to recover the
+ * reservation ID, with the typed lists that replaced them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class CheckoutBenchmarks {
+    private final CheckoutDAO checkoutDAO = new CheckoutDAO();
+
+    @Benchmark
+    public long pendingAsStrings(BenchmarkDatabase db) throws DatabaseOperationException {
+        return sumParsedIds(checkoutDAO.getPendingCheckouts());
+    }
+
+    @Benchmark
+    public long pendingTyped(BenchmarkDatabase db) throws DatabaseOperationException {
+        return sumIds(checkoutDAO.listPendingCheckouts());
+    }
+
+    @Benchmark
+    public long checkedOutAsStrings(BenchmarkDatabase db) throws DatabaseOperationException {
+        return sumParsedIds(checkoutDAO.getCheckedOutEquipment());
+    }
+
+    @Benchmark
+    public long checkedOutTyped(BenchmarkDatabase db) throws DatabaseOperationException {
+        return sumIds(checkoutDAO.listCheckedOutEquipment());
+    }
+
+    private static long sumParsedIds(List<String> rows) {
+        long sum = 0;
+        for (String row : rows) {
+            sum += Integer.parseInt(row.split(" \\| ")[0].trim());
+        }
+        return sum;
+    }
+
+    private static long sumIds(List<Checkout> rows) {
+        long sum = 0;
+        for (Checkout row : rows) {
+            sum += row.getReservationId();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,50 @@
+package benchmarks;
+
+import exception.DatabaseOperationException;
+import model.Equipment;
+import model.EquipmentDAO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the equipment list queries behind the equipment screens, as served by the equipment catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquipmentBenchmarks {
+    private final EquipmentDAO equipmentDAO = new EquipmentDAO();
+
+    @Benchmark
+    public List<Equipment> getAllEquipment(BenchmarkDatabase db) throws DatabaseOperationException {
+        return equipmentDAO.getAllEquipment();
+    }
+
+    @Benchmark
+    public List<Equipment> getEquipmentByStatus(BenchmarkDatabase db) throws DatabaseOperationException {
+        return equipmentDAO.getEquipmentByStatus("Available");
+    }
+
+    @Benchmark
+    public List<Equipment> getEquipmentByTypeAndStatus(BenchmarkDatabase db) throws DatabaseOperationException {
+        return equipmentDAO.getEquipmentByTypeAndStatus("Camera", "Available");
+    }
+
+    @Benchmark
+    public List<Equipment> getEquipmentPage(BenchmarkDatabase db) throws DatabaseOperationException {
+        return equipmentDAO.getEquipmentPage(null, "Available", null, 100);
+    }
+}
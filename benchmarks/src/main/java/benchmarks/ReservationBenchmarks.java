@@ -0,0 +1,41 @@
+package benchmarks;
+
+import exception.DatabaseOperationException;
+import model.Reservation;
+import model.ReservationDAO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ReservationDAO#getAllReservations} for staff, who see every reservation, and for a student,
+ * who sees only their own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationBenchmarks {
+    private final ReservationDAO reservationDAO = new ReservationDAO();
+
+    @Benchmark
+    public List<Reservation> getAllReservationsForStaff(BenchmarkDatabase db) throws DatabaseOperationException {
+        return reservationDAO.getAllReservations(null, true);
+    }
+
+    @Benchmark
+    public List<Reservation> getAllReservationsForStudent(BenchmarkDatabase db) throws DatabaseOperationException {
+        return reservationDAO.getAllReservations(db.studentId(), false);
+    }
+}
@@ -0,0 +1,75 @@
+package benchmarks;
+
+import controller.RoleValidator;
+import exception.RoleAccessException;
+import model.Permission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the role check made before every controller call: the name scan of
+ * {@link RoleValidator#validateRole(String, String...)} against the permission bit test of
+ * {@link RoleValidator#checkPermission(String, Permission)}, for an allowed and a denied role. Needs no database.
+ * <p>
+ * {@code role=MediaStaff} is the shared label that the role cache hands out; {@code role=mediastaff} is a
+ * differently cased copy, which both checks have to compare character by character. Run with
+ * {@code -prof gc} to see the varargs array allocated by each name scan.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleCheckBenchmarks {
+    @Param({"MediaStaff", "mediastaff"})
+    public String role;
+
+    // A field rather than a constant, so the JIT cannot fold the checks away.
+    public String deniedRole = "Student";
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String validateRole() throws RoleAccessException {
+        RoleValidator.validateRole(role, "Admin", "MediaStaff");
+        return role;
+    }
+
+    @Benchmark
+    public String checkPermission() throws RoleAccessException {
+        RoleValidator.checkPermission(role, Permission.CAN_APPROVE);
+        return role;
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String validateDeniedRole() {
+        try {
+            RoleValidator.validateRole(deniedRole, "Admin", "MediaStaff");
+            return deniedRole;
+        } catch (RoleAccessException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String checkDeniedPermission() {
+        try {
+            RoleValidator.checkPermission(deniedRole, Permission.CAN_APPROVE);
+            return deniedRole;
+        } catch (RoleAccessException e) {
+            return e.getMessage();
+        }
+    }
+}
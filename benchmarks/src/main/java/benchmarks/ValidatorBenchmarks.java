@@ -0,0 +1,67 @@
+package benchmarks;
+
+import controller.InputValidator;
+import exception.InvalidInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the input checks made on every form submission, for both accepted and rejected values.
+ * Needs no database. The role checks are measured by {@link RoleCheckBenchmarks}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmarks {
+    // Fields rather than constants, so the JIT cannot fold the checks away.
+    public String studentEmail = "C00123456@setu.ie";
+    public String staffEmail = "Jane.Doe@setu.ie";
+    public String invalidEmail = "jane.doe@example.com";
+    public String name = "Jane Mary Doe";
+    public String invalidName = "Jane D0e!";
+
+    @Benchmark
+    public String validateStudentEmail() throws InvalidInputException {
+        return InputValidator.validateEmail(studentEmail, "Student");
+    }
+
+    @Benchmark
+    public String validateStaffEmail() throws InvalidInputException {
+        return InputValidator.validateEmail(staffEmail, "Lecturer");
+    }
+
+    @Benchmark
+    public String rejectEmail() {
+        try {
+            return InputValidator.validateEmail(invalidEmail, "Lecturer");
+        } catch (InvalidInputException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String validateName() throws InvalidInputException {
+        return InputValidator.validateName(name);
+    }
+
+    @Benchmark
+    public String rejectName() {
+        try {
+            return InputValidator.validateName(invalidName);
+        } catch (InvalidInputException e) {
+            return e.getMessage();
+        }
+    }
+}
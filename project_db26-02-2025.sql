@@ -17,6 +17,30 @@ USE `project_db`;
 /*!40101 SET @OLD_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_AUTO_VALUE_ON_ZERO' */;
 /*!40111 SET @OLD_SQL_NOTES=@@SQL_NOTES, SQL_NOTES=0 */;
 
+--
+-- Table structure for table `change_revision`
+--
+
+DROP TABLE IF EXISTS `change_revision`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `change_revision` (
+  `id` tinyint NOT NULL,
+  `revision` bigint unsigned NOT NULL DEFAULT '0',
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `change_revision`
+--
+
+LOCK TABLES `change_revision` WRITE;
+/*!40000 ALTER TABLE `change_revision` DISABLE KEYS */;
+INSERT INTO `change_revision` VALUES (1,0);
+/*!40000 ALTER TABLE `change_revision` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `checkouts`
 --
@@ -270,6 +294,9 @@ BEGIN
     -- Get affected rows count
     SET affected_rows = ROW_COUNT();
 
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
     -- Return affected rows and equipment ID
     SELECT affected_rows AS RowsAffected, p_equipment_id AS EquipmentID;
 END ;;
@@ -405,6 +432,9 @@ BEGIN
         SET status = 'Reserved'
         WHERE equipment_id = (SELECT equipment_id FROM reservations WHERE reservation_id = p_reservation_id);
     END IF;
+
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
 END ;;
 DELIMITER ;
 /*!50003 SET sql_mode              = @saved_sql_mode */ ;
@@ -457,6 +487,9 @@ BEGIN
     -- Set the affected row count manually
     SET p_rows_affected = ROW_COUNT();
 
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
     COMMIT;
 END ;;
 DELIMITER ;
@@ -515,6 +548,9 @@ BEGIN
     -- Capture affected rows
     SET affected_rows = ROW_COUNT();
 
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
     -- ✅ Return affected rows as the ONLY SELECT statement
     SELECT affected_rows AS RowsAffected;
 END ;;
@@ -558,6 +594,9 @@ BEGIN
 
     DELETE FROM Users WHERE user_id = p_user_id;
 
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
     COMMIT;
 END ;;
 DELIMITER ;
@@ -599,6 +638,9 @@ BEGIN
     -- Insert reservation with status = 'Pending' and NULL return_date
     INSERT INTO reservations (user_id, equipment_id, reservation_date, return_date, status)
     VALUES (p_user_id, p_equipment_id, p_reservation_date, NULL, 'Pending');
+
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
 END ;;
 DELIMITER ;
 /*!50003 SET sql_mode              = @saved_sql_mode */ ;
@@ -662,6 +704,9 @@ BEGIN
     -- Set affected row count
     SET p_rows_affected = ROW_COUNT();
 
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
     COMMIT;
 END ;;
 DELIMITER ;
@@ -719,6 +764,9 @@ BEGIN
     -- Get affected rows count
     SET affected_rows = ROW_COUNT();
 
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
     -- Return affected rows
     SELECT affected_rows AS RowsAffected;
 END ;;
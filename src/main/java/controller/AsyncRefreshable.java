@@ -0,0 +1,23 @@
+package controller;
+
+import java.util.concurrent.Future;
+
+/**
+ * This interface extends {@link Refreshable} for components that can load their data in the background.
+ * Implementations fetch data off the Swing Event Dispatch Thread and apply the results on it,
+ * so a slow query never freezes the user interface.
+ */
+public interface AsyncRefreshable extends Refreshable {
+    /**
+     * Starts refreshing the content of the component in the background and returns immediately.
+     * Any refresh of this component that is still in flight is cancelled first.
+     *
+     * @return a {@link Future} that completes once the results have been applied; cancelling it discards them.
+     */
+    Future<?> refreshAsync();
+
+    /**
+     * Cancels the refresh currently in flight, if any. Its results will not be applied.
+     */
+    void cancelRefresh();
+}
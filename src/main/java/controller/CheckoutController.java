@@ -1,12 +1,13 @@
 package controller;
 
+import model.Checkout;
 import model.CheckoutDAO;
+import model.Permission;
+import model.UserDAO;
 import exception.DatabaseOperationException;
+import exception.RoleAccessException;
 import java.util.List;
 import java.util.ArrayList;
-import java.io.FileWriter;
-import java.io.PrintWriter;
-import java.io.IOException;
 
 /**
  * Provides operations for checking out and checking in equipment.
@@ -15,13 +16,32 @@ import java.io.IOException;
  */
 public class CheckoutController {
     private final CheckoutDAO checkoutDAO = new CheckoutDAO();
+    private final UserDAO userDAO = new UserDAO();
+    private final RoleCache roleCache = RoleCache.getInstance();
     private static final String LOG_FILE = "checkout_errors.log";
 
+    /**
+     * Retrieves a list of pending checkouts.
+     *
+     * @return a list of pending checkouts; if an error occurs, returns an empty list.
+     */
+    public List<Checkout> listPendingCheckouts() {
+        try {
+            return checkoutDAO.listPendingCheckouts();
+        } catch (DatabaseOperationException e) {
+            logError("Error retrieving pending checkouts", e);
+            return new ArrayList<>();
+        }
+    }
+
     /**
      * Retrieves a list of pending checkouts.
      *
      * @return a list of pending checkout details as strings; if an error occurs, returns an empty list.
+     * @deprecated use {@link #listPendingCheckouts()}, which returns typed rows that do not need to be parsed.
      */
+    @Deprecated
+    @SuppressWarnings("deprecation")
     public List<String> getPendingCheckouts() {
         try {
             return checkoutDAO.getPendingCheckouts();
@@ -40,18 +60,36 @@ public class CheckoutController {
      */
     public boolean checkOutEquipment(int reservationId, String staffId) {
         try {
+            RoleValidator.checkPermission(roleCache.getRole(staffId, userDAO), Permission.CAN_CHECKOUT);
             return checkoutDAO.checkOutEquipment(reservationId, staffId);
-        } catch (DatabaseOperationException e) {
+        } catch (RoleAccessException | DatabaseOperationException e) {
             logError("Error during equipment checkout", e);
             return false;
         }
     }
 
+    /**
+     * Retrieves a list of checked-out equipment.
+     *
+     * @return a list of checkouts that have not been checked in; if an error occurs, returns an empty list.
+     */
+    public List<Checkout> listCheckedOutEquipment() {
+        try {
+            return checkoutDAO.listCheckedOutEquipment();
+        } catch (DatabaseOperationException e) {
+            logError("Error retrieving checked-out equipment", e);
+            return new ArrayList<>();
+        }
+    }
+
     /**
      * Retrieves a list of checked-out equipment details.
      *
      * @return a list of checked-out equipment details as strings; if an error occurs, returns an empty list.
+     * @deprecated use {@link #listCheckedOutEquipment()}, which returns typed rows that do not need to be parsed.
      */
+    @Deprecated
+    @SuppressWarnings("deprecation")
     public List<String> getCheckedOutEquipment() {
         try {
             return checkoutDAO.getCheckedOutEquipment();
@@ -71,25 +109,21 @@ public class CheckoutController {
      */
     public boolean checkInEquipment(int reservationId, String staffId, String equipmentState) {
         try {
+            RoleValidator.checkPermission(roleCache.getRole(staffId, userDAO), Permission.CAN_CHECKOUT);
             return checkoutDAO.checkInEquipment(reservationId, staffId, equipmentState);
-        } catch (DatabaseOperationException e) {
+        } catch (RoleAccessException | DatabaseOperationException e) {
             logError("Error during equipment check-in", e);
             return false;
         }
     }
 
     /**
-     * Logs detailed error information to a log file.
+     * Queues detailed error information for the log file; it is written by the shared {@link ErrorLogger}.
      *
      * @param message a message describing the context of the error.
      * @param ex      the exception to log.
      */
     private void logError(String message, Exception ex) {
-        try (PrintWriter out = new PrintWriter(new FileWriter(LOG_FILE, true))) {
-            out.println("[" + java.time.LocalDateTime.now() + "] " + message);
-            ex.printStackTrace(out);
-        } catch (IOException ioEx) {
-            System.err.println("Failed to write to log file: " + ioEx.getMessage());
-        }
+        ErrorLogger.getInstance().log(LOG_FILE, message, ex);
     }
 }
@@ -0,0 +1,75 @@
+package controller;
+
+import exception.DatabaseOperationException;
+import exception.RoleAccessException;
+import model.DashboardStats;
+import model.DashboardStatsDAO;
+import model.Permission;
+
+/**
+ * Provides the aggregate statistics displayed on the Admin and Media Staff home dashboards.
+ * <p>
+ * This controller encapsulates error handling by logging detailed error information to a log file,
+ * and returning empty statistics so that the GUI only receives a default response.
+ * </p>
+ */
+public class DashboardController {
+    private final DashboardStatsDAO dashboardStatsDAO = new DashboardStatsDAO();
+    private static final String LOG_FILE = "error.log";
+
+    /**
+     * Retrieves all dashboard aggregates in a single database round trip.
+     *
+     * @param userRole the role of the requester.
+     * @return the dashboard statistics; if access is denied or an error occurs, returns empty statistics.
+     */
+    public DashboardStats getDashboardStats(String userRole) {
+        try {
+            RoleValidator.checkPermission(userRole, Permission.CAN_VIEW_DASHBOARD);
+            return dashboardStatsDAO.getDashboardStats();
+        } catch (RoleAccessException e) {
+            logError("Access denied in getDashboardStats", e);
+            return new DashboardStats();
+        } catch (DatabaseOperationException e) {
+            logError("Database error in getDashboardStats", e);
+            return new DashboardStats();
+        } catch (Exception e) {
+            logError("Unexpected error in getDashboardStats", e);
+            return new DashboardStats();
+        }
+    }
+
+    /**
+     * Retrieves the current change revision of the equipment and reservation data.
+     * This is a single primary key lookup, cheap enough to poll before deciding whether
+     * {@link #getDashboardStats(String)} needs to be called again.
+     *
+     * @param userRole the role of the requester.
+     * @return the current change revision; if access is denied or an error occurs, returns -1.
+     */
+    public long getChangeRevision(String userRole) {
+        try {
+            RoleValidator.checkPermission(userRole, Permission.CAN_VIEW_DASHBOARD);
+            return dashboardStatsDAO.getRevision();
+        } catch (RoleAccessException e) {
+            logError("Access denied in getChangeRevision", e);
+            return -1;
+        } catch (DatabaseOperationException e) {
+            logError("Database error in getChangeRevision", e);
+            return -1;
+        } catch (Exception e) {
+            logError("Unexpected error in getChangeRevision", e);
+            return -1;
+        }
+    }
+
+    /**
+     * Queues detailed error information for the log file; it is written by the shared {@link ErrorLogger}.
+     *
+     * @param message a message describing the context of the error.
+     * @param ex      the exception to log.
+     */
+    private void logError(String message, Exception ex) {
+        ErrorLogger.getInstance().log(LOG_FILE, message, ex);
+    }
+}
@@ -4,12 +4,10 @@ import exception.DatabaseOperationException;
 import exception.RoleAccessException;
 import model.Equipment;
 import model.EquipmentDAO;
+import model.Permission;
 import model.UserDAO;
 import java.util.ArrayList;
 import java.util.List;
-import java.io.FileWriter;
-import java.io.PrintWriter;
-import java.io.IOException;
 
 /**
  * Provides high-level operations for managing equipment.
@@ -22,6 +20,7 @@ import java.io.IOException;
 public class EquipmentController {
     private final EquipmentDAO equipmentDAO = new EquipmentDAO();
     private final UserDAO userDAO = new UserDAO();
+    private final RoleCache roleCache = RoleCache.getInstance();
     private static final String LOG_FILE = "equipment_errors.log";
 
     /**
@@ -32,7 +31,7 @@ public class EquipmentController {
      */
     public List<Equipment> getAllEquipment(String userRole) {
         try {
-            RoleValidator.validateRole(userRole, "Admin", "MediaStaff", "Student", "Lecturer");
+            RoleValidator.checkPermission(userRole, Permission.CAN_VIEW_EQUIPMENT);
             return equipmentDAO.getAllEquipment();
         } catch (RoleAccessException e) {
             logError("Access denied in getAllEquipment", e);
@@ -55,7 +54,7 @@ public class EquipmentController {
      */
     public List<Equipment> getEquipmentByType(String type, String userRole) {
         try {
-            RoleValidator.validateRole(userRole, "Admin", "MediaStaff", "Student", "Lecturer");
+            RoleValidator.checkPermission(userRole, Permission.CAN_VIEW_EQUIPMENT);
             return equipmentDAO.getEquipmentByType(type);
         } catch (RoleAccessException e) {
             logError("Access denied in getEquipmentByType", e);
@@ -106,6 +105,33 @@ public class EquipmentController {
         }
     }
 
+    /**
+     * Retrieves one keyset-paginated page of equipment, optionally filtered by type and status.
+     *
+     * @param type             the equipment type to filter by, or null for all types.
+     * @param status           the equipment status to filter by, or null for all statuses.
+     * @param afterEquipmentId the ID of the last equipment already loaded, or null for the first page.
+     * @param pageSize         the maximum number of rows to return.
+     * @param userRole         the role of the requester.
+     * @return the requested page of equipment, which is empty past the last page; null if access is denied or
+     *         an error occurs, so that callers can tell a failed page from the end of the list.
+     */
+    public List<Equipment> getEquipmentPage(String type, String status, String afterEquipmentId, int pageSize, String userRole) {
+        try {
+            RoleValidator.checkPermission(userRole, Permission.CAN_VIEW_EQUIPMENT);
+            return equipmentDAO.getEquipmentPage(type, status, afterEquipmentId, pageSize);
+        } catch (RoleAccessException e) {
+            logError("Access denied in getEquipmentPage", e);
+            return null;
+        } catch (DatabaseOperationException e) {
+            logError("Database error in getEquipmentPage", e);
+            return null;
+        } catch (Exception e) {
+            logError("Unexpected error in getEquipmentPage", e);
+            return null;
+        }
+    }
+
     /**
      * Adds a new equipment record to the system after validating the user's role.
      *
@@ -115,12 +141,12 @@ public class EquipmentController {
      */
     public boolean addEquipment(Equipment newEquipment, String userId) {
         try {
-            String userRole = userDAO.getUserRole(userId);
+            String userRole = roleCache.getRole(userId, userDAO);
             if (userRole == null) {
                 logError("User role is null in addEquipment", new Exception("User role is null"));
                 return false;
             }
-            RoleValidator.validateRole(userRole, "Admin", "MediaStaff");
+            RoleValidator.checkPermission(userRole, Permission.CAN_MANAGE_EQUIPMENT);
             return equipmentDAO.addEquipment(newEquipment, userId);
         } catch (RoleAccessException e) {
             logError("Access denied in addEquipment", e);
@@ -143,12 +169,12 @@ public class EquipmentController {
      */
     public boolean updateEquipment(Equipment updatedEquipment, String userId) {
         try {
-            String userRole = userDAO.getUserRole(userId);
+            String userRole = roleCache.getRole(userId, userDAO);
             if (userRole == null) {
                 logError("User role is null in updateEquipment", new Exception("User role is null"));
                 return false;
             }
-            RoleValidator.validateRole(userRole, "Admin", "MediaStaff");
+            RoleValidator.checkPermission(userRole, Permission.CAN_MANAGE_EQUIPMENT);
             return equipmentDAO.updateEquipment(updatedEquipment, userId);
         } catch (RoleAccessException e) {
             logError("Access denied in updateEquipment", e);
@@ -171,12 +197,12 @@ public class EquipmentController {
      */
     public boolean deleteEquipment(String equipmentId, String userId) {
         try {
-            String userRole = userDAO.getUserRole(userId);
+            String userRole = roleCache.getRole(userId, userDAO);
             if (userRole == null) {
                 logError("User role is null in deleteEquipment", new Exception("User role is null"));
                 return false;
             }
-            RoleValidator.validateRole(userRole, "Admin", "MediaStaff");
+            RoleValidator.checkPermission(userRole, Permission.CAN_MANAGE_EQUIPMENT);
             return equipmentDAO.deleteEquipment(equipmentId, userId);
         } catch (RoleAccessException e) {
             logError("Access denied in deleteEquipment", e);
@@ -191,17 +217,12 @@ public class EquipmentController {
     }
 
     /**
-     * Logs detailed error information to a log file.
+     * Queues detailed error information for the log file; it is written by the shared {@link ErrorLogger}.
      *
      * @param message a message describing the context of the error.
      * @param ex      the exception to log.
      */
     private void logError(String message, Exception ex) {
-        try (PrintWriter out = new PrintWriter(new FileWriter(LOG_FILE, true))) {
-            out.println("[" + java.time.LocalDateTime.now() + "] " + message);
-            ex.printStackTrace(out);
-        } catch (IOException ioEx) {
-            System.err.println("Failed to write to log file: " + ioEx.getMessage());
-        }
+        ErrorLogger.getInstance().log(LOG_FILE, message, ex);
     }
 }
@@ -0,0 +1,250 @@
+package controller;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes controller error logs on a background thread.
+ * <p>
+ * {@link #log(String, String, Throwable)} only places the entry on a bounded in-memory queue, so callers
+ * (often the Event Dispatch Thread) never wait for the disk. A single writer thread drains the queue in
+ * batches, opens each log file once per batch and rotates a file to {@code <name>.1}, {@code <name>.2}, ...
+ * once it grows past the size limit. When the queue is full new entries are dropped and counted; the
+ * number of dropped entries is written to {@value #DROP_NOTICE_FILE} with the next batch.
+ * </p>
+ */
+public class ErrorLogger {
+    static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    static final long DEFAULT_MAX_FILE_BYTES = 1024 * 1024;
+    static final int DEFAULT_MAX_BACKUPS = 3;
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final String DROP_NOTICE_FILE = "error.log";
+
+    private static final ErrorLogger INSTANCE = new ErrorLogger(Paths.get(""), DEFAULT_QUEUE_CAPACITY,
+            DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_BACKUPS);
+
+    private final BlockingQueue<Entry> queue;
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxBackups;
+    private final AtomicLong dropped = new AtomicLong();
+    // Drops that have not been reported in a log file yet; only touched by the writer thread.
+    private long unreportedDrops;
+
+    /**
+     * Creates a logger and starts its writer thread.
+     *
+     * @param directory     the directory the log files are written to.
+     * @param queueCapacity the maximum number of entries waiting to be written.
+     * @param maxFileBytes  the size a log file may reach before it is rotated.
+     * @param maxBackups    the number of rotated files kept per log.
+     */
+    ErrorLogger(Path directory, int queueCapacity, long maxFileBytes, int maxBackups) {
+        this.directory = directory;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxFileBytes = maxFileBytes;
+        this.maxBackups = maxBackups;
+
+        Thread writer = new Thread(this::drainForever, "error-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(2000), "error-log-flush"));
+    }
+
+    /**
+     * Returns the logger shared by all controllers.
+     *
+     * @return the shared ErrorLogger instance.
+     */
+    public static ErrorLogger getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues an error for writing. Never blocks; if the queue is full the entry is dropped and counted.
+     *
+     * @param fileName the log file to append to (e.g., error.log).
+     * @param message  a message describing the context of the error.
+     * @param ex       the exception to log, or null.
+     */
+    public void log(String fileName, String message, Throwable ex) {
+        enqueue(new Entry(fileName, LocalDateTime.now(), null, message, ex, null));
+    }
+
+    /**
+     * Queues an error for writing with a {@link Date} timestamp supplied by the caller, for log lines that
+     * have always shown the time in {@link Date#toString()} form. Never blocks; if the queue is full the
+     * entry is dropped and counted.
+     *
+     * @param fileName the log file to append to (e.g., error.log).
+     * @param time     the time of the error; the logger keeps its own copy.
+     * @param message  a message describing the context of the error.
+     * @param ex       the exception to log, or null.
+     */
+    public void log(String fileName, Date time, String message, Throwable ex) {
+        enqueue(new Entry(fileName, null, new Date(time.getTime()), message, ex, null));
+    }
+
+    private void enqueue(Entry entry) {
+        if (!queue.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every entry queued before this call has been written.
+     *
+     * @param timeoutMillis the maximum time to wait, in milliseconds.
+     * @return true if the entries were written in time; false otherwise.
+     */
+    public boolean flush(long timeoutMillis) {
+        CountDownLatch written = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            if (!queue.offer(new Entry(null, null, null, null, null, written), timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            return written.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of entries dropped because the queue was full.
+     *
+     * @return the total number of dropped entries since the logger was created.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drainForever() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes a batch grouped by file, so each file is opened and flushed once, then releases any flush waiters.
+     */
+    private void writeBatch(List<Entry> batch) {
+        Map<String, List<Entry>> byFile = new LinkedHashMap<>();
+        List<CountDownLatch> waiters = new ArrayList<>();
+        for (Entry entry : batch) {
+            if (entry.flushed != null) {
+                waiters.add(entry.flushed);
+            } else {
+                byFile.computeIfAbsent(entry.fileName, name -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        long drops = dropped.get();
+        if (drops > unreportedDrops) {
+            byFile.computeIfAbsent(DROP_NOTICE_FILE, name -> new ArrayList<>())
+                    .add(new Entry(DROP_NOTICE_FILE, LocalDateTime.now(), null,
+                            (drops - unreportedDrops) + " log entries were dropped because the log queue was full", null, null));
+            unreportedDrops = drops;
+        }
+
+        for (Map.Entry<String, List<Entry>> file : byFile.entrySet()) {
+            write(directory.resolve(file.getKey()), file.getValue());
+        }
+        for (CountDownLatch waiter : waiters) {
+            waiter.countDown();
+        }
+    }
+
+    private void write(Path file, List<Entry> entries) {
+        try {
+            rotateIfNeeded(file);
+            try (BufferedWriter buffered = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                 PrintWriter out = new PrintWriter(buffered)) {
+                for (Entry entry : entries) {
+                    out.println("[" + (entry.date != null ? entry.date : entry.time) + "] " + entry.message);
+                    if (entry.ex != null) {
+                        entry.ex.printStackTrace(out);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write to log file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Shifts {@code file} to {@code file.1} (and older backups up by one) once it has reached the size limit.
+     */
+    private void rotateIfNeeded(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) < maxFileBytes) {
+            return;
+        }
+        if (maxBackups <= 0) {
+            Files.delete(file);
+            return;
+        }
+        Files.deleteIfExists(backup(file, maxBackups));
+        for (int i = maxBackups - 1; i >= 1; i--) {
+            Path older = backup(file, i);
+            if (Files.exists(older)) {
+                Files.move(older, backup(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, backup(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Path backup(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    /**
+     * A queued log entry, or a flush marker when {@code flushed} is set.
+     */
+    private static final class Entry {
+        private final String fileName;
+        private final LocalDateTime time;
+        // Set instead of time for entries logged with a Date timestamp.
+        private final Date date;
+        private final String message;
+        private final Throwable ex;
+        private final CountDownLatch flushed;
+
+        private Entry(String fileName, LocalDateTime time, Date date, String message, Throwable ex,
+                      CountDownLatch flushed) {
+            this.fileName = fileName;
+            this.time = time;
+            this.date = date;
+            this.message = message;
+            this.ex = ex;
+            this.flushed = flushed;
+        }
+    }
+}
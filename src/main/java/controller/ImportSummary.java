@@ -0,0 +1,82 @@
+package controller;
+
+import java.nio.file.Path;
+
+/**
+ * The outcome of one run of the {@link UserImporter}.
+ */
+public class ImportSummary {
+    private final int rowsRead;
+    private final int imported;
+    private final int failed;
+    private final int skipped;
+    private final Path reportFile;
+
+    /**
+     * Constructs an ImportSummary.
+     *
+     * @param rowsRead   number of data rows read in this run.
+     * @param imported   number of users added.
+     * @param failed     number of rows written to the error report.
+     * @param skipped    number of rows skipped because an earlier run had already processed them.
+     * @param reportFile the per-row error report.
+     */
+    ImportSummary(int rowsRead, int imported, int failed, int skipped, Path reportFile) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.failed = failed;
+        this.skipped = skipped;
+        this.reportFile = reportFile;
+    }
+
+    /**
+     * Returns the number of data rows read in this run.
+     *
+     * @return the row count, not including skipped rows.
+     */
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * Returns the number of users added.
+     *
+     * @return the imported count.
+     */
+    public int getImported() {
+        return imported;
+    }
+
+    /**
+     * Returns the number of rows written to the error report.
+     *
+     * @return the failed count.
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns the number of rows skipped because an earlier run had already processed them.
+     *
+     * @return the skipped count.
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Returns the per-row error report, a CSV file with the line number, email and reason of each failed row.
+     *
+     * @return the report path.
+     */
+    public Path getReportFile() {
+        return reportFile;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportSummary[read=%d, imported=%d, failed=%d, skipped=%d, report=%s]",
+                rowsRead, imported, failed, skipped, reportFile);
+    }
+}
@@ -1,6 +1,7 @@
 package controller;
 
 import exception.InvalidInputException;
+import model.Role;
 
 /**
  * Utility class for validating user input.
@@ -13,6 +14,8 @@ import exception.InvalidInputException;
  * log the error details if necessary, and display a generic error message to the user.
  */
 public class InputValidator {
+    private static final String EMAIL_DOMAIN = "@setu.ie";
+    private static final String STUDENT_PREFIX = "C00";
 
     /**
      * Validates an email address based on the provided role.
@@ -28,24 +31,9 @@ public class InputValidator {
      * @throws InvalidInputException if the email does not match the required format.
      */
     public static String validateEmail(String email, String role) throws InvalidInputException {
+        throwIfInvalid(checkEmail(email, role));
         email = email.trim();
-        if (!email.toLowerCase().endsWith("@setu.ie")) {
-            throw new InvalidInputException("Email must end with '@setu.ie'.");
-        }
-        int atIndex = email.indexOf("@");
-        String localPart = email.substring(0, atIndex);
-        if (role.equalsIgnoreCase("Student")) {
-            if (!localPart.matches("^C00\\d+$")) {
-                throw new InvalidInputException("Student email must start with 'C00' followed by numbers.");
-            }
-        } else {
-            email = email.toLowerCase();
-            localPart = email.substring(0, email.indexOf("@"));
-            if (!localPart.matches("^[a-zA-Z]+\\.[a-zA-Z]+$")) {
-                throw new InvalidInputException("Email for this role must be in the format 'firstname.lastname' before '@setu.ie'.");
-            }
-        }
-        return email;
+        return Role.fromName(role) == Role.STUDENT ? email : email.toLowerCase();
     }
 
     /**
@@ -56,11 +44,8 @@ public class InputValidator {
      * @throws InvalidInputException if the name contains invalid characters.
      */
     public static String validateName(String name) throws InvalidInputException {
-        name = name.trim();
-        if (!name.matches("^[a-zA-Z\\s]+$")) {
-            throw new InvalidInputException("Name must contain only letters and spaces.");
-        }
-        return name;
+        throwIfInvalid(checkName(name));
+        return name.trim();
     }
 
     /**
@@ -73,13 +58,8 @@ public class InputValidator {
      * @throws InvalidInputException if the equipment name is empty or contains invalid characters.
      */
     public static String validateEquipmentName(String equipmentName) throws InvalidInputException {
-        equipmentName = equipmentName.trim();
-        if (equipmentName.isEmpty()) {
-            throw new InvalidInputException("Equipment name cannot be empty.");
-        } else if (!equipmentName.matches("^[a-zA-Z0-9\\s]+$")) {
-            throw new InvalidInputException("Equipment name can only contain letters, numbers, and spaces.");
-        }
-        return equipmentName;
+        throwIfInvalid(checkEquipmentName(equipmentName));
+        return equipmentName.trim();
     }
 
     /**
@@ -92,12 +72,134 @@ public class InputValidator {
      * @throws InvalidInputException if the description is empty or contains invalid characters.
      */
     public static String validateEquipmentDescription(String description) throws InvalidInputException {
+        throwIfInvalid(checkEquipmentDescription(description));
+        return description.trim();
+    }
+
+    /**
+     * Checks an email address against the rules of {@link #validateEmail} without throwing, for bulk paths.
+     *
+     * @param email the email address to check.
+     * @param role  the role of the user.
+     * @return null if the email is valid; otherwise the error message.
+     */
+    public static String checkEmail(String email, String role) {
+        email = email.trim();
+        if (!email.regionMatches(true, email.length() - EMAIL_DOMAIN.length(), EMAIL_DOMAIN, 0, EMAIL_DOMAIN.length())) {
+            return "Email must end with '@setu.ie'.";
+        }
+        int localEnd = email.indexOf('@');
+        if (Role.fromName(role) == Role.STUDENT) {
+            if (!isStudentNumber(email, localEnd)) {
+                return "Student email must start with 'C00' followed by numbers.";
+            }
+        } else if (!isFirstDotLast(email, localEnd)) {
+            return "Email for this role must be in the format 'firstname.lastname' before '@setu.ie'.";
+        }
+        return null;
+    }
+
+    /**
+     * Checks a name against the rules of {@link #validateName} without throwing, for bulk paths.
+     *
+     * @param name the name to check.
+     * @return null if the name is valid; otherwise the error message.
+     */
+    public static String checkName(String name) {
+        return consistsOf(name.trim(), false) ? null : "Name must contain only letters and spaces.";
+    }
+
+    /**
+     * Checks an equipment name against the rules of {@link #validateEquipmentName} without throwing.
+     *
+     * @param equipmentName the equipment name to check.
+     * @return null if the name is valid; otherwise the error message.
+     */
+    public static String checkEquipmentName(String equipmentName) {
+        equipmentName = equipmentName.trim();
+        if (equipmentName.isEmpty()) {
+            return "Equipment name cannot be empty.";
+        }
+        return consistsOf(equipmentName, true) ? null : "Equipment name can only contain letters, numbers, and spaces.";
+    }
+
+    /**
+     * Checks an equipment description against the rules of {@link #validateEquipmentDescription} without throwing.
+     *
+     * @param description the equipment description to check.
+     * @return null if the description is valid; otherwise the error message.
+     */
+    public static String checkEquipmentDescription(String description) {
         description = description.trim();
         if (description.isEmpty()) {
-            throw new InvalidInputException("Equipment description cannot be empty.");
-        } else if (!description.matches("^[a-zA-Z0-9\\s]+$")) {
-            throw new InvalidInputException("Equipment description can only contain letters, numbers, and spaces.");
+            return "Equipment description cannot be empty.";
+        }
+        return consistsOf(description, true) ? null : "Equipment description can only contain letters, numbers, and spaces.";
+    }
+
+    private static void throwIfInvalid(String error) throws InvalidInputException {
+        if (error != null) {
+            throw new InvalidInputException(error);
+        }
+    }
+
+    /**
+     * True if {@code text[0, end)} is {@code C00} followed by at least one digit.
+     */
+    private static boolean isStudentNumber(String text, int end) {
+        if (end <= STUDENT_PREFIX.length() || !text.startsWith(STUDENT_PREFIX)) {
+            return false;
+        }
+        for (int i = STUDENT_PREFIX.length(); i < end; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * True if {@code text[0, end)} is one or more letters, a dot, and one or more letters.
+     */
+    private static boolean isFirstDotLast(String text, int end) {
+        int dot = text.indexOf('.');
+        if (dot <= 0 || dot >= end - 1) {
+            return false;
+        }
+        for (int i = 0; i < end; i++) {
+            if (i != dot && !isLetter(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * True if the text is not empty and holds only ASCII letters, whitespace and, if allowed, digits.
+     */
+    private static boolean consistsOf(String text, boolean digitsAllowed) {
+        if (text.isEmpty()) {
+            return false;
         }
-        return description;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isLetter(c) && !isWhitespace(c) && !(digitsAllowed && isDigit(c))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // The characters matched by \s in a regular expression.
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
@@ -1,17 +1,45 @@
 package controller;
 
 import exception.DatabaseOperationException;
+import exception.LoginBusyException;
+import exception.LoginThrottledException;
 import model.User;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 import exception.AuthenticationException;
 
 /**
  * Handles the user login process.
  * <p>
  * Note: Password verification is handled in UserDAO (using PasswordUtils)
+ * <p>
+ * Every attempt first passes through the shared {@link LoginThrottle}, which refuses attempts for an email
+ * address or source with too many recent failures before the database or BCrypt is touched.
  */
 public class LoginManager {
-    private final UserController userController = new UserController();
+    // Logins made on this machine share one source: the operating system account running the application.
+    private static final String LOCAL_SOURCE = "local:" + System.getProperty("user.name", "");
+
+    private final UserController userController;
+    private final LoginThrottle throttle;
+
+    /**
+     * Creates a login manager that uses the shared login throttle.
+     */
+    public LoginManager() {
+        this(new UserController(), LoginThrottle.getInstance());
+    }
+
+    /**
+     * Creates a login manager with its own controller and throttle.
+     *
+     * @param userController checks the credentials.
+     * @param throttle       limits failed attempts.
+     */
+    LoginManager(UserController userController, LoginThrottle throttle) {
+        this.userController = userController;
+        this.throttle = throttle;
+    }
 
     /**
      * Prompts the user for their email and password and attempts to authenticate.
@@ -36,7 +64,7 @@ public class LoginManager {
                     throw new AuthenticationException("Email or password cannot be empty.");
                 }
 
-                User user = userController.login(email, password);
+                User user = authenticate(email, password, LOCAL_SOURCE);
                 if (user == null) {
                     throw new AuthenticationException("Invalid credentials. Please try again.");
                 }
@@ -62,18 +90,62 @@ public class LoginManager {
 
     // In controller/LoginManager.java
     public User loginUser(String email, String password) throws AuthenticationException, DatabaseOperationException {
+        return loginUser(email, password, LOCAL_SOURCE);
+    }
+
+    /**
+     * Authenticates a user on behalf of the given source.
+     *
+     * @param email    the user's email address.
+     * @param password the user's password.
+     * @param source   identifies the client making the attempt, for the per-source limit.
+     * @return the authenticated User.
+     * @throws LoginThrottledException    if there have been too many failed attempts for the email or source.
+     * @throws LoginBusyException         if too many logins are being checked at once.
+     * @throws AuthenticationException    if the credentials are empty or invalid.
+     * @throws DatabaseOperationException if the user cannot be loaded.
+     */
+    public User loginUser(String email, String password, String source)
+            throws AuthenticationException, DatabaseOperationException {
         if(email == null || email.trim().isEmpty() || password == null || password.trim().isEmpty()){
             throw new AuthenticationException("Email or password cannot be empty.");
         }
 
-        User user = null;
-        user = userController.login(email, password);
+        User user = authenticate(email, password, source);
         if(user == null){
-            throw new AuthenticationException("Invalid credentials. Please try again.");
+            throw new DatabaseOperationException("The login could not be checked. Please try again later.", null);
         }
 
         System.out.println("\nLogin successful! Welcome, " + user.getName() + ".");
         return user;
     }
 
+    /**
+     * Checks the credentials if the throttle allows it, recording the outcome.
+     *
+     * @return the user, or null if a database error prevented the check.
+     */
+    private User authenticate(String email, String password, String source) throws AuthenticationException {
+        if (!throttle.tryAcquire(email, source)) {
+            long minutes = Math.max(1, TimeUnit.MILLISECONDS.toMinutes(throttle.retryAfterMillis(email, source) + 59_999));
+            throw new LoginThrottledException("Too many failed login attempts. Please try again in "
+                    + minutes + (minutes == 1 ? " minute." : " minutes."));
+        }
+
+        User user;
+        try {
+            user = userController.login(email, password);
+        } catch (LoginBusyException e) {
+            // The server was too busy to check the password, so this is not a failed attempt.
+            throw e;
+        } catch (AuthenticationException e) {
+            throttle.recordFailure(email, source);
+            throw new AuthenticationException("Invalid credentials. Please try again.");
+        }
+        if (user != null) {
+            throttle.recordSuccess(email);
+        }
+        return user;
+    }
+
 }
@@ -0,0 +1,225 @@
+package controller;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits failed login attempts per email address and per source over a sliding window.
+ * <p>
+ * Each email address and each source keeps the times of its most recent failures in a small ring,
+ * holding no more entries than its limit allows. Once the ring is full and its oldest failure is still
+ * inside the window, further attempts are refused by {@link #tryAcquire} before any database query or
+ * password check is made. Keys whose failures have all left the window are evicted periodically, so the
+ * structure only holds keys with recent failures.
+ * </p>
+ * <p>
+ * The email limit stops guessing against one account; the higher source limit stops one client from
+ * trying a few passwords against many accounts.
+ * </p>
+ */
+public class LoginThrottle {
+    static final int DEFAULT_MAX_FAILURES_PER_EMAIL = 5;
+    static final int DEFAULT_MAX_FAILURES_PER_SOURCE = 20;
+    static final long DEFAULT_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    // How many attempts pass between sweeps for keys with no recent failures.
+    private static final int EVICTION_INTERVAL = 256;
+
+    private static final LoginThrottle INSTANCE = new LoginThrottle(DEFAULT_MAX_FAILURES_PER_EMAIL,
+            DEFAULT_MAX_FAILURES_PER_SOURCE, TimeUnit.MILLISECONDS.toNanos(DEFAULT_WINDOW_MILLIS), System::nanoTime);
+
+    private final ConcurrentHashMap<String, FailureWindow> windows = new ConcurrentHashMap<>();
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerSource;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong attemptsSinceEviction = new AtomicLong();
+
+    /**
+     * Creates a login throttle.
+     *
+     * @param maxFailuresPerEmail  the failures allowed for one email address within the window.
+     * @param maxFailuresPerSource the failures allowed from one source within the window.
+     * @param windowNanos          the length of the sliding window, in nanoseconds.
+     * @param clock                the source of the current time, in nanoseconds.
+     */
+    LoginThrottle(int maxFailuresPerEmail, int maxFailuresPerSource, long windowNanos, LongSupplier clock) {
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerSource = maxFailuresPerSource;
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the login throttle shared by all login paths.
+     *
+     * @return the shared LoginThrottle instance.
+     */
+    public static LoginThrottle getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Decides whether a login attempt may go ahead, and counts it as processed or rejected.
+     *
+     * @param email  the email address being logged into.
+     * @param source the client the attempt comes from.
+     * @return true if the attempt may be checked; false if it must be refused.
+     */
+    public boolean tryAcquire(String email, String source) {
+        long now = clock.getAsLong();
+        if (attemptsSinceEviction.incrementAndGet() % EVICTION_INTERVAL == 0) {
+            evictExpired(now);
+        }
+        if (isBlocked(emailKey(email), now) || isBlocked(sourceKey(source), now)) {
+            rejected.increment();
+            return false;
+        }
+        processed.increment();
+        return true;
+    }
+
+    /**
+     * Records a failed login attempt.
+     *
+     * @param email  the email address that was tried.
+     * @param source the client the attempt came from.
+     */
+    public void recordFailure(String email, String source) {
+        long now = clock.getAsLong();
+        addFailure(emailKey(email), maxFailuresPerEmail, now);
+        addFailure(sourceKey(source), maxFailuresPerSource, now);
+    }
+
+    /**
+     * Records a successful login, clearing the failures of the email address. The source keeps its
+     * failures, so a client trying many accounts is still limited.
+     *
+     * @param email the email address that was logged into.
+     */
+    public void recordSuccess(String email) {
+        windows.remove(emailKey(email));
+    }
+
+    /**
+     * Returns how long a refused attempt has to wait before the email address and source are both allowed again.
+     *
+     * @param email  the email address being logged into.
+     * @param source the client the attempt comes from.
+     * @return the wait in milliseconds, or 0 if an attempt would be allowed now.
+     */
+    public long retryAfterMillis(String email, String source) {
+        long now = clock.getAsLong();
+        long waitNanos = Math.max(waitNanos(emailKey(email), now), waitNanos(sourceKey(source), now));
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+    }
+
+    /**
+     * Returns the number of attempts that were allowed through to the credential check.
+     *
+     * @return the processed attempt count.
+     */
+    public long getProcessedAttempts() {
+        return processed.sum();
+    }
+
+    /**
+     * Returns the number of attempts refused without checking the credentials.
+     *
+     * @return the rejected attempt count.
+     */
+    public long getRejectedAttempts() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of email addresses and sources with failures currently being tracked.
+     *
+     * @return the tracked key count.
+     */
+    public int getTrackedKeys() {
+        return windows.size();
+    }
+
+    /**
+     * Removes the failures of every email address and source, and resets the counters.
+     */
+    public void clear() {
+        windows.clear();
+        processed.reset();
+        rejected.reset();
+    }
+
+    private boolean isBlocked(String key, long now) {
+        return waitNanos(key, now) > 0;
+    }
+
+    private long waitNanos(String key, long now) {
+        FailureWindow window = windows.get(key);
+        return window == null ? 0 : window.waitNanos(now, windowNanos);
+    }
+
+    private void addFailure(String key, int maxFailures, long now) {
+        // Atomic per key, so a concurrent eviction cannot drop the failure being recorded.
+        windows.compute(key, (k, window) -> {
+            FailureWindow updated = window == null ? new FailureWindow(maxFailures) : window;
+            updated.add(now);
+            return updated;
+        });
+    }
+
+    private void evictExpired(long now) {
+        for (String key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, window) -> window.isExpired(now, windowNanos) ? null : window);
+        }
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String sourceKey(String source) {
+        return "s:" + (source == null ? "" : source);
+    }
+
+    /**
+     * The {@link System#nanoTime()} values of the most recent failures for one key, kept in a ring no
+     * larger than the number of failures allowed.
+     */
+    private static final class FailureWindow {
+        private final long[] failures;
+        private int next;
+        private int size;
+
+        private FailureWindow(int capacity) {
+            this.failures = new long[Math.max(1, capacity)];
+        }
+
+        private synchronized void add(long now) {
+            failures[next] = now;
+            next = (next + 1) % failures.length;
+            size = Math.min(size + 1, failures.length);
+        }
+
+        /**
+         * Returns how long until the oldest of a full ring leaves the window, or 0 if another failure is allowed.
+         */
+        private synchronized long waitNanos(long now, long windowNanos) {
+            if (size < failures.length) {
+                return 0;
+            }
+            // When the ring is full, the next slot to overwrite holds the oldest failure.
+            return Math.max(0, failures[next] + windowNanos - now);
+        }
+
+        private synchronized boolean isExpired(long now, long windowNanos) {
+            int newest = (next - 1 + failures.length) % failures.length;
+            return size == 0 || now - failures[newest] >= windowNanos;
+        }
+    }
+}
@@ -1,11 +1,156 @@
 package controller;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Utility class for handling various methods for user, equipment, and reservation management.
  * This class currently provides helper methods for retrieving lists of departments and available courses
  * based on a given department.
+ * <p>
+ * The lists are built once. The array methods return copies, so callers may change them freely; the
+ * {@code find} methods look values up in prebuilt maps instead of copying or scanning the lists, for bulk validation.
+ * </p>
  */
 public class MethodsUtil {
+    private static final String[] DEPARTMENTS = {
+            "Sport Management", "Architecture", "Arts & Social Studies", "Built Environment", "Business",
+            "Computing", "Engineering", "Hospitality, Tourism & Culinary Arts", "Early Years Education", "Media",
+            "Design & Music", "Nursing", "Health & Psychology", "Science", "Law", "Sport Science"
+    };
+
+    private static final Map<String, String[]> COURSES = new LinkedHashMap<>();
+    // Keyed by lower-case name: departments to their canonical name, and departments to their courses.
+    private static final Map<String, String> DEPARTMENT_KEYS = new HashMap<>();
+    private static final Map<String, Map<String, String>> COURSE_KEYS = new HashMap<>();
+
+    static {
+        COURSES.put("Sport Management", new String[]{
+                "Sport Business Management",
+                "Sports Development and Event Management",
+                "Sport Marketing and Sponsorship",
+                "Sports Facility and Venue Management",
+                "Global Sport Governance"
+        });
+        COURSES.put("Architecture", new String[]{
+                "Architectural Technology",
+                "Environmental Design",
+                "Urban Planning and Design",
+                "Sustainable Building Design",
+                "Construction and Architectural Engineering"
+        });
+        COURSES.put("Arts & Social Studies", new String[]{
+                "Sociology",
+                "Cultural Studies",
+                "Fine Arts: Painting and Drawing",
+                "Performing Arts: Acting and Theatre",
+                "Psychology in Society"
+        });
+        COURSES.put("Built Environment", new String[]{
+                "Construction Management",
+                "Quantity Surveying",
+                "Real Estate and Property Development",
+                "Facilities Management",
+                "Building Information Modelling (BIM)"
+        });
+        COURSES.put("Business", new String[]{
+                "Business Administration",
+                "Marketing Strategy",
+                "Finance and Investment",
+                "Human Resource Management",
+                "International Trade and Commerce"
+        });
+        COURSES.put("Computing", new String[]{
+                "Software Development",
+                "Cybersecurity and Networking",
+                "Data Science and Analytics",
+                "Artificial Intelligence and Machine Learning",
+                "Web and Mobile Application Development"
+        });
+        COURSES.put("Engineering", new String[]{
+                "Mechanical Engineering",
+                "Electrical and Electronic Engineering",
+                "Civil Engineering",
+                "Manufacturing and Production Engineering",
+                "Renewable Energy Systems"
+        });
+        COURSES.put("Hospitality, Tourism & Culinary Arts", new String[]{
+                "Hotel and Resort Management",
+                "Tourism Destination Management",
+                "Event Planning and Coordination",
+                "Culinary Arts and Gastronomy",
+                "Wine and Beverage Management"
+        });
+        COURSES.put("Early Years Education", new String[]{
+                "Early Childhood Care and Education",
+                "Child Development and Psychology",
+                "Inclusive Practices in Early Years",
+                "Play and Learning in Early Childhood",
+                "Leadership in Early Years Settings"
+        });
+        COURSES.put("Media", new String[]{
+                "Journalism and News Writing",
+                "Film and Video Production",
+                "Digital Media and Social Media Management",
+                "Public Relations and Advertising",
+                "Broadcast Media and Television Production"
+        });
+        COURSES.put("Design & Music", new String[]{
+                "Graphic Design and Visual Communication",
+                "Interior Design and Space Planning",
+                "Music Production and Sound Engineering",
+                "Fashion Design and Textiles",
+                "Game Design and Animation"
+        });
+        COURSES.put("Nursing", new String[]{
+                "General Nursing",
+                "Midwifery",
+                "Community Health Nursing",
+                "Mental Health Nursing",
+                "Pediatric Nursing"
+        });
+        COURSES.put("Health & Psychology", new String[]{
+                "Health Sciences",
+                "Occupational Therapy",
+                "Clinical Psychology",
+                "Counseling and Psychotherapy",
+                "Nutrition and Dietetics"
+        });
+        COURSES.put("Science", new String[]{
+                "Biology",
+                "Chemistry",
+                "Physics",
+                "Environmental Science",
+                "Biotechnology and Genetics"
+        });
+        COURSES.put("Law", new String[]{
+                "Legal Studies",
+                "Business Law",
+                "Criminal Justice",
+                "Human Rights Law",
+                "Intellectual Property Law"
+        });
+        COURSES.put("Sport Science", new String[]{
+                "Exercise Physiology",
+                "Sports Coaching and Performance",
+                "Physical Education and School Sport",
+                "Sports Injury Rehabilitation",
+                "Strength and Conditioning"
+        });
+
+        for (String department : DEPARTMENTS) {
+            DEPARTMENT_KEYS.put(key(department), department);
+        }
+        for (Map.Entry<String, String[]> entry : COURSES.entrySet()) {
+            Map<String, String> courses = new HashMap<>();
+            for (String course : entry.getValue()) {
+                courses.put(key(course), course);
+            }
+            COURSE_KEYS.put(key(entry.getKey()), courses);
+        }
+    }
 
     /**
      * Returns the full list of departments.
@@ -13,11 +158,7 @@ public class MethodsUtil {
      * @return an array of department names.
      */
     public static String[] getDepartments() {
-        return new String[]{
-                "Sport Management", "Architecture", "Arts & Social Studies", "Built Environment", "Business",
-                "Computing", "Engineering", "Hospitality, Tourism & Culinary Arts", "Early Years Education", "Media",
-                "Design & Music", "Nursing", "Health & Psychology", "Science", "Law", "Sport Science"
-        };
+        return DEPARTMENTS.clone();
     }
 
     /**
@@ -27,137 +168,36 @@ public class MethodsUtil {
      * @return an array of available courses for the specified department.
      */
     public static String[] getCoursesForDepartment(String department) {
-        switch (department) {
-            case "Sport Management":
-                return new String[]{
-                        "Sport Business Management",
-                        "Sports Development and Event Management",
-                        "Sport Marketing and Sponsorship",
-                        "Sports Facility and Venue Management",
-                        "Global Sport Governance"
-                };
-            case "Architecture":
-                return new String[]{
-                        "Architectural Technology",
-                        "Environmental Design",
-                        "Urban Planning and Design",
-                        "Sustainable Building Design",
-                        "Construction and Architectural Engineering"
-                };
-            case "Arts & Social Studies":
-                return new String[]{
-                        "Sociology",
-                        "Cultural Studies",
-                        "Fine Arts: Painting and Drawing",
-                        "Performing Arts: Acting and Theatre",
-                        "Psychology in Society"
-                };
-            case "Built Environment":
-                return new String[]{
-                        "Construction Management",
-                        "Quantity Surveying",
-                        "Real Estate and Property Development",
-                        "Facilities Management",
-                        "Building Information Modelling (BIM)"
-                };
-            case "Business":
-                return new String[]{
-                        "Business Administration",
-                        "Marketing Strategy",
-                        "Finance and Investment",
-                        "Human Resource Management",
-                        "International Trade and Commerce"
-                };
-            case "Computing":
-                return new String[]{
-                        "Software Development",
-                        "Cybersecurity and Networking",
-                        "Data Science and Analytics",
-                        "Artificial Intelligence and Machine Learning",
-                        "Web and Mobile Application Development"
-                };
-            case "Engineering":
-                return new String[]{
-                        "Mechanical Engineering",
-                        "Electrical and Electronic Engineering",
-                        "Civil Engineering",
-                        "Manufacturing and Production Engineering",
-                        "Renewable Energy Systems"
-                };
-            case "Hospitality, Tourism & Culinary Arts":
-                return new String[]{
-                        "Hotel and Resort Management",
-                        "Tourism Destination Management",
-                        "Event Planning and Coordination",
-                        "Culinary Arts and Gastronomy",
-                        "Wine and Beverage Management"
-                };
-            case "Early Years Education":
-                return new String[]{
-                        "Early Childhood Care and Education",
-                        "Child Development and Psychology",
-                        "Inclusive Practices in Early Years",
-                        "Play and Learning in Early Childhood",
-                        "Leadership in Early Years Settings"
-                };
-            case "Media":
-                return new String[]{
-                        "Journalism and News Writing",
-                        "Film and Video Production",
-                        "Digital Media and Social Media Management",
-                        "Public Relations and Advertising",
-                        "Broadcast Media and Television Production"
-                };
-            case "Design & Music":
-                return new String[]{
-                        "Graphic Design and Visual Communication",
-                        "Interior Design and Space Planning",
-                        "Music Production and Sound Engineering",
-                        "Fashion Design and Textiles",
-                        "Game Design and Animation"
-                };
-            case "Nursing":
-                return new String[]{
-                        "General Nursing",
-                        "Midwifery",
-                        "Community Health Nursing",
-                        "Mental Health Nursing",
-                        "Pediatric Nursing"
-                };
-            case "Health & Psychology":
-                return new String[]{
-                        "Health Sciences",
-                        "Occupational Therapy",
-                        "Clinical Psychology",
-                        "Counseling and Psychotherapy",
-                        "Nutrition and Dietetics"
-                };
-            case "Science":
-                return new String[]{
-                        "Biology",
-                        "Chemistry",
-                        "Physics",
-                        "Environmental Science",
-                        "Biotechnology and Genetics"
-                };
-            case "Law":
-                return new String[]{
-                        "Legal Studies",
-                        "Business Law",
-                        "Criminal Justice",
-                        "Human Rights Law",
-                        "Intellectual Property Law"
-                };
-            case "Sport Science":
-                return new String[]{
-                        "Exercise Physiology",
-                        "Sports Coaching and Performance",
-                        "Physical Education and School Sport",
-                        "Sports Injury Rehabilitation",
-                        "Strength and Conditioning"
-                };
-            default:
-                return new String[0];
+        String[] courses = COURSES.get(department);
+        return courses == null ? new String[0] : courses.clone();
+    }
+
+    /**
+     * Finds a department by name, ignoring case and surrounding whitespace.
+     *
+     * @param name the department name to look up.
+     * @return the department's canonical name, or null if there is no such department.
+     */
+    public static String findDepartment(String name) {
+        return name == null ? null : DEPARTMENT_KEYS.get(key(name));
+    }
+
+    /**
+     * Finds a course of a department by name, ignoring case and surrounding whitespace.
+     *
+     * @param department the department offering the course.
+     * @param course     the course name to look up.
+     * @return the course's canonical name, or null if the department does not offer it.
+     */
+    public static String findCourse(String department, String course) {
+        if (department == null || course == null) {
+            return null;
         }
+        Map<String, String> courses = COURSE_KEYS.get(key(department));
+        return courses == null ? null : courses.get(key(course));
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,178 @@
+package controller;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Hashes and verifies passwords with BCrypt at a cost factor calibrated to the host.
+ * <p>
+ * On first use the hasher times a hash at a low cost and picks the highest cost whose verification is
+ * expected to take no longer than {@value #TARGET_MILLIS} ms, within {@value #MIN_COST} to
+ * {@value #MAX_COST}. The cost is stored in every BCrypt hash, so {@link #needsRehash} can tell when a
+ * stored hash was made at a lower cost and should be replaced after the next successful login. A hash made
+ * at a higher cost, by a faster host, is kept: otherwise a user logging in from hosts that calibrate
+ * differently would be rehashed on every login.
+ * </p>
+ * <p>
+ * Verifications run on a small dedicated pool, leaving a core free for the user interface. When the pool
+ * and its queue are full, further verifications are rejected instead of piling up.
+ * </p>
+ */
+public class PasswordHasher {
+    static final long TARGET_MILLIS = 250;
+    static final int MIN_COST = 10;
+    static final int MAX_COST = 16;
+    private static final int CALIBRATION_COST = 6;
+    private static final int QUEUE_CAPACITY = 128;
+
+    private final int cost;
+    private final ThreadPoolExecutor verifyPool;
+
+    /**
+     * Holds the shared hasher so that calibration only runs the first time a password is hashed or verified.
+     */
+    private static class Holder {
+        private static final PasswordHasher INSTANCE = new PasswordHasher(
+                calibrateCost(TimeUnit.MILLISECONDS.toNanos(TARGET_MILLIS), MIN_COST, MAX_COST, PasswordHasher::timeHash),
+                Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Creates a hasher with a fixed cost.
+     *
+     * @param cost          the BCrypt cost factor for new hashes.
+     * @param verifyThreads the number of threads verifying passwords.
+     */
+    PasswordHasher(int cost, int verifyThreads) {
+        this.cost = cost;
+        this.verifyPool = new ThreadPoolExecutor(verifyThreads, verifyThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Returns the shared hasher, calibrating it on the first call.
+     *
+     * @return the shared instance.
+     */
+    public static PasswordHasher getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the cost factor used for new hashes.
+     *
+     * @return the BCrypt cost.
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Hashes a password at the calibrated cost on the calling thread.
+     *
+     * @param plainPassword the plain text password.
+     * @return the BCrypt hash, which records its cost.
+     */
+    public String hash(String plainPassword) {
+        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(cost));
+    }
+
+    /**
+     * Checks a password against a stored hash on the verification pool, waiting for the result.
+     *
+     * @param plainPassword  the plain text password.
+     * @param hashedPassword the stored hash.
+     * @return true if the password matches; false if it does not, the hash is malformed, or the thread
+     *         is interrupted while waiting.
+     * @throws RejectedExecutionException if too many verifications are already waiting.
+     */
+    public boolean verify(String plainPassword, String hashedPassword) {
+        Future<Boolean> result = verifyPool.submit(() -> checkpw(plainPassword, hashedPassword));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Tells whether a stored hash should be replaced with one at the current cost.
+     *
+     * @param hashedPassword the stored hash.
+     * @return true if the hash is not a BCrypt hash or was made at a lower cost.
+     */
+    public boolean needsRehash(String hashedPassword) {
+        return costOf(hashedPassword) < cost;
+    }
+
+    /**
+     * Reads the cost factor recorded in a BCrypt hash such as {@code $2a$12$...}.
+     *
+     * @param hashedPassword the hash.
+     * @return the cost, or -1 if the value is not a BCrypt hash.
+     */
+    static int costOf(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(0) != '$'
+                || hashedPassword.charAt(3) != '$' || hashedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = hashedPassword.charAt(4);
+        char units = hashedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(units)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    /**
+     * Picks the highest cost whose hash time is expected to stay within the target. Each extra unit of
+     * cost doubles the work, so one timing at a low cost predicts the others.
+     *
+     * @param targetNanos the target time for one verification.
+     * @param minCost     the lowest cost to return.
+     * @param maxCost     the highest cost to return.
+     * @param timer       returns the time, in nanoseconds, of one hash at the given cost.
+     * @return the chosen cost.
+     */
+    static int calibrateCost(long targetNanos, int minCost, int maxCost, IntToLongFunction timer) {
+        timer.applyAsLong(CALIBRATION_COST); // Warm up.
+        long nanos = Math.max(1, Math.min(timer.applyAsLong(CALIBRATION_COST), timer.applyAsLong(CALIBRATION_COST)));
+        int cost = CALIBRATION_COST;
+        while (cost < maxCost && nanos * 2 <= targetNanos) {
+            nanos *= 2;
+            cost++;
+        }
+        return Math.max(minCost, cost);
+    }
+
+    private static long timeHash(int cost) {
+        String salt = BCrypt.gensalt(cost);
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration", salt);
+        return System.nanoTime() - start;
+    }
+
+    private static boolean checkpw(String plainPassword, String hashedPassword) {
+        try {
+            return BCrypt.checkpw(plainPassword, hashedPassword);
+        } catch (IllegalArgumentException e) {
+            // Not a BCrypt hash.
+            return false;
+        }
+    }
+}
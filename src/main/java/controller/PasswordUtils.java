@@ -1,26 +1,38 @@
 package controller;
 
-import org.mindrot.jbcrypt.BCrypt;
-
+/**
+ * Static helpers for hashing and checking passwords through the shared {@link PasswordHasher}.
+ */
 public class PasswordUtils {
     /**
-     * Hashes a plain text password using BCrypt.
+     * Hashes a plain text password using BCrypt at the cost calibrated for this host.
      *
      * @param plainPassword the plain text password.
      * @return the hashed password.
      */
     public static String hashPassword(String plainPassword) {
-        return BCrypt.hashpw(plainPassword, BCrypt.gensalt());
+        return PasswordHasher.getInstance().hash(plainPassword);
     }
 
     /**
-     * Checks whether the plain password matches the stored hash.
+     * Checks whether the plain password matches the stored hash. The check runs on the hasher's
+     * verification pool.
      *
      * @param plainPassword the plain text password.
      * @param hashedPassword the stored hashed password.
      * @return true if the passwords match, false otherwise.
      */
     public static boolean verifyPassword(String plainPassword, String hashedPassword) {
-        return BCrypt.checkpw(plainPassword, hashedPassword);
+        return PasswordHasher.getInstance().verify(plainPassword, hashedPassword);
+    }
+
+    /**
+     * Checks whether a stored hash was made at a lower cost than new hashes and should be replaced.
+     *
+     * @param hashedPassword the stored hashed password.
+     * @return true if the password should be rehashed after a successful login.
+     */
+    public static boolean needsRehash(String hashedPassword) {
+        return PasswordHasher.getInstance().needsRehash(hashedPassword);
     }
 }
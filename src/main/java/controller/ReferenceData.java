@@ -0,0 +1,171 @@
+package controller;
+
+import exception.DatabaseOperationException;
+import model.EquipmentState;
+import model.EquipmentType;
+import model.ReferenceDataDAO;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The reference data shared by the forms, validators and controllers: equipment types, departments and courses.
+ * <p>
+ * Equipment types are loaded once from the {@code equipment_types} table on first use, or from the built-in
+ * list if the database cannot be reached. Departments and courses come from {@link MethodsUtil}. Everything
+ * is built from shared strings and indexed by name, so lookups take constant time and no names are
+ * copied. Roles, statuses and states are the enums in the {@code model} package.
+ * </p>
+ */
+public final class ReferenceData {
+    private static final String LOG_FILE = "error.log";
+
+    // Used when the equipment_types table cannot be read; matches the rows seeded by V4__reference_data.sql.
+    static final List<EquipmentType> DEFAULT_EQUIPMENT_TYPES = List.of(
+            new EquipmentType("Audio Recorder", "AUD"),
+            new EquipmentType("Camera", "CAM"),
+            new EquipmentType("Drone", "DRN"),
+            new EquipmentType("Gimbal", "GMB"),
+            new EquipmentType("Headphones", "HPN"),
+            new EquipmentType("Laptop", "LAP"),
+            new EquipmentType("Lighting", "LGT"),
+            new EquipmentType("Microphone", "MIC"),
+            new EquipmentType("Projector", "PRJ"),
+            new EquipmentType("Tablet", "TAB"),
+            new EquipmentType("Tripod", "TRP"),
+            new EquipmentType("VR Headset", "VRH"),
+            new EquipmentType("Other", "OTH"));
+
+    private static final String[] RETURN_STATES = {
+            EquipmentState.GOOD.getName(), EquipmentState.FAIR.getName(), EquipmentState.POOR.getName()
+    };
+
+    private final List<EquipmentType> equipmentTypes;
+    private final String[] equipmentTypeNames;
+    // Exact names first; the lower-case index is only consulted when the exact lookup misses.
+    private final Map<String, EquipmentType> typesByName = new HashMap<>();
+    private final Map<String, EquipmentType> typesByKey = new HashMap<>();
+    private final List<String> departments;
+    private final Map<String, List<String>> courses = new LinkedHashMap<>();
+
+    private static final class Holder {
+        private static final ReferenceData INSTANCE = load(new ReferenceDataDAO());
+    }
+
+    /**
+     * Creates a registry over the given equipment types.
+     *
+     * @param equipmentTypes the equipment types in display order.
+     */
+    ReferenceData(List<EquipmentType> equipmentTypes) {
+        this.equipmentTypes = List.copyOf(equipmentTypes);
+        this.equipmentTypeNames = new String[this.equipmentTypes.size()];
+        for (int i = 0; i < equipmentTypeNames.length; i++) {
+            EquipmentType type = this.equipmentTypes.get(i);
+            equipmentTypeNames[i] = type.getName();
+            typesByName.put(type.getName(), type);
+            typesByKey.put(key(type.getName()), type);
+        }
+
+        this.departments = List.of(MethodsUtil.getDepartments());
+        for (String department : departments) {
+            courses.put(department, List.of(MethodsUtil.getCoursesForDepartment(department)));
+        }
+    }
+
+    /**
+     * Returns the registry, loading it on first use.
+     *
+     * @return the shared ReferenceData instance.
+     */
+    public static ReferenceData getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Loads the equipment types through the DAO, falling back to the built-in list on failure.
+     *
+     * @param dao the DAO to read the reference tables with.
+     * @return the loaded registry.
+     */
+    static ReferenceData load(ReferenceDataDAO dao) {
+        try {
+            List<EquipmentType> types = dao.getEquipmentTypes();
+            if (!types.isEmpty()) {
+                return new ReferenceData(types);
+            }
+        } catch (DatabaseOperationException e) {
+            ErrorLogger.getInstance().log(LOG_FILE, "Falling back to the built-in equipment types.", e);
+        }
+        return new ReferenceData(DEFAULT_EQUIPMENT_TYPES);
+    }
+
+    /**
+     * Returns the equipment types in display order.
+     *
+     * @return an unmodifiable list of equipment types.
+     */
+    public List<EquipmentType> getEquipmentTypes() {
+        return equipmentTypes;
+    }
+
+    /**
+     * Returns the names of the equipment types in display order, e.g. for a combo box.
+     *
+     * @return a new array of the shared type names.
+     */
+    public String[] getEquipmentTypeNames() {
+        return equipmentTypeNames.clone();
+    }
+
+    /**
+     * Finds an equipment type by name, ignoring case and surrounding whitespace.
+     *
+     * @param name the type name to look up.
+     * @return the equipment type, or null if there is no such type.
+     */
+    public EquipmentType findEquipmentType(String name) {
+        if (name == null) {
+            return null;
+        }
+        EquipmentType type = typesByName.get(name);
+        return type != null ? type : typesByKey.get(key(name));
+    }
+
+    /**
+     * Returns the states a piece of equipment can be returned in. Equipment is only ever new when it is added.
+     *
+     * @return a new array of the shared state names.
+     */
+    public String[] getReturnStateNames() {
+        return RETURN_STATES.clone();
+    }
+
+    /**
+     * Returns the departments.
+     *
+     * @return an unmodifiable list of department names.
+     */
+    public List<String> getDepartments() {
+        return departments;
+    }
+
+    /**
+     * Returns the courses offered by a department.
+     *
+     * @param department the department's canonical name.
+     * @return an unmodifiable list of course names; empty if there is no such department.
+     */
+    public List<String> getCourses(String department) {
+        List<String> list = department == null ? null : courses.get(department);
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,15 +2,15 @@ package controller;
 
 import exception.DatabaseOperationException;
 import exception.RoleAccessException;
+import model.Permission;
 import model.Reservation;
 import model.ReservationDAO;
+import model.ReservationQuery;
+import model.Role;
 import model.UserDAO;
 import java.sql.Date;
 import java.util.List;
 import java.util.ArrayList;
-import java.io.FileWriter;
-import java.io.PrintWriter;
-import java.io.IOException;
 
 /**
  * Controller for handling reservation-related operations.
@@ -23,6 +23,7 @@ import java.io.IOException;
 public class ReservationController {
     private final ReservationDAO reservationDAO = new ReservationDAO();
     private final UserDAO userDAO = new UserDAO();
+    private final RoleCache roleCache = RoleCache.getInstance();
     private static final String LOG_FILE = "error.log";
 
 
@@ -47,8 +48,8 @@ public class ReservationController {
                 throw new IllegalArgumentException("Reservation date cannot be null.");
             }
 
-            String role = userDAO.getUserRole(userId);
-            RoleValidator.validateRole(role, "Student", "Lecturer");
+            String role = roleCache.getRole(userId, userDAO);
+            RoleValidator.checkPermission(role, Permission.CAN_RESERVE);
 
             return reservationDAO.createReservation(userId, equipmentId, reservationDate);
         } catch (IllegalArgumentException | RoleAccessException | DatabaseOperationException ex) {
@@ -71,8 +72,9 @@ public class ReservationController {
             if (userId == null || userId.trim().isEmpty()) {
                 throw new IllegalArgumentException("User ID cannot be null or empty.");
             }
-            String role = userDAO.getUserRole(userId);
-            boolean isAdminOrMediaStaff = role.equalsIgnoreCase("Admin") || role.equalsIgnoreCase("MediaStaff");
+            Role role = Role.fromName(roleCache.getRole(userId, userDAO));
+            // Whoever approves reservations sees everyone's; other users see only their own.
+            boolean isAdminOrMediaStaff = role != null && role.can(Permission.CAN_APPROVE);
             return reservationDAO.getAllReservations(userId, isAdminOrMediaStaff);
         } catch (IllegalArgumentException | DatabaseOperationException ex) {
             logError("Error in getAllReservations", ex);
@@ -80,6 +82,45 @@ public class ReservationController {
         }
     }
 
+    /**
+     * Retrieves one page of the reservations matching a query. Only users who approve reservations
+     * (Admin and Media Staff) may search everyone's reservations.
+     *
+     * @param query       the filter and sort criteria.
+     * @param offset      the number of matching rows to skip.
+     * @param limit       the maximum number of rows to return, at most {@link ReservationQuery#MAX_LIMIT}.
+     * @param requesterId the ID of the user making the request.
+     * @return the requested page of reservations, or null if access is denied or an error occurs, so that
+     *         a failed page is not mistaken for one with no rows.
+     */
+    public List<Reservation> findReservations(ReservationQuery query, int offset, int limit, String requesterId) {
+        try {
+            RoleValidator.checkPermission(roleCache.getRole(requesterId, userDAO), Permission.CAN_APPROVE);
+            return reservationDAO.findReservations(query, offset, limit);
+        } catch (IllegalArgumentException | RoleAccessException | DatabaseOperationException ex) {
+            logError("Error in findReservations", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Counts the reservations matching a query. Only users who approve reservations may search everyone's
+     * reservations.
+     *
+     * @param query       the filter criteria.
+     * @param requesterId the ID of the user making the request.
+     * @return the number of matching reservations, or -1 if access is denied or an error occurs.
+     */
+    public int countReservations(ReservationQuery query, String requesterId) {
+        try {
+            RoleValidator.checkPermission(roleCache.getRole(requesterId, userDAO), Permission.CAN_APPROVE);
+            return reservationDAO.countReservations(query);
+        } catch (IllegalArgumentException | RoleAccessException | DatabaseOperationException ex) {
+            logError("Error in countReservations", ex);
+            return -1;
+        }
+    }
+
     /**
      * Retrieves reservations for a specific user.
      *
@@ -118,8 +159,8 @@ public class ReservationController {
                 throw new IllegalArgumentException("Staff ID cannot be null or empty.");
             }
 
-            String adminRole = userDAO.getUserRole(staffId);
-            RoleValidator.validateRole(adminRole, "Admin", "MediaStaff");
+            String adminRole = roleCache.getRole(staffId, userDAO);
+            RoleValidator.checkPermission(adminRole, Permission.CAN_APPROVE);
 
             return reservationDAO.approveReservation(reservationId, staffId, status);
         } catch (IllegalArgumentException | RoleAccessException | DatabaseOperationException ex) {
@@ -129,17 +170,12 @@ public class ReservationController {
     }
 
     /**
-     * Logs detailed error information to a log file.
+     * Queues detailed error information for the log file; it is written by the shared {@link ErrorLogger}.
      *
      * @param message the error message to log.
      * @param ex      the exception to log.
      */
     private void logError(String message, Exception ex) {
-        try (PrintWriter out = new PrintWriter(new FileWriter(LOG_FILE, true))) {
-            out.println("[" + java.time.LocalDateTime.now() + "] " + message);
-            ex.printStackTrace(out);
-        } catch (IOException ioEx) {
-            System.err.println("Failed to write to log file: " + ioEx.getMessage());
-        }
+        ErrorLogger.getInstance().log(LOG_FILE, message, ex);
     }
 }
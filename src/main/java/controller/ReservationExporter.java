@@ -0,0 +1,267 @@
+package controller;
+
+import exception.DatabaseOperationException;
+import exception.InvalidInputException;
+import exception.RoleAccessException;
+import model.Permission;
+import model.ReservationDAO;
+import model.ReservationHistoryEntry;
+import model.ReservationHistoryHandler;
+import model.ReservationStatus;
+import model.UserDAO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports the full reservation and check-out history to a CSV or JSON file for audits. Only users with the
+ * {@link Permission#CAN_EXPORT_HISTORY} permission (Admins) can export.
+ * <p>
+ * Rows are streamed from the database straight into a buffered writer, optionally gzip-compressed, so the
+ * export uses the same small amount of memory however long the history is. The file is written under a
+ * {@code .part} name and renamed when complete, so a failed export never leaves a truncated file behind.
+ * </p>
+ * <p>
+ * Both formats have the same fields, in this order: {@code reservation_id}, {@code user_id}, {@code user_name},
+ * {@code equipment_id}, {@code equipment_name}, {@code reservation_date}, {@code return_date}, {@code status},
+ * {@code approved_by}, {@code checked_out_by}, {@code checked_out_date} and {@code check_in_date}. Dates are
+ * ISO-8601; missing values are empty in CSV and {@code null} in JSON.
+ * </p>
+ */
+public class ReservationExporter {
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] COLUMNS = {
+            "reservation_id", "user_id", "user_name", "equipment_id", "equipment_name", "reservation_date",
+            "return_date", "status", "approved_by", "checked_out_by", "checked_out_date", "check_in_date"
+    };
+
+    private final ReservationDAO reservationDAO = new ReservationDAO();
+    private final UserDAO userDAO = new UserDAO();
+    private final RoleCache roleCache = RoleCache.getInstance();
+
+    /**
+     * The file formats the history can be exported in.
+     */
+    public enum Format {
+        /** Comma-separated values with a header row. */
+        CSV("csv"),
+        /** A JSON array with one object per row. */
+        JSON("json");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the usual file name extension for the format.
+         *
+         * @return the extension, without a dot.
+         */
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Supplies the rows to export; implemented by the DAO, or by a fixed list in tests.
+     */
+    @FunctionalInterface
+    interface HistorySource {
+        long stream(ReservationHistoryHandler handler) throws DatabaseOperationException, IOException;
+    }
+
+    /**
+     * Exports the reservations matching the filters, with their check-outs, to a file.
+     *
+     * @param file        the file to write; replaced if it exists.
+     * @param format      the file format.
+     * @param gzip        true to gzip-compress the file.
+     * @param from        the earliest reservation date to include, or null for no lower bound.
+     * @param to          the latest reservation date to include, or null for no upper bound.
+     * @param status      the only reservation status to include, or null for every status.
+     * @param requesterId the ID of the user requesting the export.
+     * @return the number of rows written.
+     * @throws InvalidInputException      if the start date is after the end date.
+     * @throws RoleAccessException        if the requester may not export the history.
+     * @throws DatabaseOperationException if a database error occurs.
+     * @throws IOException                if the file cannot be written.
+     */
+    public long export(Path file, Format format, boolean gzip, LocalDate from, LocalDate to,
+                       ReservationStatus status, String requesterId)
+            throws InvalidInputException, RoleAccessException, DatabaseOperationException, IOException {
+        RoleValidator.checkPermission(roleCache.getRole(requesterId, userDAO), Permission.CAN_EXPORT_HISTORY);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidInputException("The start date must not be after the end date.");
+        }
+
+        String statusName = status == null ? null : status.getName();
+        Path partFile = file.resolveSibling(file.getFileName() + ".part");
+        long rows;
+        try {
+            try (OutputStream out = Files.newOutputStream(partFile)) {
+                rows = write(out, format, gzip,
+                        handler -> reservationDAO.streamReservationHistory(from, to, statusName, handler));
+            }
+            Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | DatabaseOperationException | RuntimeException e) {
+            Files.deleteIfExists(partFile);
+            throw e;
+        }
+        return rows;
+    }
+
+    /**
+     * Writes every row from a source to a stream, then closes the stream.
+     *
+     * @param out    the stream to write to.
+     * @param format the file format.
+     * @param gzip   true to gzip-compress the output.
+     * @param source supplies the rows.
+     * @return the number of rows written.
+     * @throws DatabaseOperationException if the source fails.
+     * @throws IOException                if the stream cannot be written.
+     */
+    static long write(OutputStream out, Format format, boolean gzip, HistorySource source)
+            throws DatabaseOperationException, IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            if (format == Format.CSV) {
+                writeCsvRow(writer, COLUMNS);
+                return source.stream(entry -> writeCsvRow(writer, values(entry)));
+            }
+
+            writer.write('[');
+            long rows = source.stream(new ReservationHistoryHandler() {
+                private boolean first = true;
+
+                @Override
+                public void accept(ReservationHistoryEntry entry) throws IOException {
+                    writer.write(first ? "\n" : ",\n");
+                    first = false;
+                    writeJsonObject(writer, entry.getReservationId(), values(entry));
+                }
+            });
+            writer.write(rows == 0 ? "]\n" : "\n]\n");
+            return rows;
+        }
+    }
+
+    /**
+     * Returns the values of a row as text, in column order; missing values are null.
+     */
+    private static String[] values(ReservationHistoryEntry entry) {
+        return new String[]{
+                Integer.toString(entry.getReservationId()),
+                entry.getUserId(),
+                entry.getUserName(),
+                entry.getEquipmentId(),
+                entry.getEquipmentName(),
+                toText(entry.getReservationDate()),
+                toText(entry.getReturnDate()),
+                entry.getStatus(),
+                entry.getApprovedBy(),
+                entry.getCheckedOutBy(),
+                toText(entry.getCheckedOutDate()),
+                toText(entry.getCheckInDate())
+        };
+    }
+
+    private static String toText(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (needsQuotes(value)) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes a row as a JSON object on one line; the reservation ID is written as a number.
+     */
+    private static void writeJsonObject(Writer writer, int reservationId, String[] values) throws IOException {
+        writer.write("{\"");
+        writer.write(COLUMNS[0]);
+        writer.write("\":");
+        writer.write(Integer.toString(reservationId));
+        for (int i = 1; i < values.length; i++) {
+            writer.write(",\"");
+            writer.write(COLUMNS[i]);
+            writer.write("\":");
+            writeJsonString(writer, values[i]);
+        }
+        writer.write('}');
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                    break;
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,133 @@
+package controller;
+
+import exception.DatabaseOperationException;
+import model.Role;
+import model.User;
+import model.UserDAO;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the role of each user for the controllers that check it before every mutating operation.
+ * <p>
+ * Roles are recorded when a user logs in and loaded through {@link UserDAO#getUserRole(String)} on a miss.
+ * Entries expire after a fixed time to live and are invalidated explicitly when a user is updated,
+ * deleted or logs out; a role that was being loaded while an invalidation ran is returned but not cached.
+ * The stored procedures still re-check the role server-side, so a stale entry can never grant more than
+ * the database allows.
+ * </p>
+ */
+public class RoleCache {
+    // How long a cached role is trusted before it is read from the database again.
+    static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final RoleCache INSTANCE = new RoleCache(TimeUnit.MILLISECONDS.toNanos(DEFAULT_TTL_MILLIS), System::nanoTime);
+
+    private final ConcurrentHashMap<String, CachedRole> roles = new ConcurrentHashMap<>();
+    // Counts invalidations, so a load can tell whether one ran while it was reading the database.
+    private final AtomicLong invalidations = new AtomicLong();
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    /**
+     * Creates a role cache.
+     *
+     * @param ttlNanos how long an entry stays valid, in nanoseconds.
+     * @param clock    the source of the current time, in nanoseconds.
+     */
+    RoleCache(long ttlNanos, LongSupplier clock) {
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the role cache shared by all controllers.
+     *
+     * @return the shared RoleCache instance.
+     */
+    public static RoleCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records the role of a user who has just been authenticated.
+     *
+     * @param user the authenticated user; ignored if null or without an ID or role.
+     */
+    public void put(User user) {
+        if (user == null || user.getUserId() == null || user.getRole() == null) {
+            return;
+        }
+        roles.put(user.getUserId(), new CachedRole(user.getRole(), clock.getAsLong() + ttlNanos));
+    }
+
+    /**
+     * Returns the role of a user, loading it from the database if it is not cached or has expired.
+     *
+     * @param userId  the user ID.
+     * @param userDAO the DAO used to load the role on a miss.
+     * @return the user's role, or null if the user does not exist.
+     * @throws DatabaseOperationException if the role has to be loaded and a database error occurs.
+     */
+    public String getRole(String userId, UserDAO userDAO) throws DatabaseOperationException {
+        if (userId == null) {
+            return userDAO.getUserRole(null);
+        }
+        CachedRole cached = roles.get(userId);
+        long now = clock.getAsLong();
+        if (cached != null && now - cached.expiresAt < 0) {
+            return cached.role;
+        }
+
+        long stamp = invalidations.get();
+        String role = userDAO.getUserRole(userId);
+        if (role == null) {
+            roles.remove(userId);
+            return null;
+        }
+        CachedRole loaded = new CachedRole(role, now + ttlNanos);
+        // invalidate() also goes through compute(), so the check and the store cannot interleave with it.
+        roles.compute(userId, (id, current) -> invalidations.get() == stamp ? loaded : current);
+        return loaded.role;
+    }
+
+    /**
+     * Removes the cached role of a user, so the next check reads it from the database.
+     *
+     * @param userId the user ID.
+     */
+    public void invalidate(String userId) {
+        if (userId != null) {
+            roles.compute(userId, (id, current) -> {
+                invalidations.incrementAndGet();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Removes every cached role.
+     */
+    public void clear() {
+        invalidations.incrementAndGet();
+        roles.clear();
+    }
+
+    /**
+     * A cached role and the {@link System#nanoTime()} value at which it expires.
+     */
+    private static final class CachedRole {
+        private final String role;
+        private final long expiresAt;
+
+        private CachedRole(String role, long expiresAt) {
+            // Keep the shared enum label, so the permission check that follows matches it by identity.
+            Role known = Role.fromName(role);
+            this.role = known == null ? role : known.getName();
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package controller;
 
 import exception.RoleAccessException;
+import model.Permission;
+import model.Role;
 
 /**
- * Utility class for validating a user's role against a set of allowed roles.
+ * Utility class for checking that a user's role may perform an operation.
  */
 public class RoleValidator {
 
@@ -15,8 +17,10 @@ public class RoleValidator {
      * @param allowedRoles a varargs list of allowed roles
      * @throws IllegalArgumentException if userRole is null or empty
      * @throws RoleAccessException      if the userRole is not among the allowedRoles
-     * @return true if the users role is valid
+     * @deprecated use {@link #checkPermission(String, Permission)}, which checks a permission bit instead of
+     *             comparing role names and reports a missing role as a {@link RoleAccessException}.
      */
+    @Deprecated
     public static void validateRole(String userRole, String... allowedRoles) throws RoleAccessException {
         if (userRole == null || userRole.trim().isEmpty()) {
             throw new IllegalArgumentException("User role cannot be null or empty.");
@@ -30,4 +34,20 @@ public class RoleValidator {
 
         throw new RoleAccessException("Access denied: Role '" + userRole + "' is not authorized for this operation.");
     }
+
+    /**
+     * Checks that a role is granted a permission. The role name is resolved case-insensitively to a
+     * {@link Role} and the check itself is a single bitwise {@code AND}; nothing is allocated unless the
+     * check fails.
+     *
+     * @param userRole   the role of the user to check
+     * @param permission the permission the operation requires
+     * @throws RoleAccessException if the role is null, unknown or not granted the permission
+     */
+    public static void checkPermission(String userRole, Permission permission) throws RoleAccessException {
+        Role role = Role.fromName(userRole);
+        if (role == null || !role.can(permission)) {
+            throw new RoleAccessException("Access denied: Role '" + userRole + "' is not authorized for this operation.");
+        }
+    }
 }
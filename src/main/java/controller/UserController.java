@@ -2,16 +2,15 @@ package controller;
 
 import exception.AuthenticationException;
 import exception.DatabaseOperationException;
+import exception.LoginBusyException;
 import exception.RoleAccessException;
+import model.Permission;
 import model.User;
 import model.UserDAO;
 
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.Date;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Date;
 
 /**
  * The UserController class provides methods to manage user-related operations such as authentication,
@@ -22,6 +21,7 @@ import java.util.ArrayList;
  */
 public class UserController {
     private final UserDAO userDAO = new UserDAO();
+    private final RoleCache roleCache = RoleCache.getInstance();
     // Log file name
     private static final String LOG_FILE = "error.log";
     // Generic error message to display in the GUI
@@ -32,22 +32,37 @@ public class UserController {
      *
      * @param email the user's email address.
      * @param password the user's password.
-     * @return the authenticated User object, or null if authentication fails.
-     * @throws RuntimeException with a generic error message if the credentials are invalid.
+     * @return the authenticated User object, or null if a database error prevented the check.
+     * @throws LoginBusyException      if too many logins are being checked at once; the credentials were not checked.
+     * @throws AuthenticationException with a generic error message if the credentials are invalid.
      */
-    public User login(String email, String password) {
+    public User login(String email, String password) throws AuthenticationException {
         try {
-            return userDAO.authenticateUser(email, password);
+            User user = userDAO.authenticateUser(email, password);
+            roleCache.put(user);
+            return user;
+        } catch (LoginBusyException be) {
+            logError(be);
+            throw be;
         } catch (AuthenticationException ae) {
             logError(ae);
-            // Rethrow as a runtime exception with a generic message
-            throw new RuntimeException("Invalid credentials. " + GENERIC_ERROR_MESSAGE);
+            // Rethrow with a generic message, so the caller cannot tell an unknown email from a wrong password.
+            throw new AuthenticationException("Invalid credentials. " + GENERIC_ERROR_MESSAGE);
         } catch (DatabaseOperationException de) {
             logError(de);
             return null;
         }
     }
 
+    /**
+     * Ends the session of a user by dropping their cached role.
+     *
+     * @param userId the ID of the user logging out.
+     */
+    public void logout(String userId) {
+        roleCache.invalidate(userId);
+    }
+
     /**
      * Retrieves all users in the system. This method is restricted to Admin users.
      *
@@ -56,7 +71,7 @@ public class UserController {
      */
     public List<User> getAllUsers(String requesterRole) {
         try {
-            RoleValidator.validateRole(requesterRole, "Admin");
+            RoleValidator.checkPermission(requesterRole, Permission.CAN_MANAGE_USERS);
             return userDAO.getAllUsers();
         } catch (RoleAccessException rae) {
             logError(rae);
@@ -105,8 +120,8 @@ public class UserController {
      */
     public boolean addUser(User newUser, String adminId) {
         try {
-            String adminRole = userDAO.getUserRole(adminId);
-            RoleValidator.validateRole(adminRole, "Admin");
+            String adminRole = roleCache.getRole(adminId, userDAO);
+            RoleValidator.checkPermission(adminRole, Permission.CAN_MANAGE_USERS);
             return userDAO.addUser(newUser, adminId);
         } catch (RoleAccessException | IllegalArgumentException e) {
             logError(e);
@@ -126,7 +141,12 @@ public class UserController {
      */
     public boolean updateUser(User updatedUser, String adminId) {
         try {
-            return userDAO.updateUser(updatedUser, adminId);
+            boolean updated = userDAO.updateUser(updatedUser, adminId);
+            if (updated) {
+                // The role may have changed.
+                roleCache.invalidate(updatedUser.getUserId());
+            }
+            return updated;
         } catch (IllegalArgumentException e) {
             logError(e);
             return false;
@@ -145,9 +165,13 @@ public class UserController {
      */
     public boolean deleteUser(String userId, String adminId) {
         try {
-            String adminRole = userDAO.getUserRole(adminId);
-            RoleValidator.validateRole(adminRole, "Admin");
-            return userDAO.deleteUser(userId, adminId);
+            String adminRole = roleCache.getRole(adminId, userDAO);
+            RoleValidator.checkPermission(adminRole, Permission.CAN_MANAGE_USERS);
+            boolean deleted = userDAO.deleteUser(userId, adminId);
+            if (deleted) {
+                roleCache.invalidate(userId);
+            }
+            return deleted;
         } catch (RoleAccessException | IllegalArgumentException e) {
             logError(e);
             return false;
@@ -158,16 +182,12 @@ public class UserController {
     }
 
     /**
-     * Logs the provided exception details to a log file using a PrintWriter.
+     * Queues the provided exception details for the log file; it is written by the shared {@link ErrorLogger}.
      *
      * @param e the exception to log.
      */
     private void logError(Exception e) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(LOG_FILE, true))) {
-            pw.println("[" + new Date() + "] " + e.toString());
-            e.printStackTrace(pw);
-        } catch (IOException ioe) {
-            System.err.println("Error writing to log file: " + ioe.getMessage());
-        }
+        // These lines have always carried a java.util.Date timestamp, unlike the other controllers' logs.
+        ErrorLogger.getInstance().log(LOG_FILE, new Date(), e.toString(), e);
     }
 }
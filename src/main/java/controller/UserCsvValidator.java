@@ -0,0 +1,214 @@
+package controller;
+
+import exception.InvalidInputException;
+import model.Role;
+import model.User;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates the rows of a user import CSV file, collecting every problem as a {@link ValidationError}
+ * rather than stopping at the first exception.
+ * <p>
+ * The first row names the columns: {@code email}, {@code name}, {@code password} and {@code role} are
+ * required, and {@code department}, {@code course} and {@code year} are read for students and lecturers.
+ * The validator remembers the emails of the valid rows it has seen, so a repeated email is reported on
+ * its second occurrence.
+ * </p>
+ */
+public class UserCsvValidator {
+    private static final String[] REQUIRED_COLUMNS = {"email", "name", "password", "role"};
+
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final Set<String> emailsSeen = new HashSet<>();
+
+    /**
+     * Creates a validator for the columns named in a header line.
+     *
+     * @param header the first line of the file; a leading byte order mark is ignored.
+     * @throws InvalidInputException if the header cannot be parsed or lacks a required column.
+     */
+    public UserCsvValidator(String header) throws InvalidInputException {
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> names = UserImporter.parseLine(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new InvalidInputException("The header has no '" + required + "' column.");
+            }
+        }
+    }
+
+    /**
+     * Validates every row of a CSV file in one pass, without importing anything.
+     *
+     * @param csvFile the file to check.
+     * @return the problems found, in line order; empty if every row is valid.
+     * @throws IOException           if the file cannot be read.
+     * @throws InvalidInputException if the file is empty or its header lacks a required column.
+     */
+    public static List<ValidationError> validateFile(Path csvFile) throws IOException, InvalidInputException {
+        List<ValidationError> errors = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new InvalidInputException("The file is empty.");
+            }
+            UserCsvValidator validator = new UserCsvValidator(header);
+            int lineNumber = 1;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (!line.trim().isEmpty()) {
+                    validator.validateLine(lineNumber, line, errors);
+                }
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Parses and validates one line of the file.
+     *
+     * @param lineNumber the line number, counting the header as line 1.
+     * @param line       the line to validate.
+     * @param errors     receives the problems found in the line.
+     * @return the user described by the line, with its plain text password, or null if the line is invalid.
+     */
+    public User validateLine(int lineNumber, String line, List<ValidationError> errors) {
+        List<String> fields;
+        try {
+            fields = UserImporter.parseLine(line);
+        } catch (InvalidInputException e) {
+            errors.add(new ValidationError(lineNumber, null, e.getMessage()));
+            return null;
+        }
+        return validateRow(lineNumber, fields, errors);
+    }
+
+    /**
+     * Validates the fields of one row, reporting every invalid field.
+     *
+     * @param lineNumber the line number, counting the header as line 1.
+     * @param fields     the fields of the row, in header order.
+     * @param errors     receives the problems found in the row.
+     * @return the user described by the row, with its plain text password, or null if the row is invalid.
+     */
+    public User validateRow(int lineNumber, List<String> fields, List<ValidationError> errors) {
+        int errorCount = errors.size();
+        User user = new User();
+
+        Role role = Role.fromName(field(fields, "role").trim());
+        if (role == null) {
+            errors.add(new ValidationError(lineNumber, "role", "Role must be Student, Lecturer, MediaStaff or Admin."));
+        } else {
+            user.setRole(role.getName());
+            String email = field(fields, "email").trim();
+            String error = InputValidator.checkEmail(email, role.getName());
+            if (error != null) {
+                errors.add(new ValidationError(lineNumber, "email", error));
+            } else {
+                user.setEmail(role == Role.STUDENT ? email : email.toLowerCase());
+            }
+        }
+
+        String name = field(fields, "name");
+        String nameError = InputValidator.checkName(name);
+        if (nameError != null) {
+            errors.add(new ValidationError(lineNumber, "name", nameError));
+        } else {
+            user.setName(name.trim());
+        }
+
+        String password = field(fields, "password").trim();
+        if (password.isEmpty()) {
+            errors.add(new ValidationError(lineNumber, "password", "Password must be filled."));
+        } else {
+            user.setPassword(password);
+        }
+
+        if (role == Role.STUDENT || role == Role.LECTURER) {
+            String department = MethodsUtil.findDepartment(field(fields, "department"));
+            if (department == null) {
+                errors.add(new ValidationError(lineNumber, "department", "Unknown department."));
+            } else {
+                user.setDepartment(department);
+            }
+            if (role == Role.STUDENT) {
+                if (department != null) {
+                    String course = MethodsUtil.findCourse(department, field(fields, "course"));
+                    if (course == null) {
+                        errors.add(new ValidationError(lineNumber, "course",
+                                "Unknown course for the " + department + " department."));
+                    } else {
+                        user.setCourse(course);
+                    }
+                }
+                int year = parseYear(field(fields, "year"));
+                if (year == 0) {
+                    errors.add(new ValidationError(lineNumber, "year", "Year must be a number from 1 to 4."));
+                } else {
+                    user.setYear(year);
+                }
+            }
+        }
+
+        if (errors.size() > errorCount) {
+            return null;
+        }
+        if (!emailsSeen.add(user.getEmail().toLowerCase())) {
+            errors.add(new ValidationError(lineNumber, "email", "Email appears more than once in the file."));
+            return null;
+        }
+        return user;
+    }
+
+    /**
+     * Returns the value of a column in a row, or an empty string if the row is too short or the column is absent.
+     *
+     * @param fields the fields of the row.
+     * @param column the column name, in lower case.
+     * @return the field's value.
+     */
+    public String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= fields.size() ? "" : fields.get(index);
+    }
+
+    /**
+     * Parses a year of study from 1 to 4 as {@link Integer#parseInt} would, returning 0 if the text is not one.
+     */
+    private static int parseYear(String text) {
+        String trimmed = text.trim();
+        int start = trimmed.startsWith("+") ? 1 : 0;
+        if (start == trimmed.length()) {
+            return 0;
+        }
+        int year = 0;
+        for (int i = start; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            year = year * 10 + (c - '0');
+            if (year > 4) {
+                return 0;
+            }
+        }
+        return year;
+    }
+}
@@ -0,0 +1,470 @@
+package controller;
+
+import exception.DatabaseOperationException;
+import exception.InvalidInputException;
+import exception.RoleAccessException;
+import model.Permission;
+import model.User;
+import model.UserDAO;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Imports users in bulk from a CSV file, for onboarding a semester's students in one go.
+ * <p>
+ * The first row names the columns: {@code email}, {@code name}, {@code password} and {@code role} are
+ * required, and {@code department}, {@code course} and {@code year} are read for students and lecturers.
+ * Fields containing commas are quoted, as in {@code "Hospitality, Tourism & Culinary Arts"}. Each row is
+ * checked with a {@link UserCsvValidator}, which reports every invalid field of the row at once.
+ * </p>
+ * <p>
+ * Rows are processed in chunks. The passwords of the next chunk are hashed on a pool of worker threads
+ * while the current chunk is inserted with {@link UserDAO#addUsers}, which uses batched statements in one
+ * transaction. If a chunk is rejected because of a bad row, its rows are retried one by one so that only
+ * the bad rows fail. Failed rows are written with their line number and reason to
+ * {@code <file>.errors.csv} next to the input file.
+ * </p>
+ * <p>
+ * After each chunk commits, its last line number is saved to {@code <file>.checkpoint}. A run started with
+ * {@code resume} skips the lines up to the checkpoint, so an interrupted import can be restarted without
+ * adding anyone twice. The checkpoint is deleted once the whole file has been processed.
+ * </p>
+ */
+public class UserImporter {
+    static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final String LOG_FILE = "error.log";
+
+    private final UserDAO userDAO;
+    private final RoleCache roleCache;
+    private final Function<String, String> hasher;
+    private final int chunkSize;
+    private final int hashThreads;
+
+    /**
+     * Creates an importer that hashes passwords with BCrypt on one thread per processor.
+     */
+    public UserImporter() {
+        this(new UserDAO(), RoleCache.getInstance(), PasswordUtils::hashPassword, DEFAULT_CHUNK_SIZE,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an importer with the given collaborators and sizes.
+     *
+     * @param userDAO     the DAO used to add the users.
+     * @param roleCache   the cache used to check the admin's role.
+     * @param hasher      hashes a plain text password.
+     * @param chunkSize   the number of rows inserted per transaction.
+     * @param hashThreads the number of threads hashing passwords.
+     */
+    UserImporter(UserDAO userDAO, RoleCache roleCache, Function<String, String> hasher, int chunkSize, int hashThreads) {
+        this.userDAO = userDAO;
+        this.roleCache = roleCache;
+        this.hasher = hasher;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.hashThreads = Math.max(1, hashThreads);
+    }
+
+    /**
+     * Returns the error report written for the given input file.
+     *
+     * @param csvFile the input file.
+     * @return {@code <file>.errors.csv} in the same directory.
+     */
+    public static Path reportFileFor(Path csvFile) {
+        return csvFile.resolveSibling(csvFile.getFileName() + ".errors.csv");
+    }
+
+    /**
+     * Returns the checkpoint file kept for the given input file while an import is unfinished.
+     *
+     * @param csvFile the input file.
+     * @return {@code <file>.checkpoint} in the same directory.
+     */
+    public static Path checkpointFileFor(Path csvFile) {
+        return csvFile.resolveSibling(csvFile.getFileName() + ".checkpoint");
+    }
+
+    /**
+     * Imports the users listed in a CSV file. Only an Admin can perform this operation.
+     *
+     * @param csvFile the file to import.
+     * @param adminId the Admin's ID, recorded as the creator of the users.
+     * @param resume  true to continue after the checkpoint of an earlier run and append to its report;
+     *                false to start from the first row with a new report.
+     * @return the counts for this run.
+     * @throws IOException                if the file, report or checkpoint cannot be read or written,
+     *                                    or the thread is interrupted.
+     * @throws InvalidInputException      if the file is empty or its header lacks a required column.
+     * @throws RoleAccessException        if the admin ID does not belong to a user who may manage users.
+     * @throws DatabaseOperationException if the database fails for reasons other than a bad row; the
+     *                                    checkpoint then points at the last committed chunk.
+     */
+    public ImportSummary importUsers(Path csvFile, String adminId, boolean resume)
+            throws IOException, InvalidInputException, RoleAccessException, DatabaseOperationException {
+        RoleValidator.checkPermission(roleCache.getRole(adminId, userDAO), Permission.CAN_MANAGE_USERS);
+
+        Path reportFile = reportFileFor(csvFile);
+        Path checkpointFile = checkpointFileFor(csvFile);
+        int checkpoint = resume ? readCheckpoint(checkpointFile) : 0;
+
+        ExecutorService hashPool = Executors.newFixedThreadPool(hashThreads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8);
+             ErrorReport report = new ErrorReport(reportFile, resume)) {
+            Run run = new Run(reader, adminId, checkpoint, checkpointFile, report, hashPool);
+            run.readHeader();
+
+            // Hash the next chunk's passwords while the current chunk is being inserted.
+            Chunk current = run.readChunk();
+            while (current != null) {
+                Chunk next = current.endOfFile ? null : run.readChunk();
+                run.insert(current);
+                current = next;
+            }
+
+            Files.deleteIfExists(checkpointFile);
+            return new ImportSummary(run.rowsRead, run.imported, run.failed, run.skipped, reportFile);
+        } finally {
+            hashPool.shutdownNow();
+        }
+    }
+
+    private static int readCheckpoint(Path checkpointFile) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String text = Files.readString(checkpointFile, StandardCharsets.UTF_8).trim();
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid checkpoint in " + checkpointFile + ": " + text, e);
+        }
+    }
+
+    /**
+     * Splits one CSV line into fields. Fields may be quoted, with {@code ""} standing for a quote inside
+     * a quoted field; line breaks inside fields are not supported.
+     *
+     * @param line the line to split.
+     * @return the fields, unquoted.
+     * @throws InvalidInputException if a quoted field is not closed.
+     */
+    static List<String> parseLine(String line) throws InvalidInputException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidInputException("Unterminated quoted field.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * True if the database rejected the data of a row, rather than failing as a whole.
+     */
+    private static boolean isRowError(DatabaseOperationException e) {
+        if (e.getCause() instanceof SQLException sql && sql.getSQLState() != null) {
+            // Class 22 is a data exception and class 23 an integrity constraint violation.
+            return sql.getSQLState().startsWith("22") || sql.getSQLState().startsWith("23");
+        }
+        return false;
+    }
+
+    private void logError(Exception e) {
+        // Same line format as UserController, which writes to the same file.
+        ErrorLogger.getInstance().log(LOG_FILE, new Date(), e.toString(), e);
+    }
+
+    /**
+     * The state of one import while it reads and inserts chunks.
+     */
+    private final class Run {
+        private final BufferedReader reader;
+        private final String adminId;
+        private final int checkpoint;
+        private final Path checkpointFile;
+        private final ErrorReport report;
+        private final ExecutorService hashPool;
+        private UserCsvValidator validator;
+        private int lineNumber;
+        private int rowsRead;
+        private int imported;
+        private int failed;
+        private int skipped;
+
+        private Run(BufferedReader reader, String adminId, int checkpoint, Path checkpointFile,
+                    ErrorReport report, ExecutorService hashPool) {
+            this.reader = reader;
+            this.adminId = adminId;
+            this.checkpoint = checkpoint;
+            this.checkpointFile = checkpointFile;
+            this.report = report;
+            this.hashPool = hashPool;
+        }
+
+        private void readHeader() throws IOException, InvalidInputException {
+            String header = reader.readLine();
+            lineNumber++;
+            if (header == null) {
+                throw new InvalidInputException("The file is empty.");
+            }
+            validator = new UserCsvValidator(header);
+        }
+
+        /**
+         * Reads and validates up to a chunk of rows and starts hashing their passwords.
+         */
+        private Chunk readChunk() throws IOException {
+            Chunk chunk = new Chunk();
+            List<ValidationError> errors = new ArrayList<>();
+            while (chunk.rows.size() + chunk.failures.size() < chunkSize) {
+                String line = reader.readLine();
+                if (line == null) {
+                    chunk.endOfFile = true;
+                    break;
+                }
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (lineNumber <= checkpoint) {
+                    skipped++;
+                    continue;
+                }
+                rowsRead++;
+
+                List<String> fields;
+                try {
+                    fields = parseLine(line);
+                } catch (InvalidInputException e) {
+                    chunk.failures.add(new Failure(lineNumber, "", e.getMessage()));
+                    continue;
+                }
+                errors.clear();
+                User user = validator.validateRow(lineNumber, fields, errors);
+                if (user == null) {
+                    chunk.failures.add(new Failure(lineNumber, validator.field(fields, "email").trim(), describe(errors)));
+                    continue;
+                }
+                String password = user.getPassword();
+                chunk.rows.add(new Row(lineNumber, user, hashPool.submit(() -> hasher.apply(password))));
+            }
+            chunk.endLine = lineNumber;
+            return chunk;
+        }
+
+        /**
+         * Adds the rows of a chunk, reports its failures and moves the checkpoint past it.
+         */
+        private void insert(Chunk chunk) throws IOException, DatabaseOperationException {
+            List<Row> ready = new ArrayList<>();
+            for (Row row : chunk.rows) {
+                try {
+                    row.user.setPassword(row.hash.get());
+                    ready.add(row);
+                } catch (ExecutionException e) {
+                    chunk.fail(row, "Could not hash the password: " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("The import was interrupted.");
+                }
+            }
+
+            List<String> emails = new ArrayList<>();
+            for (Row row : ready) {
+                emails.add(row.user.getEmail());
+            }
+            Set<String> existing = userDAO.findExistingEmails(emails);
+            for (Iterator<Row> it = ready.iterator(); it.hasNext(); ) {
+                Row row = it.next();
+                if (existing.contains(row.user.getEmail().toLowerCase())) {
+                    chunk.fail(row, "Email already exists.");
+                    it.remove();
+                }
+            }
+
+            if (!ready.isEmpty()) {
+                List<User> users = new ArrayList<>();
+                for (Row row : ready) {
+                    users.add(row.user);
+                }
+                try {
+                    userDAO.addUsers(users, adminId);
+                    imported += users.size();
+                } catch (DatabaseOperationException e) {
+                    if (!isRowError(e)) {
+                        throw e;
+                    }
+                    logError(e);
+                    for (Row row : ready) {
+                        try {
+                            userDAO.addUsers(List.of(row.user), adminId);
+                            imported++;
+                        } catch (DatabaseOperationException rowError) {
+                            if (!isRowError(rowError)) {
+                                throw rowError;
+                            }
+                            chunk.fail(row, rowError.getCause().getMessage());
+                        }
+                    }
+                }
+            }
+
+            chunk.failures.sort(Comparator.comparingInt(failure -> failure.line));
+            for (Failure failure : chunk.failures) {
+                report.write(failure);
+            }
+            report.flush();
+            failed += chunk.failures.size();
+            saveCheckpoint(chunk.endLine);
+        }
+
+        private void saveCheckpoint(int line) throws IOException {
+            Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            Files.writeString(temp, Integer.toString(line), StandardCharsets.UTF_8);
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Joins the messages of a row's validation errors for the report.
+     */
+    private static String describe(List<ValidationError> errors) {
+        StringBuilder reason = new StringBuilder();
+        for (ValidationError error : errors) {
+            if (reason.length() > 0) {
+                reason.append(' ');
+            }
+            reason.append(error.getMessage());
+        }
+        return reason.toString();
+    }
+
+    /**
+     * A validated row waiting for its password hash.
+     */
+    private static final class Row {
+        private final int line;
+        private final User user;
+        private final Future<String> hash;
+
+        private Row(int line, User user, Future<String> hash) {
+            this.line = line;
+            this.user = user;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * A row that could not be imported.
+     */
+    private static final class Failure {
+        private final int line;
+        private final String email;
+        private final String reason;
+
+        private Failure(int line, String email, String reason) {
+            this.line = line;
+            this.email = email;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * The rows read between two checkpoints.
+     */
+    private static final class Chunk {
+        private final List<Row> rows = new ArrayList<>();
+        private final List<Failure> failures = new ArrayList<>();
+        private int endLine;
+        private boolean endOfFile;
+
+        private void fail(Row row, String reason) {
+            failures.add(new Failure(row.line, row.user.getEmail(), reason));
+        }
+    }
+
+    /**
+     * Writes failed rows to the CSV error report.
+     */
+    private static final class ErrorReport implements AutoCloseable {
+        private final BufferedWriter writer;
+
+        private ErrorReport(Path file, boolean append) throws IOException {
+            boolean header = !append || !Files.exists(file) || Files.size(file) == 0;
+            writer = append
+                    ? Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+                    : Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            if (header) {
+                writer.write("line,email,error");
+                writer.newLine();
+            }
+        }
+
+        private void write(Failure failure) throws IOException {
+            writer.write(failure.line + "," + quote(failure.email) + "," + quote(failure.reason));
+            writer.newLine();
+        }
+
+        private void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private static String quote(String value) {
+            if (value.contains(",") || value.contains("\"")) {
+                return "\"" + value.replace("\"", "\"\"") + "\"";
+            }
+            return value;
+        }
+    }
+}
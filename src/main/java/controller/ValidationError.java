@@ -0,0 +1,56 @@
+package controller;
+
+/**
+ * A problem found while validating one row of a bulk import, reported instead of throwing so that a whole
+ * file can be checked in one pass.
+ */
+public final class ValidationError {
+    private final int line;
+    private final String field;
+    private final String message;
+
+    /**
+     * Creates a validation error.
+     *
+     * @param line    the line number of the row in the file, counting the header as line 1.
+     * @param field   the column that failed, or null if the row as a whole is invalid.
+     * @param message a description of the problem for the user.
+     */
+    public ValidationError(int line, String field, String message) {
+        this.line = line;
+        this.field = field;
+        this.message = message;
+    }
+
+    /**
+     * Returns the line number of the row.
+     *
+     * @return the line number, counting the header as line 1.
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * Returns the column that failed.
+     *
+     * @return the column name, or null if the row as a whole is invalid.
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Returns the description of the problem.
+     *
+     * @return the error message.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "Line " + line + (field == null ? "" : " (" + field + ")") + ": " + message;
+    }
+}
@@ -0,0 +1,17 @@
+package exception;
+
+/**
+ * This exception is thrown when a login cannot be checked because too many logins are already being
+ * verified. It says nothing about the credentials, so it does not count as a failed attempt.
+ */
+public class LoginBusyException extends AuthenticationException {
+
+    /**
+     * Constructs a new LoginBusyException with the specified detail message.
+     *
+     * @param message the detail message asking the user to try again.
+     */
+    public LoginBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package exception;
+
+/**
+ * This exception is thrown when a login is refused because there have been too many failed attempts
+ * for the same email address or from the same source.
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    /**
+     * Constructs a new LoginThrottledException with the specified detail message.
+     *
+     * @param message the detail message telling the user when they can try again.
+     */
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+}
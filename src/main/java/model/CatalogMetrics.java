@@ -0,0 +1,66 @@
+package model;
+
+/**
+ * An immutable snapshot of the equipment catalog cache's size and hit counters.
+ * Obtained through {@link EquipmentDAO#getCatalogMetrics()}.
+ */
+public class CatalogMetrics {
+    private final int size;
+    private final long hits;
+    private final long misses;
+
+    /**
+     * Constructs a CatalogMetrics snapshot.
+     *
+     * @param size   number of equipment items currently held in memory.
+     * @param hits   number of reads served without reloading the equipment table.
+     * @param misses number of reads that had to reload the equipment table.
+     */
+    CatalogMetrics(int size, long hits, long misses) {
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Returns the number of equipment items currently held in memory.
+     *
+     * @return the catalog size, or 0 if it is not loaded.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of reads served without reloading the equipment table.
+     *
+     * @return the hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of reads that had to reload the equipment table.
+     *
+     * @return the miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the fraction of reads served without reloading the equipment table.
+     *
+     * @return the hit rate between 0 and 1, or 0 if nothing has been read yet.
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CatalogMetrics[size=%d, hits=%d, misses=%d, hitRate=%.2f]", size, hits, misses, getHitRate());
+    }
+}
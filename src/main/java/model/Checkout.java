@@ -0,0 +1,88 @@
+package model;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Represents one row of the check-out and check-in tables: a reservation together with the name of the
+ * requester, the name of the reserved equipment and the date relevant to the table it appears in.
+ * Instances are produced by {@link CheckoutDAO} and are immutable: the date is copied on the way in and out.
+ */
+public final class Checkout {
+    private final int reservationId;
+    private final String userName;
+    private final String equipmentName;
+    private final Date date;
+
+    /**
+     * Constructs a Checkout with the specified details.
+     *
+     * @param reservationId the reservation ID.
+     * @param userName      the name of the user who made the reservation.
+     * @param equipmentName the name of the reserved equipment.
+     * @param date          the reservation date for pending checkouts, or the check-out date for checked-out equipment.
+     */
+    public Checkout(int reservationId, String userName, String equipmentName, Date date) {
+        this.reservationId = reservationId;
+        this.userName = userName;
+        this.equipmentName = equipmentName;
+        this.date = copyOf(date);
+    }
+
+    /**
+     * Returns the reservation ID.
+     *
+     * @return the reservation ID.
+     */
+    public int getReservationId() {
+        return reservationId;
+    }
+
+    /**
+     * Returns the name of the user who made the reservation.
+     *
+     * @return the user name.
+     */
+    public String getUserName() {
+        return userName;
+    }
+
+    /**
+     * Returns the name of the reserved equipment.
+     *
+     * @return the equipment name.
+     */
+    public String getEquipmentName() {
+        return equipmentName;
+    }
+
+    /**
+     * Returns the reservation date for pending checkouts, or the check-out date for checked-out equipment.
+     *
+     * @return a copy of the date; its {@code toString()} matches the format previously used in the string rows.
+     */
+    public Date getDate() {
+        return copyOf(date);
+    }
+
+    // Cloning keeps the JDBC subclass (Timestamp or java.sql.Date), and with it the toString() format.
+    private static Date copyOf(Date date) {
+        return date == null ? null : (Date) date.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Checkout)) return false;
+        Checkout that = (Checkout) o;
+        return reservationId == that.reservationId
+                && Objects.equals(userName, that.userName)
+                && Objects.equals(equipmentName, that.equipmentName)
+                && Objects.equals(date, that.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservationId, userName, equipmentName, date);
+    }
+}
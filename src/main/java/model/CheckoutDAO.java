@@ -7,8 +7,6 @@ import java.sql.CallableStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.sql.Date;
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,9 +23,21 @@ public class CheckoutDAO {
      *
      * @return a list of pending checkout details.
      * @throws DatabaseOperationException if a database error occurs.
+     * @deprecated use {@link #listPendingCheckouts()}, which returns typed rows that do not need to be parsed.
      */
+    @Deprecated
     public List<String> getPendingCheckouts() throws DatabaseOperationException {
-        List<String> pendingReservations = new ArrayList<>();
+        return format(listPendingCheckouts());
+    }
+
+    /**
+     * Retrieves the pending reservations that are approved but not yet checked out, oldest reservation first.
+     *
+     * @return a list of pending checkouts, each carrying its reservation date.
+     * @throws DatabaseOperationException if a database error occurs.
+     */
+    public List<Checkout> listPendingCheckouts() throws DatabaseOperationException {
+        List<Checkout> pendingReservations = new ArrayList<>();
         String query = """
             SELECT r.reservation_id, u.name AS user_name, e.name AS equipment_name, r.reservation_date
             FROM Reservations r
@@ -43,12 +53,11 @@ public class CheckoutDAO {
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                int reservationId = rs.getInt("reservation_id");
-                String userName = rs.getString("user_name");
-                String equipmentName = rs.getString("equipment_name");
-                Date reservationDate = rs.getDate("reservation_date");
-
-                pendingReservations.add(reservationId + " | " + userName + " | " + equipmentName + " | " + reservationDate);
+                pendingReservations.add(new Checkout(
+                        rs.getInt("reservation_id"),
+                        rs.getString("user_name"),
+                        rs.getString("equipment_name"),
+                        rs.getDate("reservation_date")));
             }
         } catch (SQLException e) {
             throw new DatabaseOperationException("Error fetching pending checkouts.", e);
@@ -86,6 +95,10 @@ public class CheckoutDAO {
 
             stmt.executeUpdate();
             int rowsAffected = stmt.getInt(3);
+            if (rowsAffected > 0) {
+                // The procedure changes the equipment's status.
+                EquipmentDAO.invalidateCatalog();
+            }
 
             return rowsAffected > 0;
         } catch (SQLException e) {
@@ -128,6 +141,10 @@ public class CheckoutDAO {
 
             stmt.executeUpdate();
             int rowsAffected = stmt.getInt(4);
+            if (rowsAffected > 0) {
+                // The procedure changes the equipment's status and state.
+                EquipmentDAO.invalidateCatalog();
+            }
 
             return rowsAffected > 0;
         } catch (SQLException e) {
@@ -141,9 +158,22 @@ public class CheckoutDAO {
      *
      * @return a list of checked-out equipment details.
      * @throws DatabaseOperationException if a database error occurs.
+     * @deprecated use {@link #listCheckedOutEquipment()}, which returns typed rows that do not need to be parsed.
      */
+    @Deprecated
     public List<String> getCheckedOutEquipment() throws DatabaseOperationException {
-        List<String> checkedOutList = new ArrayList<>();
+        return format(listCheckedOutEquipment());
+    }
+
+    /**
+     * Retrieves the equipment that has been checked out (i.e., has a checkout record with no check-in date),
+     * earliest check-out first.
+     *
+     * @return a list of checkouts, each carrying its check-out date.
+     * @throws DatabaseOperationException if a database error occurs.
+     */
+    public List<Checkout> listCheckedOutEquipment() throws DatabaseOperationException {
+        List<Checkout> checkedOutList = new ArrayList<>();
         String query = """
             SELECT r.reservation_id, u.name AS user_name, e.name AS equipment_name, c.checked_out_date
             FROM Reservations r
@@ -159,12 +189,11 @@ public class CheckoutDAO {
              ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                int reservationId = rs.getInt("reservation_id");
-                String userName = rs.getString("user_name");
-                String equipmentName = rs.getString("equipment_name");
-                Timestamp checkedOutDate = rs.getTimestamp("checked_out_date");
-
-                checkedOutList.add(reservationId + " | " + userName + " | " + equipmentName + " | " + checkedOutDate);
+                checkedOutList.add(new Checkout(
+                        rs.getInt("reservation_id"),
+                        rs.getString("user_name"),
+                        rs.getString("equipment_name"),
+                        rs.getTimestamp("checked_out_date")));
             }
         } catch (SQLException e) {
             throw new DatabaseOperationException("Error fetching checked-out equipment.", e);
@@ -172,4 +201,16 @@ public class CheckoutDAO {
 
         return checkedOutList;
     }
+
+    /**
+     * Formats checkouts as {@code "id | user | equipment | date"} strings for the deprecated string methods.
+     */
+    private static List<String> format(List<Checkout> checkouts) {
+        List<String> details = new ArrayList<>(checkouts.size());
+        for (Checkout checkout : checkouts) {
+            details.add(checkout.getReservationId() + " | " + checkout.getUserName() + " | "
+                    + checkout.getEquipmentName() + " | " + checkout.getDate());
+        }
+        return details;
+    }
 }
@@ -0,0 +1,483 @@
+package model;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, self-validating pool of physical database connections.
+ * <p>
+ * Connections handed out by {@link #borrow()} are proxies: calling {@code close()} on them returns the
+ * underlying connection to the pool instead of closing it, so existing DAO code that uses
+ * try-with-resources or {@link DatabaseConnection#closeResources} works unchanged.
+ * </p>
+ * <p>
+ * A background housekeeping task evicts connections that have been idle for too long, tops the pool
+ * back up to its minimum size and, when a leak detection threshold is configured, reports connections
+ * that have been borrowed for longer than it. Leak detection is off by default: it records the stack
+ * trace of every borrow, which is too costly for normal use, and long-running borrowers such as a
+ * streamed export would be reported as leaks.
+ * </p>
+ * <p>
+ * Each physical connection also keeps a {@link StatementCache}, so a pooled connection's
+ * {@code prepareStatement(String)} and {@code prepareCall(String)} reuse statements already
+ * prepared for the same SQL text.
+ * </p>
+ */
+class ConnectionPool {
+
+    /**
+     * Opens a new physical connection to the database.
+     */
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    private final ConnectionFactory factory;
+    private final int minIdle;
+    private final int maxSize;
+    private final long connectionTimeoutMs;
+    private final long idleTimeoutMs;
+    private final long leakDetectionThresholdMs;
+    private final long validationIntervalMs;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    // Most recently returned connections are kept at the head so that the tail ages out first.
+    private final Deque<PooledEntry> idle = new ArrayDeque<>();
+    private final Set<PooledEntry> borrowed = new HashSet<>();
+    private final ScheduledExecutorService housekeeper;
+    private int totalConnections;
+    private int threadsAwaiting;
+    private boolean closed;
+
+    private long borrowCount;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private long timeoutCount;
+    private long leakCount;
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    /**
+     * Creates a pool using the {@code db.pool.*} settings in the given properties.
+     *
+     * @param factory    the factory used to open physical connections.
+     * @param properties the properties holding the pool settings; missing keys fall back to defaults.
+     */
+    ConnectionPool(ConnectionFactory factory, Properties properties) {
+        this.factory = factory;
+        this.maxSize = Math.max(1, intProperty(properties, "db.pool.maxSize", 10));
+        this.minIdle = Math.min(maxSize, Math.max(0, intProperty(properties, "db.pool.minIdle", 2)));
+        this.connectionTimeoutMs = longProperty(properties, "db.pool.connectionTimeoutMs", 5000);
+        this.idleTimeoutMs = longProperty(properties, "db.pool.idleTimeoutMs", 300000);
+        this.leakDetectionThresholdMs = longProperty(properties, "db.pool.leakDetectionThresholdMs", 0);
+        this.validationIntervalMs = longProperty(properties, "db.pool.validationIntervalMs", 5000);
+        this.validationTimeoutSeconds = intProperty(properties, "db.pool.validationTimeoutSeconds", 2);
+        this.statementCacheSize = Math.max(0, intProperty(properties, "db.pool.statementCacheSize", 50));
+        long housekeepingIntervalMs = Math.max(100, longProperty(properties, "db.pool.housekeepingIntervalMs", 30000));
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, housekeepingIntervalMs, housekeepingIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if the pool is below its maximum size.
+     * If every connection is in use, the caller waits up to the configured connection timeout.
+     *
+     * @return a pooled {@link Connection}; closing it returns it to the pool.
+     * @throws SQLTimeoutException if no connection became available within the timeout.
+     * @throws SQLException        if a new connection could not be opened or the pool is closed.
+     */
+    Connection borrow() throws SQLException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(connectionTimeoutMs);
+
+        while (true) {
+            PooledEntry entry = null;
+            boolean create = false;
+
+            lock.lock();
+            try {
+                while (entry == null && !create) {
+                    if (closed) {
+                        throw new SQLException("Connection pool has been shut down.");
+                    }
+                    if (!idle.isEmpty()) {
+                        entry = idle.pollFirst();
+                    } else if (totalConnections < maxSize) {
+                        totalConnections++;
+                        create = true;
+                    } else {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            timeoutCount++;
+                            throw new SQLTimeoutException("Timed out after " + connectionTimeoutMs
+                                    + "ms waiting for a database connection (" + borrowed.size() + " in use).");
+                        }
+                        threadsAwaiting++;
+                        try {
+                            available.awaitNanos(remaining);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new SQLException("Interrupted while waiting for a database connection.", e);
+                        } finally {
+                            threadsAwaiting--;
+                        }
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                try {
+                    entry = newEntry(factory.create());
+                } catch (SQLException | RuntimeException e) {
+                    releaseSlot();
+                    throw e;
+                }
+            } else if (!isUsable(entry)) {
+                discard(entry);
+                continue;
+            }
+
+            return checkOut(entry, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool's current state and counters.
+     *
+     * @return the current {@link PoolMetrics}.
+     */
+    PoolMetrics metrics() {
+        lock.lock();
+        try {
+            return new PoolMetrics(borrowed.size(), idle.size(), totalConnections, threadsAwaiting,
+                    borrowCount, totalWaitNanos, maxWaitNanos, timeoutCount, leakCount,
+                    statementCacheHits.get(), statementCacheMisses.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Shuts the pool down, closing all idle connections. Borrowed connections are closed when they are returned.
+     */
+    void shutdown() {
+        List<PooledEntry> toClose;
+        lock.lock();
+        try {
+            closed = true;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+            totalConnections -= toClose.size();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        housekeeper.shutdownNow();
+        for (PooledEntry entry : toClose) {
+            closeQuietly(entry);
+        }
+    }
+
+    /**
+     * Evicts expired idle connections, reports suspected leaks and refills the pool to its minimum size.
+     */
+    void housekeep() {
+        long now = System.currentTimeMillis();
+        List<PooledEntry> expired = new ArrayList<>();
+        int missing;
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            Iterator<PooledEntry> oldestFirst = idle.descendingIterator();
+            while (oldestFirst.hasNext() && totalConnections - expired.size() > minIdle) {
+                PooledEntry entry = oldestFirst.next();
+                if (now - entry.lastReturnedAt > idleTimeoutMs) {
+                    oldestFirst.remove();
+                    expired.add(entry);
+                }
+            }
+            totalConnections -= expired.size();
+
+            if (leakDetectionThresholdMs > 0) {
+                for (PooledEntry entry : borrowed) {
+                    if (!entry.leakReported && now - entry.borrowedAt > leakDetectionThresholdMs) {
+                        entry.leakReported = true;
+                        leakCount++;
+                        System.err.println("Possible connection leak: connection borrowed "
+                                + (now - entry.borrowedAt) + "ms ago has not been returned.");
+                        if (entry.borrowSite != null) {
+                            entry.borrowSite.printStackTrace();
+                        }
+                    }
+                }
+            }
+
+            missing = Math.max(0, minIdle - totalConnections);
+            totalConnections += missing;
+        } finally {
+            lock.unlock();
+        }
+
+        for (PooledEntry entry : expired) {
+            closeQuietly(entry);
+        }
+
+        for (int i = 0; i < missing; i++) {
+            try {
+                PooledEntry entry = newEntry(factory.create());
+                lock.lock();
+                try {
+                    entry.lastReturnedAt = System.currentTimeMillis();
+                    idle.addLast(entry);
+                    available.signal();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (SQLException | RuntimeException e) {
+                releaseSlot();
+                logError("Could not open connection while refilling the pool", e);
+            }
+        }
+    }
+
+    /**
+     * Wraps a newly opened physical connection, giving it a statement cache unless caching is disabled.
+     */
+    private PooledEntry newEntry(Connection physical) {
+        StatementCache statements = statementCacheSize > 0
+                ? new StatementCache(physical, statementCacheSize, statementCacheHits, statementCacheMisses)
+                : null;
+        return new PooledEntry(physical, statements);
+    }
+
+    /**
+     * Marks the entry as borrowed, records wait statistics and wraps it in a pooled proxy.
+     */
+    private Connection checkOut(PooledEntry entry, long waitedNanos) {
+        lock.lock();
+        try {
+            entry.borrowedAt = System.currentTimeMillis();
+            entry.leakReported = false;
+            entry.borrowSite = leakDetectionThresholdMs > 0 ? new Exception("Connection borrowed here") : null;
+            borrowed.add(entry);
+            borrowCount++;
+            totalWaitNanos += waitedNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitedNanos);
+        } finally {
+            lock.unlock();
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PooledConnectionHandler(entry));
+    }
+
+    /**
+     * Returns a borrowed entry to the idle set after resetting any state left by the caller.
+     */
+    private void release(PooledEntry entry) {
+        try {
+            if (entry.physical.isClosed()) {
+                discard(entry);
+                return;
+            }
+            if (!entry.physical.getAutoCommit()) {
+                entry.physical.rollback();
+                entry.physical.setAutoCommit(true);
+            }
+            entry.physical.clearWarnings();
+        } catch (SQLException e) {
+            discard(entry);
+            return;
+        }
+
+        boolean closeNow;
+        lock.lock();
+        try {
+            borrowed.remove(entry);
+            closeNow = closed;
+            if (closeNow) {
+                totalConnections--;
+            } else {
+                entry.lastReturnedAt = System.currentTimeMillis();
+                idle.addFirst(entry);
+            }
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (closeNow) {
+            closeQuietly(entry);
+        }
+    }
+
+    /**
+     * Removes an entry from the pool permanently and closes its physical connection.
+     */
+    private void discard(PooledEntry entry) {
+        lock.lock();
+        try {
+            borrowed.remove(entry);
+            totalConnections--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        closeQuietly(entry);
+    }
+
+    /**
+     * Gives back a reserved slot whose connection could not be opened.
+     */
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            totalConnections--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks that an idle connection is still alive, validating it against the server only if it has
+     * been idle for longer than the validation interval.
+     */
+    private boolean isUsable(PooledEntry entry) {
+        try {
+            if (entry.physical.isClosed()) {
+                return false;
+            }
+            if (System.currentTimeMillis() - entry.lastReturnedAt < validationIntervalMs) {
+                return true;
+            }
+            return entry.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void closeQuietly(PooledEntry entry) {
+        if (entry.statements != null) {
+            entry.statements.closeAll();
+        }
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            logError("Error closing pooled connection", e);
+        }
+    }
+
+    private static int intProperty(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static long longProperty(Properties properties, String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    private static void logError(String message, Exception e) {
+        System.err.println(message + ": " + e.getMessage());
+    }
+
+    /**
+     * A physical connection together with its pool bookkeeping.
+     */
+    private static final class PooledEntry {
+        private final Connection physical;
+        private final StatementCache statements;
+        private long lastReturnedAt = System.currentTimeMillis();
+        private long borrowedAt;
+        private boolean leakReported;
+        private Exception borrowSite;
+
+        private PooledEntry(Connection physical, StatementCache statements) {
+            this.physical = physical;
+            this.statements = statements;
+        }
+    }
+
+    /**
+     * Forwards calls to the physical connection, turning {@code close()} into a return to the pool.
+     * Once closed, the handle rejects further use so a connection cannot be used after it was given back.
+     */
+    private final class PooledConnectionHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private final AtomicBoolean handleClosed = new AtomicBoolean(false);
+
+        private PooledConnectionHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (handleClosed.compareAndSet(false, true)) {
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return handleClosed.get() || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + entry.physical;
+                default:
+                    break;
+            }
+            if (handleClosed.get()) {
+                throw new SQLException("Connection has already been returned to the pool.");
+            }
+            if (entry.statements != null && args != null && args.length == 1) {
+                if (method.getName().equals("prepareStatement")) {
+                    return entry.statements.prepareStatement((String) args[0]);
+                }
+                if (method.getName().equals("prepareCall")) {
+                    return entry.statements.prepareCall((String) args[0]);
+                }
+            }
+            try {
+                return method.invoke(entry.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the aggregate counts shown on the Admin and Media Staff home dashboards.
+ * Instances are produced by {@link DashboardStatsDAO} and are not modified afterwards.
+ */
+public class DashboardStats {
+    private final Map<String, Integer> equipmentByState;
+    private final int totalEquipment;
+    private final int checkedOutEquipment;
+    private final Map<String, Integer> reservationsByStatus;
+    private final Map<String, Integer> reservationsPerUser;
+    private final long revision;
+
+    /**
+     * Constructs a DashboardStats object with the specified aggregates.
+     *
+     * @param equipmentByState     the number of equipment items per state (New, Good, Fair, Poor).
+     * @param totalEquipment       the total number of equipment items.
+     * @param checkedOutEquipment  the number of equipment items currently checked out.
+     * @param reservationsByStatus the number of reservations per status (Pending, Approved, Rejected).
+     * @param reservationsPerUser  the number of reservations per user, keyed by user name.
+     * @param revision             the change revision the aggregates were read at, or -1 if unknown.
+     */
+    public DashboardStats(Map<String, Integer> equipmentByState, int totalEquipment, int checkedOutEquipment,
+                          Map<String, Integer> reservationsByStatus, Map<String, Integer> reservationsPerUser,
+                          long revision) {
+        this.equipmentByState = Collections.unmodifiableMap(new LinkedHashMap<>(equipmentByState));
+        this.totalEquipment = totalEquipment;
+        this.checkedOutEquipment = checkedOutEquipment;
+        this.reservationsByStatus = Collections.unmodifiableMap(new LinkedHashMap<>(reservationsByStatus));
+        this.reservationsPerUser = Collections.unmodifiableMap(new LinkedHashMap<>(reservationsPerUser));
+        this.revision = revision;
+    }
+
+    /**
+     * Constructs a DashboardStats object with the specified aggregates and an unknown change revision.
+     *
+     * @param equipmentByState     the number of equipment items per state (New, Good, Fair, Poor).
+     * @param totalEquipment       the total number of equipment items.
+     * @param checkedOutEquipment  the number of equipment items currently checked out.
+     * @param reservationsByStatus the number of reservations per status (Pending, Approved, Rejected).
+     * @param reservationsPerUser  the number of reservations per user, keyed by user name.
+     */
+    public DashboardStats(Map<String, Integer> equipmentByState, int totalEquipment, int checkedOutEquipment,
+                          Map<String, Integer> reservationsByStatus, Map<String, Integer> reservationsPerUser) {
+        this(equipmentByState, totalEquipment, checkedOutEquipment, reservationsByStatus, reservationsPerUser, -1);
+    }
+
+    /**
+     * Constructs an empty DashboardStats object with all counts set to zero and an unknown change revision.
+     */
+    public DashboardStats() {
+        this(Map.of(), 0, 0, Map.of(), Map.of());
+    }
+
+    /**
+     * Returns the number of equipment items in the given state.
+     *
+     * @param state the equipment state (e.g., New, Good, Fair, Poor).
+     * @return the count, or 0 if no equipment is in that state.
+     */
+    public int getEquipmentCountByState(String state) {
+        return equipmentByState.getOrDefault(state, 0);
+    }
+
+    /**
+     * Returns the number of equipment items per state.
+     *
+     * @return an unmodifiable map of state to count.
+     */
+    public Map<String, Integer> getEquipmentByState() {
+        return equipmentByState;
+    }
+
+    /**
+     * Returns the total number of equipment items.
+     *
+     * @return the total equipment count.
+     */
+    public int getTotalEquipment() {
+        return totalEquipment;
+    }
+
+    /**
+     * Returns the number of equipment items currently checked out.
+     *
+     * @return the checked-out equipment count.
+     */
+    public int getCheckedOutEquipment() {
+        return checkedOutEquipment;
+    }
+
+    /**
+     * Returns the number of equipment items not currently checked out.
+     *
+     * @return the total equipment count minus the checked-out count.
+     */
+    public int getNotCheckedOutEquipment() {
+        return totalEquipment - checkedOutEquipment;
+    }
+
+    /**
+     * Returns the number of reservations with the given status.
+     *
+     * @param status the reservation status (e.g., Pending, Approved, Rejected).
+     * @return the count, or 0 if no reservation has that status.
+     */
+    public int getReservationCountByStatus(String status) {
+        return reservationsByStatus.getOrDefault(status, 0);
+    }
+
+    /**
+     * Returns the number of reservations per status.
+     *
+     * @return an unmodifiable map of status to count.
+     */
+    public Map<String, Integer> getReservationsByStatus() {
+        return reservationsByStatus;
+    }
+
+    /**
+     * Returns the number of reservations per user, ordered by user name. Users who share a name are told
+     * apart by their user ID in parentheses.
+     *
+     * @return an unmodifiable map of user name to count.
+     */
+    public Map<String, Integer> getReservationsPerUser() {
+        return reservationsPerUser;
+    }
+
+    /**
+     * Returns the value of the {@code change_revision} counter at the time the aggregates were read.
+     * The counter is bumped by every stored procedure that changes equipment or reservations.
+     *
+     * @return the change revision, or -1 if it is unknown.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DashboardStats)) return false;
+        DashboardStats that = (DashboardStats) o;
+        return revision == that.revision
+                && totalEquipment == that.totalEquipment
+                && checkedOutEquipment == that.checkedOutEquipment
+                && equipmentByState.equals(that.equipmentByState)
+                && reservationsByStatus.equals(that.reservationsByStatus)
+                && reservationsPerUser.equals(that.reservationsPerUser);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(equipmentByState, totalEquipment, checkedOutEquipment, reservationsByStatus, reservationsPerUser, revision);
+    }
+}
@@ -0,0 +1,128 @@
+package model;
+
+import exception.DatabaseOperationException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data Access Object (DAO) for the aggregate statistics shown on the home dashboards.
+ * All aggregates are computed by the database with {@code GROUP BY} counts and returned in a single query.
+ */
+public class DashboardStatsDAO {
+
+    // Each branch returns (metric, label, total) rows so the whole dashboard is one round trip.
+    // The checked-out count uses the same joins and filter as CheckoutDAO.getCheckedOutEquipment().
+    // The per-user counts are labelled with the user's name, as the charts show it.
+    // The revision row records which change revision the aggregates belong to.
+    private static final String STATS_QUERY = """
+            SELECT 'state' AS metric, state AS label, NULL AS user_id, COUNT(*) AS total
+            FROM Equipment GROUP BY state
+            UNION ALL
+            SELECT 'equipment', NULL, NULL, COUNT(*)
+            FROM Equipment
+            UNION ALL
+            SELECT 'checkedOut', NULL, NULL, COUNT(*)
+            FROM Reservations r
+            JOIN Users u ON r.user_id = u.user_id
+            JOIN Equipment e ON r.equipment_id = e.equipment_id
+            JOIN Checkouts c ON r.reservation_id = c.reservation_id
+            WHERE e.status = 'CheckedOut' AND c.check_in_date IS NULL
+            UNION ALL
+            SELECT 'reservationStatus', status, NULL, COUNT(*)
+            FROM Reservations GROUP BY status
+            UNION ALL
+            SELECT 'reservationUser', u.name, u.user_id, COUNT(*)
+            FROM Reservations r
+            JOIN Users u ON r.user_id = u.user_id
+            GROUP BY u.user_id, u.name
+            UNION ALL
+            SELECT 'revision', NULL, NULL, revision
+            FROM change_revision WHERE id = 1
+            ORDER BY metric, label, user_id
+            """;
+
+    private static final String REVISION_QUERY = "SELECT revision FROM change_revision WHERE id = 1";
+
+    /**
+     * Retrieves every dashboard aggregate in a single query.
+     *
+     * @return a DashboardStats object holding equipment counts per state, total and checked-out equipment counts,
+     *         reservation counts per status, reservation counts per user name and the current change revision.
+     * @throws DatabaseOperationException if a database error occurs.
+     */
+    public DashboardStats getDashboardStats() throws DatabaseOperationException {
+        Map<String, Integer> equipmentByState = new LinkedHashMap<>();
+        Map<String, Integer> reservationsByStatus = new LinkedHashMap<>();
+        Map<String, Integer> reservationsPerUser = new LinkedHashMap<>();
+        int totalEquipment = 0;
+        int checkedOutEquipment = 0;
+        long revision = -1;
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(STATS_QUERY);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                String label = rs.getString("label");
+                int total = rs.getInt("total");
+                switch (rs.getString("metric")) {
+                    case "state":
+                        if (label != null) {
+                            equipmentByState.put(label, total);
+                        }
+                        break;
+                    case "equipment":
+                        totalEquipment = total;
+                        break;
+                    case "checkedOut":
+                        checkedOutEquipment = total;
+                        break;
+                    case "reservationStatus":
+                        reservationsByStatus.put(label, total);
+                        break;
+                    case "reservationUser":
+                        // Users who share a name keep separate bars.
+                        String userLabel = reservationsPerUser.containsKey(label)
+                                ? label + " (" + rs.getString("user_id") + ")"
+                                : label;
+                        reservationsPerUser.put(userLabel, total);
+                        break;
+                    case "revision":
+                        revision = rs.getLong("total");
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error fetching dashboard statistics.", e);
+        }
+
+        return new DashboardStats(equipmentByState, totalEquipment, checkedOutEquipment, reservationsByStatus, reservationsPerUser, revision);
+    }
+
+    /**
+     * Retrieves the current change revision with a single primary key lookup.
+     * The revision is incremented by every stored procedure that changes equipment, reservations or
+     * checkouts, so callers can compare it with the revision of their last load and skip reloading
+     * when nothing has changed.
+     *
+     * @return the current change revision, or -1 if the revision row is missing.
+     * @throws DatabaseOperationException if a database error occurs.
+     */
+    public long getRevision() throws DatabaseOperationException {
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(REVISION_QUERY);
+             ResultSet rs = stmt.executeQuery()) {
+
+            return rs.next() ? rs.getLong("revision") : -1;
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error fetching change revision.", e);
+        }
+    }
+}
@@ -11,7 +11,10 @@ import java.util.Properties;
 /**
  * Provides methods for establishing and closing connections to the database.
  * <p>
- * The connection parameters are loaded from a properties file for better security.
+ * The connection parameters are loaded from a properties file for better security; a system property
+ * with the same {@code db.} key overrides the file.
+ * Connections are served from a bounded {@link ConnectionPool}; closing a connection returns it
+ * to the pool rather than closing the physical connection.
  * </p>
  */
 public class DatabaseConnection {
@@ -27,20 +30,81 @@ public class DatabaseConnection {
         } catch (Exception e) {
             throw new RuntimeException("Failed to load database properties.", e);
         }
+        // System properties such as -Ddb.url=... override the file, e.g. to point benchmarks at a scratch schema.
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("db.")) {
+                properties.setProperty(key, System.getProperty(key));
+            }
+        }
+    }
+
+    /**
+     * Holds the connection pool so that it is only created the first time a connection is requested.
+     */
+    private static class PoolHolder {
+        private static final ConnectionPool POOL = new ConnectionPool(DatabaseConnection::openPhysicalConnection, properties);
     }
 
     /**
-     * Returns a new database connection using the properties loaded from the file.
+     * Returns a pooled database connection. Closing the returned connection hands it back to the pool.
      *
      * @return a {@link Connection} object representing the database connection.
-     * @throws SQLException if a database access error occurs.
+     * @throws SQLException if a database access error occurs or no connection became available in time.
      */
     public static Connection getConnection() throws SQLException {
+        return PoolHolder.POOL.borrow();
+    }
+
+    /**
+     * Returns a snapshot of the connection pool's metrics (active, idle, wait times, timeouts and leaks).
+     *
+     * @return the current {@link PoolMetrics}.
+     */
+    public static PoolMetrics getPoolMetrics() {
+        return PoolHolder.POOL.metrics();
+    }
+
+    /**
+     * Returns a numeric setting from the properties file.
+     *
+     * @param key          the property key.
+     * @param defaultValue the value to use if the key is missing or empty.
+     * @return the configured value, or the default.
+     */
+    static long longProperty(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    /**
+     * Shuts down the connection pool, closing all idle connections.
+     */
+    public static void shutdownPool() {
+        PoolHolder.POOL.shutdown();
+    }
+
+    /**
+     * Opens a new physical connection using the properties loaded from the file.
+     *
+     * @return a new {@link Connection} to the database.
+     * @throws SQLException if a database access error occurs.
+     */
+    private static Connection openPhysicalConnection() throws SQLException {
         String dbUrl = properties.getProperty("db.url");
         String dbUsername = properties.getProperty("db.username");
         String dbPassword = properties.getProperty("db.password");
 
-        return DriverManager.getConnection(dbUrl, dbUsername, dbPassword);
+        // Keys prefixed with "db.driver." are passed straight to the JDBC driver.
+        Properties driverProperties = new Properties();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith("db.driver.")) {
+                driverProperties.setProperty(key.substring("db.driver.".length()), properties.getProperty(key));
+            }
+        }
+        driverProperties.setProperty("user", dbUsername);
+        driverProperties.setProperty("password", dbPassword);
+
+        return DriverManager.getConnection(dbUrl, driverProperties);
     }
 
     /**
@@ -0,0 +1,275 @@
+package model;
+
+import exception.DatabaseOperationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * An in-memory copy of the equipment table, indexed by ID, type and status.
+ * <p>
+ * The catalog is loaded with a single query and served from memory until it is older than the staleness
+ * bound. It is then revalidated against the equipment revision, a counter that triggers on the equipment
+ * table move on every change: if no equipment row has changed since the load, the copy is kept, otherwise
+ * it is reloaded. Writes made through the DAOs patch or invalidate the catalog straight away, so this client
+ * always sees its own changes.
+ * Matching on IDs, types and statuses ignores case, as the database collation does.
+ * </p>
+ */
+class EquipmentCatalog {
+
+    /**
+     * Loads a value from the database.
+     */
+    @FunctionalInterface
+    interface Source<T> {
+        T load() throws DatabaseOperationException;
+    }
+
+    private final Source<List<Equipment>> rows;
+    private final Source<Long> revision;
+    private final long maxStalenessNanos;
+    private final LongSupplier clock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // Replaced, never modified, so readers can use it without locking.
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates an empty catalog that is loaded on first use.
+     *
+     * @param rows              loads every equipment row.
+     * @param revision          reads the current equipment revision, or -1 if it is unknown.
+     * @param maxStalenessNanos how long a loaded copy is used before it is revalidated, in nanoseconds.
+     * @param clock             the source of the current time, in nanoseconds.
+     */
+    EquipmentCatalog(Source<List<Equipment>> rows, Source<Long> revision, long maxStalenessNanos, LongSupplier clock) {
+        this.rows = rows;
+        this.revision = revision;
+        this.maxStalenessNanos = maxStalenessNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns every equipment item, ordered by equipment ID.
+     *
+     * @return copies of all equipment items.
+     * @throws DatabaseOperationException if the catalog had to be loaded and a database error occurs.
+     */
+    List<Equipment> getAll() throws DatabaseOperationException {
+        return copies(current().byId.values());
+    }
+
+    /**
+     * Returns the equipment items with the given type, ordered by equipment ID.
+     *
+     * @param type the equipment type.
+     * @return copies of the matching equipment items.
+     * @throws DatabaseOperationException if the catalog had to be loaded and a database error occurs.
+     */
+    List<Equipment> getByType(String type) throws DatabaseOperationException {
+        return copies(current().byType.getOrDefault(type, List.of()));
+    }
+
+    /**
+     * Returns the equipment items with the given status, ordered by equipment ID.
+     *
+     * @param status the equipment status.
+     * @return copies of the matching equipment items.
+     * @throws DatabaseOperationException if the catalog had to be loaded and a database error occurs.
+     */
+    List<Equipment> getByStatus(String status) throws DatabaseOperationException {
+        return copies(current().byStatus.getOrDefault(status, List.of()));
+    }
+
+    /**
+     * Returns the equipment items with the given type and status, ordered by equipment ID.
+     *
+     * @param type   the equipment type.
+     * @param status the equipment status.
+     * @return copies of the matching equipment items.
+     * @throws DatabaseOperationException if the catalog had to be loaded and a database error occurs.
+     */
+    List<Equipment> getByTypeAndStatus(String type, String status) throws DatabaseOperationException {
+        List<Equipment> matches = new ArrayList<>();
+        for (Equipment equipment : current().byType.getOrDefault(type, List.of())) {
+            if (status.equalsIgnoreCase(equipment.getStatus())) {
+                matches.add(copy(equipment));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns up to {@code pageSize} equipment items that come after the given ID, ordered by equipment ID.
+     *
+     * @param type             the equipment type, or null for all types.
+     * @param status           the equipment status, or null for all statuses.
+     * @param afterEquipmentId the last ID of the previous page, or null for the first page.
+     * @param pageSize         the maximum number of items to return.
+     * @return copies of the equipment items on the page.
+     * @throws DatabaseOperationException if the catalog had to be loaded and a database error occurs.
+     */
+    List<Equipment> getPage(String type, String status, String afterEquipmentId, int pageSize)
+            throws DatabaseOperationException {
+        NavigableMap<String, Equipment> byId = current().byId;
+        Iterable<Equipment> candidates = afterEquipmentId == null ? byId.values()
+                : byId.tailMap(afterEquipmentId, false).values();
+        List<Equipment> page = new ArrayList<>(Math.min(pageSize, byId.size()));
+        for (Equipment equipment : candidates) {
+            if (page.size() == pageSize) {
+                break;
+            }
+            if ((type == null || type.equalsIgnoreCase(equipment.getType()))
+                    && (status == null || status.equalsIgnoreCase(equipment.getStatus()))) {
+                page.add(copy(equipment));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Adds or replaces an item with a copy of the given one. Does nothing if the catalog has not been loaded.
+     *
+     * @param equipment the new or updated equipment item.
+     */
+    synchronized void put(Equipment equipment) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            TreeMap<String, Equipment> byId = new TreeMap<>(current.byId);
+            byId.put(equipment.getEquipmentId(), copy(equipment));
+            snapshot = new Snapshot(byId, current.revision, current.loadedAt);
+        }
+    }
+
+    /**
+     * Removes an item. Does nothing if the catalog has not been loaded.
+     *
+     * @param equipmentId the ID of the removed equipment item.
+     */
+    synchronized void remove(String equipmentId) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            TreeMap<String, Equipment> byId = new TreeMap<>(current.byId);
+            byId.remove(equipmentId);
+            snapshot = new Snapshot(byId, current.revision, current.loadedAt);
+        }
+    }
+
+    /**
+     * Discards the catalog, so the next read loads it from the database.
+     */
+    synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Returns a snapshot of the catalog's size and hit counters.
+     *
+     * @return the current {@link CatalogMetrics}.
+     */
+    CatalogMetrics metrics() {
+        Snapshot current = snapshot;
+        return new CatalogMetrics(current == null ? 0 : current.byId.size(), hits.get(), misses.get());
+    }
+
+    /**
+     * Returns a snapshot that is within the staleness bound, revalidating or reloading it if necessary.
+     */
+    private Snapshot current() throws DatabaseOperationException {
+        Snapshot current = snapshot;
+        if (current != null && clock.getAsLong() - current.loadedAt < maxStalenessNanos) {
+            hits.incrementAndGet();
+            return current;
+        }
+        return refresh();
+    }
+
+    private synchronized Snapshot refresh() throws DatabaseOperationException {
+        long now = clock.getAsLong();
+        Snapshot current = snapshot;
+        if (current != null && now - current.loadedAt < maxStalenessNanos) {
+            // Another thread refreshed the catalog while this one was waiting.
+            hits.incrementAndGet();
+            return current;
+        }
+
+        // Read the revision before the rows, so a change made in between is picked up by the next check.
+        long latestRevision = revision.load();
+        if (current != null && latestRevision >= 0 && latestRevision == current.revision) {
+            hits.incrementAndGet();
+            snapshot = current.renewedAt(now);
+            return snapshot;
+        }
+
+        misses.incrementAndGet();
+        TreeMap<String, Equipment> byId = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Equipment equipment : rows.load()) {
+            byId.put(equipment.getEquipmentId(), equipment);
+        }
+        snapshot = new Snapshot(byId, latestRevision, now);
+        return snapshot;
+    }
+
+    private static List<Equipment> copies(Iterable<Equipment> source) {
+        List<Equipment> result = new ArrayList<>();
+        for (Equipment equipment : source) {
+            result.add(copy(equipment));
+        }
+        return result;
+    }
+
+    // Equipment is mutable, so callers always receive their own copies.
+    private static Equipment copy(Equipment equipment) {
+        return new Equipment(equipment.getEquipmentId(), equipment.getName(), equipment.getType(),
+                equipment.getDescription(), equipment.getStatus(), equipment.getState());
+    }
+
+    /**
+     * One loaded copy of the equipment table with its type and status indexes.
+     */
+    private static final class Snapshot {
+        private final NavigableMap<String, Equipment> byId;
+        private final Map<String, List<Equipment>> byType;
+        private final Map<String, List<Equipment>> byStatus;
+        private final long revision;
+        private final long loadedAt;
+
+        private Snapshot(TreeMap<String, Equipment> byId, long revision, long loadedAt) {
+            this(Collections.unmodifiableNavigableMap(byId), index(byId, true), index(byId, false), revision, loadedAt);
+        }
+
+        private Snapshot(NavigableMap<String, Equipment> byId, Map<String, List<Equipment>> byType,
+                         Map<String, List<Equipment>> byStatus, long revision, long loadedAt) {
+            this.byId = byId;
+            this.byType = byType;
+            this.byStatus = byStatus;
+            this.revision = revision;
+            this.loadedAt = loadedAt;
+        }
+
+        /**
+         * Returns the same data marked as loaded at the given time.
+         */
+        private Snapshot renewedAt(long now) {
+            return new Snapshot(byId, byType, byStatus, revision, now);
+        }
+
+        private static Map<String, List<Equipment>> index(TreeMap<String, Equipment> byId, boolean byType) {
+            Map<String, List<Equipment>> index = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Equipment equipment : byId.values()) {
+                String key = byType ? equipment.getType() : equipment.getStatus();
+                if (key != null) {
+                    index.computeIfAbsent(key, k -> new ArrayList<>()).add(equipment);
+                }
+            }
+            return index;
+        }
+    }
+}
@@ -5,6 +5,8 @@ import exception.DatabaseOperationException;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Data Access Object (DAO) for performing operations on Equipment data.
@@ -13,38 +15,33 @@ import java.util.List;
 public class EquipmentDAO {
 
     /**
-     * Retrieves all equipment from the database.
+     * The largest page size accepted by {@link #getEquipmentPage}.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String EQUIPMENT_COLUMNS = "equipment_id, name, type, description, status, state";
+
+    // Moved by triggers on every insert, update and delete of an equipment row (migration V6).
+    private static final String EQUIPMENT_REVISION_QUERY = "SELECT equipment_revision FROM change_revision WHERE id = 1";
+    // MySQL's SQLSTATEs for an unknown column and an unknown table.
+    private static final String UNKNOWN_COLUMN = "42S22";
+    private static final String UNKNOWN_TABLE = "42S02";
+    private static final AtomicBoolean missingRevisionReported = new AtomicBoolean();
+
+    /**
+     * Retrieves all equipment, ordered by equipment ID.
+     * Served from the in-memory equipment catalog, which is loaded from the database when it is stale.
      *
      * @return a List of Equipment objects representing all equipment.
      * @throws DatabaseOperationException if a database error occurs.
      */
     public List<Equipment> getAllEquipment() throws DatabaseOperationException {
-        String query = "SELECT * FROM Equipment";
-        List<Equipment> equipmentList = new ArrayList<>();
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-
-            while (rs.next()) {
-                Equipment equipment = new Equipment();
-                equipment.setEquipmentId(rs.getString("equipment_id"));
-                equipment.setName(rs.getString("name"));
-                equipment.setType(rs.getString("type"));
-                equipment.setDescription(rs.getString("description"));
-                equipment.setStatus(rs.getString("status"));
-                equipment.setState(rs.getString("state"));
-                equipmentList.add(equipment);
-            }
-        } catch (SQLException e) {
-            throw new DatabaseOperationException("Error fetching all equipment from the database.", e);
-        }
-
-        return equipmentList;
+        return catalog().getAll();
     }
 
     /**
      * Retrieves equipment filtered by a specific status.
+     * Served from the in-memory equipment catalog, which is loaded from the database when it is stale.
      *
      * @param status the equipment status to filter by.
      * @return a List of Equipment objects that have the specified status.
@@ -55,36 +52,12 @@ public class EquipmentDAO {
         if (status == null || status.trim().isEmpty()) {
             throw new IllegalArgumentException("Status cannot be null or empty.");
         }
-
-        List<Equipment> equipmentList = new ArrayList<>();
-        String query = "SELECT * FROM Equipment WHERE status = ?";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, status);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    equipmentList.add(new Equipment(
-                            rs.getString("equipment_id"),
-                            rs.getString("name"),
-                            rs.getString("type"),
-                            rs.getString("description"),
-                            rs.getString("status"),
-                            rs.getString("state")
-                    ));
-                }
-            }
-        } catch (SQLException e) {
-            throw new DatabaseOperationException("Error fetching equipment with status: " + status, e);
-        }
-
-        return equipmentList;
+        return catalog().getByStatus(status);
     }
 
     /**
      * Retrieves equipment filtered by a specific type.
+     * Served from the in-memory equipment catalog, which is loaded from the database when it is stale.
      *
      * @param type the equipment type to filter by.
      * @return a List of Equipment objects that have the specified type.
@@ -95,36 +68,12 @@ public class EquipmentDAO {
         if (type == null || type.trim().isEmpty()) {
             throw new IllegalArgumentException("Equipment type cannot be null or empty.");
         }
-
-        String query = "SELECT * FROM Equipment WHERE type = ?";
-        List<Equipment> equipmentList = new ArrayList<>();
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, type);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    Equipment equipment = new Equipment();
-                    equipment.setEquipmentId(rs.getString("equipment_id"));
-                    equipment.setName(rs.getString("name"));
-                    equipment.setType(rs.getString("type"));
-                    equipment.setDescription(rs.getString("description"));
-                    equipment.setStatus(rs.getString("status"));
-                    equipment.setState(rs.getString("state"));
-                    equipmentList.add(equipment);
-                }
-            }
-        } catch (SQLException e) {
-            throw new DatabaseOperationException("Error fetching equipment by type: " + type, e);
-        }
-
-        return equipmentList;
+        return catalog().getByType(type);
     }
 
     /**
      * Retrieves equipment filtered by type and status.
+     * Served from the in-memory equipment catalog, which is loaded from the database when it is stale.
      *
      * @param type   the equipment type to filter by.
      * @param status the equipment status to filter by.
@@ -139,37 +88,55 @@ public class EquipmentDAO {
         if (status == null || status.trim().isEmpty()) {
             throw new IllegalArgumentException("Equipment status cannot be null or empty.");
         }
+        return catalog().getByTypeAndStatus(type, status);
+    }
 
-        List<Equipment> equipmentList = new ArrayList<>();
-        String query = "SELECT * FROM Equipment WHERE type = ? AND status = ?";
-
-        try (Connection conn = DatabaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, type);
-            stmt.setString(2, status);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    equipmentList.add(new Equipment(
-                            rs.getString("equipment_id"),
-                            rs.getString("name"),
-                            rs.getString("type"),
-                            rs.getString("description"),
-                            rs.getString("status"),
-                            rs.getString("state")
-                    ));
-                }
-            }
-        } catch (SQLException e) {
-            throw new DatabaseOperationException("Error fetching equipment by type: " + type + " and status: " + status, e);
+    /**
+     * Retrieves one page of equipment ordered by equipment ID, optionally filtered by type and status.
+     * <p>
+     * Pages are keyset-paginated: pass {@code null} as the cursor for the first page, then the ID of the last
+     * equipment in the previous page to fetch the next one. A page with fewer than {@code pageSize} rows is the last.
+     * Pages are cut from the in-memory equipment catalog, which is loaded from the database when it is stale.
+     * </p>
+     *
+     * @param type             the equipment type to filter by, or null for all types.
+     * @param status           the equipment status to filter by, or null for all statuses.
+     * @param afterEquipmentId the ID of the last equipment already loaded, or null to start from the beginning.
+     * @param pageSize         the maximum number of rows to return, between 1 and {@link #MAX_PAGE_SIZE}.
+     * @return a List of at most {@code pageSize} Equipment objects with IDs greater than the cursor.
+     * @throws DatabaseOperationException if a database error occurs.
+     * @throws IllegalArgumentException   if pageSize is out of range.
+     */
+    public List<Equipment> getEquipmentPage(String type, String status, String afterEquipmentId, int pageSize)
+            throws DatabaseOperationException {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
         }
+        boolean byType = type != null && !type.trim().isEmpty();
+        boolean byStatus = status != null && !status.trim().isEmpty();
+        return catalog().getPage(byType ? type : null, byStatus ? status : null, afterEquipmentId, pageSize);
+    }
 
-        return equipmentList;
+    /**
+     * Returns a snapshot of the equipment catalog's size and hit counters.
+     *
+     * @return the current {@link CatalogMetrics}.
+     */
+    public static CatalogMetrics getCatalogMetrics() {
+        return catalog().metrics();
+    }
+
+    /**
+     * Discards the in-memory equipment catalog. Called after writes that change equipment rows
+     * outside this DAO, such as approving reservations and checking equipment out or in.
+     */
+    static void invalidateCatalog() {
+        catalog().invalidate();
     }
 
     /**
      * Adds a new equipment record to the database using a stored procedure.
+     * On success the ID and status assigned by the procedure are set on the given equipment.
      *
      * @param equipment the Equipment object containing equipment details.
      * @param userId    the ID of the user adding the equipment.
@@ -217,6 +184,12 @@ public class EquipmentDAO {
                 try (ResultSet rs = stmt.getResultSet()) {
                     if (rs.next()) {
                         int rowsAffected = rs.getInt("RowsAffected");
+                        if (rowsAffected > 0) {
+                            // The procedure assigns the ID from its sequence and adds the item as available.
+                            equipment.setEquipmentId(rs.getString("EquipmentID"));
+                            equipment.setStatus(EquipmentStatus.AVAILABLE.getName());
+                            catalog().put(equipment);
+                        }
                         return rowsAffected > 0;
                     }
                 }
@@ -285,6 +258,9 @@ public class EquipmentDAO {
                 try (ResultSet rs = stmt.getResultSet()) {
                     if (rs.next()) {
                         int rowsAffected = rs.getInt("RowsAffected");
+                        if (rowsAffected > 0) {
+                            catalog().put(equipment);
+                        }
                         return rowsAffected > 0;
                     }
                 }
@@ -326,7 +302,11 @@ public class EquipmentDAO {
             if (hasResults) {
                 try (ResultSet rs = stmt.getResultSet()) {
                     if (rs.next()) {
-                        return rs.getInt("RowsAffected") > 0;
+                        int rowsAffected = rs.getInt("RowsAffected");
+                        if (rowsAffected > 0) {
+                            catalog().remove(equipmentId);
+                        }
+                        return rowsAffected > 0;
                     }
                 }
             }
@@ -336,4 +316,96 @@ public class EquipmentDAO {
             throw new DatabaseOperationException("Error deleting equipment from the database.", e);
         }
     }
+
+    /**
+     * Loads every equipment row for the catalog.
+     *
+     * @return a List of all Equipment objects.
+     * @throws DatabaseOperationException if a database error occurs.
+     */
+    private static List<Equipment> loadAllEquipment() throws DatabaseOperationException {
+        String query = "SELECT " + EQUIPMENT_COLUMNS + " FROM Equipment";
+        List<Equipment> equipmentList = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                equipmentList.add(new Equipment(
+                        rs.getString("equipment_id"),
+                        rs.getString("name"),
+                        rs.getString("type"),
+                        rs.getString("description"),
+                        canonicalStatus(rs.getString("status")),
+                        canonicalState(rs.getString("state"))
+                ));
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error fetching all equipment from the database.", e);
+        }
+
+        return equipmentList;
+    }
+
+    // The catalog keeps every row, so rows share the enum labels rather than one copy of each per row.
+    private static String canonicalStatus(String status) {
+        EquipmentStatus value = EquipmentStatus.fromName(status);
+        return value == null ? status : value.getName();
+    }
+
+    private static String canonicalState(String state) {
+        EquipmentState value = EquipmentState.fromName(state);
+        return value == null ? state : value.getName();
+    }
+
+    /**
+     * Retrieves the equipment change counter with a single primary key lookup. Unlike the dashboards'
+     * change revision, it only moves when an equipment row changes, so new reservations do not force
+     * the catalog to be reloaded.
+     *
+     * <p>
+     * A schema without the counter (migrations not yet applied) yields -1 rather than an error, so the
+     * catalog falls back to reloading once its copy is older than the staleness bound. This is reported once.
+     * </p>
+     *
+     * @return the current equipment revision, or -1 if the revision row or column is missing.
+     * @throws DatabaseOperationException if a database error occurs.
+     */
+    static long getEquipmentRevision() throws DatabaseOperationException {
+        return getEquipmentRevision(DatabaseConnection::getConnection);
+    }
+
+    static long getEquipmentRevision(ConnectionPool.ConnectionFactory connections) throws DatabaseOperationException {
+        try (Connection conn = connections.create();
+             PreparedStatement stmt = conn.prepareStatement(EQUIPMENT_REVISION_QUERY);
+             ResultSet rs = stmt.executeQuery()) {
+
+            return rs.next() ? rs.getLong("equipment_revision") : -1;
+        } catch (SQLException e) {
+            if (UNKNOWN_COLUMN.equals(e.getSQLState()) || UNKNOWN_TABLE.equals(e.getSQLState())) {
+                if (missingRevisionReported.compareAndSet(false, true)) {
+                    System.err.println("The equipment revision is missing (" + e.getMessage()
+                            + "); the equipment catalog is reloaded on a timer until migrations are applied.");
+                }
+                return -1;
+            }
+            throw new DatabaseOperationException("Error fetching equipment revision.", e);
+        }
+    }
+
+    private static EquipmentCatalog catalog() {
+        return CatalogHolder.CATALOG;
+    }
+
+    /**
+     * Holds the equipment catalog so that it is only created the first time equipment is read or written.
+     */
+    private static class CatalogHolder {
+        private static final EquipmentCatalog CATALOG = new EquipmentCatalog(
+                EquipmentDAO::loadAllEquipment,
+                EquipmentDAO::getEquipmentRevision,
+                TimeUnit.MILLISECONDS.toNanos(DatabaseConnection.longProperty("db.cache.equipmentMaxStalenessMs", 5000)),
+                System::nanoTime);
+    }
 }
@@ -0,0 +1,53 @@
+package model;
+
+/**
+ * The physical condition of a piece of equipment, as stored in {@code equipment.state}. It is recorded
+ * when an item is added or updated, and again when it is returned from a checkout.
+ */
+public enum EquipmentState {
+    NEW("New"),
+    GOOD("Good"),
+    FAIR("Fair"),
+    POOR("Poor");
+
+    private static final Labels<EquipmentState> LABELS = new Labels<>(values(), EquipmentState::getName);
+
+    private final String name;
+
+    EquipmentState(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the label stored in the database and shown to users.
+     *
+     * @return the state label.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Finds the state with the given label, ignoring case.
+     *
+     * @param name the label to look up.
+     * @return the matching state, or null if the label is null or unknown.
+     */
+    public static EquipmentState fromName(String name) {
+        return LABELS.find(name);
+    }
+
+    /**
+     * Returns the labels of all values in declaration order, e.g. for a combo box.
+     *
+     * @return a new array of the labels.
+     */
+    public static String[] names() {
+        return LABELS.names();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,52 @@
+package model;
+
+/**
+ * The availability of a piece of equipment, as stored in {@code equipment.status}. Approving a reservation,
+ * checking the item out and returning it move it between these values.
+ */
+public enum EquipmentStatus {
+    AVAILABLE("Available"),
+    RESERVED("Reserved"),
+    CHECKED_OUT("CheckedOut");
+
+    private static final Labels<EquipmentStatus> LABELS = new Labels<>(values(), EquipmentStatus::getName);
+
+    private final String name;
+
+    EquipmentStatus(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the label stored in the database and shown to users.
+     *
+     * @return the status label.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Finds the status with the given label, ignoring case.
+     *
+     * @param name the label to look up.
+     * @return the matching status, or null if the label is null or unknown.
+     */
+    public static EquipmentStatus fromName(String name) {
+        return LABELS.find(name);
+    }
+
+    /**
+     * Returns the labels of all values in declaration order, e.g. for a combo box.
+     *
+     * @return a new array of the labels.
+     */
+    public static String[] names() {
+        return LABELS.names();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,46 @@
+package model;
+
+/**
+ * A kind of equipment, such as a camera or a tripod, and the prefix used for the IDs of equipment of that type.
+ * <p>
+ * Equipment types are reference data read from the {@code equipment_types} table. Instances are immutable.
+ * </p>
+ */
+public final class EquipmentType {
+    private final String name;
+    private final String prefix;
+
+    /**
+     * Creates an equipment type.
+     *
+     * @param name   the type name, e.g. {@code Camera}.
+     * @param prefix the three letter prefix of the IDs of this type, e.g. {@code CAM}.
+     */
+    public EquipmentType(String name, String prefix) {
+        this.name = name;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Returns the type name.
+     *
+     * @return the type name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the prefix of the IDs of equipment of this type.
+     *
+     * @return the ID prefix.
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
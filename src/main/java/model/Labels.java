@@ -0,0 +1,59 @@
+package model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Looks up the constants of a labelled enum ({@link Role}, {@link EquipmentStatus}, {@link EquipmentState},
+ * {@link ReservationStatus}) by their database label, ignoring case.
+ * <p>
+ * Each label is indexed as written and in lower case, so a label spelled as stored is found with a single
+ * hash lookup and without allocating; any other spelling costs one {@code toLowerCase}.
+ * </p>
+ *
+ * @param <E> the enum type.
+ */
+final class Labels<E> {
+    private final Map<String, E> byLabel = new HashMap<>();
+    private final String[] names;
+
+    /**
+     * Indexes the constants of an enum.
+     *
+     * @param values the constants, in declaration order.
+     * @param label  returns the label of a constant.
+     */
+    Labels(E[] values, Function<E, String> label) {
+        names = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = label.apply(values[i]);
+            byLabel.put(names[i], values[i]);
+            byLabel.putIfAbsent(names[i].toLowerCase(Locale.ROOT), values[i]);
+        }
+    }
+
+    /**
+     * Finds the constant with the given label, ignoring case.
+     *
+     * @param name the label to look up.
+     * @return the matching constant, or null if the label is null or unknown.
+     */
+    E find(String name) {
+        if (name == null) {
+            return null;
+        }
+        E value = byLabel.get(name);
+        return value != null ? value : byLabel.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the labels in declaration order.
+     *
+     * @return a new array of the labels.
+     */
+    String[] names() {
+        return names.clone();
+    }
+}
@@ -0,0 +1,52 @@
+package model;
+
+/**
+ * An operation that only some roles may perform.
+ * <p>
+ * Each permission is one bit of the mask held by a {@link Role}, so checking a permission is a single
+ * {@code AND} rather than a comparison of role names.
+ * </p>
+ */
+public enum Permission {
+    /** Browse and search the equipment catalog. */
+    CAN_VIEW_EQUIPMENT,
+    /** Add, update and delete equipment. */
+    CAN_MANAGE_EQUIPMENT,
+    /** Reserve equipment for oneself. */
+    CAN_RESERVE,
+    /** Approve or reject reservations, and see everyone's reservations. */
+    CAN_APPROVE,
+    /** Check equipment out to and back in from borrowers. */
+    CAN_CHECKOUT,
+    /** Create, update, delete and import users. */
+    CAN_MANAGE_USERS,
+    /** View the dashboard statistics. */
+    CAN_VIEW_DASHBOARD,
+    /** Export the full reservation and check-out history for audits. */
+    CAN_EXPORT_HISTORY;
+
+    private final int mask = 1 << ordinal();
+
+    /**
+     * Returns the bit of this permission in a role's permission mask.
+     *
+     * @return a mask with exactly one bit set.
+     */
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Combines permissions into a mask.
+     *
+     * @param permissions the permissions to include.
+     * @return the bitwise OR of their masks.
+     */
+    public static int maskOf(Permission... permissions) {
+        int mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
+}
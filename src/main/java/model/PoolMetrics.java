@@ -0,0 +1,167 @@
+package model;
+
+/**
+ * An immutable snapshot of the database connection pool's state and counters.
+ * Obtained through {@link DatabaseConnection#getPoolMetrics()}.
+ */
+public class PoolMetrics {
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int threadsAwaiting;
+    private final long borrowCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long timeoutCount;
+    private final long leakCount;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+
+    /**
+     * Constructs a PoolMetrics snapshot.
+     *
+     * @param activeConnections connections currently borrowed.
+     * @param idleConnections   connections currently idle in the pool.
+     * @param totalConnections  all connections owned by the pool, including ones being opened.
+     * @param threadsAwaiting   threads currently waiting for a connection.
+     * @param borrowCount       number of successful borrows since the pool started.
+     * @param totalWaitNanos    total time spent by callers waiting to borrow.
+     * @param maxWaitNanos      the longest single wait to borrow.
+     * @param timeoutCount      number of borrows that timed out.
+     * @param leakCount         number of connections reported as possible leaks.
+     * @param statementCacheHits   number of statements served from the statement cache.
+     * @param statementCacheMisses number of statements that had to be prepared on the server.
+     */
+    PoolMetrics(int activeConnections, int idleConnections, int totalConnections, int threadsAwaiting,
+                long borrowCount, long totalWaitNanos, long maxWaitNanos, long timeoutCount, long leakCount,
+                long statementCacheHits, long statementCacheMisses) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaiting = threadsAwaiting;
+        this.borrowCount = borrowCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.timeoutCount = timeoutCount;
+        this.leakCount = leakCount;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+    }
+
+    /**
+     * Returns the number of connections currently borrowed.
+     *
+     * @return the active connection count.
+     */
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    /**
+     * Returns the number of connections currently idle in the pool.
+     *
+     * @return the idle connection count.
+     */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * Returns the number of connections owned by the pool.
+     *
+     * @return the total connection count.
+     */
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    /**
+     * Returns the number of threads currently waiting for a connection.
+     *
+     * @return the waiting thread count.
+     */
+    public int getThreadsAwaiting() {
+        return threadsAwaiting;
+    }
+
+    /**
+     * Returns the number of successful borrows.
+     *
+     * @return the borrow count.
+     */
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    /**
+     * Returns the average time callers waited to borrow a connection.
+     *
+     * @return the average wait in milliseconds.
+     */
+    public double getAverageWaitMillis() {
+        return borrowCount == 0 ? 0.0 : totalWaitNanos / 1_000_000.0 / borrowCount;
+    }
+
+    /**
+     * Returns the longest time a caller waited to borrow a connection.
+     *
+     * @return the maximum wait in milliseconds.
+     */
+    public double getMaxWaitMillis() {
+        return maxWaitNanos / 1_000_000.0;
+    }
+
+    /**
+     * Returns the number of borrows that timed out.
+     *
+     * @return the timeout count.
+     */
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    /**
+     * Returns the number of connections reported as possible leaks.
+     *
+     * @return the leak count.
+     */
+    public long getLeakCount() {
+        return leakCount;
+    }
+
+    /**
+     * Returns the number of prepared or callable statements served from the statement cache.
+     *
+     * @return the statement cache hit count.
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    /**
+     * Returns the number of prepared or callable statements that were not found in the statement cache.
+     *
+     * @return the statement cache miss count.
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    /**
+     * Returns the fraction of statement requests served from the statement cache.
+     *
+     * @return the hit rate between 0.0 and 1.0.
+     */
+    public double getStatementCacheHitRate() {
+        long requests = statementCacheHits + statementCacheMisses;
+        return requests == 0 ? 0.0 : (double) statementCacheHits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PoolMetrics[active=%d, idle=%d, total=%d, awaiting=%d, borrows=%d, avgWait=%.2fms, maxWait=%.2fms, timeouts=%d, leaks=%d, stmtHits=%d, stmtMisses=%d]",
+                activeConnections, idleConnections, totalConnections, threadsAwaiting, borrowCount,
+                getAverageWaitMillis(), getMaxWaitMillis(), timeoutCount, leakCount,
+                statementCacheHits, statementCacheMisses);
+    }
+}
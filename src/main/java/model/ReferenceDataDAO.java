@@ -0,0 +1,40 @@
+package model;
+
+import exception.DatabaseOperationException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object (DAO) for the reference data tables, which change only through schema migrations.
+ */
+public class ReferenceDataDAO {
+
+    private static final String EQUIPMENT_TYPES_QUERY =
+            "SELECT type_name, prefix FROM equipment_types ORDER BY sort_order, type_name";
+
+    /**
+     * Retrieves every equipment type in display order.
+     *
+     * @return the equipment types; empty if the table has no rows.
+     * @throws DatabaseOperationException if a database error occurs.
+     */
+    public List<EquipmentType> getEquipmentTypes() throws DatabaseOperationException {
+        List<EquipmentType> types = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(EQUIPMENT_TYPES_QUERY);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                types.add(new EquipmentType(rs.getString("type_name"), rs.getString("prefix")));
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error fetching equipment types.", e);
+        }
+        return types;
+    }
+}
@@ -2,7 +2,10 @@ package model;
 
 import exception.DatabaseOperationException;
 
+import java.io.IOException;
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,6 +14,16 @@ import java.util.List;
  */
 public class ReservationDAO {
 
+    // One row per reservation and check-out; reservations that were never checked out have null check-out columns.
+    private static final String HISTORY_QUERY =
+            "SELECT r.reservation_id, r.user_id, u.name AS user_name, r.equipment_id, e.name AS equipment_name, " +
+            "r.reservation_date, r.return_date, r.status, r.approved_by, " +
+            "c.checked_out_by, c.checked_out_date, c.check_in_date " +
+            "FROM Reservations r " +
+            "LEFT JOIN Users u ON r.user_id = u.user_id " +
+            "LEFT JOIN Equipment e ON r.equipment_id = e.equipment_id " +
+            "LEFT JOIN Checkouts c ON c.reservation_id = r.reservation_id";
+
     /**
      * Retrieves all reservations.
      * <p>
@@ -68,6 +81,91 @@ public class ReservationDAO {
         return reservations;
     }
 
+    /**
+     * Retrieves one page of the reservations matching a query, in the query's sort order.
+     * <p>
+     * Filtering, sorting and paging are done by the database, so only the requested rows are transferred.
+     * The user and equipment columns hold names rather than IDs, as in {@link #getAllReservations}.
+     * </p>
+     *
+     * @param query  the filter and sort criteria.
+     * @param offset the number of matching rows to skip.
+     * @param limit  the maximum number of rows to return, at most {@link ReservationQuery#MAX_LIMIT}.
+     * @return the requested page of reservations.
+     * @throws DatabaseOperationException if a database error occurs.
+     * @throws IllegalArgumentException   if the query is null or contradictory, or the offset or limit is out of range.
+     */
+    public List<Reservation> findReservations(ReservationQuery query, int offset, int limit) throws DatabaseOperationException {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null.");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative.");
+        }
+        if (limit <= 0 || limit > ReservationQuery.MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + ReservationQuery.MAX_LIMIT + ".");
+        }
+        query.validate();
+
+        List<Object> parameters = new ArrayList<>();
+        String sql = query.toSelectSql(offset, limit, parameters);
+        List<Reservation> reservations = new ArrayList<>(limit);
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            setParameters(stmt, parameters);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    reservations.add(new Reservation(
+                            rs.getInt("reservation_id"),
+                            rs.getString("user_name"),
+                            rs.getString("equipment_name"),
+                            rs.getDate("reservation_date"),
+                            rs.getDate("return_date"),
+                            rs.getString("status")
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error fetching a page of reservations from the database.", e);
+        }
+        return reservations;
+    }
+
+    /**
+     * Counts the reservations matching a query.
+     *
+     * @param query the filter criteria; the sort order is ignored.
+     * @return the number of matching reservations.
+     * @throws DatabaseOperationException if a database error occurs.
+     * @throws IllegalArgumentException   if the query is null or contradictory.
+     */
+    public int countReservations(ReservationQuery query) throws DatabaseOperationException {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null.");
+        }
+        query.validate();
+
+        List<Object> parameters = new ArrayList<>();
+        String sql = query.toCountSql(parameters);
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            setParameters(stmt, parameters);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error counting reservations in the database.", e);
+        }
+    }
+
+    private static void setParameters(PreparedStatement stmt, List<Object> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            stmt.setObject(i + 1, parameters.get(i));
+        }
+    }
+
     /**
      * Creates a new reservation request.
      *
@@ -135,10 +233,90 @@ public class ReservationDAO {
             stmt.setString(2, staffId);
             stmt.setString(3, status);
             stmt.execute();
+            // Approving a reservation marks its equipment as reserved.
+            EquipmentDAO.invalidateCatalog();
             return true;
         } catch (SQLException e) {
             throw new DatabaseOperationException("Error approving reservation for reservation ID: " + reservationId, e);
         }
     }
 
+
+    /**
+     * Streams the reservation and check-out history to a handler, one row at a time, in reservation ID order.
+     * <p>
+     * The filters are applied by the database. The rows are read through a forward-only, read-only cursor
+     * that the MySQL driver streams from the server instead of buffering the whole result, so memory use
+     * does not grow with the size of the history. The connection stays busy until the last row is handled.
+     * </p>
+     *
+     * @param from    the earliest reservation date to include, or null for no lower bound.
+     * @param to      the latest reservation date to include, or null for no upper bound.
+     * @param status  the only reservation status to include, or null for every status.
+     * @param handler receives each row.
+     * @return the number of rows streamed.
+     * @throws DatabaseOperationException if a database error occurs.
+     * @throws IOException                if the handler fails; no further rows are read.
+     */
+    public long streamReservationHistory(LocalDate from, LocalDate to, String status, ReservationHistoryHandler handler)
+            throws DatabaseOperationException, IOException {
+        StringBuilder query = new StringBuilder(HISTORY_QUERY);
+        String clause = " WHERE ";
+        if (from != null) {
+            query.append(clause).append("r.reservation_date >= ?");
+            clause = " AND ";
+        }
+        if (to != null) {
+            query.append(clause).append("r.reservation_date <= ?");
+            clause = " AND ";
+        }
+        if (status != null) {
+            query.append(clause).append("r.status = ?");
+        }
+        query.append(" ORDER BY r.reservation_id, c.checkout_id");
+
+        long rows = 0;
+        // The three-argument prepareStatement bypasses the pool's statement cache, so the streaming fetch
+        // size set below never leaks into another caller's statement.
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query.toString(),
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            // Integer.MIN_VALUE asks MySQL Connector/J to stream rows instead of reading the whole result.
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            int index = 1;
+            if (from != null) {
+                stmt.setObject(index++, from);
+            }
+            if (to != null) {
+                stmt.setObject(index++, to);
+            }
+            if (status != null) {
+                stmt.setString(index, status);
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.accept(new ReservationHistoryEntry(
+                            rs.getInt("reservation_id"),
+                            rs.getString("user_id"),
+                            rs.getString("user_name"),
+                            rs.getString("equipment_id"),
+                            rs.getString("equipment_name"),
+                            rs.getObject("reservation_date", LocalDate.class),
+                            rs.getObject("return_date", LocalDate.class),
+                            rs.getString("status"),
+                            rs.getString("approved_by"),
+                            rs.getString("checked_out_by"),
+                            rs.getObject("checked_out_date", LocalDateTime.class),
+                            rs.getObject("check_in_date", LocalDateTime.class)
+                    ));
+                    rows++;
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error streaming the reservation history.", e);
+        }
+        return rows;
+    }
 }
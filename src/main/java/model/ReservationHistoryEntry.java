@@ -0,0 +1,168 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the reservation history export: a reservation together with the names of its requester and
+ * equipment, who approved it, and the check-out that followed it, if any. A reservation that was checked
+ * out more than once appears once per check-out.
+ * Instances are produced by {@link ReservationDAO#streamReservationHistory} and are not modified afterwards.
+ */
+public final class ReservationHistoryEntry {
+    private final int reservationId;
+    private final String userId;
+    private final String userName;
+    private final String equipmentId;
+    private final String equipmentName;
+    private final LocalDate reservationDate;
+    private final LocalDate returnDate;
+    private final String status;
+    private final String approvedBy;
+    private final String checkedOutBy;
+    private final LocalDateTime checkedOutDate;
+    private final LocalDateTime checkInDate;
+
+    /**
+     * Constructs a ReservationHistoryEntry with the specified details. Every value except the reservation ID,
+     * the reservation date and the status may be null.
+     *
+     * @param reservationId   the reservation ID.
+     * @param userId          the ID of the user who made the reservation.
+     * @param userName        the name of that user.
+     * @param equipmentId     the ID of the reserved equipment.
+     * @param equipmentName   the name of the reserved equipment.
+     * @param reservationDate the date the equipment was reserved for.
+     * @param returnDate      the date the equipment is due back.
+     * @param status          the reservation status (Pending, Approved or Rejected).
+     * @param approvedBy      the ID of the staff member who approved or rejected the reservation.
+     * @param checkedOutBy    the ID of the staff member who checked the equipment out.
+     * @param checkedOutDate  when the equipment was checked out.
+     * @param checkInDate     when the equipment was checked back in.
+     */
+    public ReservationHistoryEntry(int reservationId, String userId, String userName, String equipmentId,
+                                   String equipmentName, LocalDate reservationDate, LocalDate returnDate,
+                                   String status, String approvedBy, String checkedOutBy,
+                                   LocalDateTime checkedOutDate, LocalDateTime checkInDate) {
+        this.reservationId = reservationId;
+        this.userId = userId;
+        this.userName = userName;
+        this.equipmentId = equipmentId;
+        this.equipmentName = equipmentName;
+        this.reservationDate = reservationDate;
+        this.returnDate = returnDate;
+        this.status = status;
+        this.approvedBy = approvedBy;
+        this.checkedOutBy = checkedOutBy;
+        this.checkedOutDate = checkedOutDate;
+        this.checkInDate = checkInDate;
+    }
+
+    /**
+     * Returns the reservation ID.
+     *
+     * @return the reservation ID.
+     */
+    public int getReservationId() {
+        return reservationId;
+    }
+
+    /**
+     * Returns the ID of the user who made the reservation.
+     *
+     * @return the ID of the user who made the reservation, or null.
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Returns the name of the user who made the reservation.
+     *
+     * @return the name of the user who made the reservation, or null.
+     */
+    public String getUserName() {
+        return userName;
+    }
+
+    /**
+     * Returns the ID of the reserved equipment.
+     *
+     * @return the ID of the reserved equipment, or null.
+     */
+    public String getEquipmentId() {
+        return equipmentId;
+    }
+
+    /**
+     * Returns the name of the reserved equipment.
+     *
+     * @return the name of the reserved equipment, or null.
+     */
+    public String getEquipmentName() {
+        return equipmentName;
+    }
+
+    /**
+     * Returns the date the equipment was reserved for.
+     *
+     * @return the date the equipment was reserved for.
+     */
+    public LocalDate getReservationDate() {
+        return reservationDate;
+    }
+
+    /**
+     * Returns the date the equipment is due back.
+     *
+     * @return the date the equipment is due back, or null.
+     */
+    public LocalDate getReturnDate() {
+        return returnDate;
+    }
+
+    /**
+     * Returns the reservation status.
+     *
+     * @return the reservation status.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the ID of the staff member who approved or rejected the reservation.
+     *
+     * @return the ID of the staff member who approved or rejected the reservation, or null.
+     */
+    public String getApprovedBy() {
+        return approvedBy;
+    }
+
+    /**
+     * Returns the ID of the staff member who checked the equipment out.
+     *
+     * @return the ID of the staff member who checked the equipment out, or null if it was never checked out.
+     */
+    public String getCheckedOutBy() {
+        return checkedOutBy;
+    }
+
+    /**
+     * Returns when the equipment was checked out.
+     *
+     * @return when the equipment was checked out, or null if it was never checked out.
+     */
+    public LocalDateTime getCheckedOutDate() {
+        return checkedOutDate;
+    }
+
+    /**
+     * Returns when the equipment was checked back in.
+     *
+     * @return when the equipment was checked back in, or null if it has not been returned.
+     */
+    public LocalDateTime getCheckInDate() {
+        return checkInDate;
+    }
+}
@@ -0,0 +1,18 @@
+package model;
+
+import java.io.IOException;
+
+/**
+ * Receives the rows of the reservation history one at a time, while they are streamed from the database.
+ */
+@FunctionalInterface
+public interface ReservationHistoryHandler {
+
+    /**
+     * Handles one row. The handler must not use the database: the connection is still reading the result.
+     *
+     * @param entry the row.
+     * @throws IOException if the row cannot be written; streaming stops and the exception is passed on.
+     */
+    void accept(ReservationHistoryEntry entry) throws IOException;
+}
@@ -0,0 +1,285 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filter and sort criteria for listing reservations, compiled by {@link ReservationDAO} into parameterised SQL.
+ * <p>
+ * Every criterion is optional: a null value places no restriction on the result. Filter values are always
+ * bound as statement parameters, and the sort column comes from the fixed set of {@link SortKey}s, so no
+ * user input is ever spliced into the SQL text. Rows are returned one page at a time, see
+ * {@link ReservationDAO#findReservations(ReservationQuery, int, int)}.
+ * </p>
+ */
+public class ReservationQuery {
+    /** The largest number of rows that can be fetched with one query. */
+    public static final int MAX_LIMIT = 500;
+
+    private static final String SELECT =
+            "SELECT r.reservation_id, u.name AS user_name, e.name AS equipment_name, r.reservation_date, r.return_date, r.status " +
+            "FROM Reservations r " +
+            "JOIN Users u ON r.user_id = u.user_id " +
+            "JOIN Equipment e ON r.equipment_id = e.equipment_id";
+
+    // The select's inner joins drop reservations whose user or equipment item is null. A non-null value always
+    // references an existing row (both are foreign keys), so the count matches the same rows with null checks
+    // and only joins the tables that a filter refers to.
+    private static final String COUNT = "SELECT COUNT(*) FROM Reservations r";
+    private static final String COUNT_JOINED = " WHERE r.user_id IS NOT NULL AND r.equipment_id IS NOT NULL";
+    private static final String COUNT_EQUIPMENT_JOIN = " JOIN Equipment e ON r.equipment_id = e.equipment_id";
+
+    /**
+     * The columns reservations can be sorted by. Ties are broken by reservation ID, so paging is stable.
+     */
+    public enum SortKey {
+        RESERVATION_ID("r.reservation_id"),
+        USER_NAME("u.name"),
+        EQUIPMENT_NAME("e.name"),
+        RESERVATION_DATE("r.reservation_date"),
+        RETURN_DATE("r.return_date"),
+        STATUS("r.status");
+
+        private final String column;
+
+        SortKey(String column) {
+            this.column = column;
+        }
+    }
+
+    private ReservationStatus status;
+    private LocalDate from;
+    private LocalDate to;
+    private String userId;
+    private String equipmentType;
+    private SortKey sortKey = SortKey.RESERVATION_DATE;
+    private boolean descending = true;
+
+    /**
+     * Constructs a query that matches every reservation, newest reservation date first.
+     */
+    public ReservationQuery() {
+    }
+
+    /**
+     * Constructs a copy of another query.
+     *
+     * @param other the query to copy.
+     */
+    public ReservationQuery(ReservationQuery other) {
+        this.status = other.status;
+        this.from = other.from;
+        this.to = other.to;
+        this.userId = other.userId;
+        this.equipmentType = other.equipmentType;
+        this.sortKey = other.sortKey;
+        this.descending = other.descending;
+    }
+
+    /**
+     * Gets the status filter.
+     *
+     * @return the only reservation status to include, or null for every status.
+     */
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets the status filter.
+     *
+     * @param status the only reservation status to include, or null for every status.
+     */
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * Gets the start of the date range.
+     *
+     * @return the earliest reservation date to include, or null for no lower bound.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * Sets the start of the date range.
+     *
+     * @param from the earliest reservation date to include, or null for no lower bound.
+     */
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    /**
+     * Gets the end of the date range.
+     *
+     * @return the latest reservation date to include, or null for no upper bound.
+     */
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Sets the end of the date range.
+     *
+     * @param to the latest reservation date to include, or null for no upper bound.
+     */
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    /**
+     * Gets the user filter.
+     *
+     * @return the ID of the only user whose reservations to include, or null for every user.
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Sets the user filter.
+     *
+     * @param userId the ID of the only user whose reservations to include, or null for every user.
+     */
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the equipment type filter.
+     *
+     * @return the only equipment type to include, or null for every type.
+     */
+    public String getEquipmentType() {
+        return equipmentType;
+    }
+
+    /**
+     * Sets the equipment type filter.
+     *
+     * @param equipmentType the only equipment type to include, or null for every type.
+     */
+    public void setEquipmentType(String equipmentType) {
+        this.equipmentType = equipmentType;
+    }
+
+    /**
+     * Gets the column to sort by.
+     *
+     * @return the column to sort by; never null.
+     */
+    public SortKey getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * Sets the column to sort by.
+     *
+     * @param sortKey the column to sort by; never null.
+     * @throws IllegalArgumentException if the sort key is null.
+     */
+    public void setSortKey(SortKey sortKey) {
+        if (sortKey == null) {
+            throw new IllegalArgumentException("Sort key cannot be null.");
+        }
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Gets the sort direction.
+     *
+     * @return true to sort from the highest value to the lowest.
+     */
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Sets the sort direction.
+     *
+     * @param descending true to sort from the highest value to the lowest.
+     */
+    public void setDescending(boolean descending) {
+        this.descending = descending;
+    }
+
+    /**
+     * Checks that the criteria can match anything.
+     *
+     * @throws IllegalArgumentException if the start date is after the end date.
+     */
+    void validate() {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("The start date must not be after the end date.");
+        }
+    }
+
+    /**
+     * Builds the statement that selects one page of matching reservations, and collects its parameters.
+     * The last two parameters are the limit and the offset.
+     *
+     * @param offset     the number of matching rows to skip.
+     * @param limit      the maximum number of rows to return.
+     * @param parameters receives the statement parameters, in order.
+     * @return the SQL text.
+     */
+    String toSelectSql(int offset, int limit, List<Object> parameters) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        appendWhere(sql, " WHERE ", parameters);
+        String direction = descending ? " DESC" : " ASC";
+        sql.append(" ORDER BY ").append(sortKey.column).append(direction);
+        if (sortKey != SortKey.RESERVATION_ID) {
+            sql.append(", r.reservation_id").append(direction);
+        }
+        sql.append(" LIMIT ? OFFSET ?");
+        parameters.add(limit);
+        parameters.add(offset);
+        return sql.toString();
+    }
+
+    /**
+     * Builds the statement that counts the matching reservations, and collects its parameters.
+     *
+     * @param parameters receives the statement parameters, in order.
+     * @return the SQL text.
+     */
+    String toCountSql(List<Object> parameters) {
+        StringBuilder sql = new StringBuilder(COUNT);
+        if (equipmentType != null) {
+            sql.append(COUNT_EQUIPMENT_JOIN);
+        }
+        sql.append(COUNT_JOINED);
+        appendWhere(sql, " AND ", parameters);
+        return sql.toString();
+    }
+
+    private void appendWhere(StringBuilder sql, String clause, List<Object> parameters) {
+        if (status != null) {
+            sql.append(clause).append("r.status = ?");
+            parameters.add(status.getName());
+            clause = " AND ";
+        }
+        if (from != null) {
+            sql.append(clause).append("r.reservation_date >= ?");
+            parameters.add(from);
+            clause = " AND ";
+        }
+        if (to != null) {
+            sql.append(clause).append("r.reservation_date <= ?");
+            parameters.add(to);
+            clause = " AND ";
+        }
+        if (userId != null) {
+            sql.append(clause).append("r.user_id = ?");
+            parameters.add(userId);
+            clause = " AND ";
+        }
+        if (equipmentType != null) {
+            sql.append(clause).append("e.type = ?");
+            parameters.add(equipmentType);
+        }
+    }
+}
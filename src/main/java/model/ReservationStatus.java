@@ -0,0 +1,52 @@
+package model;
+
+/**
+ * The approval status of a reservation, as stored in {@code reservations.status}. A reservation starts
+ * out pending and is approved or rejected by a user with {@link Permission#CAN_APPROVE}.
+ */
+public enum ReservationStatus {
+    PENDING("Pending"),
+    APPROVED("Approved"),
+    REJECTED("Rejected");
+
+    private static final Labels<ReservationStatus> LABELS = new Labels<>(values(), ReservationStatus::getName);
+
+    private final String name;
+
+    ReservationStatus(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the label stored in the database and shown to users.
+     *
+     * @return the status label.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Finds the status with the given label, ignoring case.
+     *
+     * @param name the label to look up.
+     * @return the matching status, or null if the label is null or unknown.
+     */
+    public static ReservationStatus fromName(String name) {
+        return LABELS.find(name);
+    }
+
+    /**
+     * Returns the labels of all values in declaration order, e.g. for a combo box.
+     *
+     * @return a new array of the labels.
+     */
+    public static String[] names() {
+        return LABELS.names();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
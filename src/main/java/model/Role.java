@@ -0,0 +1,68 @@
+package model;
+
+/**
+ * The role of a user, as stored in {@code users.role}. Each constant carries the mask of the
+ * {@link Permission}s granted to the role, so {@link #can(Permission)} is a single {@code AND}.
+ */
+public enum Role {
+    STUDENT("Student", Permission.CAN_VIEW_EQUIPMENT, Permission.CAN_RESERVE),
+    LECTURER("Lecturer", Permission.CAN_VIEW_EQUIPMENT, Permission.CAN_RESERVE),
+    ADMIN("Admin", Permission.CAN_VIEW_EQUIPMENT, Permission.CAN_MANAGE_EQUIPMENT, Permission.CAN_APPROVE,
+            Permission.CAN_CHECKOUT, Permission.CAN_MANAGE_USERS, Permission.CAN_VIEW_DASHBOARD,
+            Permission.CAN_EXPORT_HISTORY),
+    MEDIA_STAFF("MediaStaff", Permission.CAN_VIEW_EQUIPMENT, Permission.CAN_MANAGE_EQUIPMENT, Permission.CAN_APPROVE,
+            Permission.CAN_CHECKOUT, Permission.CAN_VIEW_DASHBOARD);
+
+    private static final Labels<Role> LABELS = new Labels<>(values(), Role::getName);
+
+    private final String name;
+    private final int permissions;
+
+    Role(String name, Permission... permissions) {
+        this.name = name;
+        this.permissions = Permission.maskOf(permissions);
+    }
+
+    /**
+     * Returns the label stored in the database and shown to users.
+     *
+     * @return the role label.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether this role is granted a permission.
+     *
+     * @param permission the permission to check.
+     * @return true if the role's permission mask includes it.
+     */
+    public boolean can(Permission permission) {
+        return (permissions & permission.mask()) != 0;
+    }
+
+    /**
+     * Finds the role with the given label, ignoring case.
+     *
+     * @param name the label to look up.
+     * @return the matching role, or null if the label is null or unknown.
+     */
+    public static Role fromName(String name) {
+        return LABELS.find(name);
+    }
+
+    /**
+     * Returns the labels of all values in declaration order, e.g. for a combo box.
+     *
+     * @return a new array of the labels.
+     */
+    public static String[] names() {
+        return LABELS.names();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,280 @@
+package model;
+
+import exception.DatabaseOperationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Applies versioned schema migrations shipped with the application.
+ * <p>
+ * {@code project_db26-02-2025.sql} is the baseline schema. Later changes are SQL scripts named
+ * {@code V<version>__<description>.sql} under {@code db/migration/} on the classpath and listed, in order,
+ * in {@code db/migration/migrations.txt}. Applied versions are recorded in the {@code schema_version} table
+ * together with a checksum of the script, so every script runs once per database and may not be edited
+ * after it has been applied. A named lock keeps two clients starting at the same time from migrating together.
+ * </p>
+ * <p>
+ * Statements in a script are separated by a semicolon at the end of a line; lines starting with {@code --}
+ * are comments. As in the {@code mysql} client, a {@code DELIMITER} line changes the separator, so stored
+ * procedures whose bodies contain semicolons can be written between {@code DELIMITER ;;} and {@code DELIMITER ;}.
+ * </p>
+ */
+public class SchemaMigrator {
+    static final String DEFAULT_LOCATION = "db/migration/";
+    private static final String INDEX_FILE = "migrations.txt";
+    private static final String LOCK_NAME = "media_rental_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private static final String CREATE_VERSION_TABLE = """
+            CREATE TABLE IF NOT EXISTS schema_version (
+              version INT NOT NULL,
+              description VARCHAR(200) NOT NULL,
+              checksum BIGINT NOT NULL,
+              installed_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+              PRIMARY KEY (version)
+            )
+            """;
+
+    private final String location;
+
+    /**
+     * Creates a migrator for the scripts shipped under {@code db/migration/}.
+     */
+    public SchemaMigrator() {
+        this(DEFAULT_LOCATION);
+    }
+
+    /**
+     * Creates a migrator for the scripts under the given classpath location.
+     *
+     * @param location the classpath directory holding the scripts and {@code migrations.txt}, ending with '/'.
+     */
+    SchemaMigrator(String location) {
+        this.location = location;
+    }
+
+    /**
+     * Applies every pending migration to the application database.
+     *
+     * @return the number of migrations applied.
+     * @throws DatabaseOperationException if a migration fails or an applied script has been modified.
+     */
+    public int migrate() throws DatabaseOperationException {
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            return migrate(conn);
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error connecting to the database for schema migration.", e);
+        }
+    }
+
+    /**
+     * Applies every pending migration to the database of the given connection.
+     *
+     * @param conn the connection to migrate through; its auto-commit mode must be enabled.
+     * @return the number of migrations applied.
+     * @throws DatabaseOperationException if a migration fails or an applied script has been modified.
+     */
+    public int migrate(Connection conn) throws DatabaseOperationException {
+        List<Migration> migrations = loadMigrations();
+        try {
+            acquireLock(conn);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(CREATE_VERSION_TABLE);
+            }
+
+            Map<Integer, Long> applied = appliedChecksums(conn);
+            int count = 0;
+            for (Migration migration : migrations) {
+                Long checksum = applied.get(migration.version);
+                if (checksum == null) {
+                    apply(conn, migration);
+                    count++;
+                } else if (checksum != migration.checksum) {
+                    throw new DatabaseOperationException("Applied migration " + migration.scriptName
+                            + " has been modified; add a new migration instead.", null);
+                }
+            }
+            return count;
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error preparing the schema migration.", e);
+        } finally {
+            releaseLock(conn);
+        }
+    }
+
+    /**
+     * Reads the migrations listed in the index file, in order.
+     *
+     * @return the migrations, ordered by version.
+     * @throws DatabaseOperationException if the index or a script cannot be read, or if versions are not increasing.
+     */
+    List<Migration> loadMigrations() throws DatabaseOperationException {
+        List<Migration> migrations = new ArrayList<>();
+        int lastVersion = 0;
+        for (String line : readResource(INDEX_FILE).split("\\R")) {
+            String scriptName = line.trim();
+            if (scriptName.isEmpty() || scriptName.startsWith("#")) {
+                continue;
+            }
+            Matcher name = SCRIPT_NAME.matcher(scriptName);
+            if (!name.matches()) {
+                throw new DatabaseOperationException("Invalid migration script name: " + scriptName, null);
+            }
+            int version = Integer.parseInt(name.group(1));
+            if (version <= lastVersion) {
+                throw new DatabaseOperationException("Migration " + scriptName + " is listed out of order.", null);
+            }
+            lastVersion = version;
+
+            String sql = readResource(scriptName);
+            CRC32 crc = new CRC32();
+            crc.update(sql.getBytes(StandardCharsets.UTF_8));
+            migrations.add(new Migration(version, name.group(2).replace('_', ' '), scriptName, sql, crc.getValue()));
+        }
+        return migrations;
+    }
+
+    /**
+     * Splits a script into statements at delimiters that end a line, skipping comment and blank lines.
+     * The delimiter is a semicolon until a {@code DELIMITER} line sets another one.
+     *
+     * @param script the script text.
+     * @return the statements without their trailing delimiters.
+     */
+    static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        String delimiter = ";";
+        for (String line : script.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            if (trimmed.regionMatches(true, 0, "DELIMITER ", 0, 10)) {
+                delimiter = trimmed.substring(10).trim();
+                continue;
+            }
+            if (current.length() > 0) {
+                current.append('\n');
+            }
+            if (trimmed.endsWith(delimiter)) {
+                current.append(line, 0, line.lastIndexOf(delimiter));
+                statements.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(line);
+            }
+        }
+        if (current.toString().trim().length() > 0) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    private void apply(Connection conn, Migration migration) throws DatabaseOperationException {
+        // MySQL commits DDL implicitly, so a failed script is not rolled back and has to be fixed by hand.
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : splitStatements(migration.sql)) {
+                stmt.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error applying schema migration " + migration.scriptName, e);
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO schema_version (version, description, checksum) VALUES (?, ?, ?)")) {
+            stmt.setInt(1, migration.version);
+            stmt.setString(2, migration.description);
+            stmt.setLong(3, migration.checksum);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error recording schema migration " + migration.scriptName, e);
+        }
+    }
+
+    private static Map<Integer, Long> appliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT version, checksum FROM schema_version");
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private static void acquireLock(Connection conn) throws SQLException, DatabaseOperationException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new DatabaseOperationException("Timed out waiting for another client to finish migrating the schema.", null);
+                }
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("Error releasing schema migration lock: " + e.getMessage());
+        }
+    }
+
+    private String readResource(String name) throws DatabaseOperationException {
+        try (InputStream input = SchemaMigrator.class.getClassLoader().getResourceAsStream(location + name)) {
+            if (input == null) {
+                throw new DatabaseOperationException("Migration resource not found: " + location + name, null);
+            }
+            StringBuilder text = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    text.append(line).append('\n');
+                }
+            }
+            return text.toString();
+        } catch (IOException e) {
+            throw new DatabaseOperationException("Error reading migration resource: " + location + name, e);
+        }
+    }
+
+    /**
+     * One migration script and its version.
+     */
+    static final class Migration {
+        final int version;
+        final String description;
+        final String scriptName;
+        final String sql;
+        final long checksum;
+
+        private Migration(int version, String description, String scriptName, String sql, long checksum) {
+            this.version = version;
+            this.description = description;
+            this.scriptName = scriptName;
+            this.sql = sql;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package model;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A per-connection LRU cache of {@link PreparedStatement} and {@link CallableStatement} objects keyed by SQL text.
+ * <p>
+ * Statements handed out by the cache are proxies: calling {@code close()} clears their parameters and
+ * returns them to the cache so the next caller preparing the same SQL skips the parse/plan round trip.
+ * If the same SQL is requested while its cached statement is still in use, an ordinary uncached
+ * statement is returned instead.
+ * </p>
+ */
+class StatementCache {
+    private final Connection physical;
+    private final int maxSize;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    // Access-ordered, so iteration starts at the least recently used statement.
+    private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates a statement cache for one physical connection.
+     *
+     * @param physical the physical connection that prepares the statements.
+     * @param maxSize  the maximum number of statements to keep open.
+     * @param hits     the shared counter incremented on every cache hit.
+     * @param misses   the shared counter incremented on every cache miss.
+     */
+    StatementCache(Connection physical, int maxSize, AtomicLong hits, AtomicLong misses) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Returns a prepared statement for the given SQL, reusing a cached one if it is free.
+     *
+     * @param sql the SQL text.
+     * @return a {@link PreparedStatement} whose {@code close()} returns it to the cache.
+     * @throws SQLException if the statement could not be prepared.
+     */
+    PreparedStatement prepareStatement(String sql) throws SQLException {
+        return checkOut("P:" + sql, sql, false);
+    }
+
+    /**
+     * Returns a callable statement for the given SQL, reusing a cached one if it is free.
+     *
+     * @param sql the {@code {CALL ...}} text.
+     * @return a {@link CallableStatement} whose {@code close()} returns it to the cache.
+     * @throws SQLException if the statement could not be prepared.
+     */
+    CallableStatement prepareCall(String sql) throws SQLException {
+        return (CallableStatement) checkOut("C:" + sql, sql, true);
+    }
+
+    /**
+     * Closes every cached statement. Called before the physical connection is closed.
+     */
+    synchronized void closeAll() {
+        for (CachedStatement cached : statements.values()) {
+            closeQuietly(cached.raw);
+        }
+        statements.clear();
+    }
+
+    private synchronized PreparedStatement checkOut(String key, String sql, boolean callable) throws SQLException {
+        CachedStatement cached = statements.get(key);
+        if (cached != null && !cached.inUse) {
+            hits.incrementAndGet();
+            cached.inUse = true;
+            return handleFor(cached, callable);
+        }
+
+        misses.incrementAndGet();
+        PreparedStatement raw = callable ? physical.prepareCall(sql) : physical.prepareStatement(sql);
+        if (cached != null) {
+            // The cached copy is busy (e.g. nested use of the same query); hand out a plain statement.
+            return raw;
+        }
+
+        cached = new CachedStatement(key, raw);
+        cached.inUse = true;
+        statements.put(key, cached);
+        evictOverflow();
+        return handleFor(cached, callable);
+    }
+
+    private PreparedStatement handleFor(CachedStatement cached, boolean callable) {
+        Class<?> type = callable ? CallableStatement.class : PreparedStatement.class;
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                new Class<?>[]{type}, new CachedStatementHandler(cached));
+    }
+
+    /**
+     * Closes least recently used statements that are not in use until the cache fits its size limit.
+     */
+    private void evictOverflow() {
+        List<PreparedStatement> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, CachedStatement>> leastRecentFirst = statements.entrySet().iterator();
+        while (statements.size() - evicted.size() > maxSize && leastRecentFirst.hasNext()) {
+            CachedStatement candidate = leastRecentFirst.next().getValue();
+            if (!candidate.inUse) {
+                leastRecentFirst.remove();
+                evicted.add(candidate.raw);
+            }
+        }
+        for (PreparedStatement statement : evicted) {
+            closeQuietly(statement);
+        }
+    }
+
+    /**
+     * Resets a statement after use and makes it available again, dropping it from the cache if the reset fails.
+     */
+    private synchronized void release(CachedStatement cached) {
+        try {
+            ResultSet open = cached.raw.getResultSet();
+            if (open != null) {
+                open.close();
+            }
+            cached.raw.clearParameters();
+            // A batch left pending by a failed executeBatch() elsewhere would otherwise run for the next caller.
+            cached.raw.clearBatch();
+            cached.raw.clearWarnings();
+            cached.inUse = false;
+        } catch (SQLException e) {
+            statements.remove(cached.key);
+            closeQuietly(cached.raw);
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing cached statement: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A physical statement held by the cache.
+     */
+    private static final class CachedStatement {
+        private final String key;
+        private final PreparedStatement raw;
+        private boolean inUse;
+
+        private CachedStatement(String key, PreparedStatement raw) {
+            this.key = key;
+            this.raw = raw;
+        }
+    }
+
+    /**
+     * Forwards calls to the cached statement, turning {@code close()} into a return to the cache.
+     */
+    private final class CachedStatementHandler implements InvocationHandler {
+        private final CachedStatement cached;
+        private boolean handleClosed;
+
+        private CachedStatementHandler(CachedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!handleClosed) {
+                        handleClosed = true;
+                        release(cached);
+                    }
+                    return null;
+                case "isClosed":
+                    return handleClosed || cached.raw.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached" + cached.raw;
+                default:
+                    break;
+            }
+            if (handleClosed) {
+                throw new SQLException("Statement has already been closed.");
+            }
+            try {
+                return method.invoke(cached.raw, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -7,21 +7,52 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import exception.AuthenticationException;
+import exception.LoginBusyException;
 import exception.DatabaseOperationException;
 
 /**
  * Data Access Object (DAO) for performing user-related database operations.
  */
 public class UserDAO {
+    private final ConnectionPool.ConnectionFactory connections;
+
+    /**
+     * Creates a DAO that uses the application's connection pool.
+     */
+    public UserDAO() {
+        this(DatabaseConnection::getConnection);
+    }
+
+    /**
+     * Creates a DAO that takes its connections from the given source instead of the application pool.
+     *
+     * @param connections supplies a connection for each operation; the DAO closes it afterwards.
+     */
+    UserDAO(ConnectionPool.ConnectionFactory connections) {
+        this.connections = connections;
+    }
 
     /**
      * Authenticates a user using the provided email and password.
+     * <p>
+     * The connection is returned to the pool before the password is checked, so slow BCrypt checks do not
+     * hold connections. If the stored hash was made at a lower cost than new hashes, it is replaced
+     * after a successful login.
+     * </p>
      *
      * @param email    the user's email address.
      * @param password the user's password.
      * @return a User object if authentication is successful.
+     * @throws LoginBusyException        if too many logins are being checked at once.
      * @throws AuthenticationException   if the email/password combination is invalid.
      * @throws DatabaseOperationException if a database error occurs during authentication.
      */
@@ -37,20 +68,18 @@ public class UserDAO {
         Connection conn = null;
         PreparedStatement stmt = null;
         ResultSet rs = null;
+        User user = new User();
+        String storedHash;
 
         try {
-            conn = DatabaseConnection.getConnection();
+            conn = connections.create();
             stmt = conn.prepareStatement(query);
             stmt.setString(1, email);
             rs = stmt.executeQuery();
 
             if (rs.next()) {
-                String storedHash = rs.getString("password");
-                if (!controller.PasswordUtils.verifyPassword(password, storedHash)) {
-                    throw new AuthenticationException("Invalid email or password.");
-                }
+                storedHash = rs.getString("password");
 
-                User user = new User();
                 user.setUserId(rs.getString("user_id"));
                 user.setEmail(rs.getString("email"));
                 user.setName(rs.getString("name"));
@@ -63,7 +92,6 @@ public class UserDAO {
                 } else if ("Lecturer".equalsIgnoreCase(user.getRole())) {
                     user.setDepartment(rs.getString("lecturer_department"));
                 }
-                return user;
             } else {
                 throw new AuthenticationException("Invalid email or password.");
             }
@@ -72,9 +100,36 @@ public class UserDAO {
         } finally {
             DatabaseConnection.closeResources(conn, stmt, rs);
         }
-    }
 
+        try {
+            if (!controller.PasswordUtils.verifyPassword(password, storedHash)) {
+                throw new AuthenticationException("Invalid email or password.");
+            }
+        } catch (RejectedExecutionException e) {
+            throw new LoginBusyException("Too many logins in progress. Please try again.");
+        }
+        if (controller.PasswordUtils.needsRehash(storedHash)) {
+            rehashPassword(user.getUserId(), storedHash, controller.PasswordUtils.hashPassword(password));
+        }
+        return user;
+    }
 
+    /**
+     * Replaces a stored hash after a successful login, unless the password has changed in the meantime.
+     * A failure is only reported, since the old hash still works.
+     */
+    private void rehashPassword(String userId, String oldHash, String newHash) {
+        try (Connection conn = connections.create();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "UPDATE users SET password = ? WHERE user_id = ? AND password = ?")) {
+            stmt.setString(1, newHash);
+            stmt.setString(2, userId);
+            stmt.setString(3, oldHash);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("Error rehashing password for user " + userId + ": " + e.getMessage());
+        }
+    }
 
     /**
      * Retrieves all users from the database.
@@ -96,7 +151,7 @@ public class UserDAO {
         List<User> users = new ArrayList<>();
 
         try {
-            conn = DatabaseConnection.getConnection();
+            conn = connections.create();
             stmt = conn.prepareStatement(query);
             rs = stmt.executeQuery();
 
@@ -144,7 +199,7 @@ public class UserDAO {
         List<User> lecturersAndStudents = new ArrayList<>();
 
         try {
-            conn = DatabaseConnection.getConnection();
+            conn = connections.create();
             stmt = conn.prepareStatement(query);
             rs = stmt.executeQuery();
 
@@ -199,7 +254,7 @@ public class UserDAO {
         ResultSet rs = null;
 
         try {
-            conn = DatabaseConnection.getConnection();
+            conn = connections.create();
             stmt = conn.prepareStatement(query);
             stmt.setString(1, userId);
             rs = stmt.executeQuery();
@@ -244,7 +299,7 @@ public class UserDAO {
 
         String query = "SELECT role FROM users WHERE user_id = ?";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = connections.create();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, userId);
@@ -262,6 +317,7 @@ public class UserDAO {
 
     /**
      * Adds a new user to the database using a stored procedure.
+     * On success the ID assigned by the procedure is set on the given user.
      *
      * @param user      the User object containing user details.
      * @param creatorId the ID of the user creating the new user.
@@ -282,7 +338,7 @@ public class UserDAO {
         CallableStatement stmt = null;
 
         try {
-            conn = DatabaseConnection.getConnection();
+            conn = connections.create();
             stmt = conn.prepareCall(sql);
 
             stmt.setString(1, user.getEmail());
@@ -309,7 +365,15 @@ public class UserDAO {
             }
 
             stmt.setString(8, creatorId);
-            stmt.execute();
+            boolean hasResults = stmt.execute();
+
+            if (hasResults) {
+                try (ResultSet rs = stmt.getResultSet()) {
+                    if (rs.next()) {
+                        user.setUserId(rs.getString("UserID"));
+                    }
+                }
+            }
             return true;
 
         } catch (SQLException e) {
@@ -323,6 +387,202 @@ public class UserDAO {
         }
     }
 
+    /**
+     * Returns which of the given email addresses already belong to a user.
+     *
+     * @param emails the email addresses to look up.
+     * @return the matching addresses in lower case; empty if none match.
+     * @throws DatabaseOperationException if a database error occurs.
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) throws DatabaseOperationException {
+        Set<String> existing = new HashSet<>();
+        if (emails == null || emails.isEmpty()) {
+            return existing;
+        }
+
+        String query = "SELECT email FROM users WHERE email IN ("
+                + String.join(", ", Collections.nCopies(emails.size(), "?")) + ")";
+
+        try (Connection conn = connections.create();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int index = 1;
+            for (String email : emails) {
+                stmt.setString(index++, email);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getString("email").toLowerCase());
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error looking up existing email addresses.", e);
+        }
+        return existing;
+    }
+
+    /**
+     * Adds several users in one transaction using batched inserts, for bulk imports.
+     * <p>
+     * The users are expected to be validated and their passwords hashed. IDs follow the same rules as the
+     * {@code AddUser} procedure: a student's ID is the local part of their email, and other roles take a
+     * block of numbers from {@code user_id_sequence} with a single update per role. Either every user is
+     * added and has its ID set, or the transaction is rolled back and no IDs are set.
+     * </p>
+     *
+     * @param users     the users to add.
+     * @param creatorId the ID of the Admin adding the users.
+     * @throws DatabaseOperationException if the creator is not an Admin or a database error occurs.
+     * @throws IllegalArgumentException   if the list is null or creatorId is invalid.
+     */
+    public void addUsers(List<User> users, String creatorId) throws DatabaseOperationException {
+        if (users == null) {
+            throw new IllegalArgumentException("User list cannot be null.");
+        }
+        if (creatorId == null || creatorId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Creator ID cannot be null or empty.");
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        try (Connection conn = connections.create()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                if (!"Admin".equals(getUserRole(conn, creatorId))) {
+                    throw new DatabaseOperationException("Permission denied: Only Admins can add users.", null);
+                }
+                String[] ids = assignUserIds(conn, users);
+                insertUsers(conn, users, ids);
+                conn.commit();
+                for (int i = 0; i < users.size(); i++) {
+                    users.get(i).setUserId(ids[i]);
+                }
+            } catch (SQLException | DatabaseOperationException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error adding " + users.size() + " users to the database.", e);
+        }
+    }
+
+    private static String getUserRole(Connection conn, String userId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT role FROM users WHERE user_id = ?")) {
+            stmt.setString(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString("role") : null;
+            }
+        }
+    }
+
+    /**
+     * Works out the ID of each user. The sequence rows stay locked until the transaction ends.
+     */
+    private static String[] assignUserIds(Connection conn, List<User> users) throws SQLException {
+        Map<String, Integer> counts = new HashMap<>();
+        for (User user : users) {
+            String prefix = staffPrefix(user.getRole());
+            if (prefix != null) {
+                counts.merge(prefix, 1, Integer::sum);
+            }
+        }
+
+        Map<String, Long> next = new HashMap<>();
+        try (PreparedStatement reserve = conn.prepareStatement(
+                "UPDATE user_id_sequence SET last_value = LAST_INSERT_ID(last_value + ?) WHERE prefix = ?");
+             PreparedStatement last = conn.prepareStatement("SELECT LAST_INSERT_ID()")) {
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                reserve.setInt(1, count.getValue());
+                reserve.setString(2, count.getKey());
+                if (reserve.executeUpdate() != 1) {
+                    throw new SQLException("No user ID sequence for prefix " + count.getKey());
+                }
+                try (ResultSet rs = last.executeQuery()) {
+                    rs.next();
+                    next.put(count.getKey(), rs.getLong(1) - count.getValue() + 1);
+                }
+            }
+        }
+
+        String[] ids = new String[users.size()];
+        for (int i = 0; i < ids.length; i++) {
+            User user = users.get(i);
+            String prefix = staffPrefix(user.getRole());
+            if (prefix == null) {
+                ids[i] = user.getEmail().substring(0, user.getEmail().indexOf('@'));
+            } else {
+                long number = next.merge(prefix, 1L, Long::sum) - 1;
+                // Same padding as AddUser: at least three digits.
+                ids[i] = prefix + (number < 1000 ? String.format("%03d", number) : String.valueOf(number));
+            }
+        }
+        return ids;
+    }
+
+    private static String staffPrefix(String role) {
+        switch (role) {
+            case "Student":
+                return null;
+            case "Lecturer":
+                return "L";
+            case "MediaStaff":
+                return "M";
+            case "Admin":
+                return "A";
+            default:
+                throw new IllegalArgumentException("Invalid role: " + role);
+        }
+    }
+
+    private static void insertUsers(Connection conn, List<User> users, String[] ids) throws SQLException {
+        try (PreparedStatement userStmt = conn.prepareStatement(
+                "INSERT INTO users (user_id, name, email, password, role) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement studentStmt = conn.prepareStatement(
+                     "INSERT INTO students (student_id, course, department, year) VALUES (?, ?, ?, ?)");
+             PreparedStatement lecturerStmt = conn.prepareStatement(
+                     "INSERT INTO lecturers (lecturer_id, department) VALUES (?, ?)")) {
+
+            boolean students = false;
+            boolean lecturers = false;
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                userStmt.setString(1, ids[i]);
+                userStmt.setString(2, user.getName());
+                userStmt.setString(3, user.getEmail());
+                userStmt.setString(4, user.getPassword());
+                userStmt.setString(5, user.getRole());
+                userStmt.addBatch();
+
+                if ("Student".equals(user.getRole())) {
+                    studentStmt.setString(1, ids[i]);
+                    studentStmt.setString(2, user.getCourse());
+                    studentStmt.setString(3, user.getDepartment());
+                    studentStmt.setInt(4, user.getYear());
+                    studentStmt.addBatch();
+                    students = true;
+                } else if ("Lecturer".equals(user.getRole())) {
+                    lecturerStmt.setString(1, ids[i]);
+                    lecturerStmt.setString(2, user.getDepartment());
+                    lecturerStmt.addBatch();
+                    lecturers = true;
+                }
+            }
+
+            // Users first, for the foreign keys of the role tables.
+            userStmt.executeBatch();
+            if (students) {
+                studentStmt.executeBatch();
+            }
+            if (lecturers) {
+                lecturerStmt.executeBatch();
+            }
+        }
+    }
+
     /**
      * Updates an existing user using a stored procedure.
      *
@@ -351,7 +611,7 @@ public class UserDAO {
 
         String sql = "{CALL UpdateUser(?, ?, ?, ?, ?, ?, ?, ?)}";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = connections.create();
              CallableStatement stmt = conn.prepareCall(sql)) {
 
             stmt.setString(1, user.getUserId());
@@ -405,7 +665,7 @@ public class UserDAO {
 
         String sql = "{CALL DeleteUser(?, ?)}";
 
-        try (Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = connections.create();
              CallableStatement stmt = conn.prepareCall(sql)) {
 
             stmt.setString(1, userId);
@@ -4,6 +4,13 @@ import controller.*;
 import model.User;
 import model.Equipment;
 import model.Reservation;
+import model.Checkout;
+import model.DashboardStats;
+import model.EquipmentState;
+import model.EquipmentStatus;
+import model.ReservationQuery;
+import model.ReservationStatus;
+import model.Role;
 import exception.DatabaseOperationException;
 import java.awt.BorderLayout;
 import java.awt.Font;
@@ -18,12 +25,17 @@ import java.awt.GridLayout;
 import java.awt.GridBagLayout;
 import java.awt.GridBagConstraints;
 import java.awt.Insets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Objects;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.Date;
+import java.util.concurrent.Future;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.table.DefaultTableModel;
@@ -43,6 +55,9 @@ import javax.swing.JSplitPane;
 import javax.swing.JScrollPane;
 import javax.swing.JComboBox;
 import javax.swing.JPasswordField;
+import javax.swing.JCheckBox;
+import javax.swing.JFileChooser;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.DefaultComboBoxModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.event.ChangeEvent;
@@ -73,6 +88,16 @@ public class AdminFrame extends JFrame {
      * @param user the authenticated User object representing an Admin.
      */
     public AdminFrame(User user) {
+        this(user, null);
+    }
+
+    /**
+     * Constructs an AdminFrame for the given user, showing dashboard statistics loaded during login.
+     *
+     * @param user         the authenticated User object representing an Admin.
+     * @param initialStats the dashboard statistics to show straight away, or null to load them in the background.
+     */
+    public AdminFrame(User user, DashboardStats initialStats) {
         this.loggedInUser = user;
         setTitle("Media Equipment Rental System - Admin Menu - " + user.getName());
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -148,7 +173,7 @@ public class AdminFrame extends JFrame {
         // Add tabs with icons.
         tabbedPane.addTab("Home",
                 new ImageIcon(Objects.requireNonNull(getClass().getResource("/view/icons/home.png"))),
-                new HomePanel(loggedInUser));
+                new HomePanel(loggedInUser, initialStats));
         tabbedPane.addTab("View Profile",
                 new ImageIcon(Objects.requireNonNull(getClass().getResource("/view/icons/profile.png"))),
                 new ViewProfilePanel(loggedInUser));
@@ -171,6 +196,7 @@ public class AdminFrame extends JFrame {
         logoutButton.setMaximumSize(new Dimension(100, 30));
         logoutButton.setFocusPainted(false);
         logoutButton.addActionListener(e -> {
+            new UserController().logout(loggedInUser.getUserId());
             dispose();
             new LoginFrame().setVisible(true);
         });
@@ -180,11 +206,20 @@ public class AdminFrame extends JFrame {
         add(mainPanel);
 
         // Add a change listener to refresh tabs that implement Refreshable.
+        // Background refreshes of a tab that is no longer selected are cancelled.
         tabbedPane.addChangeListener(new ChangeListener() {
+            private Component previous;
+
             @Override
             public void stateChanged(ChangeEvent e) {
+                if (previous instanceof AsyncRefreshable) {
+                    ((AsyncRefreshable) previous).cancelRefresh();
+                }
                 Component selected = tabbedPane.getSelectedComponent();
-                if (selected instanceof Refreshable) {
+                previous = selected;
+                if (selected instanceof AsyncRefreshable) {
+                    ((AsyncRefreshable) selected).refreshAsync();
+                } else if (selected instanceof Refreshable) {
                     try {
                         ((Refreshable) selected).refresh();
                     } catch (DatabaseOperationException ex) {
@@ -209,18 +244,30 @@ public class AdminFrame extends JFrame {
         private final ChartPanel reservationsStatusChartPanel;
         private final ChartPanel userReservationsChartPanel;
         private final User loggedInUser; // Logged-in user for context
+        private final DashboardController dashboardController = new DashboardController();
+        private final BackgroundLoader loader = new BackgroundLoader();
+        private Future<?> pendingRefresh;
+        // Each chart is built once; later updates only change the values in these datasets.
+        private final DefaultCategoryDataset equipmentStateDataset = new DefaultCategoryDataset();
+        private final DefaultPieDataset checkedOutDataset = new DefaultPieDataset();
+        private final DefaultCategoryDataset reservationsStatusDataset = new DefaultCategoryDataset();
+        private final DefaultCategoryDataset userReservationsDataset = new DefaultCategoryDataset();
+        private DashboardStats displayedStats = new DashboardStats();
+        // Read by the background poll, so it must be visible outside the Event Dispatch Thread.
+        private volatile long displayedRevision = -1;
 
         /**
          * Constructs a HomePanel for the specified user.
          *
-         * @param user the logged-in User.
+         * @param user         the logged-in User.
+         * @param initialStats statistics to fill the charts with straight away, or null to wait for the first refresh.
          */
-        public HomePanel(User user) {
+        public HomePanel(User user, DashboardStats initialStats) {
             this.loggedInUser = user;
             // Use a (2 rows x 2 columns) GridLayout with 10px gaps.
             setLayout(new GridLayout(2, 2, 2, 2));
             int chartSize = 300;
-
+            // Charts start empty; the statistics are loaded in the background.
             // Equipment States Chart (Bar Chart)
             equipmentStateChartPanel = new ChartPanel(createEquipmentStateChart());
             equipmentStateChartPanel.setPreferredSize(new Dimension(chartSize, chartSize));
@@ -241,52 +288,137 @@ public class AdminFrame extends JFrame {
             userReservationsChartPanel.setPreferredSize(new Dimension(chartSize, chartSize));
             add(userReservationsChartPanel);
 
-            // Set up a Timer to update all Charts every 3 seconds.
-            Timer timer = new Timer(3000, e -> updateAllCharts());
+            if (initialStats != null) {
+                // The first refresh then finds the revision unchanged and skips the statistics query.
+                updateAllCharts(initialStats);
+            }
+
+            // Set up a Timer to check for changes every 3 seconds; charts are only reloaded when the data has changed.
+            Timer timer = new Timer(3000, e -> refreshCharts());
             timer.start();
+            refreshCharts();
+        }
+
+        /**
+         * Checks the change revision in the background and, only if it has moved since the charts were last
+         * filled, fetches the dashboard statistics with a single query and updates all charts.
+         * A tick that arrives while the previous check is still running is skipped: starting a new check
+         * would cancel it, and on a slow database the charts would then never be updated.
+         */
+        private void refreshCharts() {
+            if (pendingRefresh != null && !pendingRefresh.isDone()) {
+                return;
+            }
+            pendingRefresh = loader.load(this::fetchChangedStats, stats -> {
+                if (stats != null) {
+                    updateAllCharts(stats);
+                }
+            });
+        }
+
+        /**
+         * Returns fresh dashboard statistics, or null if the data has not changed since the last update.
+         * If the revision cannot be read, the statistics are always fetched.
+         *
+         * @return the dashboard statistics, or null if they do not need to be reloaded.
+         */
+        private DashboardStats fetchChangedStats() {
+            long revision = dashboardController.getChangeRevision(loggedInUser.getRole());
+            if (revision >= 0 && revision == displayedRevision) {
+                return null;
+            }
+            return dashboardController.getDashboardStats(loggedInUser.getRole());
+        }
+
+        /**
+         * Updates the chart datasets from the given statistics.
+         * Only datasets whose aggregate differs from the values already shown are touched, and each of them
+         * fires a single change event, so unchanged charts are not redrawn.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void updateAllCharts(DashboardStats stats) {
+            DashboardStats previous = displayedStats;
+            displayedStats = stats;
+            displayedRevision = stats.getRevision();
+
+            if (!stats.getEquipmentByState().equals(previous.getEquipmentByState())) {
+                equipmentStateDataset.setNotify(false);
+                fillEquipmentStateDataset(stats);
+                equipmentStateDataset.setNotify(true);
+            }
+            if (stats.getCheckedOutEquipment() != previous.getCheckedOutEquipment()
+                    || stats.getTotalEquipment() != previous.getTotalEquipment()) {
+                checkedOutDataset.setNotify(false);
+                fillCheckedOutDataset(stats);
+                checkedOutDataset.setNotify(true);
+            }
+            if (!stats.getReservationsByStatus().equals(previous.getReservationsByStatus())) {
+                reservationsStatusDataset.setNotify(false);
+                fillReservationsStatusDataset(stats);
+                reservationsStatusDataset.setNotify(true);
+            }
+            if (!stats.getReservationsPerUser().equals(previous.getReservationsPerUser())) {
+                userReservationsDataset.setNotify(false);
+                fillUserReservationsDataset(stats);
+                userReservationsDataset.setNotify(true);
+            }
         }
 
         /**
-         * Updates all charts by recreating them.
+         * Sets the equipment state counts, using one common category "Equipment" and a series for each state.
+         *
+         * @param stats the dashboard statistics to display.
          */
-        private void updateAllCharts() {
-            equipmentStateChartPanel.setChart(createEquipmentStateChart());
-            checkedOutChartPanel.setChart(createCheckedOutChart());
-            reservationsStatusChartPanel.setChart(createReservationsStatusChart());
-            userReservationsChartPanel.setChart(createUserReservationsOverTimeChart());
-            // Optionally, force a repaint:
-            equipmentStateChartPanel.repaint();
-            checkedOutChartPanel.repaint();
-            reservationsStatusChartPanel.repaint();
-            userReservationsChartPanel.repaint();
+        private void fillEquipmentStateDataset(DashboardStats stats) {
+            equipmentStateDataset.setValue(stats.getEquipmentCountByState("New"), "New", "Equipment");
+            equipmentStateDataset.setValue(stats.getEquipmentCountByState("Good"), "Good", "Equipment");
+            equipmentStateDataset.setValue(stats.getEquipmentCountByState("Fair"), "Fair", "Equipment");
+            equipmentStateDataset.setValue(stats.getEquipmentCountByState("Poor"), "Poor", "Equipment");
         }
 
         /**
-         * Creates a bar chart displaying the counts of equipment in different states.
+         * Sets the checked-out and not checked-out equipment counts.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void fillCheckedOutDataset(DashboardStats stats) {
+            checkedOutDataset.setValue("Checked Out", stats.getCheckedOutEquipment());
+            checkedOutDataset.setValue("Not Checked Out", stats.getNotCheckedOutEquipment());
+        }
+
+        /**
+         * Sets the pending and approved reservation counts.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void fillReservationsStatusDataset(DashboardStats stats) {
+            reservationsStatusDataset.setValue(stats.getReservationCountByStatus("Pending"), "Pending", "Reservations");
+            reservationsStatusDataset.setValue(stats.getReservationCountByStatus("Approved"), "Approved", "Reservations");
+        }
+
+        /**
+         * Replaces the per-user reservation counts.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void fillUserReservationsDataset(DashboardStats stats) {
+            userReservationsDataset.clear();
+            for (Map.Entry<String, Integer> entry : stats.getReservationsPerUser().entrySet()) {
+                userReservationsDataset.addValue(entry.getValue(), "Reservations", entry.getKey());
+            }
+        }
+
+        /**
+         * Creates the bar chart displaying the counts of equipment in different states.
          *
          * @return a JFreeChart object representing the equipment states.
          */
         private JFreeChart createEquipmentStateChart() {
-            EquipmentController equipmentController= new EquipmentController();
-            // Retrieve all equipment filtered by the user's role.
-            List<Equipment> equipments = equipmentController.getAllEquipment(loggedInUser.getRole());
-            // Count each state.
-            Map<String, Integer> stateCounts = new HashMap<>();
-            for (Equipment eq : equipments) {
-                String state = eq.getState();
-                if (state != null) {
-                    stateCounts.put(state, stateCounts.getOrDefault(state, 0) + 1);
-                }
-            }
-            // Create a dataset with one common category "Equipment" and four series for each state.
-            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-            dataset.addValue(stateCounts.getOrDefault("New", 0), "New", "Equipment");
-            dataset.addValue(stateCounts.getOrDefault("Good", 0), "Good", "Equipment");
-            dataset.addValue(stateCounts.getOrDefault("Fair", 0), "Fair", "Equipment");
-            dataset.addValue(stateCounts.getOrDefault("Poor", 0), "Poor", "Equipment");
+            fillEquipmentStateDataset(displayedStats);
 
             // Create the bar chart.
-            JFreeChart chart = ChartFactory.createBarChart("Equipment States", "State", "Count", dataset);
+            JFreeChart chart = ChartFactory.createBarChart("Equipment States", "State", "Count", equipmentStateDataset);
 
             // Enable and display data labels.
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelGenerator(new org.jfree.chart.labels.StandardCategoryItemLabelGenerator());
@@ -313,17 +445,8 @@ public class AdminFrame extends JFrame {
          * @return a JFreeChart object representing checked-out equipment.
          */
         private JFreeChart createCheckedOutChart() {
-            CheckoutController cc = new CheckoutController();
-            List<String> checkedOut = cc.getCheckedOutEquipment();
-            int checkedOutCount = checkedOut.size();
-            EquipmentController equipmentController= new EquipmentController();
-            List<Equipment> equipments = equipmentController.getAllEquipment(loggedInUser.getRole());
-            int total = equipments.size();
-            int notCheckedOut = total - checkedOutCount;
-            DefaultPieDataset dataset = new DefaultPieDataset();
-            dataset.setValue("Checked Out", checkedOutCount);
-            dataset.setValue("Not Checked Out", notCheckedOut);
-            JFreeChart chart = ChartFactory.createPieChart("Equipment Checked Out", dataset, true, true, false);
+            fillCheckedOutDataset(displayedStats);
+            JFreeChart chart = ChartFactory.createPieChart("Equipment Checked Out", checkedOutDataset, true, true, false);
             // (You can add a StandardPieSectionLabelGenerator here for more detailed labels.)
 
             // Set chart and plot background to white.
@@ -345,25 +468,8 @@ public class AdminFrame extends JFrame {
          * @return a JFreeChart object representing reservation statuses.
          */
         private JFreeChart createReservationsStatusChart() {
-            ReservationController resController= new ReservationController();
-            // Use the current user's ID to filter reservations.
-            List<Reservation> reservations = resController.getAllReservations(loggedInUser.getUserId());
-            int pendingCount = 0;
-            int approvedCount = 0;
-            for (Reservation res : reservations) {
-                String status = res.getStatus();
-                if (status != null) {
-                    if (status.equalsIgnoreCase("Pending")) {
-                        pendingCount++;
-                    } else if (status.equalsIgnoreCase("Approved")) {
-                        approvedCount++;
-                    }
-                }
-            }
-            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-            dataset.addValue(pendingCount, "Pending", "Reservations");
-            dataset.addValue(approvedCount, "Approved", "Reservations");
-            JFreeChart chart = ChartFactory.createBarChart("Reservations Status", "Status", "Count", dataset);
+            fillReservationsStatusDataset(displayedStats);
+            JFreeChart chart = ChartFactory.createBarChart("Reservations Status", "Status", "Count", reservationsStatusDataset);
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelGenerator(new org.jfree.chart.labels.StandardCategoryItemLabelGenerator());
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelsVisible(true);
 
@@ -384,20 +490,8 @@ public class AdminFrame extends JFrame {
          * @return a JFreeChart object representing user reservations.
          */
         private JFreeChart createUserReservationsOverTimeChart() {
-            ReservationController resController= new ReservationController();
-            List<Reservation> reservations = resController.getAllReservations(loggedInUser.getUserId());
-            Map<String, Integer> userCounts = new HashMap<>();
-            for (Reservation res : reservations) {
-                String userId = res.getUserId();
-                if (userId != null) {
-                    userCounts.put(userId, userCounts.getOrDefault(userId, 0) + 1);
-                }
-            }
-            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-            for (Map.Entry<String, Integer> entry : userCounts.entrySet()) {
-                dataset.addValue(entry.getValue(), "Reservations", entry.getKey());
-            }
-            JFreeChart chart = ChartFactory.createBarChart("User Reservations", "User", "Count", dataset);
+            fillUserReservationsDataset(displayedStats);
+            JFreeChart chart = ChartFactory.createBarChart("User Reservations", "User", "Count", userReservationsDataset);
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelGenerator(new org.jfree.chart.labels.StandardCategoryItemLabelGenerator());
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelsVisible(true);
 
@@ -520,9 +614,12 @@ public class AdminFrame extends JFrame {
      * UserManagementPanel provides an interface for managing users, including viewing,
      * adding, updating, and deleting users.
      */
-    class UserManagementPanel extends JPanel implements Refreshable {
+    class UserManagementPanel extends JPanel implements AsyncRefreshable {
         private final String adminId;
         private final JPanel contentPanel;
+        private final BackgroundLoader loader = new BackgroundLoader();
+        // Kept apart from the table loader so that switching tabs does not cancel an import.
+        private final BackgroundLoader importLoader = new BackgroundLoader();
 
         /**
          * Constructs a UserManagementPanel for the given admin.
@@ -543,6 +640,7 @@ public class AdminFrame extends JFrame {
             JButton buttonAddUser = createMenuItem("Add New User", "/view/icons/add-user.png");
             JButton buttonUpdateUser = createMenuItem("Update User","/view/icons/update-user.png");
             JButton buttonDeleteUser = createMenuItem("Delete User","/view/icons/delete-user.png");
+            JButton buttonImportUsers = createMenuItem("Import Users (CSV)","/view/icons/add-user.png");
 
             sidebar.add(Box.createRigidArea(new Dimension(0,100)));
             sidebar.add(buttonViewAllUsers);
@@ -552,6 +650,8 @@ public class AdminFrame extends JFrame {
             sidebar.add(buttonUpdateUser);
             sidebar.add(Box.createRigidArea(new Dimension(0,100)));
             sidebar.add(buttonDeleteUser);
+            sidebar.add(Box.createRigidArea(new Dimension(0,100)));
+            sidebar.add(buttonImportUsers);
 
             // Create content panel with a placeholder.
             contentPanel = new JPanel(new BorderLayout());
@@ -571,13 +671,7 @@ public class AdminFrame extends JFrame {
             add(splitPane, BorderLayout.CENTER);
 
             // Set up action listeners.
-            buttonViewAllUsers.addActionListener(e -> {
-                try {
-                    loadViewAllUsers();
-                } catch (DatabaseOperationException ex) {
-                    throw new RuntimeException(ex);
-                }
-            });
+            buttonViewAllUsers.addActionListener(e -> loadViewAllUsers());
             buttonAddUser.addActionListener(e -> loadAddUser());
             buttonUpdateUser.addActionListener(e -> {
                 try {
@@ -593,6 +687,7 @@ public class AdminFrame extends JFrame {
                     throw new RuntimeException(ex);
                 }
             });
+            buttonImportUsers.addActionListener(e -> loadImportUsers());
         }
 
         /**
@@ -601,17 +696,41 @@ public class AdminFrame extends JFrame {
          * @throws DatabaseOperationException if an error occurs during data retrieval.
          */
         public void refresh() throws DatabaseOperationException {
-            loadViewAllUsers();
+            showUsers(new UserController().getAllUsers("Admin"));
+        }
+
+        /**
+         * Reloads the view all users table in the background.
+         *
+         * @return a Future that completes once the table has been shown.
+         */
+        @Override
+        public Future<?> refreshAsync() {
+            return loader.load(() -> new UserController().getAllUsers("Admin"), this::showUsers);
+        }
+
+        /**
+         * Cancels a background refresh that is still in flight.
+         */
+        @Override
+        public void cancelRefresh() {
+            loader.cancel();
         }
 
         /**
          * Loads all users from the database and displays them in a table.
+         * The data is fetched in the background.
+         */
+        private void loadViewAllUsers() {
+            refreshAsync();
+        }
+
+        /**
+         * Displays the given users in a table.
          *
-         * @throws DatabaseOperationException if a database error occurs.
+         * @param users the users to display.
          */
-        private void loadViewAllUsers() throws DatabaseOperationException {
-            final UserController uc = new UserController();
-            final List<User> users = uc.getAllUsers("Admin");
+        private void showUsers(List<User> users) {
             String[] columnNames = {"User ID", "Email", "Name", "Role"};
             DefaultTableModel model = new DefaultTableModel(columnNames, 0){
                 @Override
@@ -655,7 +774,7 @@ public class AdminFrame extends JFrame {
 
             // Row 0: Role selection
             JLabel labelRole = new JLabel("Role:");
-            String[] roles = {"Student", "Lecturer", "Admin", "MediaStaff"};
+            String[] roles = Role.names();
             JComboBox<String> comboBoxRole = new JComboBox<>(roles);
             gridBagConstraint.gridx = 0;
             gridBagConstraint.gridy = 0;
@@ -711,7 +830,7 @@ public class AdminFrame extends JFrame {
                 gridBagConstraintExtra.gridx = 0;
                 gridBagConstraintExtra.gridy = 0;
                 String selectedRole = (String) comboBoxRole.getSelectedItem();
-                if ("Student".equalsIgnoreCase(selectedRole)) {
+                if (Role.fromName(selectedRole) == Role.STUDENT) {
                     // For Student, add Department, Course, and Year.
                     JLabel labelDept = new JLabel("Department:");
                     JComboBox<String> comboBoxDept = new JComboBox<>(departments);
@@ -752,7 +871,7 @@ public class AdminFrame extends JFrame {
                     extraPanel.add(labelYear, gridBagConstraintExtra);
                     gridBagConstraintExtra.gridx = 1;
                     extraPanel.add(comboBoxYear, gridBagConstraintExtra);
-                } else if ("Lecturer".equalsIgnoreCase(selectedRole)) {
+                } else if (Role.fromName(selectedRole) == Role.LECTURER) {
                     // For Lecturer, add only Department.
                     JLabel labelDept = new JLabel("Department:");
                     JComboBox<String> comboBoxDept = new JComboBox<>(departments);
@@ -798,7 +917,7 @@ public class AdminFrame extends JFrame {
                     newUser.setPassword(controller.PasswordUtils.hashPassword(password));
 
                     // Process extra fields for Student and Lecturer.
-                    if ("Student".equalsIgnoreCase(role)) {
+                    if (Role.fromName(role) == Role.STUDENT) {
                         // Expect two JComboBox components in extraPanel: first for Department, second for Course.
                         Component[] components = extraPanel.getComponents();
                         String department = "";
@@ -828,7 +947,7 @@ public class AdminFrame extends JFrame {
                                 return;
                             }
                         }
-                    } else if ("Lecturer".equalsIgnoreCase(role)) {
+                    } else if (Role.fromName(role) == Role.LECTURER) {
                         // For Lecturer, expect one JComboBox for Department.
                         for (Component comp : extraPanel.getComponents()) {
                             if (comp instanceof JComboBox) {
@@ -856,6 +975,113 @@ public class AdminFrame extends JFrame {
             contentPanel.repaint();
         }
 
+        /**
+         * Loads the "Import Users" panel, which adds the users listed in a CSV file.
+         * The import runs in the background and keeps running if another panel is opened.
+         */
+        private void loadImportUsers() {
+            JPanel importPanel = new JPanel(new GridBagLayout());
+            GridBagConstraints gridBagConstraint = new GridBagConstraints();
+            gridBagConstraint.insets = new Insets(5, 5, 5, 5);
+            gridBagConstraint.fill = GridBagConstraints.HORIZONTAL;
+
+            // Row 0: File chooser
+            JLabel labelFile = new JLabel("CSV file:");
+            JTextField textFieldFile = new JTextField(30);
+            textFieldFile.setEditable(false);
+            JButton browseButton = new JButton("Browse...");
+            gridBagConstraint.gridx = 0;
+            gridBagConstraint.gridy = 0;
+            importPanel.add(labelFile, gridBagConstraint);
+            gridBagConstraint.gridx = 1;
+            importPanel.add(textFieldFile, gridBagConstraint);
+            gridBagConstraint.gridx = 2;
+            importPanel.add(browseButton, gridBagConstraint);
+
+            // Row 1: Column help
+            JLabel labelColumns = new JLabel("Columns: email, name, password, role, department, course, year");
+            gridBagConstraint.gridx = 0;
+            gridBagConstraint.gridy = 1;
+            gridBagConstraint.gridwidth = 3;
+            importPanel.add(labelColumns, gridBagConstraint);
+
+            // Row 2: Resume option
+            JCheckBox checkBoxResume = new JCheckBox("Resume the previous import of this file");
+            gridBagConstraint.gridy = 2;
+            importPanel.add(checkBoxResume, gridBagConstraint);
+
+            // Row 3: Import button
+            JButton importButton = new JButton("Import Users");
+            importButton.setFocusPainted(false);
+            gridBagConstraint.gridy = 3;
+            importPanel.add(importButton, gridBagConstraint);
+
+            // Row 4: Status
+            JLabel labelStatus = new JLabel(" ");
+            gridBagConstraint.gridy = 4;
+            importPanel.add(labelStatus, gridBagConstraint);
+
+            browseButton.addActionListener(e -> {
+                JFileChooser chooser = new JFileChooser();
+                chooser.setFileFilter(new FileNameExtensionFilter("CSV files", "csv"));
+                if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+                    Path file = chooser.getSelectedFile().toPath();
+                    textFieldFile.setText(file.toString());
+                    checkBoxResume.setSelected(Files.exists(UserImporter.checkpointFileFor(file)));
+                }
+            });
+
+            importButton.addActionListener(e -> {
+                if (textFieldFile.getText().isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Choose a CSV file first.", "Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                Path file = Paths.get(textFieldFile.getText());
+                boolean resume = checkBoxResume.isSelected();
+                importButton.setEnabled(false);
+                browseButton.setEnabled(false);
+                labelStatus.setText("Importing users...");
+                importLoader.load(() -> runImport(file, resume), message -> {
+                    importButton.setEnabled(true);
+                    browseButton.setEnabled(true);
+                    checkBoxResume.setSelected(Files.exists(UserImporter.checkpointFileFor(file)));
+                    labelStatus.setText("Import finished.");
+                    JOptionPane.showMessageDialog(this, message);
+                });
+            });
+
+            contentPanel.removeAll();
+            contentPanel.add(importPanel, BorderLayout.CENTER);
+            contentPanel.revalidate();
+            contentPanel.repaint();
+        }
+
+        /**
+         * Runs an import and describes its outcome for the user. Called off the Event Dispatch Thread.
+         *
+         * @param file   the CSV file to import.
+         * @param resume true to continue after the checkpoint of an earlier run.
+         * @return the message to show.
+         */
+        private String runImport(Path file, boolean resume) {
+            try {
+                ImportSummary summary = new UserImporter().importUsers(file, adminId, resume);
+                String message = summary.getImported() + " users imported, " + summary.getFailed() + " rows failed";
+                if (summary.getSkipped() > 0) {
+                    message += ", " + summary.getSkipped() + " rows skipped from the previous run";
+                }
+                if (summary.getFailed() > 0) {
+                    message += ".\nSee " + summary.getReportFile() + " for the failed rows";
+                }
+                return message + ".";
+            } catch (exception.InvalidInputException ex) {
+                return "The file could not be imported: " + ex.getMessage();
+            } catch (Exception ex) {
+                System.err.println("User import failed: " + ex.getMessage());
+                return "The import stopped before the end of the file. Run it again with 'Resume' selected to continue.";
+            }
+        }
+
         /**
          * Loads the "Update User" form panel.
          *
@@ -997,7 +1223,7 @@ public class AdminFrame extends JFrame {
                     gridBagConstraintsExtra.gridy = 0;
 
                     String usersRole = textFieldRole.getText();
-                    if ("Student".equalsIgnoreCase(usersRole)) {
+                    if (Role.fromName(usersRole) == Role.STUDENT) {
                         // For Student, add Department, Course, and Year.
                         JLabel labelDept = new JLabel("Department:");
                         JComboBox<String> comboBoxDept = new JComboBox<>(departments);
@@ -1040,7 +1266,7 @@ public class AdminFrame extends JFrame {
                         extraPanel.add(labelYear, gridBagConstraintsExtra);
                         gridBagConstraintsExtra.gridx = 1;
                         extraPanel.add(comboBoxYear, gridBagConstraintsExtra);
-                    } else if ("Lecturer".equalsIgnoreCase(usersRole)) {
+                    } else if (Role.fromName(usersRole) == Role.LECTURER) {
                         // For Lecturer, add only Department.
                         JLabel labelDept = new JLabel("Department:");
                         JComboBox<String> comboBoxDept = new JComboBox<>(departments);
@@ -1071,7 +1297,7 @@ public class AdminFrame extends JFrame {
                         selectedUser.setEmail(email);
                         selectedUser.setName(name);
 
-                        if("Student".equalsIgnoreCase(selectedUser.getRole())) {
+                        if(Role.fromName(selectedUser.getRole()) == Role.STUDENT) {
                             Component[] components = extraPanel.getComponents();
                             String department = "";
                             String course = "";
@@ -1099,7 +1325,7 @@ public class AdminFrame extends JFrame {
                                 JOptionPane.showMessageDialog(this, "Invalid year selected", "Error", JOptionPane.ERROR_MESSAGE);
                                 return;
                             }
-                            }else if("Lecturer".equalsIgnoreCase(selectedUser.getRole())){
+                            }else if(Role.fromName(selectedUser.getRole()) == Role.LECTURER){
                                 for(Component component : extraPanel.getComponents()) {
                                     if(component instanceof JComboBox) {
                                         JComboBox<String> comboBox = (JComboBox<String>) component;
@@ -1197,9 +1423,10 @@ public class AdminFrame extends JFrame {
      * EquipmentManagementPanel provides an interface for managing equipment records,
      * including viewing, adding, updating, and deleting equipment.
      */
-    class EquipmentManagementPanel extends JPanel implements Refreshable {
+    class EquipmentManagementPanel extends JPanel implements AsyncRefreshable {
         private final String adminId;
         private final JPanel contentPanel;
+        private EquipmentPageLoader pageLoader;
 
         /**
          * Constructs an EquipmentManagementPanel for the given admin.
@@ -1244,13 +1471,7 @@ public class AdminFrame extends JFrame {
             setLayout(new BorderLayout());
             add(splitPane, BorderLayout.CENTER);
 
-            buttonViewAllEquipment.addActionListener(e -> {
-                try {
-                    loadViewAllEquipment();
-                } catch (DatabaseOperationException ex) {
-                    throw new RuntimeException(ex);
-                }
-            });
+            buttonViewAllEquipment.addActionListener(e -> loadViewAllEquipment());
             buttonViewByType.addActionListener(e -> {
                 try {
                     loadViewEquipmentByType();
@@ -1277,6 +1498,7 @@ public class AdminFrame extends JFrame {
 
         /**
          * Refreshes the equipment management panel by reloading all equipment.
+         * The first page of equipment is fetched in the background.
          *
          * @throws DatabaseOperationException if a database error occurs.
          */
@@ -1285,13 +1507,33 @@ public class AdminFrame extends JFrame {
         }
 
         /**
-         * Loads all equipment records into a table view.
+         * Reloads all equipment in the background.
          *
-         * @throws DatabaseOperationException if a database error occurs.
+         * @return a Future that completes once the first page of equipment has been shown.
          */
-        private void loadViewAllEquipment() throws DatabaseOperationException {
-            EquipmentController equipmentController = new EquipmentController();
-            List<Equipment> equipments = equipmentController.getAllEquipment("Admin");
+        @Override
+        public Future<?> refreshAsync() {
+            return loadViewAllEquipment();
+        }
+
+        /**
+         * Stops loading equipment pages for the table currently shown.
+         */
+        @Override
+        public void cancelRefresh() {
+            if (pageLoader != null) {
+                pageLoader.cancel();
+                pageLoader = null;
+            }
+        }
+
+        /**
+         * Loads all equipment records into a table view, fetching further pages as the user scrolls.
+         *
+         * @return a Future that completes once the first page of equipment has been shown.
+         */
+        private Future<?> loadViewAllEquipment() {
+            cancelRefresh();
             String[] columnNames = {"Equipment ID", "Name", "Type", "Description", "Status", "State"};
             DefaultTableModel model = new DefaultTableModel(columnNames, 0){
                 @Override
@@ -1299,10 +1541,6 @@ public class AdminFrame extends JFrame {
                     return false;
                 }
             };
-            for (Equipment equipment : equipments) {
-                Object[] row = { equipment.getEquipmentId(), equipment.getName(), equipment.getType(), equipment.getDescription(), equipment.getStatus(), equipment.getState() };
-                model.addRow(row);
-            }
             JTable table = new JTable(model);
 
 
@@ -1319,6 +1557,8 @@ public class AdminFrame extends JFrame {
             table.getTableHeader().setFont(boldFont);
 
             JScrollPane scrollPane = new JScrollPane(table);
+            pageLoader = new EquipmentPageLoader(model, null, null, "Admin");
+            Future<?> firstPage = pageLoader.attach(scrollPane);
             
 
             // Center text in some columns
@@ -1333,19 +1573,18 @@ public class AdminFrame extends JFrame {
             contentPanel.add(scrollPane, BorderLayout.CENTER);
             contentPanel.revalidate();
             contentPanel.repaint();
+            return firstPage;
         }
 
         /**
-         * Loads equipment records filtered by type.
+         * Loads equipment records filtered by type, fetching further pages as the user scrolls.
          *
          * @throws DatabaseOperationException if a database error occurs.
          */
         private void loadViewEquipmentByType() throws DatabaseOperationException {
-            String[] types = {"Audio Recorder", "Camera", "Drone", "Laptop", "Lighting", "Projector", "VR Headset", "Other"};
+            String[] types = ReferenceData.getInstance().getEquipmentTypeNames();
             String type = (String) JOptionPane.showInputDialog(this, "Select Equipment Type:", "Equipment Type", JOptionPane.QUESTION_MESSAGE, null, types, types[0]);
             if(type == null) return;
-            EquipmentController equipmentController = new EquipmentController();
-            List<Equipment> equipments = equipmentController.getEquipmentByType(type, loggedInUser.getRole());
             String[] columnNames = {"Equipment ID", "Name", "Type", "Description", "Status", "State"};
             DefaultTableModel model = new DefaultTableModel(columnNames, 0){
                 @Override
@@ -1353,16 +1592,15 @@ public class AdminFrame extends JFrame {
                     return false;
                 }
             };
-            for (Equipment equipment : equipments) {
-                Object[] row = { equipment.getEquipmentId(), equipment.getName(), equipment.getType(), equipment.getDescription(), equipment.getStatus(), equipment.getState() };
-                model.addRow(row);
-            }
             JTable table = new JTable(model);
             table.setFont(bigFont);
             table.setRowHeight(20);
             table.getTableHeader().setFont(boldFont);
 
             JScrollPane scrollPane = new JScrollPane(table);
+            cancelRefresh();
+            pageLoader = new EquipmentPageLoader(model, type, null, loggedInUser.getRole());
+            pageLoader.attach(scrollPane);
             
 
             // Center text in some columns
@@ -1390,12 +1628,12 @@ public class AdminFrame extends JFrame {
             JLabel labelName = new JLabel("Name:");
             JTextField textFieldName = new JTextField(20);
             JLabel labelType = new JLabel("Type:");
-            String[] types = {"Audio Recorder", "Camera", "Drone", "Laptop", "Lighting", "Projector", "VR Headset", "Other"};
+            String[] types = ReferenceData.getInstance().getEquipmentTypeNames();
             JComboBox<String> comboBoxType = new JComboBox<>(types);
             JLabel labelDescription = new JLabel("Description:");
             JTextField textFieldDescription = new JTextField(20);
             JLabel labelState = new JLabel("State:");
-            String[] states = {"New", "Good", "Fair", "Poor"};
+            String[] states = EquipmentState.names();
             JComboBox<String> comboBoxState = new JComboBox<>(states);
 
             JButton addEquipmentButton = new JButton("Add Equipment");
@@ -1441,7 +1679,7 @@ public class AdminFrame extends JFrame {
                     equipment.setType(type);
                     equipment.setDescription(description);
                     equipment.setState(state);
-                    equipment.setStatus("Available");
+                    equipment.setStatus(EquipmentStatus.AVAILABLE.getName());
                     EquipmentController equipmentController = new EquipmentController();
                     boolean success = equipmentController.addEquipment(equipment, adminId);
                     if(success)
@@ -1477,7 +1715,7 @@ public class AdminFrame extends JFrame {
                 }
             };
             for (Equipment equipment : equipments) {
-                if ("Available".equalsIgnoreCase(equipment.getStatus())) {  // Only include available equipment
+                if (EquipmentStatus.fromName(equipment.getStatus()) == EquipmentStatus.AVAILABLE) {  // Only include available equipment
                     Object[] row = { equipment.getEquipmentId(), equipment.getName(), equipment.getType(),
                             equipment.getDescription(), equipment.getStatus(), equipment.getState() };
                     model.addRow(row);
@@ -1521,13 +1759,13 @@ public class AdminFrame extends JFrame {
                 JLabel labelName = new JLabel("Name:");
                 JTextField textFieldName = new JTextField(selectedEquipment.getName(), 20);
                 JLabel labelType = new JLabel("Type:");
-                String[] types = {"Audio Recorder", "Camera", "Drone", "Laptop", "Lighting", "Projector", "VR Headset", "Other"};
+                String[] types = ReferenceData.getInstance().getEquipmentTypeNames();
                 JComboBox<String> comboBoxType = new JComboBox<>(types);
                 comboBoxType.setSelectedItem(selectedEquipment.getType());
                 JLabel labelDescription = new JLabel("Description:");
                 JTextField textFieldDescription = new JTextField(selectedEquipment.getDescription(), 20);
                 JLabel labelState = new JLabel("State:");
-                String[] states = {"New", "Good", "Fair", "Poor"};
+                String[] states = EquipmentState.names();
                 JComboBox<String> comboBoxState = new JComboBox<>(states);
                 comboBoxState.setSelectedItem(selectedEquipment.getState());
 
@@ -1610,7 +1848,7 @@ public class AdminFrame extends JFrame {
                 }
             };
             for (Equipment equipment : equipments) {
-                if("Available".equalsIgnoreCase(equipment.getStatus())){
+                if(EquipmentStatus.fromName(equipment.getStatus()) == EquipmentStatus.AVAILABLE){
                 Object[] row = { equipment.getEquipmentId(), equipment.getName(), equipment.getType(), equipment.getDescription(), equipment.getStatus(), equipment.getState() };
                 model.addRow(row);
                 }
@@ -1662,9 +1900,15 @@ public class AdminFrame extends JFrame {
      * ReservationsManagementPanel provides an interface for managing reservations.
      * It allows the admin to approve or reject reservations as well as process equipment check-out and check-in.
      */
-    class ReservationsManagementPanel extends JPanel implements Refreshable {
+    class ReservationsManagementPanel extends JPanel implements AsyncRefreshable {
         private final String adminId;
         private final JPanel contentPanel;
+        private final BackgroundLoader loader = new BackgroundLoader();
+        // The filters and sort order of the approval tab; the table fetches the matching rows as it is scrolled.
+        private ReservationQuery query = new ReservationQuery();
+        private ReservationTableModel reservationModel;
+        // Kept apart from the table loader so that switching tabs does not cancel an export.
+        private final BackgroundLoader exportLoader = new BackgroundLoader();
 
         /**
          * Constructs a ReservationsManagementPanel for the given admin.
@@ -1681,13 +1925,16 @@ public class AdminFrame extends JFrame {
             JButton buttonApproval = createMenuItem("Approve/Reject Reservations","/view/icons/reservations.png");
             JButton buttonCheckOut = createMenuItem("Check-Out Equipment","/view/icons/check-out.png");
             JButton buttonCheckIn = createMenuItem("Check-In Equipment","/view/icons/check-in.png");
+            JButton buttonExport = createMenuItem("Export History","/view/icons/reservation.png");
 
-            sidebar.add(Box.createRigidArea(new Dimension(0,150)));
-            sidebar.add(buttonApproval);
             sidebar.add(Box.createRigidArea(new Dimension(0,100)));
+            sidebar.add(buttonApproval);
+            sidebar.add(Box.createRigidArea(new Dimension(0,60)));
             sidebar.add(buttonCheckOut);
-            sidebar.add(Box.createRigidArea(new Dimension(0,100)));
+            sidebar.add(Box.createRigidArea(new Dimension(0,60)));
             sidebar.add(buttonCheckIn);
+            sidebar.add(Box.createRigidArea(new Dimension(0,60)));
+            sidebar.add(buttonExport);
 
             contentPanel = new JPanel(new BorderLayout());
             JLabel placeholderLabel = new JLabel("Select an option from the sidebar.");
@@ -1706,15 +1953,10 @@ public class AdminFrame extends JFrame {
             setLayout(new BorderLayout());
             add(splitPane, BorderLayout.CENTER);
 
-            buttonApproval.addActionListener(e -> {
-                try {
-                    loadApproval();
-                } catch (DatabaseOperationException ex) {
-                    throw new RuntimeException(ex);
-                }
-            });
+            buttonApproval.addActionListener(e -> loadApproval());
             buttonCheckOut.addActionListener(e -> loadCheckOut());
             buttonCheckIn.addActionListener(e -> loadCheckIn());
+            buttonExport.addActionListener(e -> loadExport());
         }
 
         /**
@@ -1723,30 +1965,71 @@ public class AdminFrame extends JFrame {
          * @throws DatabaseOperationException if a database error occurs.
          */
         public void refresh() throws DatabaseOperationException {
-            loadApproval();
+            showApproval(query, new ReservationController().countReservations(query, adminId));
+        }
+
+        /**
+         * Reloads the approval tab in the background.
+         *
+         * @return a Future that completes once the approval tab has been shown.
+         */
+        @Override
+        public Future<?> refreshAsync() {
+            ReservationQuery shown = new ReservationQuery(query);
+            return loader.load(() -> new ReservationController().countReservations(shown, adminId), count -> showApproval(shown, count));
+        }
+
+        /**
+         * Cancels a background refresh that is still in flight.
+         */
+        @Override
+        public void cancelRefresh() {
+            loader.cancel();
+            if (reservationModel != null) {
+                reservationModel.cancel();
+            }
+        }
+
+        /**
+         * Shows the reservations matching new filters or a new sort order.
+         *
+         * @param newQuery the query to run.
+         */
+        private void runQuery(ReservationQuery newQuery) {
+            query = newQuery;
+            refreshAsync();
         }
 
         /**
          * Loads the reservation approval panel where the admin can update reservation statuses.
+         * The data is fetched in the background.
+         */
+        private void loadApproval() {
+            refreshAsync();
+        }
+
+        /**
+         * Displays the reservations matching a query in the approval panel. Only the visible rows are
+         * fetched, a window at a time, as the table is scrolled.
          *
-         * @throws DatabaseOperationException if a database error occurs.
+         * @param shown      the query to display.
+         * @param matchCount the number of reservations matching the query, or -1 if they could not be counted.
          */
-        private void loadApproval() throws DatabaseOperationException {
+        private void showApproval(ReservationQuery shown, int matchCount) {
             ReservationController reservationController = new ReservationController();
-            List<Reservation> reservations = reservationController.getAllReservations(adminId);
-            JPanel updatePanel = new JPanel(new BorderLayout());
-            String[] columnNames = {"Reservation ID", "User", "Equipment", "Reservation Date", "Return Date", "Status"};
-            DefaultTableModel model = new DefaultTableModel(columnNames, 0){
-                @Override
-                public boolean isCellEditable(int row, int column){
-                    return false;
-                }
-            };
-            for (Reservation reservation : reservations) {
-                Object[] row = { reservation.getReservationId(), reservation.getUserId(), reservation.getEquipmentId(), reservation.getReservationDate(), reservation.getReturnDate(), reservation.getStatus() };
-                model.addRow(row);
+            query = shown;
+            if (reservationModel != null) {
+                reservationModel.cancel();
             }
-            final JTable table = new JTable(model);
+            ReservationTableModel model = new ReservationTableModel(shown, Math.max(0, matchCount),
+                    (windowQuery, offset, limit) -> reservationController.findReservations(windowQuery, offset, limit, adminId));
+            reservationModel = model;
+            JPanel updatePanel = new JPanel(new BorderLayout());
+            ReservationFilterBar filterBar = new ReservationFilterBar(shown, matchCount, this::runQuery);
+            model.setFailureListener(() -> filterBar.showError("Some reservations could not be loaded. Scroll to try again."));
+            updatePanel.add(filterBar, BorderLayout.NORTH);
+            final JTable table = new JTable();
+            model.install(table, this::runQuery);
             table.setFont(bigFont);
             table.setRowHeight(20);
             table.getTableHeader().setFont(boldFont);
@@ -1771,8 +2054,7 @@ public class AdminFrame extends JFrame {
                     JOptionPane.showMessageDialog(this, "Please select request to update.");
                     return;
                 }
-                int reservationId = (int) model.getValueAt(selectedRow, 0);
-                Reservation selectedReservation = reservations.stream().filter(reservation -> reservation.getReservationId() == reservationId).findFirst().orElse(null);
+                Reservation selectedReservation = model.getReservation(selectedRow);
                 if(selectedReservation == null){
                     JOptionPane.showMessageDialog(this, "Reservation not found.");
                     return;
@@ -1809,7 +2091,7 @@ public class AdminFrame extends JFrame {
                 JTextField textFieldReturnDate = new JTextField(reservationReturnDateString);
                 textFieldReturnDate.setEditable(false);
                 JLabel labelStatus = new JLabel("Status:");
-                String[] status = {"Approved", "Rejected"};
+                String[] status = {ReservationStatus.APPROVED.getName(), ReservationStatus.REJECTED.getName()};
                 JComboBox<String> comboBoxStatus = new JComboBox(status);
                 comboBoxStatus.setSelectedItem(selectedReservation.getStatus());
 
@@ -1881,7 +2163,7 @@ public class AdminFrame extends JFrame {
         private void loadCheckOut() {
             // Retrieve pending checkouts from the back end.
             CheckoutController checkoutController = new CheckoutController();
-            List<String> pendingCheckouts = checkoutController.getPendingCheckouts();
+            List<Checkout> pendingCheckouts = checkoutController.listPendingCheckouts();
             if (pendingCheckouts.isEmpty()) {
                 JOptionPane.showMessageDialog(this, "No equipment is pending check-out.");
                 return;
@@ -1889,7 +2171,6 @@ public class AdminFrame extends JFrame {
 
             // Create a panel with a table to display pending checkouts.
             JPanel panel = new JPanel(new BorderLayout());
-            // Define columns corresponding to the expected string format.
             String[] columnNames = {"Reservation ID", "Requester's Name", "Requested Equipment", "Reservation Date"};
             DefaultTableModel model = new DefaultTableModel(columnNames, 0){
                 @Override
@@ -1898,15 +2179,8 @@ public class AdminFrame extends JFrame {
                 }
             };
 
-            // Split each string by " | " and add as a row.
-            for (String detail : pendingCheckouts) {
-                String[] parts = detail.split(" \\| ");
-                if (parts.length == 4) {
-                    model.addRow(parts);
-                } else {
-                    // Fallback if the format is unexpected.
-                    model.addRow(new Object[]{detail, "", "", ""});
-                }
+            for (Checkout checkout : pendingCheckouts) {
+                model.addRow(new Object[]{checkout.getReservationId(), checkout.getUserName(), checkout.getEquipmentName(), checkout.getDate()});
             }
 
             JTable table = new JTable(model);
@@ -1929,23 +2203,17 @@ public class AdminFrame extends JFrame {
                     JOptionPane.showMessageDialog(this, "Please select a pending checkout.");
                     return;
                 }
-                try {
-                    // Extract reservation ID from the first column.
-                    String resIdStr = (String) model.getValueAt(selectedRow, 0);
-                    int resId = Integer.parseInt(resIdStr.trim());
-                    String staffId = loggedInUser.getUserId();
-                    if (staffId == null || staffId.trim().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Error: Invalid staff ID.");
-                        return;
-                    }
-                    boolean success = checkoutController.checkOutEquipment(resId, staffId);
-                    if (success)
-                        JOptionPane.showMessageDialog(this, "Equipment checked out successfully.");
-                    else
-                        JOptionPane.showMessageDialog(this, "Failed to check out equipment.");
-                } catch (NumberFormatException ex) {
-                    JOptionPane.showMessageDialog(this, "Error parsing reservation ID: " + ex.getMessage());
+                int resId = pendingCheckouts.get(selectedRow).getReservationId();
+                String staffId = loggedInUser.getUserId();
+                if (staffId == null || staffId.trim().isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Error: Invalid staff ID.");
+                    return;
                 }
+                boolean success = checkoutController.checkOutEquipment(resId, staffId);
+                if (success)
+                    JOptionPane.showMessageDialog(this, "Equipment checked out successfully.");
+                else
+                    JOptionPane.showMessageDialog(this, "Failed to check out equipment.");
             });
 
             contentPanel.removeAll();
@@ -1960,7 +2228,7 @@ public class AdminFrame extends JFrame {
         private void loadCheckIn() {
             // Retrieve checked-out equipment from the back end.
             CheckoutController checkoutController = new CheckoutController();
-            List<String> checkedOutList = checkoutController.getCheckedOutEquipment();
+            List<Checkout> checkedOutList = checkoutController.listCheckedOutEquipment();
             if (checkedOutList.isEmpty()) {
                 JOptionPane.showMessageDialog(this, "No equipment is currently checked out.");
                 return;
@@ -1976,13 +2244,8 @@ public class AdminFrame extends JFrame {
                 }
             };
 
-            for (String detail : checkedOutList) {
-                String[] parts = detail.split(" \\| ");
-                if (parts.length == 4) {
-                    model.addRow(parts);
-                } else {
-                    model.addRow(new Object[]{detail, "", "", ""});
-                }
+            for (Checkout checkout : checkedOutList) {
+                model.addRow(new Object[]{checkout.getReservationId(), checkout.getUserName(), checkout.getEquipmentName(), checkout.getDate()});
             }
 
             JTable table = new JTable(model);
@@ -2005,44 +2268,142 @@ public class AdminFrame extends JFrame {
                     JOptionPane.showMessageDialog(this, "Please select equipment to check in.");
                     return;
                 }
+                int resId = checkedOutList.get(selectedRow).getReservationId();
+                String staffId = loggedInUser.getUserId();
+                if (staffId == null || staffId.trim().isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Error: Invalid staff ID.");
+                    return;
+                }
+                String[] states = ReferenceData.getInstance().getReturnStateNames();
+                String equipmentState = (String) JOptionPane.showInputDialog(
+                        this,
+                        "Select Equipment State:",
+                        "Equipment State",
+                        JOptionPane.QUESTION_MESSAGE,
+                        null,
+                        states,
+                        states[0]
+                );
+                if (equipmentState == null || equipmentState.trim().isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Equipment state is required.");
+                    return;
+                }
+
+                boolean success = checkoutController.checkInEquipment(resId, staffId, equipmentState);
+                if (success)
+                    JOptionPane.showMessageDialog(this, "Equipment checked in successfully.");
+                else
+                    JOptionPane.showMessageDialog(this, "Failed to check in equipment.");
+            });
+
+            contentPanel.removeAll();
+            contentPanel.add(panel, BorderLayout.CENTER);
+            contentPanel.revalidate();
+            contentPanel.repaint();
+        }
+
+        /**
+         * Loads the form for exporting the reservation and check-out history to a file.
+         */
+        private void loadExport() {
+            JPanel exportPanel = new JPanel(new GridBagLayout());
+            GridBagConstraints gridBagConstraint = new GridBagConstraints();
+            gridBagConstraint.insets = new Insets(10, 10, 10, 10);
+            gridBagConstraint.fill = GridBagConstraints.HORIZONTAL;
+
+            JTextField textFieldFrom = new JTextField(12);
+            JTextField textFieldTo = new JTextField(12);
+            String[] statuses = new String[ReservationStatus.values().length + 1];
+            statuses[0] = "All";
+            System.arraycopy(ReservationStatus.names(), 0, statuses, 1, statuses.length - 1);
+            JComboBox<String> comboBoxStatus = new JComboBox<>(statuses);
+            JComboBox<ReservationExporter.Format> comboBoxFormat = new JComboBox<>(ReservationExporter.Format.values());
+            JCheckBox checkBoxGzip = new JCheckBox("Compress with gzip");
+            JButton exportButton = new JButton("Export...");
+            exportButton.setFocusPainted(false);
+            JLabel labelStatus = new JLabel(" ");
+
+            Object[][] rows = {
+                    {"From (yyyy-mm-dd, optional):", textFieldFrom},
+                    {"To (yyyy-mm-dd, optional):", textFieldTo},
+                    {"Status:", comboBoxStatus},
+                    {"Format:", comboBoxFormat}
+            };
+            for (int i = 0; i < rows.length; i++) {
+                gridBagConstraint.gridx = 0;
+                gridBagConstraint.gridy = i;
+                exportPanel.add(new JLabel((String) rows[i][0]), gridBagConstraint);
+                gridBagConstraint.gridx = 1;
+                exportPanel.add((Component) rows[i][1], gridBagConstraint);
+            }
+            gridBagConstraint.gridx = 0;
+            gridBagConstraint.gridwidth = 2;
+            gridBagConstraint.gridy = rows.length;
+            exportPanel.add(checkBoxGzip, gridBagConstraint);
+            gridBagConstraint.gridy = rows.length + 1;
+            exportPanel.add(exportButton, gridBagConstraint);
+            gridBagConstraint.gridy = rows.length + 2;
+            exportPanel.add(labelStatus, gridBagConstraint);
+
+            exportButton.addActionListener(e -> {
+                LocalDate from;
+                LocalDate to;
                 try {
-                    // Extract reservation ID from the first column.
-                    String resIdStr = (String) model.getValueAt(selectedRow, 0);
-                    int resId = Integer.parseInt(resIdStr.trim());
-                    String staffId = loggedInUser.getUserId();
-                    if (staffId == null || staffId.trim().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Error: Invalid staff ID.");
-                        return;
-                    }
-                    String[] states = {"Good", "Fair", "Poor"};
-                    String equipmentState = (String) JOptionPane.showInputDialog(
-                            this,
-                            "Select Equipment State:",
-                            "Equipment State",
-                            JOptionPane.QUESTION_MESSAGE,
-                            null,
-                            states,
-                            states[0]
-                    );
-                    if (equipmentState == null || equipmentState.trim().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Equipment state is required.");
-                        return;
-                    }
+                    from = textFieldFrom.getText().trim().isEmpty() ? null : LocalDate.parse(textFieldFrom.getText().trim());
+                    to = textFieldTo.getText().trim().isEmpty() ? null : LocalDate.parse(textFieldTo.getText().trim());
+                } catch (DateTimeParseException ex) {
+                    JOptionPane.showMessageDialog(this, "Enter dates as yyyy-mm-dd, e.g. 2025-02-26.", "Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                ReservationStatus status = ReservationStatus.fromName((String) comboBoxStatus.getSelectedItem());
+                ReservationExporter.Format format = (ReservationExporter.Format) comboBoxFormat.getSelectedItem();
+                boolean gzip = checkBoxGzip.isSelected();
 
-                    boolean success = checkoutController.checkInEquipment(resId, staffId, equipmentState);
-                    if (success)
-                        JOptionPane.showMessageDialog(this, "Equipment checked in successfully.");
-                    else
-                        JOptionPane.showMessageDialog(this, "Failed to check in equipment.");
-                } catch (NumberFormatException ex) {
-                    JOptionPane.showMessageDialog(this, "Error parsing reservation ID: " + ex.getMessage());
+                JFileChooser chooser = new JFileChooser();
+                chooser.setSelectedFile(new java.io.File("reservation-history." + format.getExtension() + (gzip ? ".gz" : "")));
+                if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+                    return;
                 }
+                Path file = chooser.getSelectedFile().toPath();
+                exportButton.setEnabled(false);
+                labelStatus.setText("Exporting reservations...");
+                exportLoader.load(() -> runExport(file, format, gzip, from, to, status), message -> {
+                    exportButton.setEnabled(true);
+                    labelStatus.setText("Export finished.");
+                    JOptionPane.showMessageDialog(this, message);
+                });
             });
 
             contentPanel.removeAll();
-            contentPanel.add(panel, BorderLayout.CENTER);
+            contentPanel.add(exportPanel, BorderLayout.CENTER);
             contentPanel.revalidate();
             contentPanel.repaint();
         }
+
+        /**
+         * Runs an export and describes its outcome for the user. Called off the Event Dispatch Thread.
+         *
+         * @param file   the file to write.
+         * @param format the file format.
+         * @param gzip   true to compress the file.
+         * @param from   the earliest reservation date, or null.
+         * @param to     the latest reservation date, or null.
+         * @param status the only status to export, or null for all.
+         * @return the message to show.
+         */
+        private String runExport(Path file, ReservationExporter.Format format, boolean gzip,
+                                 LocalDate from, LocalDate to, ReservationStatus status) {
+            try {
+                long rows = new ReservationExporter().export(file, format, gzip, from, to, status, adminId);
+                return rows + " rows exported to " + file + ".";
+            } catch (exception.InvalidInputException ex) {
+                return ex.getMessage();
+            } catch (exception.RoleAccessException ex) {
+                return "Only Admins can export the reservation history.";
+            } catch (Exception ex) {
+                System.err.println("Reservation export failed: " + ex.getMessage());
+                return "The export failed: " + ex.getMessage();
+            }
+        }
     }
 }
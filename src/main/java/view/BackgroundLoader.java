@@ -0,0 +1,82 @@
+package view;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Runs data loads for a panel on a shared background executor and applies the results on the
+ * Event Dispatch Thread.
+ * <p>
+ * Each loader tracks a single load at a time: starting a new load or calling {@link #cancel()}
+ * cancels the previous one, and the results of a cancelled load are discarded instead of being
+ * applied to the panel. A fetch that is already running is left to finish rather than interrupted:
+ * interrupting a thread blocked on a JDBC socket read closes the connection underneath it.
+ * Instances are meant to be used from the Event Dispatch Thread.
+ * </p>
+ */
+class BackgroundLoader {
+    // Loads spend nearly all their time blocked on JDBC, so one virtual thread per load is cheap.
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private CompletableFuture<Void> current;
+
+    /**
+     * Fetches data in the background and then applies it on the Event Dispatch Thread,
+     * cancelling any load previously started by this loader.
+     *
+     * @param fetch the task that loads the data; it must not touch Swing components.
+     * @param apply the callback that updates the panel with the loaded data.
+     * @param <T>   the type of the loaded data.
+     * @return a {@link Future} that completes once the data has been applied.
+     */
+    <T> Future<?> load(Callable<T> fetch, Consumer<? super T> apply) {
+        cancel();
+        CompletableFuture<Void> applied = new CompletableFuture<>();
+        Future<?> task = EXECUTOR.submit(() -> {
+            try {
+                T result = fetch.call();
+                SwingUtilities.invokeLater(() -> {
+                    // Cancellation also happens on the EDT, so this check cannot race with cancel().
+                    if (applied.isDone()) {
+                        return;
+                    }
+                    try {
+                        apply.accept(result);
+                        applied.complete(null);
+                    } catch (RuntimeException e) {
+                        applied.completeExceptionally(e);
+                        throw e;
+                    }
+                });
+            } catch (Exception e) {
+                if (!applied.isCancelled()) {
+                    System.err.println("Background load failed: " + e.getMessage());
+                    applied.completeExceptionally(e);
+                }
+            }
+        });
+        applied.whenComplete((ignored, error) -> {
+            if (applied.isCancelled()) {
+                // Only stops a fetch that has not started yet.
+                task.cancel(false);
+            }
+        });
+        current = applied;
+        return applied;
+    }
+
+    /**
+     * Cancels the load currently in flight, if any.
+     */
+    void cancel() {
+        if (current != null) {
+            current.cancel(false);
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package view;
+
+import controller.EquipmentController;
+import model.Equipment;
+
+import javax.swing.JOptionPane;
+import javax.swing.JScrollBar;
+import javax.swing.JScrollPane;
+import javax.swing.table.DefaultTableModel;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * Fills an equipment table one page at a time.
+ * <p>
+ * The first page is loaded when the loader is attached to a scroll pane; further pages are fetched
+ * through {@link EquipmentController#getEquipmentPage} as the user scrolls close to the bottom of the table,
+ * so large inventories never have to be loaded into memory at once. Pages are fetched on a
+ * {@link BackgroundLoader} and appended on the Event Dispatch Thread.
+ * </p>
+ * <p>
+ * A page that fails to load is not mistaken for the end of the list: the user is told, and the same page
+ * is fetched again the next time the table is scrolled near its end.
+ * </p>
+ */
+class EquipmentPageLoader {
+    static final int PAGE_SIZE = 100;
+    // Start loading the next page when fewer than this many pixels remain below the viewport.
+    private static final int SCROLL_THRESHOLD = 200;
+
+    private final EquipmentController equipmentController = new EquipmentController();
+    private final BackgroundLoader pages = new BackgroundLoader();
+    private final DefaultTableModel model;
+    private final String type;
+    private final String status;
+    private final String userRole;
+    private String lastEquipmentId;
+    private boolean exhausted;
+    private boolean loading;
+    private JScrollPane scrollPane;
+
+    /**
+     * Constructs a loader that appends rows to the given table model.
+     *
+     * @param model    the table model with the columns ID, Name, Type, Description, Status and State.
+     * @param type     the equipment type to filter by, or null for all types.
+     * @param status   the equipment status to filter by, or null for all statuses.
+     * @param userRole the role of the logged-in user.
+     */
+    EquipmentPageLoader(DefaultTableModel model, String type, String status, String userRole) {
+        this.model = model;
+        this.type = type;
+        this.status = status;
+        this.userRole = userRole;
+    }
+
+    /**
+     * Starts loading the first page and fetches further pages as the scroll pane nears the end.
+     *
+     * @param scrollPane the scroll pane that displays the table.
+     * @return a {@link Future} that completes once the first page has been added to the table.
+     */
+    Future<?> attach(JScrollPane scrollPane) {
+        this.scrollPane = scrollPane;
+        Future<?> firstPage = loadNextPage();
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            JScrollBar bar = (JScrollBar) e.getAdjustable();
+            if (bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - SCROLL_THRESHOLD) {
+                loadNextPage();
+            }
+        });
+        return firstPage;
+    }
+
+    /**
+     * Starts fetching the next page of equipment, unless the last page has already been loaded
+     * or a page is already being fetched.
+     *
+     * @return a {@link Future} that completes once the page has been added, or null if nothing was started.
+     */
+    Future<?> loadNextPage() {
+        if (exhausted || loading) {
+            return null;
+        }
+        loading = true;
+        String cursor = lastEquipmentId;
+        return pages.load(() -> equipmentController.getEquipmentPage(type, status, cursor, PAGE_SIZE, userRole), this::appendPage);
+    }
+
+    /**
+     * Stops fetching pages; a page still in flight is discarded.
+     */
+    void cancel() {
+        pages.cancel();
+        exhausted = true;
+    }
+
+    /**
+     * Adds a fetched page to the table model and moves the cursor past it. A null page means the fetch
+     * failed; the cursor stays put so that the page is fetched again.
+     */
+    private void appendPage(List<Equipment> page) {
+        loading = false;
+        if (page == null) {
+            // With no rows yet there is nothing to scroll, so the first page is retried by reopening the tab.
+            String message = model.getRowCount() == 0
+                    ? "Could not load equipment. Please reopen the tab to try again."
+                    : "Could not load more equipment. Scroll down to try again.";
+            JOptionPane.showMessageDialog(scrollPane, message, "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        for (Equipment equipment : page) {
+            Object[] row = { equipment.getEquipmentId(), equipment.getName(), equipment.getType(), equipment.getDescription(), equipment.getStatus(), equipment.getState() };
+            model.addRow(row);
+        }
+        if (page.size() < PAGE_SIZE) {
+            exhausted = true;
+        } else {
+            lastEquipmentId = page.get(page.size() - 1).getEquipmentId();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package view;
+
+import controller.ErrorLogger;
+import controller.ReservationExporter;
+import controller.UserController;
+import exception.AuthenticationException;
+import exception.DatabaseOperationException;
+import exception.InvalidInputException;
+import exception.RoleAccessException;
+import model.DatabaseConnection;
+import model.ReservationStatus;
+import model.SchemaMigrator;
+import model.User;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Command line entry point for exporting the reservation and check-out history, for audits and scheduled jobs.
+ * <p>
+ * Usage: {@code ExportReservations <admin-email> <output-file> [--json] [--gzip] [--from yyyy-mm-dd]
+ * [--to yyyy-mm-dd] [--status Pending|Approved|Rejected]}. The file is CSV unless {@code --json} is given.
+ * The admin's password is read as for {@link ImportUsersFromCsv}. The exit status is 0 when the export
+ * was written and 1 when it was not.
+ * </p>
+ */
+public class ExportReservations {
+    private static final String USAGE = "Usage: ExportReservations <admin-email> <output-file> [--json] [--gzip] "
+            + "[--from yyyy-mm-dd] [--to yyyy-mm-dd] [--status Pending|Approved|Rejected]";
+
+    /**
+     * Runs the export described by the command line arguments.
+     *
+     * @param args the admin's email, the output file and the options.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        ReservationExporter.Format format = ReservationExporter.Format.CSV;
+        boolean gzip = false;
+        LocalDate from = null;
+        LocalDate to = null;
+        ReservationStatus status = null;
+        try {
+            for (int i = 2; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--json":
+                        format = ReservationExporter.Format.JSON;
+                        break;
+                    case "--gzip":
+                        gzip = true;
+                        break;
+                    case "--from":
+                        from = LocalDate.parse(value(args, ++i));
+                        break;
+                    case "--to":
+                        to = LocalDate.parse(value(args, ++i));
+                        break;
+                    case "--status":
+                        status = ReservationStatus.fromName(value(args, ++i));
+                        if (status == null) {
+                            throw new IllegalArgumentException("Unknown status: " + args[i]);
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        int exitStatus;
+        try {
+            exitStatus = run(args[0], Paths.get(args[1]), format, gzip, from, to, status);
+        } finally {
+            ErrorLogger.getInstance().flush(2000);
+            DatabaseConnection.shutdownPool();
+        }
+        System.exit(exitStatus);
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(args[index - 1] + " needs a value.");
+        }
+        return args[index];
+    }
+
+    private static int run(String adminEmail, Path file, ReservationExporter.Format format, boolean gzip,
+                           LocalDate from, LocalDate to, ReservationStatus status) {
+        try {
+            new SchemaMigrator().migrate();
+
+            User admin = new UserController().login(adminEmail, ImportUsersFromCsv.readPassword());
+            if (admin == null) {
+                System.err.println("Could not connect to the database.");
+                return 1;
+            }
+
+            long rows = new ReservationExporter().export(file, format, gzip, from, to, status, admin.getUserId());
+            System.out.println("Exported " + rows + " rows to " + file);
+            return 0;
+        } catch (RoleAccessException e) {
+            System.err.println("Only Admins can export the reservation history.");
+        } catch (InvalidInputException e) {
+            System.err.println(e.getMessage());
+        } catch (IOException | DatabaseOperationException e) {
+            System.err.println("The export failed: " + e.getMessage());
+        } catch (AuthenticationException e) {
+            System.err.println(e.getMessage());
+        }
+        return 1;
+    }
+}
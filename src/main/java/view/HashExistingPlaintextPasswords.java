@@ -1,11 +1,17 @@
 package view;
 
+import controller.PasswordUtils;
 import model.DatabaseConnection;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import org.mindrot.jbcrypt.BCrypt;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * The Update class provides a utility method to convert all user passwords in the database
@@ -14,8 +20,17 @@ import org.mindrot.jbcrypt.BCrypt;
  * This class was created to hash all the passwords stored as plaintext in the users table.
  * After hashing, users can log in securely using the BCrypt check in the authentication logic.
  * </p>
+ * <p>
+ * The plaintext rows are read in pages ordered by user ID, so no result set stays open while passwords
+ * are hashed. Hashing runs on a pool of worker threads, one per core by default, and each page is written
+ * back with a batched {@code UPDATE} and committed before the next one. The next page is read and its
+ * hashing started before the current page is written, so the workers are kept busy.
+ * </p>
  */
 public class HashExistingPlaintextPasswords {
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    // Rows whose password does not start with one of the common BCrypt prefixes.
+    private static final String PLAINTEXT = "password NOT LIKE '$2a$%' AND password NOT LIKE '$2b$%' AND password NOT LIKE '$2y$%'";
 
     /**
      * Hashes all plaintext passwords in the users database table.
@@ -30,57 +45,146 @@ public class HashExistingPlaintextPasswords {
      * </p>
      */
     public static void hashAllPasswords() {
-        Connection conn = null;
-        PreparedStatement selectStmt = null;
-        PreparedStatement updateStmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DatabaseConnection.getConnection();
-            // Retrieve all user records with their current passwords
-            String selectSQL = "SELECT user_id, password FROM users";
-            selectStmt = conn.prepareStatement(selectSQL);
-            rs = selectStmt.executeQuery();
+        hashAllPasswords(DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
 
-            // Prepare update statement
-            String updateSQL = "UPDATE users SET password = ? WHERE user_id = ?";
-            updateStmt = conn.prepareStatement(updateSQL);
+    /**
+     * Hashes all plaintext passwords in the users table, printing progress after every committed page.
+     * A password changed by someone else while its hash is being computed is left for the next run.
+     *
+     * @param batchSize the number of rows read, updated and committed together.
+     * @param threads   the number of threads hashing passwords.
+     * @return the number of passwords hashed.
+     */
+    public static int hashAllPasswords(int batchSize, int threads) {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "password-hash");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int hashed = 0;
 
-            while (rs.next()) {
-                String userId = rs.getString("user_id");
-                String currentPassword = rs.getString("password");
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                int total = countPlaintext(conn);
+                System.out.println("Hashing " + total + " plain-text passwords on " + threads + " threads.");
+                long start = System.nanoTime();
 
-                // Skip if the password is already hashed (common BCrypt prefixes)
-                if (currentPassword.startsWith("$2a$") || currentPassword.startsWith("$2b$") || currentPassword.startsWith("$2y$")) {
-                    continue;
+                List<PendingHash> page = readPage(conn, "", batchSize, workers);
+                while (!page.isEmpty()) {
+                    List<PendingHash> next = page.size() < batchSize
+                            ? new ArrayList<>()
+                            : readPage(conn, page.get(page.size() - 1).userId, batchSize, workers);
+                    hashed += updatePage(conn, page);
+                    conn.commit();
+                    printProgress(hashed, total, start);
+                    page = next;
                 }
-
-                // Hash the plain-text password
-                String hashedPassword = BCrypt.hashpw(currentPassword, BCrypt.gensalt());
-
-                // Update the database record with the hashed password
-                updateStmt.setString(1, hashedPassword);
-                updateStmt.setString(2, userId);
-                updateStmt.executeUpdate();
+            } catch (SQLException | InterruptedException | ExecutionException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
             }
 
             System.out.println("All plain-text passwords have been successfully hashed.");
-
-        } catch (SQLException e) {
+        } catch (SQLException | ExecutionException e) {
+            System.err.println("Stopped after hashing " + hashed + " passwords; run again to continue.");
             e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Interrupted after hashing " + hashed + " passwords; run again to continue.");
         } finally {
-            // Ensure all resources are closed properly
-            DatabaseConnection.closeResources(conn, selectStmt, rs);
-            DatabaseConnection.closeResources(conn, updateStmt);
+            workers.shutdownNow();
+        }
+        return hashed;
+    }
+
+    private static int countPlaintext(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM users WHERE " + PLAINTEXT);
+             ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * Reads the next page of plaintext rows after the given user ID and starts hashing them.
+     */
+    private static List<PendingHash> readPage(Connection conn, String afterUserId, int batchSize,
+                                              ExecutorService workers) throws SQLException {
+        List<PendingHash> page = new ArrayList<>();
+        String selectSQL = "SELECT user_id, password FROM users WHERE user_id > ? AND " + PLAINTEXT
+                + " ORDER BY user_id LIMIT ?";
+        try (PreparedStatement stmt = conn.prepareStatement(selectSQL)) {
+            stmt.setFetchSize(batchSize);
+            stmt.setString(1, afterUserId);
+            stmt.setInt(2, batchSize);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String plainPassword = rs.getString("password");
+                    page.add(new PendingHash(rs.getString("user_id"), plainPassword,
+                            workers.submit(() -> PasswordUtils.hashPassword(plainPassword))));
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Writes the hashes of a page with one batch, skipping rows whose password has changed since it was read.
+     */
+    private static int updatePage(Connection conn, List<PendingHash> page)
+            throws SQLException, InterruptedException, ExecutionException {
+        String updateSQL = "UPDATE users SET password = ? WHERE user_id = ? AND password = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(updateSQL)) {
+            for (PendingHash pending : page) {
+                stmt.setString(1, pending.hash.get());
+                stmt.setString(2, pending.userId);
+                stmt.setString(3, pending.plainPassword);
+                stmt.addBatch();
+            }
+            int updated = 0;
+            for (int count : stmt.executeBatch()) {
+                // Rewritten batches report SUCCESS_NO_INFO (-2) rather than a row count.
+                updated += count == PreparedStatement.SUCCESS_NO_INFO ? 1 : count;
+            }
+            return updated;
+        }
+    }
+
+    private static void printProgress(int hashed, int total, long startNanos) {
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        System.out.printf("Hashed %d/%d passwords (%.0f%%), %.1f per second.%n",
+                hashed, total, total == 0 ? 100.0 : 100.0 * hashed / total, hashed / seconds);
+    }
+
+    /**
+     * A row read from the users table whose hash is being computed.
+     */
+    private static final class PendingHash {
+        private final String userId;
+        private final String plainPassword;
+        private final Future<String> hash;
+
+        private PendingHash(String userId, String plainPassword, Future<String> hash) {
+            this.userId = userId;
+            this.plainPassword = plainPassword;
+            this.hash = hash;
         }
     }
 
     /**
      * The main method to run the password hashing utility.
      *
-     * @param args Command line arguments (not used).
+     * @param args optionally the batch size and the number of hashing threads.
      */
     public static void main(String[] args) {
-        hashAllPasswords();
+        int batchSize = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATCH_SIZE;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        hashAllPasswords(batchSize, threads);
+        DatabaseConnection.shutdownPool();
     }
 }
@@ -0,0 +1,124 @@
+package view;
+
+import controller.ErrorLogger;
+import controller.ImportSummary;
+import controller.UserController;
+import controller.UserCsvValidator;
+import controller.UserImporter;
+import controller.ValidationError;
+import exception.AuthenticationException;
+import exception.DatabaseOperationException;
+import exception.InvalidInputException;
+import exception.RoleAccessException;
+import model.DatabaseConnection;
+import model.SchemaMigrator;
+import model.User;
+import java.io.BufferedReader;
+import java.io.Console;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Command line entry point for the bulk user import, for running it without the GUI.
+ * <p>
+ * Usage: {@code ImportUsersFromCsv <admin-email> <users.csv> [--resume]}. The admin's password is read
+ * from the console, or from the first line of standard input when there is no console. The exit status
+ * is 0 when every row was imported, 2 when some rows failed (see the error report), and 1 when the
+ * import could not run or stopped early; use {@code --resume} to continue a stopped import.
+ * </p>
+ * <p>
+ * {@code ImportUsersFromCsv --check <users.csv>} only validates the file, listing every invalid field
+ * without logging in or touching the database. It exits with 0 if the file is valid and 2 if it is not.
+ * </p>
+ */
+public class ImportUsersFromCsv {
+
+    /**
+     * Runs the import described by the command line arguments.
+     *
+     * @param args the admin's email, the CSV file and optionally {@code --resume}; or {@code --check} and the CSV file.
+     */
+    public static void main(String[] args) {
+        if (args.length == 2 && "--check".equals(args[0])) {
+            System.exit(check(Paths.get(args[1])));
+        }
+        if (args.length < 2 || args.length > 3 || (args.length == 3 && !"--resume".equals(args[2]))) {
+            System.err.println("Usage: ImportUsersFromCsv <admin-email> <users.csv> [--resume]");
+            System.err.println("       ImportUsersFromCsv --check <users.csv>");
+            System.exit(1);
+        }
+        int status;
+        try {
+            status = run(args[0], Paths.get(args[1]), args.length == 3);
+        } finally {
+            ErrorLogger.getInstance().flush(2000);
+            DatabaseConnection.shutdownPool();
+        }
+        System.exit(status);
+    }
+
+    private static int check(Path csvFile) {
+        try {
+            List<ValidationError> errors = UserCsvValidator.validateFile(csvFile);
+            for (ValidationError error : errors) {
+                System.out.println(error);
+            }
+            System.out.println(errors.isEmpty() ? "The file is valid." : errors.size() + " problem(s) found.");
+            return errors.isEmpty() ? 0 : 2;
+        } catch (InvalidInputException e) {
+            System.err.println("The file could not be checked: " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("The file could not be read: " + e.getMessage());
+        }
+        return 1;
+    }
+
+    private static int run(String adminEmail, Path csvFile, boolean resume) {
+        try {
+            new SchemaMigrator().migrate();
+
+            User admin = new UserController().login(adminEmail, readPassword());
+            if (admin == null) {
+                System.err.println("Could not connect to the database.");
+                return 1;
+            }
+
+            ImportSummary summary = new UserImporter().importUsers(csvFile, admin.getUserId(), resume);
+            System.out.println("Imported: " + summary.getImported());
+            System.out.println("Failed:   " + summary.getFailed());
+            if (summary.getSkipped() > 0) {
+                System.out.println("Skipped:  " + summary.getSkipped() + " (already processed by an earlier run)");
+            }
+            if (summary.getFailed() > 0) {
+                System.out.println("Error report: " + summary.getReportFile());
+                return 2;
+            }
+            return 0;
+        } catch (RoleAccessException e) {
+            System.err.println("Only Admins can import users.");
+        } catch (InvalidInputException e) {
+            System.err.println("The file could not be imported: " + e.getMessage());
+        } catch (IOException | DatabaseOperationException e) {
+            System.err.println("The import stopped: " + e.getMessage());
+            System.err.println("Run it again with --resume to continue after the last saved chunk.");
+        } catch (AuthenticationException e) {
+            System.err.println(e.getMessage());
+        }
+        return 1;
+    }
+
+    static String readPassword() throws IOException {
+        Console console = System.console();
+        if (console != null) {
+            char[] password = console.readPassword("Password: ");
+            return password == null ? "" : new String(password);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        return line == null ? "" : line;
+    }
+}
@@ -1,11 +1,15 @@
 package view;
 
 import controller.EquipmentController;
+import controller.AsyncRefreshable;
 import controller.Refreshable;
 import controller.ReservationController;
+import controller.UserController;
 import model.Equipment;
 import model.Reservation;
 import model.User;
+import model.EquipmentStatus;
+import model.Role;
 import exception.DatabaseOperationException;
 import org.jdatepicker.impl.JDatePanelImpl;
 import org.jdatepicker.impl.JDatePickerImpl;
@@ -29,6 +33,7 @@ import java.util.List;
 import java.util.Date;
 import java.util.Properties;
 import java.util.Calendar;
+import java.util.concurrent.Future;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.table.DefaultTableModel;
@@ -48,6 +53,8 @@ import javax.swing.JScrollPane;
 import javax.swing.JFormattedTextField;
 import javax.swing.UIManager;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
 
 /**
  * LecturerStudentFrame provides the main window for Lecturer/Student users.
@@ -157,6 +164,7 @@ public class LecturerStudentFrame extends JFrame {
         logoutButton.setMaximumSize(new Dimension(100, 30));
         logoutButton.setFocusPainted(false);
         logoutButton.addActionListener(e -> {
+            new UserController().logout(loggedInUser.getUserId());
             dispose();
             new LoginFrame().setVisible(true);
         });
@@ -166,13 +174,25 @@ public class LecturerStudentFrame extends JFrame {
         add(mainPanel);
 
         // Add a change listener to refresh tabs that implement Refreshable.
-        tabbedPane.addChangeListener(e -> {
-            Component selected = tabbedPane.getSelectedComponent();
-            if (selected instanceof Refreshable) {
-                try {
-                    ((Refreshable) selected).refresh();
-                } catch (DatabaseOperationException ex) {
-                    throw new RuntimeException(ex);
+        // Background refreshes of a tab that is no longer selected are cancelled.
+        tabbedPane.addChangeListener(new ChangeListener() {
+            private Component previous;
+
+            @Override
+            public void stateChanged(ChangeEvent e) {
+                if (previous instanceof AsyncRefreshable) {
+                    ((AsyncRefreshable) previous).cancelRefresh();
+                }
+                Component selected = tabbedPane.getSelectedComponent();
+                previous = selected;
+                if (selected instanceof AsyncRefreshable) {
+                    ((AsyncRefreshable) selected).refreshAsync();
+                } else if (selected instanceof Refreshable) {
+                    try {
+                        ((Refreshable) selected).refresh();
+                    } catch (DatabaseOperationException ex) {
+                        throw new RuntimeException(ex);
+                    }
                 }
             }
         });
@@ -258,7 +278,7 @@ public class LecturerStudentFrame extends JFrame {
             add(textFieldRole, gridBagConstraint);
 
             // Conditionally display additional fields based on role.
-            if (loggedInUser.getRole().equalsIgnoreCase("Student")) {
+            if (Role.fromName(loggedInUser.getRole()) == Role.STUDENT) {
                 JLabel labelDept = new JLabel("Department:");
                 JTextField textFieldDept = new JTextField(loggedInUser.getDepartment(), 20);
                 textFieldDept.setEditable(false);
@@ -298,7 +318,7 @@ public class LecturerStudentFrame extends JFrame {
                 add(labelYear, gridBagConstraint);
                 gridBagConstraint.gridx = 1;
                 add(textFieldYear, gridBagConstraint);
-            } else if (loggedInUser.getRole().equalsIgnoreCase("Lecturer")) {
+            } else if (Role.fromName(loggedInUser.getRole()) == Role.LECTURER) {
                 JLabel labelDept = new JLabel("Department:");
                 JTextField textFieldDept = new JTextField(loggedInUser.getDepartment(), 20);
                 textFieldDept.setEditable(false);
@@ -320,8 +340,9 @@ public class LecturerStudentFrame extends JFrame {
      * ReservationsPanel allows the user to reserve equipment and view their reservations.
      * It contains a sidebar with two options: Reserve Equipment and View Reservations.
      */
-    class ReservationsPanel extends JPanel implements Refreshable {
+    class ReservationsPanel extends JPanel implements AsyncRefreshable {
         private final JPanel contentPanel;
+        private final BackgroundLoader loader = new BackgroundLoader();
 
         /**
          * Constructs a ReservationsPanel and sets up the sidebar and content area.
@@ -366,20 +387,45 @@ public class LecturerStudentFrame extends JFrame {
          */
         @Override
         public void refresh() throws DatabaseOperationException {
-            loadReserveEquipmentPanel();
+            showReserveEquipmentPanel(new EquipmentController().getEquipmentByStatus(EquipmentStatus.AVAILABLE.getName()));
+        }
+
+        /**
+         * Reloads the available equipment in the background.
+         *
+         * @return a Future that completes once the available equipment has been shown.
+         */
+        @Override
+        public Future<?> refreshAsync() {
+            return loader.load(() -> new EquipmentController().getEquipmentByStatus(EquipmentStatus.AVAILABLE.getName()), this::showReserveEquipmentPanel);
+        }
+
+        /**
+         * Cancels a background refresh that is still in flight.
+         */
+        @Override
+        public void cancelRefresh() {
+            loader.cancel();
         }
 
         /**
          * Loads the panel that displays available equipment for reservation.
+         * The equipment is fetched in the background.
          */
         private void loadReserveEquipmentPanel() {
+            refreshAsync();
+        }
+
+        /**
+         * Displays the given equipment in the reservation panel.
+         *
+         * @param availableEquipment the equipment that can be reserved.
+         */
+        private void showReserveEquipmentPanel(List<Equipment> availableEquipment) {
             contentPanel.removeAll();
             JPanel panel = new JPanel(new BorderLayout());
             panel.setBackground(Color.WHITE);
 
-            EquipmentController equipmentController = new EquipmentController();
-            List<Equipment> availableEquipment = equipmentController.getEquipmentByStatus("Available");
-
             String[] columnNames = {"Equipment ID", "Name", "Type", "Description"};
             DefaultTableModel model = new DefaultTableModel(columnNames, 0) {
                 @Override
@@ -10,21 +10,22 @@ import javax.swing.JTextField;
 import javax.swing.JPasswordField;
 import javax.swing.JButton;
 import javax.swing.JOptionPane;
+import javax.swing.JProgressBar;
 import java.awt.Component;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Dimension;
-import controller.LoginManager;
+import model.Role;
 import model.User;
-import exception.AuthenticationException;
-import exception.DatabaseOperationException;
-import exception.RoleAccessException;
 
 
 public class LoginFrame extends JFrame {
     private JTextField emailTextField;
     private JPasswordField passwordField;
     private JButton loginButton;
+    private JProgressBar progressBar;
+    private JButton cancelButton;
+    private final LoginTask loginTask = new LoginTask();
 
     public LoginFrame() {
         setTitle("Log in");
@@ -105,32 +106,42 @@ public class LoginFrame extends JFrame {
         mainPanel.add(Box.createVerticalStrut(10));
         mainPanel.add(loginButton);
 
+        // --- PROGRESS (shown while logging in) ---
+        progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setString("Logging in...");
+        progressBar.setStringPainted(true);
+        progressBar.setAlignmentX(Component.CENTER_ALIGNMENT);
+        progressBar.setMaximumSize(new Dimension(300, 20));
+        progressBar.setVisible(false);
+        mainPanel.add(Box.createVerticalStrut(10));
+        mainPanel.add(progressBar);
+
+        cancelButton = new JButton("Cancel");
+        cancelButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        cancelButton.setFocusPainted(false);
+        cancelButton.setVisible(false);
+        cancelButton.addActionListener(e -> {
+            loginTask.cancel();
+            setBusy(false);
+        });
+        mainPanel.add(Box.createVerticalStrut(5));
+        mainPanel.add(cancelButton);
+
         // Removed the "Lost your password?" label
 
         getContentPane().add(mainPanel);
 
         // Action listeners for login
-        loginButton.addActionListener(e -> {
-            try {
-                performLogin();
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Incorrect Log In details. Please try again.",
-                        "Login Error", JOptionPane.ERROR_MESSAGE
-                );
-            }
-        });
-        passwordField.addActionListener(e -> {
-            try {
-                performLogin();
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Incorrect Log In details. Please try again.",
-                        "Login Error", JOptionPane.ERROR_MESSAGE
-                );
-            }
-        });
+        loginButton.addActionListener(e -> performLogin());
+        passwordField.addActionListener(e -> performLogin());
     }
 
-    private void performLogin() throws DatabaseOperationException, RoleAccessException {
+    /**
+     * Starts logging in with the entered details. Authentication and the loading of the first screen's data
+     * run in the background, so the window stays responsive and the login can be cancelled.
+     */
+    private void performLogin() {
         String email = emailTextField.getText().trim();
         String password = new String(passwordField.getPassword()).trim();
 
@@ -140,26 +151,49 @@ public class LoginFrame extends JFrame {
             return;
         }
 
-        try {
-            LoginManager loginManager = new LoginManager();
-            User user = loginManager.loginUser(email, password);
-            // Launch appropriate main GUI based on the user's role.
-            if (user.getRole().equalsIgnoreCase("Admin")) {
-                new AdminFrame(user).setVisible(true);
-            } else if (user.getRole().equalsIgnoreCase("MediaStaff")) {
-                new MediaStaffFrame(user).setVisible(true);
-            } else if(user.getRole().equalsIgnoreCase("Student") || user.getRole().equalsIgnoreCase("Lecturer")) {
-                new LecturerStudentFrame(user).setVisible(true);
-            } else {
-                JOptionPane.showMessageDialog(this,
-                        "Only Admin and Media Staff GUI is implemented in this version.",
-                        "Info", JOptionPane.INFORMATION_MESSAGE);
-            }
-            dispose();
-        } catch (AuthenticationException ex) {
-            JOptionPane.showMessageDialog(this, "Incorrect Log In details. Please try again.",
-                    "Login Error", JOptionPane.ERROR_MESSAGE
-            );
+        setBusy(true);
+        loginTask.start(email, password, this::openMainFrame, message -> {
+            setBusy(false);
+            JOptionPane.showMessageDialog(this, message, "Login Error", JOptionPane.ERROR_MESSAGE);
+        });
+    }
+
+    /**
+     * Opens the main GUI for the logged-in user's role.
+     *
+     * @param session the logged-in user and the data preloaded for them.
+     */
+    private void openMainFrame(LoginTask.Session session) {
+        User user = session.user;
+        // Launch appropriate main GUI based on the user's role.
+        Role role = Role.fromName(user.getRole());
+        if (role == Role.ADMIN) {
+            new AdminFrame(user, session.stats).setVisible(true);
+        } else if (role == Role.MEDIA_STAFF) {
+            new MediaStaffFrame(user, session.stats).setVisible(true);
+        } else if (role == Role.STUDENT || role == Role.LECTURER) {
+            new LecturerStudentFrame(user).setVisible(true);
+        } else {
+            setBusy(false);
+            JOptionPane.showMessageDialog(this,
+                    "Only Admin and Media Staff GUI is implemented in this version.",
+                    "Info", JOptionPane.INFORMATION_MESSAGE);
+            return;
         }
+        dispose();
+    }
+
+    /**
+     * Switches between the login form and the progress indicator.
+     *
+     * @param busy true while a login is in progress.
+     */
+    private void setBusy(boolean busy) {
+        emailTextField.setEnabled(!busy);
+        passwordField.setEnabled(!busy);
+        loginButton.setEnabled(!busy);
+        progressBar.setVisible(busy);
+        cancelButton.setVisible(busy);
+        revalidate();
     }
 }
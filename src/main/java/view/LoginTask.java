@@ -0,0 +1,135 @@
+package view;
+
+import controller.DashboardController;
+import controller.EquipmentController;
+import controller.LoginManager;
+import exception.AuthenticationException;
+import exception.DatabaseOperationException;
+import exception.LoginBusyException;
+import exception.LoginThrottledException;
+import model.DashboardStats;
+import model.EquipmentStatus;
+import model.Role;
+import model.User;
+import javax.swing.SwingUtilities;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Logs a user in off the Event Dispatch Thread and preloads the data their first screen shows.
+ * <p>
+ * Authentication must finish within {@value #TIMEOUT_SECONDS} seconds. Once it succeeds, the dashboard
+ * statistics (for Admin and Media Staff) and the equipment catalog are loaded in parallel, so the role
+ * frame opens already populated; a preload that fails or takes longer than {@value #PRELOAD_SECONDS}
+ * seconds is skipped and the frame loads that data itself. Results are delivered on the Event Dispatch
+ * Thread. A cancelled login delivers nothing. Instances are meant to be used from the Event Dispatch Thread.
+ * </p>
+ */
+class LoginTask {
+    static final long TIMEOUT_SECONDS = 15;
+    static final long PRELOAD_SECONDS = 5;
+    // Logins spend nearly all their time blocked on JDBC or the password verification pool.
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private CompletableFuture<Session> current;
+
+    /**
+     * The logged-in user and the data preloaded for their first screen.
+     */
+    static final class Session {
+        final User user;
+        // Null when the role has no dashboard or the preload did not finish in time.
+        final DashboardStats stats;
+
+        private Session(User user, DashboardStats stats) {
+            this.user = user;
+            this.stats = stats;
+        }
+    }
+
+    /**
+     * Starts logging in, cancelling any login previously started by this task.
+     *
+     * @param email     the user's email address.
+     * @param password  the user's password.
+     * @param onSuccess called with the session once the user is authenticated and the preloads are done.
+     * @param onFailure called with a message for the user if the login fails or times out.
+     * @return a {@link Future} that completes when the login has finished.
+     */
+    Future<?> start(String email, String password, Consumer<Session> onSuccess, Consumer<String> onFailure) {
+        cancel();
+        CompletableFuture<Session> login = CompletableFuture
+                .supplyAsync(() -> authenticate(email, password), EXECUTOR)
+                .orTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .thenCompose(LoginTask::preload);
+        current = login;
+        login.whenComplete((session, error) -> SwingUtilities.invokeLater(() -> {
+            // Cancellation also happens on the EDT, so this check cannot race with cancel().
+            if (login.isCancelled() || current != login) {
+                return;
+            }
+            current = null;
+            if (error == null) {
+                onSuccess.accept(session);
+            } else {
+                onFailure.accept(describe(error));
+            }
+        }));
+        return login;
+    }
+
+    /**
+     * Cancels the login in flight, if any. Work already running is left to finish, but its result is discarded.
+     */
+    void cancel() {
+        if (current != null) {
+            current.cancel(true);
+            current = null;
+        }
+    }
+
+    private static User authenticate(String email, String password) {
+        try {
+            return new LoginManager().loginUser(email, password);
+        } catch (AuthenticationException | DatabaseOperationException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static CompletableFuture<Session> preload(User user) {
+        CompletableFuture<DashboardStats> stats = CompletableFuture.completedFuture(null);
+        Role role = Role.fromName(user.getRole());
+        if (role == Role.ADMIN || role == Role.MEDIA_STAFF) {
+            stats = CompletableFuture
+                    .supplyAsync(() -> new DashboardController().getDashboardStats(user.getRole()), EXECUTOR)
+                    .completeOnTimeout(null, PRELOAD_SECONDS, TimeUnit.SECONDS)
+                    .exceptionally(e -> null);
+        }
+        // Every role lists equipment early on; this loads the in-memory equipment catalog.
+        CompletableFuture<Void> catalog = CompletableFuture
+                .runAsync(() -> new EquipmentController().getEquipmentByStatus(EquipmentStatus.AVAILABLE.getName()), EXECUTOR)
+                .completeOnTimeout(null, PRELOAD_SECONDS, TimeUnit.SECONDS)
+                .exceptionally(e -> null);
+        return stats.thenCombine(catalog, (loaded, ignored) -> new Session(user, loaded));
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return "The server did not respond in time. Please try again.";
+        }
+        if (cause instanceof LoginThrottledException || cause instanceof LoginBusyException) {
+            return cause.getMessage();
+        }
+        if (cause instanceof DatabaseOperationException) {
+            return "Could not reach the database. Please try again later.";
+        }
+        return "Incorrect Log In details. Please try again.";
+    }
+}
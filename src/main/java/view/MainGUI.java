@@ -1,6 +1,10 @@
 package view;
 
 import com.formdev.flatlaf.FlatDarkLaf;
+import controller.PasswordHasher;
+import controller.ReferenceData;
+import exception.DatabaseOperationException;
+import model.SchemaMigrator;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import java.awt.Color;
@@ -15,6 +19,23 @@ public class MainGUI {
      * Main method that starts the application.
      */
     public static void main(String[] args) {
+        // Bring the database schema up to date before any screen queries it.
+        try {
+            int applied = new SchemaMigrator().migrate();
+            if (applied > 0) {
+                System.out.println("Applied " + applied + " schema migration(s).");
+            }
+        } catch (DatabaseOperationException e) {
+            System.err.println("Schema migration failed: " + e.getMessage());
+        }
+        // Load the reference data the forms share once, after the migrations have created its tables.
+        ReferenceData.getInstance();
+
+        // Calibrate the password hashing cost while the login window is on screen.
+        Thread calibration = new Thread(PasswordHasher::getInstance, "password-calibration");
+        calibration.setDaemon(true);
+        calibration.start();
+
         SwingUtilities.invokeLater(() -> {
             try {
                 // Set FlatDarkLaf look and feel
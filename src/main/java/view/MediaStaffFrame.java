@@ -10,6 +10,13 @@ import controller.*;
 import model.User;
 import model.Equipment;
 import model.Reservation;
+import model.Checkout;
+import model.DashboardStats;
+import model.EquipmentState;
+import model.EquipmentStatus;
+import model.ReservationQuery;
+import model.ReservationStatus;
+import model.Role;
 import exception.DatabaseOperationException;
 import java.awt.BorderLayout;
 import java.awt.Font;
@@ -28,8 +35,8 @@ import java.text.SimpleDateFormat;
 import java.util.Objects;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.Date;
+import java.util.concurrent.Future;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.table.DefaultTableModel;
@@ -71,6 +78,16 @@ public class MediaStaffFrame extends JFrame {
     private final Font boldFont = new Font("SansSerif", Font.BOLD, 16);
 
     public MediaStaffFrame(User user) {
+        this(user, null);
+    }
+
+    /**
+     * Constructs a MediaStaffFrame for the given user, showing dashboard statistics loaded during login.
+     *
+     * @param user         the authenticated User object representing a Media Staff member.
+     * @param initialStats the dashboard statistics to show straight away, or null to load them in the background.
+     */
+    public MediaStaffFrame(User user, DashboardStats initialStats) {
         this.loggedInUser = user;
         setTitle("Media Equipment Rental System - Staff Menu - " + user.getName());
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -145,7 +162,7 @@ public class MediaStaffFrame extends JFrame {
         // Add tabs with icons.
         tabbedPane.addTab("Home",
                 new ImageIcon(getClass().getResource("/view/icons/home.png")),
-                new HomePanel(loggedInUser));
+                new HomePanel(loggedInUser, initialStats));
         tabbedPane.addTab("View Profile",
                 new ImageIcon(getClass().getResource("/view/icons/profile.png")),
                 new ViewProfilePanel(loggedInUser));
@@ -168,6 +185,7 @@ public class MediaStaffFrame extends JFrame {
         logoutButton.setMaximumSize(new Dimension(100, 30));
         logoutButton.setFocusPainted(false);
         logoutButton.addActionListener(e -> {
+            new UserController().logout(loggedInUser.getUserId());
             dispose();
             new LoginFrame().setVisible(true);
         });
@@ -177,11 +195,20 @@ public class MediaStaffFrame extends JFrame {
         add(mainPanel);
 
         // Add a change listener to refresh tabs that implement Refreshable.
+        // Background refreshes of a tab that is no longer selected are cancelled.
         tabbedPane.addChangeListener(new ChangeListener() {
+            private Component previous;
+
             @Override
             public void stateChanged(ChangeEvent e) {
+                if (previous instanceof AsyncRefreshable) {
+                    ((AsyncRefreshable) previous).cancelRefresh();
+                }
                 Component selected = tabbedPane.getSelectedComponent();
-                if (selected instanceof Refreshable) {
+                previous = selected;
+                if (selected instanceof AsyncRefreshable) {
+                    ((AsyncRefreshable) selected).refreshAsync();
+                } else if (selected instanceof Refreshable) {
                     try {
                         ((Refreshable) selected).refresh();
                     } catch (DatabaseOperationException ex) {
@@ -206,18 +233,30 @@ public class MediaStaffFrame extends JFrame {
         private final ChartPanel reservationsStatusChartPanel;
         private final ChartPanel userReservationsChartPanel;
         private final User loggedInUser; // Logged-in user for context
+        private final DashboardController dashboardController = new DashboardController();
+        private final BackgroundLoader loader = new BackgroundLoader();
+        private Future<?> pendingRefresh;
+        // Each chart is built once; later updates only change the values in these datasets.
+        private final DefaultCategoryDataset equipmentStateDataset = new DefaultCategoryDataset();
+        private final DefaultPieDataset checkedOutDataset = new DefaultPieDataset();
+        private final DefaultCategoryDataset reservationsStatusDataset = new DefaultCategoryDataset();
+        private final DefaultCategoryDataset userReservationsDataset = new DefaultCategoryDataset();
+        private DashboardStats displayedStats = new DashboardStats();
+        // Read by the background poll, so it must be visible outside the Event Dispatch Thread.
+        private volatile long displayedRevision = -1;
 
         /**
          * Constructs a HomePanel for the specified user.
          *
-         * @param user the logged-in User.
+         * @param user         the logged-in User.
+         * @param initialStats statistics to fill the charts with straight away, or null to wait for the first refresh.
          */
-        public HomePanel(User user) {
+        public HomePanel(User user, DashboardStats initialStats) {
             this.loggedInUser = user;
             // Use a (2 rows x 2 columns) GridLayout with 10px gaps.
             setLayout(new GridLayout(2, 2, 10, 10));
             int chartSize = 300;
-
+            // Charts start empty; the statistics are loaded in the background.
             // Equipment States Chart (Bar Chart)
             equipmentStateChartPanel = new ChartPanel(createEquipmentStateChart());
             equipmentStateChartPanel.setPreferredSize(new Dimension(chartSize, chartSize));
@@ -238,52 +277,137 @@ public class MediaStaffFrame extends JFrame {
             userReservationsChartPanel.setPreferredSize(new Dimension(chartSize, chartSize));
             add(userReservationsChartPanel);
 
-            // Set up a Timer to update all Charts every 3 seconds.
-            Timer timer = new Timer(3000, e -> updateAllCharts());
+            if (initialStats != null) {
+                // The first refresh then finds the revision unchanged and skips the statistics query.
+                updateAllCharts(initialStats);
+            }
+
+            // Set up a Timer to check for changes every 3 seconds; charts are only reloaded when the data has changed.
+            Timer timer = new Timer(3000, e -> refreshCharts());
             timer.start();
+            refreshCharts();
         }
 
         /**
-         * Updates all charts by recreating them.
+         * Checks the change revision in the background and, only if it has moved since the charts were last
+         * filled, fetches the dashboard statistics with a single query and updates all charts.
+         * A tick that arrives while the previous check is still running is skipped: starting a new check
+         * would cancel it, and on a slow database the charts would then never be updated.
          */
-        private void updateAllCharts() {
-            equipmentStateChartPanel.setChart(createEquipmentStateChart());
-            checkedOutChartPanel.setChart(createCheckedOutChart());
-            reservationsStatusChartPanel.setChart(createReservationsStatusChart());
-            userReservationsChartPanel.setChart(createUserReservationsOverTimeChart());
-            // Optionally, force a repaint:
-            equipmentStateChartPanel.repaint();
-            checkedOutChartPanel.repaint();
-            reservationsStatusChartPanel.repaint();
-            userReservationsChartPanel.repaint();
+        private void refreshCharts() {
+            if (pendingRefresh != null && !pendingRefresh.isDone()) {
+                return;
+            }
+            pendingRefresh = loader.load(this::fetchChangedStats, stats -> {
+                if (stats != null) {
+                    updateAllCharts(stats);
+                }
+            });
         }
 
         /**
-         * Creates a bar chart displaying the counts of equipment in different states.
+         * Returns fresh dashboard statistics, or null if the data has not changed since the last update.
+         * If the revision cannot be read, the statistics are always fetched.
+         *
+         * @return the dashboard statistics, or null if they do not need to be reloaded.
+         */
+        private DashboardStats fetchChangedStats() {
+            long revision = dashboardController.getChangeRevision(loggedInUser.getRole());
+            if (revision >= 0 && revision == displayedRevision) {
+                return null;
+            }
+            return dashboardController.getDashboardStats(loggedInUser.getRole());
+        }
+
+        /**
+         * Updates the chart datasets from the given statistics.
+         * Only datasets whose aggregate differs from the values already shown are touched, and each of them
+         * fires a single change event, so unchanged charts are not redrawn.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void updateAllCharts(DashboardStats stats) {
+            DashboardStats previous = displayedStats;
+            displayedStats = stats;
+            displayedRevision = stats.getRevision();
+
+            if (!stats.getEquipmentByState().equals(previous.getEquipmentByState())) {
+                equipmentStateDataset.setNotify(false);
+                fillEquipmentStateDataset(stats);
+                equipmentStateDataset.setNotify(true);
+            }
+            if (stats.getCheckedOutEquipment() != previous.getCheckedOutEquipment()
+                    || stats.getTotalEquipment() != previous.getTotalEquipment()) {
+                checkedOutDataset.setNotify(false);
+                fillCheckedOutDataset(stats);
+                checkedOutDataset.setNotify(true);
+            }
+            if (!stats.getReservationsByStatus().equals(previous.getReservationsByStatus())) {
+                reservationsStatusDataset.setNotify(false);
+                fillReservationsStatusDataset(stats);
+                reservationsStatusDataset.setNotify(true);
+            }
+            if (!stats.getReservationsPerUser().equals(previous.getReservationsPerUser())) {
+                userReservationsDataset.setNotify(false);
+                fillUserReservationsDataset(stats);
+                userReservationsDataset.setNotify(true);
+            }
+        }
+
+        /**
+         * Sets the equipment state counts, using one common category "Equipment" and a series for each state.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void fillEquipmentStateDataset(DashboardStats stats) {
+            equipmentStateDataset.setValue(stats.getEquipmentCountByState("New"), "New", "Equipment");
+            equipmentStateDataset.setValue(stats.getEquipmentCountByState("Good"), "Good", "Equipment");
+            equipmentStateDataset.setValue(stats.getEquipmentCountByState("Fair"), "Fair", "Equipment");
+            equipmentStateDataset.setValue(stats.getEquipmentCountByState("Poor"), "Poor", "Equipment");
+        }
+
+        /**
+         * Sets the checked-out and not checked-out equipment counts.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void fillCheckedOutDataset(DashboardStats stats) {
+            checkedOutDataset.setValue("Checked Out", stats.getCheckedOutEquipment());
+            checkedOutDataset.setValue("Not Checked Out", stats.getNotCheckedOutEquipment());
+        }
+
+        /**
+         * Sets the pending and approved reservation counts.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void fillReservationsStatusDataset(DashboardStats stats) {
+            reservationsStatusDataset.setValue(stats.getReservationCountByStatus("Pending"), "Pending", "Reservations");
+            reservationsStatusDataset.setValue(stats.getReservationCountByStatus("Approved"), "Approved", "Reservations");
+        }
+
+        /**
+         * Replaces the per-user reservation counts.
+         *
+         * @param stats the dashboard statistics to display.
+         */
+        private void fillUserReservationsDataset(DashboardStats stats) {
+            userReservationsDataset.clear();
+            for (Map.Entry<String, Integer> entry : stats.getReservationsPerUser().entrySet()) {
+                userReservationsDataset.addValue(entry.getValue(), "Reservations", entry.getKey());
+            }
+        }
+
+        /**
+         * Creates the bar chart displaying the counts of equipment in different states.
          *
          * @return a JFreeChart object representing the equipment states.
          */
         private JFreeChart createEquipmentStateChart() {
-            EquipmentController equipmentController= new EquipmentController();
-            // Retrieve all equipment filtered by the user's role.
-            List<Equipment> equipments = equipmentController.getAllEquipment(loggedInUser.getRole());
-            // Count each state.
-            Map<String, Integer> stateCounts = new HashMap<>();
-            for (Equipment eq : equipments) {
-                String state = eq.getState();
-                if (state != null) {
-                    stateCounts.put(state, stateCounts.getOrDefault(state, 0) + 1);
-                }
-            }
-            // Create a dataset with one common category "Equipment" and four series for each state.
-            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-            dataset.addValue(stateCounts.getOrDefault("New", 0), "New", "Equipment");
-            dataset.addValue(stateCounts.getOrDefault("Good", 0), "Good", "Equipment");
-            dataset.addValue(stateCounts.getOrDefault("Fair", 0), "Fair", "Equipment");
-            dataset.addValue(stateCounts.getOrDefault("Poor", 0), "Poor", "Equipment");
+            fillEquipmentStateDataset(displayedStats);
 
             // Create the bar chart.
-            JFreeChart chart = ChartFactory.createBarChart("Equipment States", "State", "Count", dataset);
+            JFreeChart chart = ChartFactory.createBarChart("Equipment States", "State", "Count", equipmentStateDataset);
 
             // Enable and display data labels.
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelGenerator(new org.jfree.chart.labels.StandardCategoryItemLabelGenerator());
@@ -310,17 +434,8 @@ public class MediaStaffFrame extends JFrame {
          * @return a JFreeChart object representing checked-out equipment.
          */
         private JFreeChart createCheckedOutChart() {
-            CheckoutController checkoutController = new CheckoutController();
-            List<String> checkedOut = checkoutController.getCheckedOutEquipment();
-            int checkedOutCount = checkedOut.size();
-            EquipmentController equipmentController= new EquipmentController();
-            List<Equipment> equipments = equipmentController.getAllEquipment(loggedInUser.getRole());
-            int total = equipments.size();
-            int notCheckedOut = total - checkedOutCount;
-            DefaultPieDataset dataset = new DefaultPieDataset();
-            dataset.setValue("Checked Out", checkedOutCount);
-            dataset.setValue("Not Checked Out", notCheckedOut);
-            JFreeChart chart = ChartFactory.createPieChart("Equipment Checked Out", dataset, true, true, false);
+            fillCheckedOutDataset(displayedStats);
+            JFreeChart chart = ChartFactory.createPieChart("Equipment Checked Out", checkedOutDataset, true, true, false);
             // (You can add a StandardPieSectionLabelGenerator here for more detailed labels.)
 
             // Set chart and plot background to white.
@@ -342,25 +457,8 @@ public class MediaStaffFrame extends JFrame {
          * @return a JFreeChart object representing reservation statuses.
          */
         private JFreeChart createReservationsStatusChart() {
-            ReservationController reservationController= new ReservationController();
-            // Use the current user's ID to filter reservations.
-            List<Reservation> reservations = reservationController.getAllReservations(loggedInUser.getUserId());
-            int pendingCount = 0;
-            int approvedCount = 0;
-            for (Reservation res : reservations) {
-                String status = res.getStatus();
-                if (status != null) {
-                    if (status.equalsIgnoreCase("Pending")) {
-                        pendingCount++;
-                    } else if (status.equalsIgnoreCase("Approved")) {
-                        approvedCount++;
-                    }
-                }
-            }
-            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-            dataset.addValue(pendingCount, "Pending", "Reservations");
-            dataset.addValue(approvedCount, "Approved", "Reservations");
-            JFreeChart chart = ChartFactory.createBarChart("Reservations Status", "Status", "Count", dataset);
+            fillReservationsStatusDataset(displayedStats);
+            JFreeChart chart = ChartFactory.createBarChart("Reservations Status", "Status", "Count", reservationsStatusDataset);
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelGenerator(new org.jfree.chart.labels.StandardCategoryItemLabelGenerator());
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelsVisible(true);
 
@@ -381,20 +479,8 @@ public class MediaStaffFrame extends JFrame {
          * @return a JFreeChart object representing user reservations.
          */
         private JFreeChart createUserReservationsOverTimeChart() {
-            ReservationController reservationController= new ReservationController();
-            List<Reservation> reservations = reservationController.getAllReservations(loggedInUser.getUserId());
-            Map<String, Integer> userCounts = new HashMap<>();
-            for (Reservation res : reservations) {
-                String userId = res.getUserId();
-                if (userId != null) {
-                    userCounts.put(userId, userCounts.getOrDefault(userId, 0) + 1);
-                }
-            }
-            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-            for (Map.Entry<String, Integer> entry : userCounts.entrySet()) {
-                dataset.addValue(entry.getValue(), "Reservations", entry.getKey());
-            }
-            JFreeChart chart = ChartFactory.createBarChart("User Reservations", "User", "Count", dataset);
+            fillUserReservationsDataset(displayedStats);
+            JFreeChart chart = ChartFactory.createBarChart("User Reservations", "User", "Count", userReservationsDataset);
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelGenerator(new org.jfree.chart.labels.StandardCategoryItemLabelGenerator());
             chart.getCategoryPlot().getRenderer().setDefaultItemLabelsVisible(true);
 
@@ -517,8 +603,9 @@ public class MediaStaffFrame extends JFrame {
      * UserManagementPanel provides an interface for managing users, including viewing,
      * adding, updating, and deleting users.
      */
-    class UserManagementPanel extends JPanel implements Refreshable{
+    class UserManagementPanel extends JPanel implements AsyncRefreshable {
         private final JPanel contentPanel;
+        private final BackgroundLoader loader = new BackgroundLoader();
         /**
          * Constructs a UserManagementPanel for the given media staff member.
          */
@@ -559,13 +646,7 @@ public class MediaStaffFrame extends JFrame {
             add(splitPane, BorderLayout.CENTER);
 
             // Action listeners
-            buttonViewAllUsers.addActionListener(e -> {
-                try {
-                    loadViewAllUsers();
-                } catch (DatabaseOperationException ex) {
-                    throw new RuntimeException(ex);
-                }
-            });
+            buttonViewAllUsers.addActionListener(e -> loadViewAllUsers());
             buttonViewLecturers.addActionListener(e -> {
                 try {
                     loadViewLecturers();
@@ -587,16 +668,40 @@ public class MediaStaffFrame extends JFrame {
          * @throws DatabaseOperationException if an error occurs during data retrieval.
          */
         public void refresh() throws DatabaseOperationException {
-            loadViewAllUsers();
+            showUsers(new UserController().getLecturersAndStudents());
+        }
+
+        /**
+         * Reloads the view all users table in the background.
+         *
+         * @return a Future that completes once the table has been shown.
+         */
+        @Override
+        public Future<?> refreshAsync() {
+            return loader.load(() -> new UserController().getLecturersAndStudents(), this::showUsers);
+        }
+
+        /**
+         * Cancels a background refresh that is still in flight.
+         */
+        @Override
+        public void cancelRefresh() {
+            loader.cancel();
         }
         /**
          * Loads all students and lecturers from the database and displays them in a table.
+         * The data is fetched in the background.
+         */
+        private void loadViewAllUsers() {
+            refreshAsync();
+        }
+
+        /**
+         * Displays the given students and lecturers in a table.
          *
-         * @throws DatabaseOperationException if a database error occurs.
+         * @param users the users to display.
          */
-        private void loadViewAllUsers() throws DatabaseOperationException {
-            final UserController userController = new UserController();
-            final List<User> users = userController.getLecturersAndStudents();
+        private void showUsers(List<User> users) {
             String[] columnNames = {"User ID", "Email", "Name", "Role"};
             DefaultTableModel model = new DefaultTableModel(columnNames, 0){
                 @Override
@@ -605,7 +710,8 @@ public class MediaStaffFrame extends JFrame {
                 }
             };
             for (User user : users) {
-                if(!user.getRole().equals("Admin") && !user.getRole().equals("MediaStaff")) {
+                Role role = Role.fromName(user.getRole());
+                if (role != Role.ADMIN && role != Role.MEDIA_STAFF) {
                     Object[] row = { user.getUserId(), user.getEmail(), user.getName(), user.getRole() };
                     model.addRow(row);
                 }
@@ -644,7 +750,7 @@ public class MediaStaffFrame extends JFrame {
                 }
             };
             for (User user : users) {
-                if(user.getRole().equals("Lecturer")) {
+                if (Role.fromName(user.getRole()) == Role.LECTURER) {
                     Object[] row = { user.getUserId(), user.getEmail(), user.getName(), user.getRole(), user.getDepartment() };
                     model.addRow(row);
                 }
@@ -685,7 +791,7 @@ public class MediaStaffFrame extends JFrame {
                 }
             };
             for (User user : users) {
-                if(user.getRole().equals("Student")) {
+                if (Role.fromName(user.getRole()) == Role.STUDENT) {
                     Object[] row = { user.getUserId(), user.getEmail(), user.getName(), user.getRole(), user.getDepartment(), user.getCourse(), user.getYear() };
                     model.addRow(row);
                 }
@@ -718,9 +824,10 @@ public class MediaStaffFrame extends JFrame {
      * EquipmentManagementPanel provides an interface for managing equipment records,
      * including viewing, adding, updating, and deleting equipment.
      */
-    class EquipmentManagementPanel extends JPanel  implements Refreshable {
+    class EquipmentManagementPanel extends JPanel implements AsyncRefreshable {
         private final String staffId;
         private final JPanel contentPanel;
+        private EquipmentPageLoader pageLoader;
 
         /**
          * Constructs an EquipmentManagementPanel for the given media staff member.
@@ -760,13 +867,7 @@ public class MediaStaffFrame extends JFrame {
             setLayout(new BorderLayout());
             add(splitPane, BorderLayout.CENTER);
 
-            buttonViewAllEquipment.addActionListener(e -> {
-                try {
-                    loadViewAllEquipment();
-                } catch (DatabaseOperationException ex) {
-                    throw new RuntimeException(ex);
-                }
-            });
+            buttonViewAllEquipment.addActionListener(e -> loadViewAllEquipment());
             buttonViewByType.addActionListener(e -> {
                 try {
                     loadViewEquipmentByType();
@@ -784,20 +885,41 @@ public class MediaStaffFrame extends JFrame {
         }
         /**
          * Refreshes the equipment management panel by reloading all equipment.
+         * The first page of equipment is fetched in the background.
          *
          * @throws DatabaseOperationException if a database error occurs.
          */
         public void refresh() throws DatabaseOperationException {
             loadViewAllEquipment();
         }
+
         /**
-         * Loads all equipment records into a table view.
+         * Reloads all equipment in the background.
          *
-         * @throws DatabaseOperationException if a database error occurs.
+         * @return a Future that completes once the first page of equipment has been shown.
          */
-        private void loadViewAllEquipment() throws DatabaseOperationException {
-            EquipmentController equipmentController = new EquipmentController();
-            List<Equipment> equipments = equipmentController.getAllEquipment("MediaStaff");
+        @Override
+        public Future<?> refreshAsync() {
+            return loadViewAllEquipment();
+        }
+
+        /**
+         * Stops loading equipment pages for the table currently shown.
+         */
+        @Override
+        public void cancelRefresh() {
+            if (pageLoader != null) {
+                pageLoader.cancel();
+                pageLoader = null;
+            }
+        }
+        /**
+         * Loads all equipment records into a table view, fetching further pages as the user scrolls.
+         *
+         * @return a Future that completes once the first page of equipment has been shown.
+         */
+        private Future<?> loadViewAllEquipment() {
+            cancelRefresh();
             String[] colNames = {"Equipment ID", "Name", "Type", "Description", "Status", "State"};
             DefaultTableModel model = new DefaultTableModel(colNames, 0){
                 @Override
@@ -805,10 +927,6 @@ public class MediaStaffFrame extends JFrame {
                     return false;
                 }
             };
-            for (Equipment equipment : equipments) {
-                Object[] row = { equipment.getEquipmentId(), equipment.getName(), equipment.getType(), equipment.getDescription(), equipment.getStatus(), equipment.getState() };
-                model.addRow(row);
-            }
             JTable table = new JTable(model);
 
             // Adjust column widths as needed (in pixels). For example:
@@ -824,6 +942,8 @@ public class MediaStaffFrame extends JFrame {
             table.getTableHeader().setFont(boldFont);
 
             JScrollPane scrollPane = new JScrollPane(table);
+            pageLoader = new EquipmentPageLoader(model, null, null, "MediaStaff");
+            Future<?> firstPage = pageLoader.attach(scrollPane);
 
             // Center text in some columns
             DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
@@ -837,19 +957,18 @@ public class MediaStaffFrame extends JFrame {
             contentPanel.add(scrollPane, BorderLayout.CENTER);
             contentPanel.revalidate();
             contentPanel.repaint();
+            return firstPage;
         }
 
         /**
-         * Loads equipment records filtered by type.
+         * Loads equipment records filtered by type, fetching further pages as the user scrolls.
          *
          * @throws DatabaseOperationException if a database error occurs.
          */
         private void loadViewEquipmentByType() throws DatabaseOperationException {
-            String[] types = {"Audio Recorder", "Camera", "Drone", "Laptop", "Lighting", "Projector", "VR Headset", "Other"};
+            String[] types = ReferenceData.getInstance().getEquipmentTypeNames();
             String type = (String) JOptionPane.showInputDialog(this, "Select Equipment Type:", "Equipment Type", JOptionPane.QUESTION_MESSAGE, null, types, types[0]);
             if(type == null) return;
-            EquipmentController equipmentController = new EquipmentController();
-            List<Equipment> equipments = equipmentController.getEquipmentByType(type, loggedInUser.getRole());
             String[] columnNames = {"Equipment ID", "Name", "Type", "Description", "Status", "State"};
             DefaultTableModel model = new DefaultTableModel(columnNames, 0){
                 @Override
@@ -857,16 +976,15 @@ public class MediaStaffFrame extends JFrame {
                     return false;
                 }
             };
-            for (Equipment equipment : equipments) {
-                Object[] row = { equipment.getEquipmentId(), equipment.getName(), equipment.getType(), equipment.getDescription(), equipment.getStatus(), equipment.getState() };
-                model.addRow(row);
-            }
             JTable table = new JTable(model);
             table.setFont(bigFont);
             table.setRowHeight(20);
             table.getTableHeader().setFont(boldFont);
 
             JScrollPane scrollPane = new JScrollPane(table);
+            cancelRefresh();
+            pageLoader = new EquipmentPageLoader(model, type, null, loggedInUser.getRole());
+            pageLoader.attach(scrollPane);
 
             // Center text in some columns
             DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
@@ -897,7 +1015,7 @@ public class MediaStaffFrame extends JFrame {
                 }
             };
             for (Equipment equipment : equipments) {
-                if ("Available".equalsIgnoreCase(equipment.getStatus())) {  // Only include available equipment
+                if (EquipmentStatus.fromName(equipment.getStatus()) == EquipmentStatus.AVAILABLE) {  // Only include available equipment
                     Object[] row = { equipment.getEquipmentId(), equipment.getName(), equipment.getType(),
                             equipment.getDescription(), equipment.getStatus(), equipment.getState() };
                     model.addRow(row);
@@ -942,7 +1060,7 @@ public class MediaStaffFrame extends JFrame {
                 JTextField textFieldName = new JTextField(selectedEquipment.getName(), 20);
                 textFieldName.setEditable(false);
                 JLabel labelType = new JLabel("Type:");
-                String[] types = {"Audio Recorder", "Camera", "Drone", "Laptop", "Lighting", "Projector", "VR Headset", "Other"};
+                String[] types = ReferenceData.getInstance().getEquipmentTypeNames();
                 JComboBox<String> comboBoxType = new JComboBox<>(types);
                 comboBoxType.setSelectedItem(selectedEquipment.getType());
                 comboBoxType.setEnabled(false);
@@ -950,7 +1068,7 @@ public class MediaStaffFrame extends JFrame {
                 JTextField textFieldDescription = new JTextField(selectedEquipment.getDescription(), 20);
                 textFieldDescription.setEditable(false);
                 JLabel labelState = new JLabel("State:");
-                String[] states = {"New", "Good", "Fair", "Poor"};
+                String[] states = EquipmentState.names();
                 JComboBox<String> comboBoxState = new JComboBox<>(states);
                 comboBoxState.setSelectedItem(selectedEquipment.getState());
 
@@ -1021,9 +1139,13 @@ public class MediaStaffFrame extends JFrame {
      * ReservationsManagementPanel provides an interface for managing reservations.
      * It allows the media staff member to approve or reject reservations as well as process equipment check-out and check-in.
      */
-    class ReservationsManagementPanel extends JPanel implements Refreshable {
+    class ReservationsManagementPanel extends JPanel implements AsyncRefreshable {
         private final String staffId;
         private final JPanel contentPanel;
+        private final BackgroundLoader loader = new BackgroundLoader();
+        // The filters and sort order of the approval tab; the table fetches the matching rows as it is scrolled.
+        private ReservationQuery query = new ReservationQuery();
+        private ReservationTableModel reservationModel;
 
         /**
          * Constructs a ReservationsManagementPanel for the given staff.
@@ -1065,13 +1187,7 @@ public class MediaStaffFrame extends JFrame {
             setLayout(new BorderLayout());
             add(splitPane, BorderLayout.CENTER);
 
-            buttonApproval.addActionListener(e -> {
-                try {
-                    loadApproval();
-                } catch (DatabaseOperationException ex) {
-                    throw new RuntimeException(ex);
-                }
-            });
+            buttonApproval.addActionListener(e -> loadApproval());
             buttonCheckOut.addActionListener(e -> loadCheckOut());
             buttonCheckIn.addActionListener(e -> loadCheckIn());
         }
@@ -1082,30 +1198,71 @@ public class MediaStaffFrame extends JFrame {
          * @throws DatabaseOperationException if a database error occurs.
          */
         public void refresh() throws DatabaseOperationException {
-            loadApproval();
+            showApproval(query, new ReservationController().countReservations(query, staffId));
+        }
+
+        /**
+         * Reloads the approval tab in the background.
+         *
+         * @return a Future that completes once the approval tab has been shown.
+         */
+        @Override
+        public Future<?> refreshAsync() {
+            ReservationQuery shown = new ReservationQuery(query);
+            return loader.load(() -> new ReservationController().countReservations(shown, staffId), count -> showApproval(shown, count));
+        }
+
+        /**
+         * Cancels a background refresh that is still in flight.
+         */
+        @Override
+        public void cancelRefresh() {
+            loader.cancel();
+            if (reservationModel != null) {
+                reservationModel.cancel();
+            }
+        }
+
+        /**
+         * Shows the reservations matching new filters or a new sort order.
+         *
+         * @param newQuery the query to run.
+         */
+        private void runQuery(ReservationQuery newQuery) {
+            query = newQuery;
+            refreshAsync();
         }
 
         /**
          * Loads the reservation approval panel where the staff member can update reservation statuses.
+         * The data is fetched in the background.
+         */
+        private void loadApproval() {
+            refreshAsync();
+        }
+
+        /**
+         * Displays the reservations matching a query in the approval panel. Only the visible rows are
+         * fetched, a window at a time, as the table is scrolled.
          *
-         * @throws DatabaseOperationException if a database error occurs.
+         * @param shown      the query to display.
+         * @param matchCount the number of reservations matching the query, or -1 if they could not be counted.
          */
-        private void loadApproval() throws DatabaseOperationException {
+        private void showApproval(ReservationQuery shown, int matchCount) {
             ReservationController reservationController = new ReservationController();
-            List<Reservation> reservations = reservationController.getAllReservations(staffId);
-            JPanel updatePanel = new JPanel(new BorderLayout());
-            String[] columnNames = {"Reservation ID", "User", "Equipment", "Reservation Date", "Return Date", "Status"};
-            DefaultTableModel model = new DefaultTableModel(columnNames, 0){
-                @Override
-                public boolean isCellEditable(int row, int column){
-                    return false;
-                }
-            };
-            for (Reservation reservation : reservations) {
-                Object[] row = { reservation.getReservationId(), reservation.getUserId(), reservation.getEquipmentId(), reservation.getReservationDate(), reservation.getReturnDate(), reservation.getStatus() };
-                model.addRow(row);
+            query = shown;
+            if (reservationModel != null) {
+                reservationModel.cancel();
             }
-            final JTable table = new JTable(model);
+            ReservationTableModel model = new ReservationTableModel(shown, Math.max(0, matchCount),
+                    (windowQuery, offset, limit) -> reservationController.findReservations(windowQuery, offset, limit, staffId));
+            reservationModel = model;
+            JPanel updatePanel = new JPanel(new BorderLayout());
+            ReservationFilterBar filterBar = new ReservationFilterBar(shown, matchCount, this::runQuery);
+            model.setFailureListener(() -> filterBar.showError("Some reservations could not be loaded. Scroll to try again."));
+            updatePanel.add(filterBar, BorderLayout.NORTH);
+            final JTable table = new JTable();
+            model.install(table, this::runQuery);
             table.setFont(bigFont);
             table.setRowHeight(20);
             table.getTableHeader().setFont(boldFont);
@@ -1130,8 +1287,7 @@ public class MediaStaffFrame extends JFrame {
                     JOptionPane.showMessageDialog(this, "Please select request to update.");
                     return;
                 }
-                int reservationId = (int) model.getValueAt(selectedRow, 0);
-                Reservation selectedReservation = reservations.stream().filter(reservation -> reservation.getReservationId() == reservationId).findFirst().orElse(null);
+                Reservation selectedReservation = model.getReservation(selectedRow);
                 if(selectedReservation == null){
                     JOptionPane.showMessageDialog(this, "Reservation not found.");
                     return;
@@ -1168,7 +1324,7 @@ public class MediaStaffFrame extends JFrame {
                 JTextField textFieldReturnDate = new JTextField(reservationReturnDateString);
                 textFieldReturnDate.setEditable(false);
                 JLabel labelStatus = new JLabel("Status:");
-                String[] status = {"Approved", "Rejected"};
+                String[] status = {ReservationStatus.APPROVED.getName(), ReservationStatus.REJECTED.getName()};
                 JComboBox<String> comboBoxStatus = new JComboBox<>(status);
                 comboBoxStatus.setSelectedItem(selectedReservation.getStatus());
 
@@ -1240,7 +1396,7 @@ public class MediaStaffFrame extends JFrame {
         private void loadCheckOut() {
             // Retrieve pending checkouts from the back end.
             CheckoutController checkoutController = new CheckoutController();
-            List<String> pendingCheckouts = checkoutController.getPendingCheckouts();
+            List<Checkout> pendingCheckouts = checkoutController.listPendingCheckouts();
             if (pendingCheckouts.isEmpty()) {
                 JOptionPane.showMessageDialog(this, "No equipment is pending check-out.");
                 return;
@@ -1248,7 +1404,6 @@ public class MediaStaffFrame extends JFrame {
 
             // Create a panel with a table to display pending checkouts.
             JPanel panel = new JPanel(new BorderLayout());
-            // Define columns corresponding to the expected string format.
             String[] columnNames = {"Reservation ID", "Requester's Name", "Requested Equipment", "Reservation Date"};
             DefaultTableModel model = new DefaultTableModel(columnNames, 0){
                 @Override
@@ -1257,15 +1412,8 @@ public class MediaStaffFrame extends JFrame {
                 }
             };
 
-            // Split each string by " | " and add as a row.
-            for (String detail : pendingCheckouts) {
-                String[] parts = detail.split(" \\| ");
-                if (parts.length == 4) {
-                    model.addRow(parts);
-                } else {
-                    // Fallback if the format is unexpected.
-                    model.addRow(new Object[]{detail, "", "", ""});
-                }
+            for (Checkout checkout : pendingCheckouts) {
+                model.addRow(new Object[]{checkout.getReservationId(), checkout.getUserName(), checkout.getEquipmentName(), checkout.getDate()});
             }
 
             JTable table = new JTable(model);
@@ -1287,23 +1435,17 @@ public class MediaStaffFrame extends JFrame {
                     JOptionPane.showMessageDialog(this, "Please select a pending checkout.");
                     return;
                 }
-                try {
-                    // Extract reservation ID from the first column.
-                    String resIdStr = (String) model.getValueAt(selectedRow, 0);
-                    int resId = Integer.parseInt(resIdStr.trim());
-                    String staffId = loggedInUser.getUserId();
-                    if (staffId == null || staffId.trim().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Error: Invalid staff ID.");
-                        return;
-                    }
-                    boolean success = checkoutController.checkOutEquipment(resId, staffId);
-                    if (success)
-                        JOptionPane.showMessageDialog(this, "Equipment checked out successfully.");
-                    else
-                        JOptionPane.showMessageDialog(this, "Failed to check out equipment.");
-                } catch (NumberFormatException ex) {
-                    JOptionPane.showMessageDialog(this, "Error parsing reservation ID: " + ex.getMessage());
+                int resId = pendingCheckouts.get(selectedRow).getReservationId();
+                String staffId = loggedInUser.getUserId();
+                if (staffId == null || staffId.trim().isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Error: Invalid staff ID.");
+                    return;
                 }
+                boolean success = checkoutController.checkOutEquipment(resId, staffId);
+                if (success)
+                    JOptionPane.showMessageDialog(this, "Equipment checked out successfully.");
+                else
+                    JOptionPane.showMessageDialog(this, "Failed to check out equipment.");
             });
 
             contentPanel.removeAll();
@@ -1318,7 +1460,7 @@ public class MediaStaffFrame extends JFrame {
         private void loadCheckIn() {
             // Retrieve checked-out equipment from the back end.
             CheckoutController checkoutController = new CheckoutController();
-            List<String> checkedOutList = checkoutController.getCheckedOutEquipment();
+            List<Checkout> checkedOutList = checkoutController.listCheckedOutEquipment();
             if (checkedOutList.isEmpty()) {
                 JOptionPane.showMessageDialog(this, "No equipment is currently checked out.");
                 return;
@@ -1334,13 +1476,8 @@ public class MediaStaffFrame extends JFrame {
                 }
             };
 
-            for (String detail : checkedOutList) {
-                String[] parts = detail.split(" \\| ");
-                if (parts.length == 4) {
-                    model.addRow(parts);
-                } else {
-                    model.addRow(new Object[]{detail, "", "", ""});
-                }
+            for (Checkout checkout : checkedOutList) {
+                model.addRow(new Object[]{checkout.getReservationId(), checkout.getUserName(), checkout.getEquipmentName(), checkout.getDate()});
             }
 
             JTable table = new JTable(model);
@@ -1362,38 +1499,32 @@ public class MediaStaffFrame extends JFrame {
                     JOptionPane.showMessageDialog(this, "Please select equipment to check in.");
                     return;
                 }
-                try {
-                    // Extract reservation ID from the first column.
-                    String resIdStr = (String) model.getValueAt(selectedRow, 0);
-                    int resId = Integer.parseInt(resIdStr.trim());
-                    String staffId = loggedInUser.getUserId();
-                    if (staffId == null || staffId.trim().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Error: Invalid staff ID.");
-                        return;
-                    }
-                    String[] states = {"Good", "Fair", "Poor"};
-                    String equipmentState = (String) JOptionPane.showInputDialog(
-                            this,
-                            "Select Equipment State:",
-                            "Equipment State",
-                            JOptionPane.QUESTION_MESSAGE,
-                            null,
-                            states,
-                            states[0]
-                    );
-                    if (equipmentState == null || equipmentState.trim().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Equipment state is required.");
-                        return;
-                    }
-
-                    boolean success = checkoutController.checkInEquipment(resId, staffId, equipmentState);
-                    if (success)
-                        JOptionPane.showMessageDialog(this, "Equipment checked in successfully.");
-                    else
-                        JOptionPane.showMessageDialog(this, "Failed to check in equipment.");
-                } catch (NumberFormatException ex) {
-                    JOptionPane.showMessageDialog(this, "Error parsing reservation ID: " + ex.getMessage());
+                int resId = checkedOutList.get(selectedRow).getReservationId();
+                String staffId = loggedInUser.getUserId();
+                if (staffId == null || staffId.trim().isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Error: Invalid staff ID.");
+                    return;
+                }
+                String[] states = ReferenceData.getInstance().getReturnStateNames();
+                String equipmentState = (String) JOptionPane.showInputDialog(
+                        this,
+                        "Select Equipment State:",
+                        "Equipment State",
+                        JOptionPane.QUESTION_MESSAGE,
+                        null,
+                        states,
+                        states[0]
+                );
+                if (equipmentState == null || equipmentState.trim().isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "Equipment state is required.");
+                    return;
                 }
+
+                boolean success = checkoutController.checkInEquipment(resId, staffId, equipmentState);
+                if (success)
+                    JOptionPane.showMessageDialog(this, "Equipment checked in successfully.");
+                else
+                    JOptionPane.showMessageDialog(this, "Failed to check in equipment.");
             });
 
             contentPanel.removeAll();
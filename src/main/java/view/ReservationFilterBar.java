@@ -0,0 +1,137 @@
+package view;
+
+import controller.ReferenceData;
+import model.ReservationQuery;
+import model.ReservationStatus;
+
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+/**
+ * The filter controls above the reservation approval table: status, reservation date range, user ID and
+ * equipment type. Applying the filters hands a new {@link ReservationQuery} to the panel, which runs it on
+ * the server; the current sort order is kept. When the reservations cannot be counted or loaded, the bar
+ * shows an error in place of the match count.
+ */
+class ReservationFilterBar extends JPanel {
+    private static final String ALL = "All";
+
+    private final ReservationQuery query;
+    private final Consumer<ReservationQuery> apply;
+    private final JComboBox<String> comboBoxStatus = new JComboBox<>(withAll(ReservationStatus.names()));
+    private final JTextField textFieldFrom = new JTextField(9);
+    private final JTextField textFieldTo = new JTextField(9);
+    private final JTextField textFieldUserId = new JTextField(8);
+    private final JComboBox<String> comboBoxType = new JComboBox<>(withAll(ReferenceData.getInstance().getEquipmentTypeNames()));
+    private final JLabel labelMatches = new JLabel(" ");
+
+    /**
+     * Constructs a filter bar showing the criteria of a query.
+     *
+     * @param query      the query currently shown.
+     * @param matchCount the number of reservations matching the query, or -1 if they could not be counted.
+     * @param apply      receives the new query when the filters are applied or cleared.
+     */
+    ReservationFilterBar(ReservationQuery query, int matchCount, Consumer<ReservationQuery> apply) {
+        super(new FlowLayout(FlowLayout.LEFT));
+        this.query = new ReservationQuery(query);
+        this.apply = apply;
+
+        comboBoxStatus.setSelectedItem(query.getStatus() == null ? ALL : query.getStatus().getName());
+        textFieldFrom.setText(query.getFrom() == null ? "" : query.getFrom().toString());
+        textFieldTo.setText(query.getTo() == null ? "" : query.getTo().toString());
+        textFieldUserId.setText(query.getUserId() == null ? "" : query.getUserId());
+        comboBoxType.setSelectedItem(query.getEquipmentType() == null ? ALL : query.getEquipmentType());
+        if (matchCount < 0) {
+            showError("Could not count the reservations. Click Apply to try again.");
+        } else {
+            labelMatches.setText(matchCount == 1 ? "1 reservation" : matchCount + " reservations");
+        }
+
+        JButton applyButton = new JButton("Apply");
+        applyButton.setFocusPainted(false);
+        JButton clearButton = new JButton("Clear");
+        clearButton.setFocusPainted(false);
+
+        add(new JLabel("Status:"));
+        add(comboBoxStatus);
+        add(new JLabel("From:"));
+        add(textFieldFrom);
+        add(new JLabel("To:"));
+        add(textFieldTo);
+        add(new JLabel("User ID:"));
+        add(textFieldUserId);
+        add(new JLabel("Type:"));
+        add(comboBoxType);
+        add(applyButton);
+        add(clearButton);
+        add(labelMatches);
+
+        applyButton.addActionListener(e -> applyFilters());
+        // Enter in a text field applies the filters too.
+        textFieldFrom.addActionListener(e -> applyFilters());
+        textFieldTo.addActionListener(e -> applyFilters());
+        textFieldUserId.addActionListener(e -> applyFilters());
+        clearButton.addActionListener(e -> {
+            ReservationQuery cleared = new ReservationQuery();
+            cleared.setSortKey(this.query.getSortKey());
+            cleared.setDescending(this.query.isDescending());
+            apply.accept(cleared);
+        });
+    }
+
+    /**
+     * Shows an error in place of the match count.
+     *
+     * @param message the message to show.
+     */
+    void showError(String message) {
+        labelMatches.setForeground(Color.RED);
+        labelMatches.setText(message);
+    }
+
+    /**
+     * Reads the filter fields into a new query and hands it on, or reports a badly formed date.
+     */
+    private void applyFilters() {
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = textFieldFrom.getText().trim().isEmpty() ? null : LocalDate.parse(textFieldFrom.getText().trim());
+            to = textFieldTo.getText().trim().isEmpty() ? null : LocalDate.parse(textFieldTo.getText().trim());
+        } catch (DateTimeParseException ex) {
+            JOptionPane.showMessageDialog(this, "Enter dates as yyyy-mm-dd, e.g. 2025-02-26.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            JOptionPane.showMessageDialog(this, "The start date must not be after the end date.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        ReservationQuery filtered = new ReservationQuery(query);
+        filtered.setStatus(ReservationStatus.fromName((String) comboBoxStatus.getSelectedItem()));
+        filtered.setFrom(from);
+        filtered.setTo(to);
+        String userId = textFieldUserId.getText().trim();
+        filtered.setUserId(userId.isEmpty() ? null : userId);
+        String type = (String) comboBoxType.getSelectedItem();
+        filtered.setEquipmentType(ALL.equals(type) ? null : type);
+        apply.accept(filtered);
+    }
+
+    private static String[] withAll(String[] names) {
+        String[] items = new String[names.length + 1];
+        items[0] = ALL;
+        System.arraycopy(names, 0, items, 1, names.length);
+        return items;
+    }
+}
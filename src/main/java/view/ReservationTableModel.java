@@ -0,0 +1,245 @@
+package view;
+
+import model.Reservation;
+import model.ReservationQuery;
+
+import javax.swing.JTable;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.JTableHeader;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * A read-only table of the reservations matching a {@link ReservationQuery}, fetched lazily as it is scrolled.
+ * <p>
+ * The model knows the total number of matching rows up front, but holds only a few fixed-size windows of them.
+ * When the table asks for a row that is not held, the model shows a placeholder and fetches the row's window
+ * on a {@link BackgroundLoader}; the rows are repainted once the window arrives. The least recently used
+ * window is dropped when the limit is reached, so memory use does not grow with the size of the history.
+ * A few windows can be fetched at once, so a viewport that straddles two windows gets both. A window
+ * that fails to load is not held, so it is fetched again the next time the table asks for one of its rows.
+ * </p>
+ * <p>
+ * Sorting is done by the database: {@link #install(JTable, Consumer)} turns header clicks into a new query.
+ * Instances are meant to be used from the Event Dispatch Thread.
+ * </p>
+ */
+class ReservationTableModel extends AbstractTableModel {
+    static final int WINDOW_SIZE = 100;
+    static final int MAX_WINDOWS = 8;
+    static final int MAX_PENDING_WINDOWS = 3;
+    static final String LOADING = "Loading...";
+
+    private static final String[] COLUMN_NAMES = {"Reservation ID", "User", "Equipment", "Reservation Date", "Return Date", "Status"};
+    private static final ReservationQuery.SortKey[] SORT_KEYS = {
+            ReservationQuery.SortKey.RESERVATION_ID,
+            ReservationQuery.SortKey.USER_NAME,
+            ReservationQuery.SortKey.EQUIPMENT_NAME,
+            ReservationQuery.SortKey.RESERVATION_DATE,
+            ReservationQuery.SortKey.RETURN_DATE,
+            ReservationQuery.SortKey.STATUS
+    };
+
+    /**
+     * Fetches one window of rows, or returns null if it could not be fetched; implemented with the
+     * reservation controller, or by a fixed list in tests.
+     */
+    @FunctionalInterface
+    interface WindowSource {
+        List<Reservation> fetch(ReservationQuery query, int offset, int limit);
+    }
+
+    private final ReservationQuery query;
+    private final int rowCount;
+    private final WindowSource source;
+    private final Map<Integer, List<Reservation>> windows = new LinkedHashMap<>(MAX_WINDOWS * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<Reservation>> eldest) {
+            return size() > MAX_WINDOWS;
+        }
+    };
+    // The loaders of the windows being fetched, oldest first.
+    private final Map<Integer, BackgroundLoader> pending = new LinkedHashMap<>();
+    private Runnable failureListener = () -> { };
+
+    /**
+     * Constructs a model for the reservations matching a query.
+     *
+     * @param query    the filter and sort criteria; the model keeps its own copy.
+     * @param rowCount the number of matching reservations.
+     * @param source   fetches windows of rows.
+     */
+    ReservationTableModel(ReservationQuery query, int rowCount, WindowSource source) {
+        this.query = new ReservationQuery(query);
+        this.rowCount = rowCount;
+        this.source = source;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        if (SORT_KEYS[column] != query.getSortKey()) {
+            return COLUMN_NAMES[column];
+        }
+        return COLUMN_NAMES[column] + (query.isDescending() ? " \u25BC" : " \u25B2");
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        List<Reservation> rows = windowOf(row);
+        if (rows == null) {
+            return column == 0 ? LOADING : null;
+        }
+        int index = row % WINDOW_SIZE;
+        // The window is short if reservations were deleted after the rows were counted.
+        if (index >= rows.size()) {
+            return null;
+        }
+        Reservation reservation = rows.get(index);
+        switch (column) {
+            case 0:
+                return reservation.getReservationId();
+            case 1:
+                return reservation.getUserId();
+            case 2:
+                return reservation.getEquipmentId();
+            case 3:
+                return reservation.getReservationDate();
+            case 4:
+                return reservation.getReturnDate();
+            default:
+                return reservation.getStatus();
+        }
+    }
+
+    /**
+     * Returns the reservation shown in a row.
+     *
+     * @param row the row index.
+     * @return the reservation, or null if its window is still being fetched.
+     */
+    Reservation getReservation(int row) {
+        List<Reservation> rows = windowOf(row);
+        int index = row % WINDOW_SIZE;
+        return rows == null || index >= rows.size() ? null : rows.get(index);
+    }
+
+    /**
+     * Returns the window holding a row, starting to fetch it if it is not held.
+     */
+    private List<Reservation> windowOf(int row) {
+        int window = row / WINDOW_SIZE;
+        List<Reservation> rows = windows.get(window);
+        if (rows == null) {
+            loadWindow(window);
+        }
+        return rows;
+    }
+
+    /**
+     * Sets the callback run on the Event Dispatch Thread when a window could not be fetched.
+     *
+     * @param failureListener the callback, e.g. one that shows an error next to the table.
+     */
+    void setFailureListener(Runnable failureListener) {
+        this.failureListener = failureListener;
+    }
+
+    /**
+     * Returns a copy of the query the model shows.
+     *
+     * @return the query.
+     */
+    ReservationQuery getQuery() {
+        return new ReservationQuery(query);
+    }
+
+    /**
+     * Starts fetching a window of rows, unless it is already held or being fetched. At most
+     * {@value #MAX_PENDING_WINDOWS} windows are fetched at once: when the limit is reached, the oldest fetch
+     * is cancelled, since the user has scrolled away from it.
+     *
+     * @param window the window index.
+     * @return a {@link Future} that completes once the rows have been added, or null if nothing was started.
+     */
+    Future<?> loadWindow(int window) {
+        if (pending.containsKey(window) || windows.containsKey(window)) {
+            return null;
+        }
+        if (pending.size() == MAX_PENDING_WINDOWS) {
+            Iterator<BackgroundLoader> oldest = pending.values().iterator();
+            oldest.next().cancel();
+            oldest.remove();
+        }
+        BackgroundLoader loader = new BackgroundLoader();
+        pending.put(window, loader);
+        int offset = window * WINDOW_SIZE;
+        int limit = Math.min(WINDOW_SIZE, rowCount - offset);
+        return loader.load(() -> source.fetch(query, offset, limit), rows -> {
+            pending.remove(window);
+            if (rows == null) {
+                // Not repainted, so the rows keep their placeholder and are requested again on the next paint.
+                failureListener.run();
+                return;
+            }
+            windows.put(window, rows);
+            fireTableRowsUpdated(offset, offset + limit - 1);
+        });
+    }
+
+    /**
+     * Stops fetching rows; windows still in flight are discarded.
+     */
+    void cancel() {
+        for (BackgroundLoader loader : pending.values()) {
+            loader.cancel();
+        }
+        pending.clear();
+    }
+
+    /**
+     * Shows the model in a table and sorts by a column when its header is clicked. Clicking the sorted column
+     * again reverses the order.
+     *
+     * @param table  the table to show the model in.
+     * @param resort receives the query for the new order; it is expected to replace the model.
+     */
+    void install(JTable table, Consumer<ReservationQuery> resort) {
+        table.setModel(this);
+        JTableHeader header = table.getTableHeader();
+        header.setReorderingAllowed(false);
+        header.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int column = table.convertColumnIndexToModel(table.columnAtPoint(e.getPoint()));
+                if (column < 0 || table.getModel() != ReservationTableModel.this) {
+                    return;
+                }
+                ReservationQuery sorted = getQuery();
+                if (sorted.getSortKey() == SORT_KEYS[column]) {
+                    sorted.setDescending(!sorted.isDescending());
+                } else {
+                    sorted.setSortKey(SORT_KEYS[column]);
+                    sorted.setDescending(false);
+                }
+                cancel();
+                resort.accept(sorted);
+            }
+        });
+    }
+}
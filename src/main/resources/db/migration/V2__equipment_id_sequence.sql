@@ -0,0 +1,89 @@
+-- Per-prefix equipment ID sequence, so AddEquipment no longer scans the equipment table for the highest ID.
+
+CREATE TABLE equipment_id_sequence (
+  prefix VARCHAR(3) NOT NULL,
+  last_value INT UNSIGNED NOT NULL,
+  PRIMARY KEY (prefix)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- Continue each prefix from the highest number already in use.
+INSERT INTO equipment_id_sequence (prefix, last_value)
+SELECT LEFT(equipment_id, 3), MAX(CAST(SUBSTRING(equipment_id, 4) AS UNSIGNED))
+FROM equipment
+GROUP BY LEFT(equipment_id, 3);
+
+DROP PROCEDURE IF EXISTS AddEquipment;
+
+DELIMITER ;;
+CREATE PROCEDURE AddEquipment(
+    IN p_name VARCHAR(100),
+    IN p_type VARCHAR(50),
+    IN p_description VARCHAR(255),
+    IN p_state ENUM('New', 'Good', 'Fair', 'Poor'),
+    IN p_user_id VARCHAR(10)
+)
+BEGIN
+    -- Declare variables
+    DECLARE p_equipment_id VARCHAR(10);
+    DECLARE p_prefix VARCHAR(10);
+    DECLARE p_number INT UNSIGNED;
+    DECLARE affected_rows INT DEFAULT 0;
+
+    -- General error handler
+    DECLARE EXIT HANDLER FOR SQLEXCEPTION
+    BEGIN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Error occurred while adding equipment.';
+    END;
+
+    -- Validate user role
+    IF (SELECT COUNT(*) FROM Users WHERE user_id = p_user_id AND role IN ('Admin', 'MediaStaff')) = 0 THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Permission denied: Only Admins or MediaStaff can add equipment.';
+    END IF;
+
+    -- Validate equipment type
+    IF p_type NOT IN ('Camera', 'Microphone', 'Audio Recorder', 'Lighting', 'Projector',
+                      'Laptop', 'Tripod', 'Gimbal', 'Headphones', 'Tablet', 'VR Headset', 'Drone') THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Invalid equipment type.';
+    END IF;
+
+    -- Map type to prefix
+    SET p_prefix = CASE p_type
+        WHEN 'Camera' THEN 'CAM'
+        WHEN 'Microphone' THEN 'MIC'
+        WHEN 'Audio Recorder' THEN 'AUD'
+        WHEN 'Lighting' THEN 'LGT'
+        WHEN 'Projector' THEN 'PRJ'
+        WHEN 'Laptop' THEN 'LAP'
+        WHEN 'Tripod' THEN 'TRP'
+        WHEN 'Gimbal' THEN 'GMB'
+        WHEN 'Headphones' THEN 'HPN'
+        WHEN 'Tablet' THEN 'TAB'
+        WHEN 'VR Headset' THEN 'VRH'
+        WHEN 'Drone' THEN 'DRN'
+        ELSE 'OTH'
+    END;
+
+    -- Take the next number for the prefix with a single primary key upsert. The row lock makes concurrent
+    -- callers take turns, and LAST_INSERT_ID(expr) hands the new value back to this session only.
+    INSERT INTO equipment_id_sequence (prefix, last_value)
+    VALUES (p_prefix, LAST_INSERT_ID(1))
+    ON DUPLICATE KEY UPDATE last_value = LAST_INSERT_ID(last_value + 1);
+    SET p_number = LAST_INSERT_ID();
+
+    -- Pad to at least three digits; numbers above 999 keep all their digits.
+    SET p_equipment_id = CONCAT(p_prefix, IF(p_number < 1000, LPAD(p_number, 3, '0'), p_number));
+
+    -- Insert into Equipment table
+    INSERT INTO Equipment (equipment_id, name, type, description, status, state)
+    VALUES (p_equipment_id, p_name, p_type, p_description, 'Available', p_state);
+
+    -- Get affected rows count
+    SET affected_rows = ROW_COUNT();
+
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+    -- Return affected rows and equipment ID
+    SELECT affected_rows AS RowsAffected, p_equipment_id AS EquipmentID;
+END ;;
+DELIMITER ;
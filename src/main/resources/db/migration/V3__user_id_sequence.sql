@@ -0,0 +1,100 @@
+-- Per-prefix user ID sequence for Lecturers (L), MediaStaff (M) and Admins (A), so AddUser no longer
+-- counts users by role, which scanned the table and reused IDs after a deletion.
+
+CREATE TABLE user_id_sequence (
+  prefix CHAR(1) NOT NULL,
+  last_value INT UNSIGNED NOT NULL,
+  PRIMARY KEY (prefix)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- Continue each prefix from the highest number already in use. Every prefix gets a row up front, so
+-- concurrent first inserts only ever update an existing row.
+INSERT INTO user_id_sequence (prefix, last_value)
+SELECT p.prefix, COALESCE(MAX(CAST(SUBSTRING(u.user_id, 2) AS UNSIGNED)), 0)
+FROM (SELECT 'L' AS prefix, 'Lecturer' AS role
+      UNION ALL SELECT 'M', 'MediaStaff'
+      UNION ALL SELECT 'A', 'Admin') p
+LEFT JOIN users u ON u.role = p.role AND u.user_id REGEXP CONCAT('^', p.prefix, '[0-9]+$')
+GROUP BY p.prefix;
+
+DROP PROCEDURE IF EXISTS AddUser;
+
+DELIMITER ;;
+CREATE PROCEDURE AddUser(
+    IN p_email VARCHAR(100),
+    IN p_password VARCHAR(255),  -- Must be a hashed password.
+    IN p_role ENUM('Student', 'Lecturer', 'Admin', 'MediaStaff'),
+    IN p_name VARCHAR(100),
+    IN p_course VARCHAR(100),
+    IN p_department VARCHAR(100),
+    IN p_year INT,
+    IN p_creator_id VARCHAR(10)
+)
+BEGIN
+    DECLARE p_user_id VARCHAR(10);
+    DECLARE p_number INT UNSIGNED;
+
+    DECLARE EXIT HANDLER FOR SQLEXCEPTION
+    BEGIN
+        ROLLBACK;
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Error occurred while adding user.';
+    END;
+
+    START TRANSACTION;
+
+    IF (SELECT role FROM users WHERE user_id = p_creator_id) != 'Admin' THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Permission denied: Only Admins can add users.';
+    END IF;
+
+    IF p_name IS NULL OR p_name = '' THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Name is required.';
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM users WHERE email = p_email) THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Email already exists.';
+    END IF;
+
+    IF p_role = 'Student' THEN
+        SET p_user_id = SUBSTRING_INDEX(p_email, '@', 1);
+    ELSEIF p_role IN ('Lecturer', 'MediaStaff', 'Admin') THEN
+        SET p_user_id = CASE p_role WHEN 'Lecturer' THEN 'L' WHEN 'MediaStaff' THEN 'M' ELSE 'A' END;
+
+        -- Take the next number with a single primary key update. The row stays locked until COMMIT, so
+        -- concurrent inserts for the same role take turns and a rolled-back insert gives its number back.
+        UPDATE user_id_sequence SET last_value = LAST_INSERT_ID(last_value + 1) WHERE prefix = p_user_id;
+        SET p_number = LAST_INSERT_ID();
+
+        -- Pad to at least three digits; numbers above 999 keep all their digits.
+        SET p_user_id = CONCAT(p_user_id, IF(p_number < 1000, LPAD(p_number, 3, '0'), p_number));
+    ELSE
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Invalid role.';
+    END IF;
+
+    INSERT INTO users (user_id, name, email, password, role)
+    VALUES (p_user_id, p_name, p_email, p_password, p_role);
+
+    IF p_role = 'Student' THEN
+        IF p_course IS NULL OR p_course = '' THEN
+            SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Course is required for students.';
+        END IF;
+        IF p_year NOT BETWEEN 1 AND 5 THEN
+            SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Invalid academic year.';
+        END IF;
+
+        INSERT INTO students (student_id, course, department, year)
+        VALUES (p_user_id, p_course, p_department, p_year);
+    ELSEIF p_role = 'Lecturer' THEN
+        IF p_department IS NULL OR p_department = '' THEN
+            SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Department is required for lecturers.';
+        END IF;
+
+        INSERT INTO lecturers (lecturer_id, department)
+        VALUES (p_user_id, p_department);
+    END IF;
+
+    COMMIT;
+
+    -- Return the ID assigned to the new user
+    SELECT p_user_id AS UserID;
+END ;;
+DELIMITER ;
@@ -0,0 +1,84 @@
+-- Equipment types and their ID prefixes as reference data, read by the application's combo boxes and by
+-- AddEquipment, instead of being repeated in the procedure and in each form.
+
+CREATE TABLE equipment_types (
+  type_name VARCHAR(50) NOT NULL,
+  prefix VARCHAR(3) NOT NULL,
+  sort_order SMALLINT UNSIGNED NOT NULL,
+  PRIMARY KEY (type_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- The types AddEquipment accepted before, plus Other, which the forms already offered.
+INSERT INTO equipment_types (type_name, prefix, sort_order) VALUES
+  ('Audio Recorder', 'AUD', 1),
+  ('Camera', 'CAM', 2),
+  ('Drone', 'DRN', 3),
+  ('Gimbal', 'GMB', 4),
+  ('Headphones', 'HPN', 5),
+  ('Laptop', 'LAP', 6),
+  ('Lighting', 'LGT', 7),
+  ('Microphone', 'MIC', 8),
+  ('Projector', 'PRJ', 9),
+  ('Tablet', 'TAB', 10),
+  ('Tripod', 'TRP', 11),
+  ('VR Headset', 'VRH', 12),
+  ('Other', 'OTH', 100);
+
+DROP PROCEDURE IF EXISTS AddEquipment;
+
+DELIMITER ;;
+CREATE PROCEDURE AddEquipment(
+    IN p_name VARCHAR(100),
+    IN p_type VARCHAR(50),
+    IN p_description VARCHAR(255),
+    IN p_state ENUM('New', 'Good', 'Fair', 'Poor'),
+    IN p_user_id VARCHAR(10)
+)
+BEGIN
+    -- Declare variables
+    DECLARE p_equipment_id VARCHAR(10);
+    DECLARE p_prefix VARCHAR(10);
+    DECLARE p_number INT UNSIGNED;
+    DECLARE affected_rows INT DEFAULT 0;
+
+    -- General error handler
+    DECLARE EXIT HANDLER FOR SQLEXCEPTION
+    BEGIN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Error occurred while adding equipment.';
+    END;
+
+    -- Validate user role
+    IF (SELECT COUNT(*) FROM Users WHERE user_id = p_user_id AND role IN ('Admin', 'MediaStaff')) = 0 THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Permission denied: Only Admins or MediaStaff can add equipment.';
+    END IF;
+
+    -- Look up the prefix of the equipment type
+    SELECT prefix INTO p_prefix FROM equipment_types WHERE type_name = p_type;
+    IF p_prefix IS NULL THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'Invalid equipment type.';
+    END IF;
+
+    -- Take the next number for the prefix with a single primary key upsert. The row lock makes concurrent
+    -- callers take turns, and LAST_INSERT_ID(expr) hands the new value back to this session only.
+    INSERT INTO equipment_id_sequence (prefix, last_value)
+    VALUES (p_prefix, LAST_INSERT_ID(1))
+    ON DUPLICATE KEY UPDATE last_value = LAST_INSERT_ID(last_value + 1);
+    SET p_number = LAST_INSERT_ID();
+
+    -- Pad to at least three digits; numbers above 999 keep all their digits.
+    SET p_equipment_id = CONCAT(p_prefix, IF(p_number < 1000, LPAD(p_number, 3, '0'), p_number));
+
+    -- Insert into Equipment table
+    INSERT INTO Equipment (equipment_id, name, type, description, status, state)
+    VALUES (p_equipment_id, p_name, p_type, p_description, 'Available', p_state);
+
+    -- Get affected rows count
+    SET affected_rows = ROW_COUNT();
+
+    -- Let polling clients know that the data has changed
+    UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+    -- Return affected rows and equipment ID
+    SELECT affected_rows AS RowsAffected, p_equipment_id AS EquipmentID;
+END ;;
+DELIMITER ;
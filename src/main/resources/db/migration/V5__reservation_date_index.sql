@@ -0,0 +1,4 @@
+-- Reservation list sorted by date without a status filter (ORDER BY r.reservation_date, r.reservation_id
+-- LIMIT ? OFFSET ?). InnoDB appends the primary key to every secondary index, so the tie-break on
+-- reservation_id is covered as well.
+CREATE INDEX idx_reservations_date ON reservations (reservation_date);
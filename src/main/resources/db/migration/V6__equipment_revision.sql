@@ -0,0 +1,14 @@
+-- A change counter for the equipment table alone. The equipment catalog revalidates against it instead of
+-- change_revision.revision, which every reservation bumps even though reserving never changes equipment.
+ALTER TABLE change_revision ADD COLUMN equipment_revision bigint unsigned NOT NULL DEFAULT '0';
+
+-- Triggers rather than procedure changes, so every write to equipment moves the counter: the equipment
+-- procedures, and the reservation and checkout procedures that set equipment status.
+CREATE TRIGGER equipment_revision_after_insert AFTER INSERT ON equipment FOR EACH ROW
+UPDATE change_revision SET equipment_revision = equipment_revision + 1 WHERE id = 1;
+
+CREATE TRIGGER equipment_revision_after_update AFTER UPDATE ON equipment FOR EACH ROW
+UPDATE change_revision SET equipment_revision = equipment_revision + 1 WHERE id = 1;
+
+CREATE TRIGGER equipment_revision_after_delete AFTER DELETE ON equipment FOR EACH ROW
+UPDATE change_revision SET equipment_revision = equipment_revision + 1 WHERE id = 1;
@@ -0,0 +1,41 @@
+-- Every write to a table the dashboards read moves change_revision.revision. The procedures in the baseline
+-- dump bump it themselves, but a database migrated from an older dump still runs procedures without the bump,
+-- and only AddEquipment is recreated by a migration. Triggers cover both, as V6 does for equipment_revision;
+-- where the procedures still bump it, a write moves the revision twice, which is harmless because the
+-- dashboards only check whether the revision has changed.
+
+CREATE TRIGGER reservations_change_revision_after_insert AFTER INSERT ON reservations FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER reservations_change_revision_after_update AFTER UPDATE ON reservations FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER reservations_change_revision_after_delete AFTER DELETE ON reservations FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER checkouts_change_revision_after_insert AFTER INSERT ON checkouts FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER checkouts_change_revision_after_update AFTER UPDATE ON checkouts FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER checkouts_change_revision_after_delete AFTER DELETE ON checkouts FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER equipment_change_revision_after_insert AFTER INSERT ON equipment FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER equipment_change_revision_after_update AFTER UPDATE ON equipment FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER equipment_change_revision_after_delete AFTER DELETE ON equipment FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER users_change_revision_after_insert AFTER INSERT ON users FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER users_change_revision_after_update AFTER UPDATE ON users FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
+
+CREATE TRIGGER users_change_revision_after_delete AFTER DELETE ON users FOR EACH ROW
+UPDATE change_revision SET revision = revision + 1 WHERE id = 1;
@@ -0,0 +1,71 @@
+package controller;
+
+import model.DashboardStats;
+import model.DashboardStatsDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+/**
+ * Unit tests for the DashboardController class.
+ *
+ * <p>
+ * These tests verify that DashboardController restricts the dashboard statistics to Admin and
+ * Media Staff users and passes through the aggregates produced by the DAO.
+ * </p>
+ */
+public class DashboardControllerTest {
+
+    private DashboardStatsDAO dashboardStatsDAOMock;
+    private DashboardController dashboardController;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dashboardStatsDAOMock = mock(DashboardStatsDAO.class);
+
+        dashboardController = new DashboardController() {
+            {
+                java.lang.reflect.Field daoField = DashboardController.class.getDeclaredField("dashboardStatsDAO");
+                daoField.setAccessible(true);
+                daoField.set(this, dashboardStatsDAOMock);
+            }
+        };
+    }
+
+    @Test
+    public void testGetDashboardStatsValidRole() throws Exception {
+        DashboardStats stats = new DashboardStats(Map.of("New", 3, "Good", 1), 4, 1,
+                Map.of("Pending", 2), Map.of("L001", 2));
+        when(dashboardStatsDAOMock.getDashboardStats()).thenReturn(stats);
+
+        DashboardStats result = dashboardController.getDashboardStats("MediaStaff");
+        assertEquals(3, result.getEquipmentCountByState("New"));
+        assertEquals(0, result.getEquipmentCountByState("Poor"));
+        assertEquals(3, result.getNotCheckedOutEquipment());
+        assertEquals(2, result.getReservationCountByStatus("Pending"));
+    }
+
+    @Test
+    public void testGetDashboardStatsInvalidRole() throws Exception {
+        DashboardStats result = dashboardController.getDashboardStats("Student");
+        assertEquals(new DashboardStats(), result, "Invalid role should lead to empty statistics.");
+        verify(dashboardStatsDAOMock, never()).getDashboardStats();
+    }
+
+    @Test
+    public void testGetChangeRevisionValidRole() throws Exception {
+        when(dashboardStatsDAOMock.getRevision()).thenReturn(42L);
+
+        assertEquals(42L, dashboardController.getChangeRevision("Admin"));
+        verify(dashboardStatsDAOMock, never()).getDashboardStats();
+    }
+
+    @Test
+    public void testGetChangeRevisionInvalidRole() throws Exception {
+        assertEquals(-1L, dashboardController.getChangeRevision("Lecturer"), "Invalid role should lead to an unknown revision.");
+        verify(dashboardStatsDAOMock, never()).getRevision();
+    }
+}
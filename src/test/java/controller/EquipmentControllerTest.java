@@ -62,4 +62,21 @@ public class EquipmentControllerTest {
         List<Equipment> result = equipmentController.getAllEquipment("Student");
         assertTrue(result.isEmpty(), "Invalid role should lead to an empty equipment list.");
     }
+
+    @Test
+    public void testGetEquipmentPagePassesCursor() throws Exception {
+        List<Equipment> page = Arrays.asList(
+                new Equipment("CAM003", "Camera", "Camera", "Mirrorless camera", "Available", "New")
+        );
+        when(equipmentDAOMock.getEquipmentPage("Camera", null, "CAM002", 50)).thenReturn(page);
+        List<Equipment> result = equipmentController.getEquipmentPage("Camera", null, "CAM002", 50, "Admin");
+        assertEquals(page, result, "The controller should return the page produced by the DAO.");
+    }
+
+    @Test
+    public void testGetEquipmentPageInvalidPageSize() throws Exception {
+        when(equipmentDAOMock.getEquipmentPage(null, null, null, 0)).thenThrow(new IllegalArgumentException("bad size"));
+        List<Equipment> result = equipmentController.getEquipmentPage(null, null, null, 0, "Admin");
+        assertNull(result, "A failed page should be reported as null rather than as the end of the list.");
+    }
 }
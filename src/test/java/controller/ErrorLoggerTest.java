@@ -0,0 +1,77 @@
+package controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Unit tests for the ErrorLogger class.
+ *
+ * <p>
+ * These tests write to a temporary directory and verify that queued entries reach their log file,
+ * that a full log file is rotated, and that every entry is either written or counted as dropped.
+ * </p>
+ */
+public class ErrorLoggerTest {
+
+    @TempDir
+    Path logDir;
+
+    @Test
+    public void testEntriesAreWrittenToTheirFile() throws IOException {
+        ErrorLogger logger = new ErrorLogger(logDir, 16, 1024 * 1024, 2);
+        logger.log("checkout_errors.log", "Error during equipment checkout", new IllegalStateException("boom"));
+        logger.log("error.log", "Error in requestReservation", null);
+        assertTrue(logger.flush(5000));
+
+        String checkoutLog = Files.readString(logDir.resolve("checkout_errors.log"));
+        assertTrue(checkoutLog.contains("] Error during equipment checkout"));
+        assertTrue(checkoutLog.contains("java.lang.IllegalStateException: boom"));
+        assertTrue(Files.readString(logDir.resolve("error.log")).contains("] Error in requestReservation"));
+    }
+
+    @Test
+    public void testCallerTimestampIsWrittenAsGiven() throws IOException {
+        ErrorLogger logger = new ErrorLogger(logDir, 16, 1024 * 1024, 2);
+        java.util.Date time = new java.util.Date(0);
+        logger.log("error.log", time, "java.lang.RuntimeException: boom", null);
+        assertTrue(logger.flush(5000));
+
+        assertTrue(Files.readString(logDir.resolve("error.log")).startsWith("[" + time + "] java.lang.RuntimeException: boom"));
+    }
+
+    @Test
+    public void testFullFileIsRotated() throws IOException {
+        ErrorLogger logger = new ErrorLogger(logDir, 16, 10, 2);
+        for (int i = 1; i <= 4; i++) {
+            logger.log("error.log", "entry " + i, null);
+            assertTrue(logger.flush(5000));
+        }
+
+        assertTrue(Files.readString(logDir.resolve("error.log")).contains("entry 4"));
+        assertTrue(Files.readString(logDir.resolve("error.log.1")).contains("entry 3"));
+        assertTrue(Files.readString(logDir.resolve("error.log.2")).contains("entry 2"));
+        assertFalse(Files.exists(logDir.resolve("error.log.3")), "Only the configured number of backups should be kept.");
+    }
+
+    @Test
+    public void testEntriesAreWrittenOrCountedAsDropped() throws IOException {
+        ErrorLogger logger = new ErrorLogger(logDir, 1, 1024 * 1024, 0);
+        int total = 5000;
+        for (int i = 0; i < total; i++) {
+            logger.log("equipment_errors.log", "entry " + i, null);
+        }
+        assertTrue(logger.flush(5000));
+
+        List<String> written = Files.readAllLines(logDir.resolve("equipment_errors.log"));
+        assertEquals(total, written.size() + logger.getDroppedCount());
+        if (logger.getDroppedCount() > 0) {
+            assertTrue(Files.readString(logDir.resolve("error.log")).contains("log entries were dropped"));
+        }
+    }
+}
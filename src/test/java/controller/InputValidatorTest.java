@@ -90,4 +90,20 @@ public class InputValidatorTest {
             InputValidator.validateEquipmentDescription(description);
         });
     }
+
+    @Test
+    public void testCheckMethodsReturnMessagesInsteadOfThrowing() {
+        assertNull(InputValidator.checkEmail(" C00123@SETU.IE ", "Student"));
+        assertNull(InputValidator.checkEmail("Jane.Doe@setu.ie", "Lecturer"));
+        assertEquals("Email must end with '@setu.ie'.", InputValidator.checkEmail("a@", "Lecturer"));
+        assertNotNull(InputValidator.checkEmail("C00@setu.ie", "Student"), "At least one digit must follow C00.");
+        assertNotNull(InputValidator.checkEmail("jane.doe.x@setu.ie", "Lecturer"));
+        assertNotNull(InputValidator.checkEmail(".doe@setu.ie", "Lecturer"));
+        assertNotNull(InputValidator.checkEmail("jane.@setu.ie", "Lecturer"));
+        assertNull(InputValidator.checkName("Mary\tAnn  O Brien"), "Any whitespace is allowed between words.");
+        assertNotNull(InputValidator.checkName("   "));
+        assertNotNull(InputValidator.checkName("Zoë"), "Only ASCII letters are accepted.");
+        assertNull(InputValidator.checkEquipmentName("Canon EOS 5D"));
+        assertEquals("Equipment name cannot be empty.", InputValidator.checkEquipmentName(" "));
+    }
 }
@@ -0,0 +1,72 @@
+package controller;
+
+import exception.AuthenticationException;
+import exception.LoginBusyException;
+import exception.LoginThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the LoginManager class.
+ *
+ * <p>
+ * These tests use a mocked user controller to verify that only rejected credentials count towards the
+ * login throttle: a login refused because the server is busy is reported as such, and unexpected errors
+ * pass through without counting.
+ * </p>
+ */
+public class LoginManagerTest {
+
+    private UserController userController;
+    private LoginThrottle throttle;
+    private LoginManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        userController = mock(UserController.class);
+        throttle = new LoginThrottle(3, 5, 1_000, new AtomicLong()::get);
+        manager = new LoginManager(userController, throttle);
+    }
+
+    @Test
+    public void testBusyServerDoesNotCountAsFailure() throws Exception {
+        when(userController.login("a@setu.ie", "Secret1"))
+                .thenThrow(new LoginBusyException("Too many logins in progress. Please try again."));
+
+        for (int i = 0; i < 5; i++) {
+            LoginBusyException e = assertThrows(LoginBusyException.class,
+                    () -> manager.loginUser("a@setu.ie", "Secret1", "host1"));
+            assertEquals("Too many logins in progress. Please try again.", e.getMessage());
+        }
+        assertTrue(throttle.tryAcquire("a@setu.ie", "host1"), "A busy server must not lock the user out.");
+    }
+
+    @Test
+    public void testUnexpectedErrorDoesNotCountAsFailure() throws Exception {
+        when(userController.login("a@setu.ie", "Secret1")).thenThrow(new IllegalStateException("Pool is shut down"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalStateException.class, () -> manager.loginUser("a@setu.ie", "Secret1", "host1"));
+        }
+        assertTrue(throttle.tryAcquire("a@setu.ie", "host1"), "Only rejected credentials count as failures.");
+    }
+
+    @Test
+    public void testInvalidCredentialsCountAsFailures() throws Exception {
+        when(userController.login("a@setu.ie", "wrong"))
+                .thenThrow(new AuthenticationException("Invalid credentials."));
+
+        for (int i = 0; i < 3; i++) {
+            AuthenticationException e = assertThrows(AuthenticationException.class,
+                    () -> manager.loginUser("a@setu.ie", "wrong", "host1"));
+            assertFalse(e instanceof LoginBusyException);
+        }
+        assertThrows(LoginThrottledException.class, () -> manager.loginUser("a@setu.ie", "wrong", "host1"));
+        verify(userController, times(3)).login("a@setu.ie", "wrong");
+    }
+}
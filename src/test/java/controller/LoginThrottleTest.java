@@ -0,0 +1,97 @@
+package controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for the LoginThrottle class.
+ *
+ * <p>
+ * These tests use a manual clock to verify that attempts are refused once an email address or source
+ * reaches its failure limit, that the window slides so old failures stop counting, and that the
+ * processed and rejected counters and the eviction of idle keys behave as documented.
+ * </p>
+ */
+public class LoginThrottleTest {
+
+    private static final long WINDOW = 1_000;
+
+    private AtomicLong now;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    public void setUp() {
+        now = new AtomicLong();
+        throttle = new LoginThrottle(3, 5, WINDOW, now::get);
+    }
+
+    private void fail(String email, String source) {
+        assertTrue(throttle.tryAcquire(email, source));
+        throttle.recordFailure(email, source);
+    }
+
+    @Test
+    public void testEmailIsBlockedAfterTooManyFailures() {
+        fail("a@setu.ie", "host1");
+        fail("A@setu.ie", "host1");
+        fail("a@setu.ie ", "host1");
+
+        assertFalse(throttle.tryAcquire("a@setu.ie", "host2"), "The email limit applies from any source.");
+        assertTrue(throttle.tryAcquire("b@setu.ie", "host1"), "Other emails from the same source are still allowed.");
+        assertEquals(4, throttle.getProcessedAttempts());
+        assertEquals(1, throttle.getRejectedAttempts());
+        assertEquals(1, throttle.retryAfterMillis("a@setu.ie", "host1"), "A wait under a millisecond rounds up.");
+    }
+
+    @Test
+    public void testWindowSlides() {
+        fail("a@setu.ie", "host1");
+        now.addAndGet(400);
+        fail("a@setu.ie", "host1");
+        fail("a@setu.ie", "host1");
+        assertFalse(throttle.tryAcquire("a@setu.ie", "host1"));
+
+        now.addAndGet(600); // The first failure has left the window.
+        assertTrue(throttle.tryAcquire("a@setu.ie", "host1"));
+        throttle.recordFailure("a@setu.ie", "host1");
+        assertFalse(throttle.tryAcquire("a@setu.ie", "host1"));
+    }
+
+    @Test
+    public void testSourceIsBlockedAcrossEmails() {
+        for (int i = 0; i < 5; i++) {
+            fail("user" + i + "@setu.ie", "host1");
+        }
+
+        assertFalse(throttle.tryAcquire("new@setu.ie", "host1"));
+        assertTrue(throttle.tryAcquire("new@setu.ie", "host2"));
+    }
+
+    @Test
+    public void testSuccessClearsEmailFailuresOnly() {
+        fail("a@setu.ie", "host1");
+        fail("a@setu.ie", "host1");
+        throttle.recordSuccess("a@setu.ie");
+        fail("a@setu.ie", "host1");
+        fail("a@setu.ie", "host1");
+
+        assertTrue(throttle.tryAcquire("a@setu.ie", "host1"));
+        throttle.recordFailure("a@setu.ie", "host1");
+        assertFalse(throttle.tryAcquire("b@setu.ie", "host1"), "The source keeps its five failures.");
+    }
+
+    @Test
+    public void testIdleKeysAreEvicted() {
+        fail("a@setu.ie", "host1");
+        assertEquals(2, throttle.getTrackedKeys());
+
+        now.addAndGet(WINDOW);
+        for (int i = 0; i < 256; i++) {
+            throttle.tryAcquire("b@setu.ie", "host2");
+        }
+        assertEquals(0, throttle.getTrackedKeys());
+    }
+}
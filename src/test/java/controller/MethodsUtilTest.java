@@ -49,4 +49,21 @@ public class MethodsUtilTest {
         }
         assertTrue(foundExpected, "Expected course for Media should be present.");
     }
+
+    @Test
+    public void testFindIgnoresCaseAndReturnsCanonicalNames() {
+        assertEquals("Hospitality, Tourism & Culinary Arts", MethodsUtil.findDepartment(" hospitality, tourism & culinary arts "));
+        assertEquals("Film and Video Production", MethodsUtil.findCourse("media", "FILM AND VIDEO PRODUCTION"));
+        assertNull(MethodsUtil.findDepartment("Astrology"));
+        assertNull(MethodsUtil.findCourse("Media", "Midwifery"));
+    }
+
+    @Test
+    public void testReturnedArraysAreCopies() {
+        MethodsUtil.getCoursesForDepartment("Media")[0] = "Changed";
+        MethodsUtil.getDepartments()[0] = "Changed";
+
+        assertEquals("Journalism and News Writing", MethodsUtil.getCoursesForDepartment("Media")[0]);
+        assertEquals("Sport Management", MethodsUtil.getDepartments()[0]);
+    }
 }
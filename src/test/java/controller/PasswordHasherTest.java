@@ -0,0 +1,48 @@
+package controller;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the PasswordHasher class.
+ *
+ * <p>
+ * These tests check the cost calibration against a simulated timer, that new hashes record the
+ * configured cost, and that hashes made at another cost are flagged for rehashing.
+ * </p>
+ */
+public class PasswordHasherTest {
+
+    @Test
+    public void testCalibrationPicksHighestCostWithinTarget() {
+        // 1 ms at cost 6, doubling with each step: cost 13 takes 128 ms and cost 14 takes 256 ms.
+        long target = TimeUnit.MILLISECONDS.toNanos(200);
+        assertEquals(13, PasswordHasher.calibrateCost(target, 10, 16,
+                cost -> TimeUnit.MILLISECONDS.toNanos(1L << (cost - 6))));
+    }
+
+    @Test
+    public void testCalibrationStaysWithinBounds() {
+        long target = TimeUnit.MILLISECONDS.toNanos(250);
+        assertEquals(10, PasswordHasher.calibrateCost(target, 10, 16, cost -> TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(16, PasswordHasher.calibrateCost(target, 10, 16, cost -> 1));
+    }
+
+    @Test
+    public void testHashRecordsCostAndOldHashesNeedRehash() {
+        PasswordHasher hasher = new PasswordHasher(5, 1);
+        String hash = hasher.hash("Secret1");
+
+        assertEquals(5, PasswordHasher.costOf(hash));
+        assertTrue(hasher.verify("Secret1", hash));
+        assertFalse(hasher.verify("Secret2", hash));
+        assertFalse(hasher.needsRehash(hash));
+        assertTrue(hasher.needsRehash(new PasswordHasher(4, 1).hash("Secret1")));
+        assertFalse(hasher.needsRehash(new PasswordHasher(6, 1).hash("Secret1")),
+                "A hash made at a higher cost on another host should be kept.");
+        assertTrue(hasher.needsRehash("plaintext"));
+        assertFalse(hasher.verify("plaintext", "plaintext"), "A value that is not a BCrypt hash never matches.");
+    }
+}
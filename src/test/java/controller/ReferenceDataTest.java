@@ -0,0 +1,57 @@
+package controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.EquipmentState;
+import model.EquipmentStatus;
+import model.EquipmentType;
+import model.ReservationStatus;
+import model.Role;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for the ReferenceData registry and the reference data enums.
+ */
+public class ReferenceDataTest {
+
+    @Test
+    public void testFindEquipmentTypeReturnsSharedInstance() {
+        ReferenceData data = new ReferenceData(ReferenceData.DEFAULT_EQUIPMENT_TYPES);
+
+        EquipmentType camera = data.findEquipmentType("Camera");
+        assertEquals("CAM", camera.getPrefix());
+        assertSame(camera, data.findEquipmentType(" camera "));
+        assertEquals("VRH", data.findEquipmentType("VR HEADSET").getPrefix());
+        assertNull(data.findEquipmentType("Spaceship"));
+        assertNull(data.findEquipmentType(null));
+    }
+
+    @Test
+    public void testNamesKeepOrderAndShareStrings() {
+        ReferenceData data = new ReferenceData(List.of(new EquipmentType("Tripod", "TRP"), new EquipmentType("Camera", "CAM")));
+
+        String[] names = data.getEquipmentTypeNames();
+        assertArrayEquals(new String[]{"Tripod", "Camera"}, names);
+        assertSame(data.getEquipmentTypes().get(0).getName(), names[0]);
+        names[0] = "Changed";
+        assertEquals("Tripod", data.getEquipmentTypeNames()[0]);
+
+        assertSame(data.getDepartments(), data.getDepartments());
+        assertTrue(data.getCourses("Media").contains("Film and Video Production"));
+        assertTrue(data.getCourses("Astrology").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> data.getDepartments().add("Astrology"));
+    }
+
+    @Test
+    public void testEnumLookupsIgnoreCase() {
+        assertSame(Role.MEDIA_STAFF, Role.fromName("mediastaff"));
+        assertSame(EquipmentStatus.CHECKED_OUT, EquipmentStatus.fromName("CHECKEDOUT"));
+        assertSame(EquipmentState.POOR, EquipmentState.fromName("poor"));
+        assertSame(ReservationStatus.APPROVED, ReservationStatus.fromName("Approved"));
+        assertNull(Role.fromName("Janitor"));
+        assertNull(Role.fromName(null));
+        assertArrayEquals(new String[]{"Student", "Lecturer", "Admin", "MediaStaff"}, Role.names());
+    }
+}
@@ -0,0 +1,91 @@
+package controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import model.ReservationHistoryEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Unit tests for the ReservationExporter file formats. The rows come from a fixed list instead of the database.
+ */
+public class ReservationExporterTest {
+
+    private static final List<ReservationHistoryEntry> ROWS = List.of(
+            new ReservationHistoryEntry(7, "C001", "Doe, \"JD\" Jane", "CAM001", "Camera",
+                    LocalDate.of(2025, 2, 26), LocalDate.of(2025, 3, 5), "Approved", "M001",
+                    "M001", LocalDateTime.of(2025, 2, 26, 9, 30), null),
+            new ReservationHistoryEntry(8, "C002", "Line\nBreak", "TRP001", "Tripod\\Stand",
+                    LocalDate.of(2025, 2, 27), null, "Pending", null, null, null, null));
+
+    private static ReservationExporter.HistorySource source(List<ReservationHistoryEntry> rows) {
+        return handler -> {
+            for (ReservationHistoryEntry row : rows) {
+                handler.accept(row);
+            }
+            return rows.size();
+        };
+    }
+
+    @Test
+    public void testCsvQuotesFieldsAndLeavesMissingValuesEmpty() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = ReservationExporter.write(out, ReservationExporter.Format.CSV, false, source(ROWS));
+
+        assertEquals(2, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertTrue(lines[0].startsWith("reservation_id,user_id,user_name,"));
+        assertEquals("7,C001,\"Doe, \"\"JD\"\" Jane\",CAM001,Camera,2025-02-26,2025-03-05,Approved,M001,M001,2025-02-26T09:30,", lines[1]);
+        assertEquals("8,C002,\"Line", lines[2]);
+        assertEquals("Break\",TRP001,Tripod\\Stand,2025-02-27,,Pending,,,,", lines[3]);
+    }
+
+    @Test
+    public void testJsonEscapesStringsAndWritesNulls() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReservationExporter.write(out, ReservationExporter.Format.JSON, false, source(ROWS));
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("[\n{\"reservation_id\":7,\"user_id\":\"C001\",\"user_name\":\"Doe, \\\"JD\\\" Jane\","));
+        assertTrue(json.contains("\"user_name\":\"Line\\nBreak\""));
+        assertTrue(json.contains("\"equipment_name\":\"Tripod\\\\Stand\""));
+        assertTrue(json.contains("\"return_date\":null"));
+        assertTrue(json.endsWith("\"check_in_date\":null}\n]\n"));
+    }
+
+    @Test
+    public void testEmptyJsonExportIsAnEmptyArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, ReservationExporter.write(out, ReservationExporter.Format.JSON, false, source(List.of())));
+        assertEquals("[]\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGzipOutputDecompressesToTheSameText() throws Exception {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        ReservationExporter.write(plain, ReservationExporter.Format.CSV, false, source(ROWS));
+        ReservationExporter.write(gzipped, ReservationExporter.Format.CSV, true, source(ROWS));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray()))) {
+            assertArrayEquals(plain.toByteArray(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testSourceFailureIsPassedOn() {
+        ReservationExporter.HistorySource failing = handler -> {
+            throw new IOException("disk full");
+        };
+        assertThrows(IOException.class,
+                () -> ReservationExporter.write(new ByteArrayOutputStream(), ReservationExporter.Format.CSV, false, failing));
+    }
+}
@@ -0,0 +1,91 @@
+package controller;
+
+import model.User;
+import model.UserDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for the RoleCache class.
+ *
+ * <p>
+ * These tests use a mocked UserDAO and a manual clock to verify that roles recorded at login are
+ * served without a database lookup, that expired or invalidated entries are loaded again, and that a role
+ * invalidated while it was being loaded is not cached.
+ * </p>
+ */
+public class RoleCacheTest {
+
+    private static final long TTL = 1_000;
+
+    private UserDAO userDAOMock;
+    private AtomicLong now;
+    private RoleCache roleCache;
+
+    @BeforeEach
+    public void setUp() {
+        userDAOMock = mock(UserDAO.class);
+        now = new AtomicLong();
+        roleCache = new RoleCache(TTL, now::get);
+    }
+
+    @Test
+    public void testRoleRecordedAtLoginIsServedFromCache() throws Exception {
+        User admin = new User();
+        admin.setUserId("A001");
+        admin.setRole("Admin");
+        roleCache.put(admin);
+
+        assertEquals("Admin", roleCache.getRole("A001", userDAOMock));
+        verify(userDAOMock, never()).getUserRole(anyString());
+    }
+
+    @Test
+    public void testExpiredRoleIsLoadedAgain() throws Exception {
+        when(userDAOMock.getUserRole("M001")).thenReturn("MediaStaff");
+
+        assertEquals("MediaStaff", roleCache.getRole("M001", userDAOMock));
+        now.addAndGet(TTL - 1);
+        assertEquals("MediaStaff", roleCache.getRole("M001", userDAOMock));
+        verify(userDAOMock, times(1)).getUserRole("M001");
+
+        now.addAndGet(1);
+        assertEquals("MediaStaff", roleCache.getRole("M001", userDAOMock));
+        verify(userDAOMock, times(2)).getUserRole("M001");
+    }
+
+    @Test
+    public void testInvalidatedRoleIsLoadedAgain() throws Exception {
+        when(userDAOMock.getUserRole("C001")).thenReturn("Student", "Lecturer");
+
+        assertEquals("Student", roleCache.getRole("C001", userDAOMock));
+        roleCache.invalidate("C001");
+        assertEquals("Lecturer", roleCache.getRole("C001", userDAOMock));
+        verify(userDAOMock, times(2)).getUserRole("C001");
+    }
+
+    @Test
+    public void testRoleInvalidatedDuringLoadIsNotCached() throws Exception {
+        // An admin changes the user's role after the old one was read but before it was cached.
+        when(userDAOMock.getUserRole("C001")).thenAnswer(invocation -> {
+            roleCache.invalidate("C001");
+            return "Student";
+        }).thenReturn("Lecturer");
+
+        assertEquals("Student", roleCache.getRole("C001", userDAOMock));
+        assertEquals("Lecturer", roleCache.getRole("C001", userDAOMock));
+        assertEquals("Lecturer", roleCache.getRole("C001", userDAOMock));
+        verify(userDAOMock, times(2)).getUserRole("C001");
+    }
+
+    @Test
+    public void testUnknownUserIsNotCached() throws Exception {
+        assertNull(roleCache.getRole("X999", userDAOMock));
+        assertNull(roleCache.getRole("X999", userDAOMock));
+        verify(userDAOMock, times(2)).getUserRole("X999");
+    }
+}
@@ -3,21 +3,25 @@ package controller;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 import exception.RoleAccessException;
+import model.Permission;
 /**
  * Unit tests for the RoleValidator class.
  *
  * <p>
  * These tests ensure that valid roles pass validation while invalid roles trigger a RoleAccessException.
+ * The deprecated role-name check is still public, so it keeps its tests alongside the permission check.
  * </p>
  */
 public class RoleValidatorTest {
 
     @Test
+    @SuppressWarnings("deprecation")
     public void testValidRole() {
         assertDoesNotThrow(() -> RoleValidator.validateRole("Admin", "Admin", "MediaStaff"));
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     public void testInvalidRole() {
         Exception exception = assertThrows(RoleAccessException.class, () -> {
             RoleValidator.validateRole("Student", "Admin", "MediaStaff");
@@ -26,10 +30,26 @@ public class RoleValidatorTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     public void testNullRole() {
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
             RoleValidator.validateRole(null, "Admin");
         });
         assertTrue(exception.getMessage().contains("User role cannot be null or empty"));
     }
+
+    @Test
+    public void testCheckPermission() {
+        assertDoesNotThrow(() -> RoleValidator.checkPermission("mediastaff", Permission.CAN_APPROVE));
+        assertDoesNotThrow(() -> RoleValidator.checkPermission("Lecturer", Permission.CAN_RESERVE));
+        assertThrows(RoleAccessException.class, () -> RoleValidator.checkPermission("Lecturer", Permission.CAN_APPROVE));
+        assertThrows(RoleAccessException.class, () -> RoleValidator.checkPermission("MediaStaff", Permission.CAN_MANAGE_USERS));
+        assertThrows(RoleAccessException.class, () -> RoleValidator.checkPermission("Janitor", Permission.CAN_RESERVE));
+    }
+
+    @Test
+    public void testCheckPermissionRejectsMissingRoleAsAccessDenied() {
+        assertThrows(RoleAccessException.class, () -> RoleValidator.checkPermission(null, Permission.CAN_VIEW_EQUIPMENT));
+        assertThrows(RoleAccessException.class, () -> RoleValidator.checkPermission(" ", Permission.CAN_VIEW_EQUIPMENT));
+    }
 }
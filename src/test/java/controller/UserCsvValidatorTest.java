@@ -0,0 +1,84 @@
+package controller;
+
+import exception.InvalidInputException;
+import model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the UserCsvValidator class.
+ *
+ * <p>
+ * These tests verify that a row yields a user when valid, that every invalid field of a row is reported
+ * as a structured error, and that a whole file is checked in one pass.
+ * </p>
+ */
+public class UserCsvValidatorTest {
+
+    private static final String HEADER = "email,name,password,role,department,course,year";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testValidRowBecomesUser() throws InvalidInputException {
+        UserCsvValidator validator = new UserCsvValidator("\uFEFF" + HEADER);
+        List<ValidationError> errors = new ArrayList<>();
+
+        User user = validator.validateLine(2, "C00100001@setu.ie,Ann Byrne,Secret1,student,computing,software development,+2", errors);
+
+        assertTrue(errors.isEmpty());
+        assertEquals("Student", user.getRole());
+        assertEquals("Computing", user.getDepartment());
+        assertEquals("Software Development", user.getCourse());
+        assertEquals(2, user.getYear());
+        assertEquals("Secret1", user.getPassword());
+    }
+
+    @Test
+    public void testEveryInvalidFieldIsReported() throws InvalidInputException {
+        UserCsvValidator validator = new UserCsvValidator(HEADER);
+        List<ValidationError> errors = new ArrayList<>();
+
+        assertNull(validator.validateLine(3, "ann@setu.ie,Ann 2,,Student,Computing,Midwifery,5", errors));
+
+        List<String> fields = new ArrayList<>();
+        for (ValidationError error : errors) {
+            assertEquals(3, error.getLine());
+            fields.add(error.getField());
+        }
+        assertEquals(List.of("email", "name", "password", "course", "year"), fields);
+    }
+
+    @Test
+    public void testMissingColumnIsRejected() {
+        assertThrows(InvalidInputException.class, () -> new UserCsvValidator("email,name,role"));
+    }
+
+    @Test
+    public void testValidateFileChecksAllRowsInOnePass() throws Exception {
+        Path csv = directory.resolve("users.csv");
+        Files.write(csv, List.of(HEADER,
+                "C00100001@setu.ie,Ann Byrne,x,Student,Computing,Software Development,1",
+                "mary.walsh@setu.ie,Mary Walsh,x,Lecturer,Astrology,,",
+                "",
+                "C00100001@setu.ie,Ann Byrne,x,Student,Computing,Software Development,1",
+                "\"unterminated,x,x,Admin,,,"), StandardCharsets.UTF_8);
+
+        List<ValidationError> errors = UserCsvValidator.validateFile(csv);
+
+        assertEquals(3, errors.size());
+        assertEquals("Line 3 (department): Unknown department.", errors.get(0).toString());
+        assertEquals(5, errors.get(1).getLine());
+        assertEquals("Email appears more than once in the file.", errors.get(1).getMessage());
+        assertEquals(6, errors.get(2).getLine());
+        assertNull(errors.get(2).getField());
+    }
+}
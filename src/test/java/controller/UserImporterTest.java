@@ -0,0 +1,155 @@
+package controller;
+
+import exception.DatabaseOperationException;
+import model.User;
+import model.UserDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit tests for the UserImporter class.
+ *
+ * <p>
+ * These tests import small CSV files in chunks of two rows against a mocked UserDAO, with a trivial
+ * password hasher, and verify the error report, the fallback to single-row inserts and resuming from
+ * the checkpoint.
+ * </p>
+ */
+public class UserImporterTest {
+
+    private static final String HEADER = "email,name,password,role,department,course,year";
+
+    @TempDir
+    Path directory;
+
+    private UserDAO userDAOMock;
+    private List<String> added;
+    private UserImporter importer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        userDAOMock = mock(UserDAO.class);
+        when(userDAOMock.getUserRole("A001")).thenReturn("Admin");
+        when(userDAOMock.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        added = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            for (User user : users) {
+                assertEquals("hashed:" + user.getName(), user.getPassword());
+                added.add(user.getEmail());
+            }
+            return null;
+        }).when(userDAOMock).addUsers(anyList(), eq("A001"));
+        importer = new UserImporter(userDAOMock, new RoleCache(1_000_000_000L, System::nanoTime),
+                password -> "hashed:" + password, 2, 2);
+    }
+
+    @Test
+    public void testValidRowsAreImportedAndInvalidRowsReported() throws Exception {
+        Path csv = write(HEADER,
+                "C00100001@setu.ie,Ann Byrne,Ann Byrne,Student,Computing,Software Development,1",
+                "mary.walsh@setu.ie,Mary Walsh,Mary Walsh,lecturer,\"Hospitality, Tourism & Culinary Arts\",,",
+                "",
+                "C00100002@setu.ie,Tom Kelly,Tom Kelly,Student,Computing,Midwifery,2",
+                "C00100001@setu.ie,Ann Byrne,Ann Byrne,Student,Computing,Software Development,1",
+                "sam.doyle@setu.ie,Sam Doyle,Sam Doyle,MediaStaff,,,");
+
+        ImportSummary summary = importer.importUsers(csv, "A001", false);
+
+        assertEquals(List.of("C00100001@setu.ie", "mary.walsh@setu.ie", "sam.doyle@setu.ie"), added);
+        assertEquals(5, summary.getRowsRead());
+        assertEquals(3, summary.getImported());
+        assertEquals(2, summary.getFailed());
+        List<String> report = Files.readAllLines(summary.getReportFile());
+        assertEquals("line,email,error", report.get(0));
+        assertTrue(report.get(1).startsWith("5,C00100002@setu.ie,Unknown course"));
+        assertTrue(report.get(2).startsWith("6,C00100001@setu.ie,Email appears more than once"));
+        assertFalse(Files.exists(UserImporter.checkpointFileFor(csv)), "A finished import should remove its checkpoint.");
+    }
+
+    @Test
+    public void testRejectedChunkIsRetriedRowByRow() throws Exception {
+        doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            for (User user : users) {
+                if (user.getEmail().startsWith("C00100002")) {
+                    throw new DatabaseOperationException("Error adding users.",
+                            new SQLIntegrityConstraintViolationException("Duplicate entry 'C00100002'", "23000"));
+                }
+            }
+            for (User user : users) {
+                added.add(user.getEmail());
+            }
+            return null;
+        }).when(userDAOMock).addUsers(anyList(), eq("A001"));
+        Path csv = write(HEADER,
+                "C00100001@setu.ie,Ann Byrne,x,Student,Computing,Software Development,1",
+                "C00100002@setu.ie,Tom Kelly,x,Student,Computing,Software Development,2");
+
+        ImportSummary summary = importer.importUsers(csv, "A001", false);
+
+        assertEquals(List.of("C00100001@setu.ie"), added);
+        assertEquals(1, summary.getImported());
+        assertEquals(1, summary.getFailed());
+        assertTrue(Files.readAllLines(summary.getReportFile()).get(1).contains("Duplicate entry"));
+    }
+
+    @Test
+    public void testStoppedImportResumesAfterCheckpoint() throws Exception {
+        Path csv = write(HEADER,
+                "C00100001@setu.ie,Ann Byrne,x,Student,Computing,Software Development,1",
+                "C00100002@setu.ie,Tom Kelly,x,Student,Computing,Software Development,2",
+                "C00100003@setu.ie,Joe Ryan,x,Student,Computing,Software Development,3",
+                "C00100004@setu.ie,Amy Nolan,x,Student,Computing,Software Development,4");
+        doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            if (users.get(0).getEmail().startsWith("C00100003")) {
+                throw new DatabaseOperationException("Error adding users.", new SQLException("Connection lost", "08S01"));
+            }
+            for (User user : users) {
+                added.add(user.getEmail());
+            }
+            return null;
+        }).when(userDAOMock).addUsers(anyList(), eq("A001"));
+
+        assertThrows(DatabaseOperationException.class, () -> importer.importUsers(csv, "A001", false));
+        assertEquals("3", Files.readString(UserImporter.checkpointFileFor(csv)));
+
+        doAnswer(invocation -> {
+            for (User user : invocation.<List<User>>getArgument(0)) {
+                added.add(user.getEmail());
+            }
+            return null;
+        }).when(userDAOMock).addUsers(anyList(), eq("A001"));
+        ImportSummary summary = importer.importUsers(csv, "A001", true);
+
+        assertEquals(List.of("C00100001@setu.ie", "C00100002@setu.ie", "C00100003@setu.ie", "C00100004@setu.ie"), added);
+        assertEquals(2, summary.getSkipped());
+        assertEquals(2, summary.getImported());
+    }
+
+    @Test
+    public void testParseLineHandlesQuotes() throws Exception {
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""), UserImporter.parseLine("a,\"b, c\",\"say \"\"hi\"\"\","));
+        assertThrows(exception.InvalidInputException.class, () -> UserImporter.parseLine("a,\"b"));
+    }
+
+    private Path write(String... lines) throws Exception {
+        Path csv = directory.resolve("users.csv");
+        Files.write(csv, List.of(lines), StandardCharsets.UTF_8);
+        return csv;
+    }
+}
@@ -0,0 +1,39 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.sql.Timestamp;
+
+/**
+ * Unit tests for the Checkout model.
+ *
+ * <p>
+ * This test verifies that a Checkout object keeps names containing the former " | " separator intact
+ * and that two checkouts with the same details are equal, and that its date cannot be changed from outside.
+ * </p>
+ */
+public class CheckoutTest {
+
+    @Test
+    public void testCheckoutCreation() {
+        Timestamp checkedOutDate = Timestamp.valueOf("2025-05-01 10:30:00");
+        Checkout checkout = new Checkout(7, "Smith | Jones", "Camera", checkedOutDate);
+        assertEquals(7, checkout.getReservationId());
+        assertEquals("Smith | Jones", checkout.getUserName());
+        assertEquals("Camera", checkout.getEquipmentName());
+        assertEquals(checkedOutDate, checkout.getDate());
+        assertEquals(new Checkout(7, "Smith | Jones", "Camera", checkedOutDate), checkout);
+    }
+
+    @Test
+    public void testDateIsCopied() {
+        Timestamp checkedOutDate = Timestamp.valueOf("2025-05-01 10:30:00");
+        Checkout checkout = new Checkout(7, "Smith", "Camera", checkedOutDate);
+
+        checkedOutDate.setTime(0);
+        checkout.getDate().setTime(0);
+
+        assertEquals(Timestamp.valueOf("2025-05-01 10:30:00"), checkout.getDate());
+        assertEquals("2025-05-01 10:30:00.0", checkout.getDate().toString());
+    }
+}
@@ -0,0 +1,107 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ConnectionPool class.
+ *
+ * <p>
+ * These tests use mocked physical connections to verify that connections are reused,
+ * that the pool respects its maximum size and that stale connections are replaced.
+ * </p>
+ */
+public class ConnectionPoolTest {
+
+    private final AtomicInteger opened = new AtomicInteger();
+    private Connection lastOpened;
+    private Properties properties;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new Properties();
+        properties.setProperty("db.pool.minIdle", "0");
+        properties.setProperty("db.pool.maxSize", "2");
+        properties.setProperty("db.pool.connectionTimeoutMs", "100");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private Connection newMockConnection() throws SQLException {
+        opened.incrementAndGet();
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        lastOpened = connection;
+        return connection;
+    }
+
+    @Test
+    public void testClosedConnectionIsReused() throws SQLException {
+        pool = new ConnectionPool(this::newMockConnection, properties);
+
+        Connection first = pool.borrow();
+        assertEquals(1, pool.metrics().getActiveConnections());
+        first.close();
+        assertEquals(0, pool.metrics().getActiveConnections());
+        assertEquals(1, pool.metrics().getIdleConnections());
+
+        Connection second = pool.borrow();
+        second.close();
+        assertEquals(1, opened.get(), "The returned connection should be reused instead of opening a new one.");
+        assertEquals(2, pool.metrics().getBorrowCount());
+    }
+
+    @Test
+    public void testBorrowTimesOutWhenPoolIsExhausted() throws SQLException {
+        pool = new ConnectionPool(this::newMockConnection, properties);
+
+        pool.borrow();
+        pool.borrow();
+        assertThrows(SQLTimeoutException.class, () -> pool.borrow());
+        assertEquals(1, pool.metrics().getTimeoutCount());
+        assertEquals(2, pool.metrics().getTotalConnections());
+    }
+
+    @Test
+    public void testReturnedHandleCannotBeUsed() throws SQLException {
+        pool = new ConnectionPool(this::newMockConnection, properties);
+
+        Connection connection = pool.borrow();
+        connection.close();
+        connection.close(); // closing twice must be harmless
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, () -> connection.prepareStatement("SELECT 1"));
+        assertEquals(1, pool.metrics().getIdleConnections());
+    }
+
+    @Test
+    public void testInvalidIdleConnectionIsReplaced() throws SQLException {
+        properties.setProperty("db.pool.validationIntervalMs", "0");
+        pool = new ConnectionPool(this::newMockConnection, properties);
+
+        pool.borrow().close();
+        // Simulate the server dropping the idle connection.
+        when(lastOpened.isValid(anyInt())).thenReturn(false);
+
+        pool.borrow().close();
+        assertEquals(2, opened.get(), "A stale connection should be discarded and replaced.");
+        assertEquals(1, pool.metrics().getTotalConnections());
+    }
+}
@@ -0,0 +1,108 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EquipmentCatalog class.
+ *
+ * <p>
+ * These tests load the catalog from an in-memory list with a manual clock and verify that reads are
+ * served from memory, that a stale catalog is only reloaded when the change revision has moved, and
+ * that writes patch the catalog.
+ * </p>
+ */
+public class EquipmentCatalogTest {
+
+    private static final long STALENESS = 1_000;
+
+    private List<Equipment> table;
+    private AtomicInteger loads;
+    private AtomicLong revision;
+    private AtomicLong now;
+    private EquipmentCatalog catalog;
+
+    @BeforeEach
+    public void setUp() {
+        table = new ArrayList<>();
+        table.add(new Equipment("CAM001", "Canon EOS", "Camera", "DSLR camera", "Available", "Good"));
+        table.add(new Equipment("CAM002", "Sony A7", "Camera", "Mirrorless camera", "Reserved", "New"));
+        table.add(new Equipment("MIC001", "Shure SM58", "Microphone", "Vocal microphone", "Available", "Fair"));
+        loads = new AtomicInteger();
+        revision = new AtomicLong(7);
+        now = new AtomicLong();
+        catalog = new EquipmentCatalog(() -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(table);
+        }, revision::get, STALENESS, now::get);
+    }
+
+    @Test
+    public void testReadsAreServedFromMemory() throws Exception {
+        assertEquals(3, catalog.getAll().size());
+        assertEquals(2, catalog.getByStatus("available").size());
+        assertEquals(List.of("CAM001"), ids(catalog.getByTypeAndStatus("Camera", "Available")));
+
+        assertEquals(1, loads.get());
+        assertEquals(2, catalog.metrics().getHits());
+        assertEquals(1, catalog.metrics().getMisses());
+    }
+
+    @Test
+    public void testStaleCatalogIsReloadedOnlyWhenRevisionMoves() throws Exception {
+        catalog.getAll();
+        now.addAndGet(STALENESS);
+        catalog.getAll();
+        assertEquals(1, loads.get(), "An unchanged revision should keep the loaded catalog.");
+
+        table.remove(2);
+        revision.incrementAndGet();
+        now.addAndGet(STALENESS);
+        assertEquals(2, catalog.getAll().size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testWritesPatchTheCatalog() throws Exception {
+        catalog.getAll();
+        catalog.put(new Equipment("CAM002", "Sony A7", "Camera", "Mirrorless camera", "Available", "New"));
+        catalog.remove("MIC001");
+
+        assertEquals(List.of("CAM001", "CAM002"), ids(catalog.getByStatus("Available")));
+        assertTrue(catalog.getByType("Microphone").isEmpty());
+        assertEquals(1, loads.get());
+
+        catalog.invalidate();
+        catalog.getAll();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testPageStartsAfterCursor() throws Exception {
+        assertEquals(List.of("CAM001", "CAM002"), ids(catalog.getPage(null, null, null, 2)));
+        assertEquals(List.of("MIC001"), ids(catalog.getPage(null, null, "CAM002", 2)));
+        assertEquals(List.of("MIC001"), ids(catalog.getPage(null, "Available", "CAM001", 5)));
+        assertEquals(List.of("CAM002"), ids(catalog.getPage("camera", null, "CAM001", 5)));
+    }
+
+    @Test
+    public void testCallersReceiveCopies() throws Exception {
+        catalog.getAll().get(0).setStatus("CheckedOut");
+        assertEquals("Available", catalog.getAll().get(0).getStatus());
+    }
+
+    private static List<String> ids(List<Equipment> equipmentList) {
+        List<String> ids = new ArrayList<>();
+        for (Equipment equipment : equipmentList) {
+            ids.add(equipment.getEquipmentId());
+        }
+        return ids;
+    }
+}
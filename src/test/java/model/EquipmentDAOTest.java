@@ -0,0 +1,40 @@
+package model;
+
+import exception.DatabaseOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the EquipmentDAO class.
+ *
+ * <p>
+ * These tests use a mocked connection to verify that a schema without the equipment revision counter
+ * makes the catalog fall back to time-based reloads, while other database errors are still reported.
+ * </p>
+ */
+public class EquipmentDAOTest {
+
+    @Test
+    public void testMissingRevisionColumnIsUnknownRevision() throws Exception {
+        Connection conn = mock(Connection.class);
+        when(conn.prepareStatement(anyString()))
+                .thenThrow(new SQLSyntaxErrorException("Unknown column 'equipment_revision' in 'field list'", "42S22", 1054));
+
+        assertEquals(-1, EquipmentDAO.getEquipmentRevision(() -> conn));
+        verify(conn).close();
+    }
+
+    @Test
+    public void testOtherErrorsAreReported() throws Exception {
+        Connection conn = mock(Connection.class);
+        when(conn.prepareStatement(anyString())).thenThrow(new SQLException("Communications link failure", "08S01"));
+
+        assertThrows(DatabaseOperationException.class, () -> EquipmentDAO.getEquipmentRevision(() -> conn));
+    }
+}
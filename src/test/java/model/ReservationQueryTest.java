@@ -0,0 +1,98 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReservationQuery class.
+ *
+ * <p>
+ * These tests verify that the criteria compile to parameterised SQL: filter values only ever appear as
+ * parameters, the sort column comes from the sort key, and the count drops the same rows as the select's
+ * joins while joining only the tables a filter needs.
+ * </p>
+ */
+public class ReservationQueryTest {
+
+    @Test
+    public void testEmptyQuerySortsByNewestReservationDate() {
+        List<Object> parameters = new ArrayList<>();
+        String sql = new ReservationQuery().toSelectSql(200, 100, parameters);
+
+        assertFalse(sql.contains("WHERE"));
+        assertTrue(sql.endsWith(" ORDER BY r.reservation_date DESC, r.reservation_id DESC LIMIT ? OFFSET ?"), sql);
+        assertEquals(List.of(100, 200), parameters);
+    }
+
+    @Test
+    public void testFiltersAreBoundAsParameters() {
+        ReservationQuery query = new ReservationQuery();
+        query.setStatus(ReservationStatus.APPROVED);
+        query.setFrom(LocalDate.of(2025, 1, 1));
+        query.setTo(LocalDate.of(2025, 3, 31));
+        query.setUserId("x' OR '1'='1");
+        query.setEquipmentType("Camera");
+        query.setSortKey(ReservationQuery.SortKey.USER_NAME);
+        query.setDescending(false);
+
+        List<Object> parameters = new ArrayList<>();
+        String sql = query.toSelectSql(0, 50, parameters);
+
+        assertTrue(sql.contains(" WHERE r.status = ? AND r.reservation_date >= ? AND r.reservation_date <= ?"
+                + " AND r.user_id = ? AND e.type = ? ORDER BY u.name ASC, r.reservation_id ASC LIMIT ? OFFSET ?"), sql);
+        assertFalse(sql.contains("OR '1'='1"), "Filter values must not be spliced into the SQL.");
+        assertEquals(List.of("Approved", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31),
+                "x' OR '1'='1", "Camera", 50, 0), parameters);
+    }
+
+    @Test
+    public void testCountJoinsEquipmentOnlyForTypeFilter() {
+        List<Object> parameters = new ArrayList<>();
+        assertEquals("SELECT COUNT(*) FROM Reservations r WHERE r.user_id IS NOT NULL AND r.equipment_id IS NOT NULL",
+                new ReservationQuery().toCountSql(parameters), "Rows the select's joins drop must not be counted.");
+        assertTrue(parameters.isEmpty());
+
+        ReservationQuery query = new ReservationQuery();
+        query.setStatus(ReservationStatus.PENDING);
+        assertEquals("SELECT COUNT(*) FROM Reservations r WHERE r.user_id IS NOT NULL AND r.equipment_id IS NOT NULL"
+                + " AND r.status = ?", query.toCountSql(parameters));
+        assertEquals(List.of("Pending"), parameters);
+
+        query.setEquipmentType("Laptop");
+        parameters.clear();
+        assertEquals("SELECT COUNT(*) FROM Reservations r JOIN Equipment e ON r.equipment_id = e.equipment_id"
+                + " WHERE r.user_id IS NOT NULL AND r.equipment_id IS NOT NULL AND r.status = ? AND e.type = ?",
+                query.toCountSql(parameters));
+        assertEquals(List.of("Pending", "Laptop"), parameters);
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        ReservationQuery query = new ReservationQuery();
+        query.setUserId("U001");
+        ReservationQuery copy = new ReservationQuery(query);
+        copy.setUserId("U002");
+        copy.setSortKey(ReservationQuery.SortKey.STATUS);
+
+        assertEquals("U001", query.getUserId());
+        assertEquals(ReservationQuery.SortKey.RESERVATION_DATE, query.getSortKey());
+    }
+
+    @Test
+    public void testInvalidCriteriaAreRejected() {
+        ReservationQuery query = new ReservationQuery();
+        assertThrows(IllegalArgumentException.class, () -> query.setSortKey(null));
+
+        query.setFrom(LocalDate.of(2025, 5, 1));
+        query.setTo(LocalDate.of(2025, 4, 1));
+        assertThrows(IllegalArgumentException.class, query::validate);
+        assertThrows(IllegalArgumentException.class, () -> new ReservationDAO().findReservations(query, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReservationDAO().findReservations(new ReservationQuery(), 0, ReservationQuery.MAX_LIMIT + 1));
+    }
+}
@@ -0,0 +1,199 @@
+package model;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Captures {@code EXPLAIN} plans for the filter queries before and after the schema migrations.
+ *
+ * <p>
+ * The test needs the MySQL server configured in {@code db.properties} and is skipped when it cannot be
+ * reached. It creates a scratch schema from the table definitions in the baseline dump, seeds it with
+ * 100,000 reservations, explains the queries, applies the migrations and explains them again. The plans
+ * are written to {@code target/explain-plans.txt}, and the scratch schema is dropped afterwards.
+ * </p>
+ */
+public class SchemaIndexExplainTest {
+
+    private static final Path BASELINE_DUMP = Paths.get("project_db26-02-2025.sql");
+    private static final Path PLAN_REPORT = Paths.get("target", "explain-plans.txt");
+    private static final int USERS = 2_000;
+    private static final int EQUIPMENT = 5_000;
+    private static final int RESERVATIONS = 100_000;
+
+    // Table names are lower case, as in the dump, so the test also runs where table names are case-sensitive.
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("Equipment by type and status",
+                "SELECT * FROM equipment WHERE type = 'Camera' AND status = 'Available'");
+        QUERIES.put("ReserveEquipment conflict check",
+                "SELECT COUNT(*) FROM reservations WHERE equipment_id = 'E00042' AND status = 'Approved'"
+                        + " AND reservation_date = '2025-03-01'");
+        QUERIES.put("Pending checkouts", """
+                SELECT r.reservation_id, u.name AS user_name, e.name AS equipment_name, r.reservation_date
+                FROM reservations r
+                JOIN users u ON r.user_id = u.user_id
+                JOIN equipment e ON r.equipment_id = e.equipment_id
+                LEFT JOIN checkouts c ON r.reservation_id = c.reservation_id
+                WHERE r.status = 'Approved' AND c.reservation_id IS NULL
+                ORDER BY r.reservation_date ASC
+                """);
+        QUERIES.put("Checked-out equipment", """
+                SELECT r.reservation_id, u.name AS user_name, e.name AS equipment_name, c.checked_out_date
+                FROM reservations r
+                JOIN users u ON r.user_id = u.user_id
+                JOIN equipment e ON r.equipment_id = e.equipment_id
+                JOIN checkouts c ON r.reservation_id = c.reservation_id
+                WHERE e.status = 'CheckedOut' AND c.check_in_date IS NULL
+                ORDER BY c.checked_out_date ASC
+                """);
+        QUERIES.put("Reservation page by date", """
+                SELECT r.reservation_id, u.name AS user_name, e.name AS equipment_name, r.reservation_date
+                FROM reservations r
+                JOIN users u ON r.user_id = u.user_id
+                JOIN equipment e ON r.equipment_id = e.equipment_id
+                ORDER BY r.reservation_date DESC, r.reservation_id DESC
+                LIMIT 100 OFFSET 5000
+                """);
+    }
+
+    private static Connection server;
+    private static String schema;
+
+    @BeforeAll
+    public static void createSeededSchema() throws Exception {
+        Properties properties = new Properties();
+        try (InputStream input = SchemaIndexExplainTest.class.getClassLoader().getResourceAsStream("db.properties")) {
+            properties.load(input);
+        }
+        String url = properties.getProperty("db.url");
+        String serverUrl = url.substring(0, url.lastIndexOf('/') + 1) + "?connectTimeout=2000";
+        try {
+            server = DriverManager.getConnection(serverUrl, properties.getProperty("db.username"),
+                    properties.getProperty("db.password"));
+        } catch (SQLException e) {
+            assumeTrue(false, "MySQL is not reachable: " + e.getMessage());
+        }
+
+        schema = "explain_test_" + System.currentTimeMillis();
+        try (Statement stmt = server.createStatement()) {
+            stmt.execute("CREATE DATABASE " + schema);
+            stmt.execute("USE " + schema);
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 0");
+            Matcher table = Pattern.compile("(?s)CREATE TABLE `\\w+` \\(.*?\\) ENGINE=[^;]*")
+                    .matcher(Files.readString(BASELINE_DUMP, StandardCharsets.UTF_8));
+            while (table.find()) {
+                stmt.execute(table.group());
+            }
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 1");
+            seed(stmt);
+        }
+    }
+
+    @AfterAll
+    public static void dropSchema() throws SQLException {
+        if (server != null) {
+            try (Statement stmt = server.createStatement()) {
+                stmt.execute("DROP DATABASE IF EXISTS " + schema);
+            }
+            server.close();
+        }
+    }
+
+    @Test
+    public void testMigrationsReplaceFullScansWithIndexLookups() throws Exception {
+        Map<String, String> before = explainAll();
+        assertEquals(new SchemaMigrator().loadMigrations().size(), new SchemaMigrator().migrate(server));
+        assertEquals(0, new SchemaMigrator().migrate(server), "An applied migration must not run twice.");
+        Map<String, String> after = explainAll();
+
+        StringBuilder report = new StringBuilder();
+        for (String query : QUERIES.keySet()) {
+            report.append("== ").append(query).append("\n-- before\n").append(before.get(query))
+                    .append("-- after\n").append(after.get(query)).append('\n');
+        }
+        Files.createDirectories(PLAN_REPORT.getParent());
+        Files.writeString(PLAN_REPORT, report.toString(), StandardCharsets.UTF_8);
+        System.out.println(report);
+
+        assertTrue(after.get("Equipment by type and status").contains("key=idx_equipment_status_type"));
+        assertTrue(after.get("ReserveEquipment conflict check").contains("key=idx_reservations_equipment_status_date"));
+        assertFalse(after.get("ReserveEquipment conflict check").contains("type=ALL"));
+        assertTrue(before.get("Equipment by type and status").contains("type=ALL"));
+        for (String query : QUERIES.keySet()) {
+            assertTrue(after.get(query).contains("key=idx_"), query + " should use one of the new indexes.");
+        }
+    }
+
+    private static Map<String, String> explainAll() throws SQLException {
+        Map<String, String> plans = new LinkedHashMap<>();
+        try (Statement stmt = server.createStatement()) {
+            for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = stmt.executeQuery("EXPLAIN " + query.getValue())) {
+                    while (rs.next()) {
+                        plan.append("table=").append(rs.getString("table"))
+                                .append(" type=").append(rs.getString("type"))
+                                .append(" key=").append(rs.getString("key"))
+                                .append(" rows=").append(rs.getString("rows"))
+                                .append(" extra=").append(rs.getString("Extra"))
+                                .append('\n');
+                    }
+                }
+                plans.put(query.getKey(), plan.toString());
+            }
+        }
+        return plans;
+    }
+
+    /**
+     * Fills the scratch schema with generated rows; about a tenth of the reservations are approved
+     * and a third of those are checked out, half of which are still open.
+     */
+    private static void seed(Statement stmt) throws SQLException {
+        stmt.execute("SET SESSION cte_max_recursion_depth = " + (RESERVATIONS + 1));
+        stmt.execute("INSERT INTO users (user_id, name, email, password, role) "
+                + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + USERS + ") "
+                + "SELECT CONCAT('U', LPAD(n, 5, '0')), CONCAT('User ', n), CONCAT('user', n, '@example.com'), 'x', "
+                + "ELT(1 + n % 4, 'Student', 'Lecturer', 'Admin', 'MediaStaff') FROM seq");
+        stmt.execute("INSERT INTO equipment (equipment_id, name, type, description, status, state) "
+                + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + EQUIPMENT + ") "
+                + "SELECT CONCAT('E', LPAD(n, 5, '0')), CONCAT('Item ', n), "
+                + "ELT(1 + n % 8, 'Camera', 'Laptop', 'Drone', 'Lighting', 'Projector', 'Audio Recorder', 'VR Headset', 'Tripod'), "
+                + "'Seeded', ELT(1 + n % 10, 'Reserved', 'CheckedOut', 'Available', 'Available', 'Available', "
+                + "'Available', 'Available', 'Available', 'Available', 'Available'), 'Good' FROM seq");
+        stmt.execute("INSERT INTO reservations (user_id, equipment_id, reservation_date, status) "
+                + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + RESERVATIONS + ") "
+                + "SELECT CONCAT('U', LPAD(1 + n % " + USERS + ", 5, '0')), CONCAT('E', LPAD(1 + n % " + EQUIPMENT + ", 5, '0')), "
+                + "DATE_ADD('2024-01-01', INTERVAL n % 730 DAY), "
+                + "IF(n % 10 = 0, 'Approved', IF(n % 10 < 4, 'Rejected', 'Pending')) FROM seq");
+        stmt.execute("INSERT INTO checkouts (reservation_id, checked_out_by, checked_out_date, check_in_date) "
+                + "SELECT reservation_id, 'U00003', TIMESTAMP(reservation_date), "
+                + "IF(reservation_id % 60 = 0, NULL, TIMESTAMP(reservation_date) + INTERVAL 2 DAY) "
+                + "FROM reservations WHERE status = 'Approved' AND reservation_id % 30 = 0");
+        for (String table : new String[]{"users", "equipment", "reservations", "checkouts"}) {
+            stmt.execute("ANALYZE TABLE " + table);
+        }
+    }
+}
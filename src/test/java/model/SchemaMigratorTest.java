@@ -0,0 +1,73 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SchemaMigrator class.
+ *
+ * <p>
+ * These tests verify that the shipped migrations are listed in version order and that scripts are
+ * split into statements without their comments. Applying the migrations to MySQL is covered by
+ * {@link SchemaIndexExplainTest}.
+ * </p>
+ */
+public class SchemaMigratorTest {
+
+    @Test
+    public void testShippedMigrationsAreLoadedInOrder() throws Exception {
+        List<SchemaMigrator.Migration> migrations = new SchemaMigrator().loadMigrations();
+
+        assertFalse(migrations.isEmpty());
+        assertEquals(1, migrations.get(0).version);
+        assertEquals("filter indexes", migrations.get(0).description);
+        for (int i = 1; i < migrations.size(); i++) {
+            assertTrue(migrations.get(i).version > migrations.get(i - 1).version);
+        }
+    }
+
+    @Test
+    public void testSplitStatementsSkipsComments() {
+        String script = """
+                -- Equipment filters.
+                CREATE INDEX idx_a ON equipment (status);
+
+                CREATE INDEX idx_b
+                    ON reservations (status, reservation_date);
+                DROP INDEX equipment_id ON reservations
+                """;
+
+        List<String> statements = SchemaMigrator.splitStatements(script);
+        assertEquals(3, statements.size());
+        assertEquals("CREATE INDEX idx_a ON equipment (status)", statements.get(0));
+        assertTrue(statements.get(1).startsWith("CREATE INDEX idx_b"));
+        assertTrue(statements.get(1).endsWith("(status, reservation_date)"));
+        assertEquals("DROP INDEX equipment_id ON reservations", statements.get(2));
+    }
+
+    @Test
+    public void testSplitStatementsHonoursDelimiter() {
+        String script = """
+                DROP PROCEDURE IF EXISTS P;
+                DELIMITER ;;
+                CREATE PROCEDURE P()
+                BEGIN
+                    SELECT 1;
+                    SELECT 2;
+                END ;;
+                DELIMITER ;
+                CALL P();
+                """;
+
+        List<String> statements = SchemaMigrator.splitStatements(script);
+        assertEquals(3, statements.size());
+        assertEquals("DROP PROCEDURE IF EXISTS P", statements.get(0));
+        assertTrue(statements.get(1).startsWith("CREATE PROCEDURE P()"));
+        assertTrue(statements.get(1).contains("SELECT 1;\n    SELECT 2;"));
+        assertTrue(statements.get(1).endsWith("END"));
+        assertEquals("CALL P()", statements.get(2));
+    }
+}
@@ -0,0 +1,118 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the StatementCache class.
+ *
+ * <p>
+ * These tests use a mocked physical connection to verify that statements are reused by SQL text,
+ * that busy statements are not shared, that pending batches are not handed to the next caller and that
+ * the least recently used statement is evicted.
+ * </p>
+ */
+public class StatementCacheTest {
+
+    private Connection physical;
+    private AtomicLong hits;
+    private AtomicLong misses;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        physical = mock(Connection.class);
+        when(physical.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        when(physical.prepareCall(anyString())).thenAnswer(invocation -> mock(CallableStatement.class));
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+    }
+
+    @Test
+    public void testClosedStatementIsReused() throws SQLException {
+        StatementCache cache = new StatementCache(physical, 10, hits, misses);
+
+        PreparedStatement first = cache.prepareStatement("SELECT * FROM users WHERE email = ?");
+        first.setString(1, "a@example.com");
+        first.close();
+        assertTrue(first.isClosed());
+        assertThrows(SQLException.class, () -> first.setString(1, "b@example.com"));
+
+        cache.prepareStatement("SELECT * FROM users WHERE email = ?").close();
+        verify(physical, times(1)).prepareStatement("SELECT * FROM users WHERE email = ?");
+        assertEquals(1, hits.get());
+        assertEquals(1, misses.get());
+    }
+
+    @Test
+    public void testBusyStatementIsNotShared() throws SQLException {
+        StatementCache cache = new StatementCache(physical, 10, hits, misses);
+
+        PreparedStatement outer = cache.prepareStatement("SELECT 1");
+        PreparedStatement inner = cache.prepareStatement("SELECT 1");
+        assertNotSame(outer, inner);
+        inner.close();
+        outer.close();
+
+        verify(physical, times(2)).prepareStatement("SELECT 1");
+        assertEquals(2, misses.get());
+    }
+
+    @Test
+    public void testPendingBatchIsClearedOnClose() throws SQLException {
+        PreparedStatement raw = mock(PreparedStatement.class);
+        when(physical.prepareStatement("INSERT INTO students (user_id) VALUES (?)")).thenReturn(raw);
+        StatementCache cache = new StatementCache(physical, 10, hits, misses);
+
+        PreparedStatement first = cache.prepareStatement("INSERT INTO students (user_id) VALUES (?)");
+        first.setString(1, "U001");
+        first.addBatch();
+        // Closed without executing the batch, as when an earlier batch in the same transaction fails.
+        first.close();
+
+        PreparedStatement reused = cache.prepareStatement("INSERT INTO students (user_id) VALUES (?)");
+        reused.close();
+        assertEquals(1, hits.get());
+        verify(raw).addBatch();
+        verify(raw, times(2)).clearBatch();
+    }
+
+    @Test
+    public void testStatementIsDroppedWhenBatchCannotBeCleared() throws SQLException {
+        PreparedStatement failing = mock(PreparedStatement.class);
+        doThrow(new SQLException("Connection reset")).when(failing).clearBatch();
+        when(physical.prepareStatement("INSERT INTO lecturers (user_id) VALUES (?)")).thenReturn(failing);
+        StatementCache cache = new StatementCache(physical, 10, hits, misses);
+
+        cache.prepareStatement("INSERT INTO lecturers (user_id) VALUES (?)").close();
+        cache.prepareStatement("INSERT INTO lecturers (user_id) VALUES (?)").close();
+
+        verify(failing, atLeastOnce()).close();
+        verify(physical, times(2)).prepareStatement("INSERT INTO lecturers (user_id) VALUES (?)");
+        assertEquals(0, hits.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsEvicted() throws SQLException {
+        StatementCache cache = new StatementCache(physical, 2, hits, misses);
+
+        cache.prepareCall("{CALL A()}").close();
+        cache.prepareCall("{CALL B()}").close();
+        cache.prepareCall("{CALL A()}").close();
+        cache.prepareCall("{CALL C()}").close(); // evicts B, the least recently used
+        cache.prepareCall("{CALL A()}").close();
+        cache.prepareCall("{CALL B()}").close();
+
+        verify(physical, times(1)).prepareCall("{CALL A()}");
+        verify(physical, times(2)).prepareCall("{CALL B()}");
+        assertEquals(2, hits.get());
+    }
+}
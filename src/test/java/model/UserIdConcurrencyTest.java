@@ -0,0 +1,209 @@
+package model;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fires parallel {@link UserDAO#addUser} calls at the sequence-backed {@code AddUser} procedure.
+ *
+ * <p>
+ * The test needs the MySQL server configured in {@code db.properties} and is skipped when it cannot be
+ * reached. It creates a scratch schema from the table definitions in the baseline dump, with a gap in the
+ * lecturer IDs as left by a deletion, and applies the migrations. It then adds users from several threads
+ * while the users table grows to 100,000 rows, checking that every ID is unique and that the median insert
+ * time does not grow with the table. The scratch schema is dropped afterwards.
+ * </p>
+ */
+public class UserIdConcurrencyTest {
+
+    private static final Path BASELINE_DUMP = Paths.get("project_db26-02-2025.sql");
+    private static final int THREADS = 8;
+    private static final int INSERTS_PER_ROUND = 240;
+    private static final int[] TABLE_SIZES = {0, 50_000, 100_000};
+    private static final String[] ROLES = {"Lecturer", "MediaStaff", "Admin"};
+
+    private static Connection server;
+    private static String schema;
+    private static ConnectionPool pool;
+
+    @BeforeAll
+    public static void createSchema() throws Exception {
+        Properties properties = new Properties();
+        try (InputStream input = UserIdConcurrencyTest.class.getClassLoader().getResourceAsStream("db.properties")) {
+            properties.load(input);
+        }
+        String url = properties.getProperty("db.url");
+        String serverUrl = url.substring(0, url.lastIndexOf('/') + 1);
+        String username = properties.getProperty("db.username");
+        String password = properties.getProperty("db.password");
+        try {
+            server = DriverManager.getConnection(serverUrl + "?connectTimeout=2000", username, password);
+        } catch (SQLException e) {
+            assumeTrue(false, "MySQL is not reachable: " + e.getMessage());
+        }
+
+        schema = "user_id_test_" + System.currentTimeMillis();
+        try (Statement stmt = server.createStatement()) {
+            stmt.execute("CREATE DATABASE " + schema);
+            stmt.execute("USE " + schema);
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 0");
+            Matcher table = Pattern.compile("(?s)CREATE TABLE `\\w+` \\(.*?\\) ENGINE=[^;]*")
+                    .matcher(Files.readString(BASELINE_DUMP, StandardCharsets.UTF_8));
+            while (table.find()) {
+                stmt.execute(table.group());
+            }
+            stmt.execute("SET FOREIGN_KEY_CHECKS = 1");
+            // L002 has been deleted, so counting lecturers would hand out L003 again.
+            stmt.execute("INSERT INTO users (user_id, name, email, password, role) VALUES "
+                    + "('A001', 'Admin', 'admin@example.com', 'x', 'Admin'), "
+                    + "('L001', 'Lecturer 1', 'l1@example.com', 'x', 'Lecturer'), "
+                    + "('L003', 'Lecturer 3', 'l3@example.com', 'x', 'Lecturer')");
+            stmt.execute("INSERT INTO lecturers (lecturer_id, department) VALUES ('L001', 'Media'), ('L003', 'Media')");
+        }
+        new SchemaMigrator().migrate(server);
+
+        String schemaUrl = serverUrl + schema;
+        pool = new ConnectionPool(() -> DriverManager.getConnection(schemaUrl, username, password), properties);
+    }
+
+    @AfterAll
+    public static void dropSchema() throws SQLException {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        if (server != null) {
+            try (Statement stmt = server.createStatement()) {
+                stmt.execute("DROP DATABASE IF EXISTS " + schema);
+            }
+            server.close();
+        }
+    }
+
+    @Test
+    public void testParallelInsertsGetUniqueIdsInConstantTime() throws Exception {
+        UserDAO userDAO = new UserDAO(pool::borrow);
+        Set<String> ids = new HashSet<>();
+        List<Long> medians = new ArrayList<>();
+
+        for (int round = 0; round < TABLE_SIZES.length; round++) {
+            growUsersTo(TABLE_SIZES[round]);
+            List<Long> latencies = new ArrayList<>();
+            for (TimedInsert insert : addUsersInParallel(userDAO, round)) {
+                assertNotNull(insert.userId);
+                assertTrue(ids.add(insert.userId), "Duplicate ID " + insert.userId);
+                latencies.add(insert.nanos);
+            }
+            Collections.sort(latencies);
+            medians.add(latencies.get(latencies.size() / 2));
+            System.out.printf("users=%d median addUser=%.2f ms%n", countUsers(),
+                    latencies.get(latencies.size() / 2) / 1_000_000.0);
+        }
+
+        int perRole = INSERTS_PER_ROUND * TABLE_SIZES.length / ROLES.length;
+        for (int n = 4; n < 4 + perRole; n++) {
+            assertTrue(ids.contains(String.format("L%03d", n)), "Lecturer IDs should continue after L003 without gaps.");
+        }
+        for (int n = 2; n <= 1 + perRole; n++) {
+            assertTrue(ids.contains(String.format("A%03d", n)));
+            assertTrue(ids.contains(String.format("M%03d", n - 1)));
+        }
+
+        long first = medians.get(0);
+        long last = medians.get(medians.size() - 1);
+        assertTrue(last <= 2 * first + TimeUnit.MILLISECONDS.toNanos(5),
+                "Median insert time grew from " + first + " ns to " + last + " ns.");
+    }
+
+    /**
+     * Adds one round of users from several threads, cycling through the roles with generated IDs.
+     */
+    private static List<TimedInsert> addUsersInParallel(UserDAO userDAO, int round) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<TimedInsert>> calls = new ArrayList<>();
+            for (int i = 0; i < INSERTS_PER_ROUND; i++) {
+                String role = ROLES[i % ROLES.length];
+                String email = "new" + round + "_" + i + "@example.com";
+                calls.add(() -> {
+                    User user = new User(null, email, "New " + role, "x", role, "Media", null, null);
+                    long start = System.nanoTime();
+                    assertTrue(userDAO.addUser(user, "A001"));
+                    return new TimedInsert(user.getUserId(), System.nanoTime() - start);
+                });
+            }
+            List<TimedInsert> inserts = new ArrayList<>();
+            for (Future<TimedInsert> result : executor.invokeAll(calls)) {
+                inserts.add(result.get());
+            }
+            return inserts;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void growUsersTo(int size) throws SQLException {
+        int existing = countUsers();
+        int missing = size - existing;
+        if (missing <= 0) {
+            return;
+        }
+        try (Statement stmt = server.createStatement()) {
+            stmt.execute("SET SESSION cte_max_recursion_depth = " + (missing + 1));
+            stmt.execute("INSERT INTO " + schema + ".users (user_id, name, email, password, role) "
+                    + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + missing + ") "
+                    + "SELECT CONCAT('X', LPAD(" + existing + " + n, 7, '0')), CONCAT('Seeded ', n), "
+                    + "CONCAT('x', " + existing + " + n, '@example.com'), 'x', "
+                    + "ELT(1 + n % 4, 'Student', 'Lecturer', 'Admin', 'MediaStaff') FROM seq");
+            stmt.execute("ANALYZE TABLE " + schema + ".users");
+        }
+    }
+
+    private static int countUsers() throws SQLException {
+        try (Statement stmt = server.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + schema + ".users")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * The ID assigned to one added user and how long the call took.
+     */
+    private static final class TimedInsert {
+        final String userId;
+        final long nanos;
+
+        TimedInsert(String userId, long nanos) {
+            this.userId = userId;
+            this.nanos = nanos;
+        }
+    }
+}
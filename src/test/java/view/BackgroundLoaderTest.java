@@ -0,0 +1,99 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BackgroundLoader class.
+ *
+ * <p>
+ * These tests verify that data is fetched off the Event Dispatch Thread, applied on it,
+ * and that the results of a cancelled or superseded load are discarded without interrupting the fetch.
+ * </p>
+ */
+public class BackgroundLoaderTest {
+
+    @Test
+    public void testResultIsAppliedOnEventDispatchThread() throws Exception {
+        BackgroundLoader loader = new BackgroundLoader();
+        AtomicBoolean fetchedOnEdt = new AtomicBoolean(true);
+        AtomicBoolean appliedOnEdt = new AtomicBoolean(false);
+        AtomicReference<String> applied = new AtomicReference<>();
+
+        Future<?>[] future = new Future<?>[1];
+        SwingUtilities.invokeAndWait(() -> future[0] = loader.load(() -> {
+            fetchedOnEdt.set(SwingUtilities.isEventDispatchThread());
+            return "rows";
+        }, result -> {
+            appliedOnEdt.set(SwingUtilities.isEventDispatchThread());
+            applied.set(result);
+        }));
+        future[0].get(5, TimeUnit.SECONDS);
+
+        assertFalse(fetchedOnEdt.get(), "Data should be fetched off the Event Dispatch Thread.");
+        assertTrue(appliedOnEdt.get(), "Results should be applied on the Event Dispatch Thread.");
+        assertEquals("rows", applied.get());
+    }
+
+    @Test
+    public void testSupersededLoadIsDiscarded() throws Exception {
+        BackgroundLoader loader = new BackgroundLoader();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> applied = new AtomicReference<>();
+
+        Future<?>[] futures = new Future<?>[2];
+        SwingUtilities.invokeAndWait(() -> {
+            futures[0] = loader.load(() -> {
+                release.await(5, TimeUnit.SECONDS);
+                return "stale";
+            }, applied::set);
+            futures[1] = loader.load(() -> "fresh", applied::set);
+        });
+        futures[1].get(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertTrue(futures[0].isCancelled(), "Starting a new load should cancel the previous one.");
+        // Flush any stale callback that might have been queued on the EDT.
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals("fresh", applied.get());
+    }
+
+    @Test
+    public void testCancelledFetchIsNotInterrupted() throws Exception {
+        BackgroundLoader loader = new BackgroundLoader();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicReference<String> applied = new AtomicReference<>();
+
+        Future<?>[] future = new Future<?>[1];
+        SwingUtilities.invokeAndWait(() -> future[0] = loader.load(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return "stale";
+        }, applied::set));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(loader::cancel);
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertTrue(future[0].isCancelled());
+        assertFalse(interrupted.get(), "A running fetch should be left to finish, not interrupted.");
+        assertNull(applied.get(), "The result of a cancelled load should be discarded.");
+    }
+}
@@ -0,0 +1,195 @@
+package view;
+
+import model.Reservation;
+import model.ReservationQuery;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReservationTableModel class.
+ *
+ * <p>
+ * These tests use a fake source of 1,000 reservations to verify that the model fetches only the window
+ * of rows the table asks for, that it holds a bounded number of windows, and that a window which fails to
+ * load is fetched again.
+ * </p>
+ */
+public class ReservationTableModelTest {
+
+    private static final int ROWS = 1_000;
+
+    /**
+     * Returns the rows of a fake history and records every fetch it is asked for.
+     */
+    private static class FakeSource implements ReservationTableModel.WindowSource {
+        final List<int[]> fetches = new ArrayList<>();
+
+        @Override
+        public synchronized List<Reservation> fetch(ReservationQuery query, int offset, int limit) {
+            fetches.add(new int[]{offset, limit});
+            List<Reservation> rows = new ArrayList<>();
+            for (int id = offset + 1; id <= Math.min(offset + limit, ROWS); id++) {
+                rows.add(new Reservation(id, "User " + id, "Equipment " + id, null, null, "Pending"));
+            }
+            return rows;
+        }
+    }
+
+    @Test
+    public void testRowIsFetchedWithItsWindow() throws Exception {
+        FakeSource source = new FakeSource();
+        ReservationTableModel model = new ReservationTableModel(new ReservationQuery(), ROWS, source);
+        AtomicReference<Object> placeholder = new AtomicReference<>();
+        AtomicReference<Future<?>> load = new AtomicReference<>();
+        AtomicReference<Future<?>> repeated = new AtomicReference<>();
+
+        // The fetched rows are applied on the EDT, so they cannot arrive before this block ends.
+        SwingUtilities.invokeAndWait(() -> {
+            load.set(model.loadWindow(2));
+            placeholder.set(model.getValueAt(250, 0));
+            model.getValueAt(299, 1);
+            repeated.set(model.loadWindow(2));
+        });
+        assertEquals(ReservationTableModel.LOADING, placeholder.get());
+        assertNull(repeated.get(), "A window already being fetched should not be fetched again.");
+        load.get().get(5, TimeUnit.SECONDS);
+        assertEquals(1, source.fetches.size());
+
+        AtomicReference<Object> value = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> value.set(model.getValueAt(250, 1)));
+        assertEquals("User 251", value.get());
+        assertEquals(ROWS, model.getRowCount());
+        for (int[] fetch : source.fetches) {
+            assertEquals(0, fetch[0] % ReservationTableModel.WINDOW_SIZE);
+            assertTrue(fetch[1] <= ReservationTableModel.WINDOW_SIZE);
+        }
+    }
+
+    @Test
+    public void testViewportStraddlingTwoWindowsLoadsBoth() throws Exception {
+        FakeSource source = new FakeSource();
+        ReservationTableModel model = new ReservationTableModel(new ReservationQuery(), ROWS, source);
+        AtomicReference<Future<?>> first = new AtomicReference<>();
+        AtomicReference<Future<?>> second = new AtomicReference<>();
+
+        // A viewport showing rows 95 to 105 paints rows from windows 0 and 1 in the same pass.
+        SwingUtilities.invokeAndWait(() -> {
+            first.set(model.loadWindow(0));
+            second.set(model.loadWindow(1));
+            for (int row = 95; row <= 105; row++) {
+                model.getValueAt(row, 0);
+            }
+        });
+        first.get().get(5, TimeUnit.SECONDS);
+        second.get().get(5, TimeUnit.SECONDS);
+        assertEquals(2, source.fetches.size());
+
+        AtomicReference<Reservation> above = new AtomicReference<>();
+        AtomicReference<Reservation> below = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            above.set(model.getReservation(95));
+            below.set(model.getReservation(105));
+        });
+        assertNotNull(above.get(), "Rows above the window boundary should not stay loading.");
+        assertEquals(96, above.get().getReservationId());
+        assertEquals(106, below.get().getReservationId());
+    }
+
+    @Test
+    public void testOldestFetchIsCancelledWhenTooManyArePending() throws Exception {
+        FakeSource source = new FakeSource();
+        ReservationTableModel model = new ReservationTableModel(new ReservationQuery(), ROWS, source);
+        List<Future<?>> loads = new ArrayList<>();
+
+        SwingUtilities.invokeAndWait(() -> {
+            for (int window = 0; window <= ReservationTableModel.MAX_PENDING_WINDOWS; window++) {
+                loads.add(model.loadWindow(window));
+            }
+        });
+        assertTrue(loads.get(0).isCancelled(), "The fetch the user scrolled away from should be cancelled.");
+        for (Future<?> load : loads.subList(1, loads.size())) {
+            load.get(5, TimeUnit.SECONDS);
+        }
+
+        AtomicReference<Future<?>> retry = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> retry.set(model.loadWindow(0)));
+        assertNotNull(retry.get(), "A cancelled window should be fetched again when it is shown.");
+        retry.get().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testFailedWindowIsFetchedAgain() throws Exception {
+        FakeSource rows = new FakeSource();
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        // The first fetch fails, as the controller does when the database cannot be reached.
+        ReservationTableModel model = new ReservationTableModel(new ReservationQuery(), ROWS,
+                (query, offset, limit) -> failNext.getAndSet(false) ? null : rows.fetch(query, offset, limit));
+        AtomicInteger failures = new AtomicInteger();
+        AtomicReference<Future<?>> load = new AtomicReference<>();
+
+        SwingUtilities.invokeAndWait(() -> {
+            model.setFailureListener(failures::incrementAndGet);
+            load.set(model.loadWindow(0));
+        });
+        load.get().get(5, TimeUnit.SECONDS);
+        assertEquals(1, failures.get(), "A failed fetch should be reported.");
+
+        AtomicReference<Object> placeholder = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            load.set(model.loadWindow(0));
+            placeholder.set(model.getValueAt(5, 0));
+        });
+        assertNotNull(load.get(), "A failed window should not be held, so it is fetched again.");
+        assertEquals(ReservationTableModel.LOADING, placeholder.get());
+        load.get().get(5, TimeUnit.SECONDS);
+
+        AtomicReference<Reservation> reservation = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> reservation.set(model.getReservation(5)));
+        assertEquals(6, reservation.get().getReservationId());
+        assertEquals(1, rows.fetches.size());
+        assertEquals(1, failures.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedWindowIsDropped() throws Exception {
+        FakeSource source = new FakeSource();
+        ReservationTableModel model = new ReservationTableModel(new ReservationQuery(), ROWS, source);
+        AtomicReference<Future<?>> load = new AtomicReference<>();
+
+        for (int window = 0; window <= ReservationTableModel.MAX_WINDOWS; window++) {
+            int next = window;
+            SwingUtilities.invokeAndWait(() -> load.set(model.loadWindow(next)));
+            load.get().get(5, TimeUnit.SECONDS);
+        }
+        int fetched = source.fetches.size();
+
+        SwingUtilities.invokeAndWait(() -> load.set(model.loadWindow(ReservationTableModel.MAX_WINDOWS)));
+        assertNull(load.get(), "The most recent window should still be held.");
+        SwingUtilities.invokeAndWait(() -> load.set(model.loadWindow(0)));
+        assertNotNull(load.get(), "The oldest window should have been dropped.");
+        load.get().get(5, TimeUnit.SECONDS);
+        assertEquals(fetched + 1, source.fetches.size());
+    }
+
+    @Test
+    public void testSortedColumnIsMarked() {
+        ReservationQuery query = new ReservationQuery();
+        query.setSortKey(ReservationQuery.SortKey.STATUS);
+        query.setDescending(false);
+        ReservationTableModel model = new ReservationTableModel(query, 0, new FakeSource());
+
+        assertEquals("Status \u25B2", model.getColumnName(5));
+        assertEquals("User", model.getColumnName(1));
+        assertFalse(model.isCellEditable(0, 0));
+    }
+}